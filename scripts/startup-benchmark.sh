@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+# 시작 시간 벤치마크: 빠른 시작 이미지(AOT + AppCDS)와 이전 이미지(fat jar 를 java -jar 로 실행)를 비교
+#
+#   docker build -t crawler:latest .
+#   docker build -f scripts/startup-baseline.Dockerfile -t crawler:baseline .
+#   scripts/startup-benchmark.sh crawler:latest crawler:baseline [반복 횟수, 기본 5]
+#
+# 두 이미지 모두 이미지에 설정된 기본 실행 옵션 그대로 실행합니다. (JAVA_OPTS 를 덮어쓰지 않음)
+# DB 접속 정보 등 실행에 필요한 옵션은 BENCH_DOCKER_ARGS 로 넘깁니다.
+#   BENCH_DOCKER_ARGS="--env-file prod.env --network crawler" scripts/startup-benchmark.sh crawler:latest crawler:baseline
+#
+# 컨테이너는 crawler.startup.benchmark=true 로 실행되어 첫 스케줄 작업이 시작되면
+# "STARTUP ready_ms=.. first_job_ms=.. first_job=.." 한 줄을 남기고 종료합니다. (StartupProbe)
+set -euo pipefail
+
+IMAGE=${1:?"사용법: $0 <이미지> <기준 이미지> [반복 횟수]"}
+BASELINE_IMAGE=${2:?"사용법: $0 <이미지> <기준 이미지> [반복 횟수]"}
+RUNS=${3:-5}
+
+# 한 번 실행하고 "ready_ms first_job_ms" 출력
+run_once() {
+  local image=$1 line
+  # shellcheck disable=SC2086
+  line=$(docker run --rm ${BENCH_DOCKER_ARGS:-} "$image" --crawler.startup.benchmark=true 2>&1 | grep '^STARTUP' || true)
+  if [[ -z $line ]]; then
+    echo "STARTUP 결과를 찾지 못했습니다. ($image)" >&2
+    exit 1
+  fi
+  sed -E 's/.*ready_ms=([0-9]+) first_job_ms=([0-9]+).*/\1 \2/' <<<"$line"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+measure() {
+  local name=$1 image=$2 results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    results+=("$(run_once "$image")")
+    echo "  $name #$i: ready_ms/first_job_ms = ${results[-1]/ //}" >&2
+  done
+  printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median
+  printf '%s\n' "${results[@]}" | awk '{ print $2 }' | median
+}
+
+echo "$IMAGE / $BASELINE_IMAGE 시작 시간 측정 ($RUNS 회)" >&2
+mapfile -t baseline < <(measure baseline "$BASELINE_IMAGE")
+mapfile -t fast < <(measure fast-start "$IMAGE")
+
+printf '%-12s %10s %14s\n' "" "ready_ms" "first_job_ms"
+printf '%-12s %10s %14s\n' "baseline" "${baseline[0]}" "${baseline[1]}"
+printf '%-12s %10s %14s\n' "fast-start" "${fast[0]}" "${fast[1]}"
+awk -v b="${baseline[1]}" -v f="${fast[1]}" 'BEGIN { printf "first_job 단축: %.2fx (%.0f%%)\n", b / f, (1 - f / b) * 100 }'
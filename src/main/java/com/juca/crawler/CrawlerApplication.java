@@ -1,16 +1,21 @@
 package com.juca.crawler;
 
+import com.juca.crawler.export.ExportCommand;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Arrays;
 
 @EnableJpaAuditing
-@EnableScheduling
 @SpringBootApplication
 public class CrawlerApplication {
 
     public static void main(String[] args) {
+        // java -jar crawler.jar export --source=CNN ... : 크롤러를 띄우지 않고 내보내기만 실행
+        if (args.length > 0 && ExportCommand.NAME.equals(args[0])) {
+            System.exit(ExportCommand.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
         SpringApplication.run(CrawlerApplication.class, args);
     }
 
@@ -0,0 +1,193 @@
+package com.juca.crawler.cluster;
+
+import com.juca.crawler.domain.CrawlLease;
+import com.juca.crawler.domain.CrawlNode;
+import com.juca.crawler.repository.CrawlLeaseRepository;
+import com.juca.crawler.repository.CrawlNodeRepository;
+import com.juca.crawler.util.LogUtil;
+import com.juca.crawler.util.MurmurHash3;
+import com.juca.crawler.util.UrlUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 다중 노드 크롤링 조정기
+ *
+ * 호스트를 해시해 고정된 개수의 파티션으로 나누고, 살아있는 노드들로 만든 consistent hash ring 에 따라
+ * 각 노드가 자기 몫의 파티션을 DB 임대(crawl_leases)로 획득합니다.
+ * 노드가 죽으면 heartbeat 가 끊기고 임대가 만료되어, 남은 노드들이 ring 을 다시 계산해 파티션을 넘겨받습니다.
+ * 임대 획득은 조건부 UPDATE 로 원자적으로 처리되므로 같은 파티션을 두 노드가 동시에 갖지 않습니다.
+ *
+ * crawler.cluster.enabled=false(기본값)이면 단일 노드로 동작하며 모든 호스트를 소유합니다.
+ * 한 대의 로컬 DB 에 crawler.cluster.node_id 만 다르게 준 인스턴스 여러 개를 띄워 테스트할 수 있습니다.
+ */
+@Component
+public class ClusterCoordinator {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    private final CrawlNodeRepository crawlNodeRepository;
+    private final CrawlLeaseRepository crawlLeaseRepository;
+
+    private final boolean enabled;
+    private final String nodeId;
+    private final int partitions;
+    private final long leaseTtlMs;
+    private final long heartbeatMs;
+
+    // 파티션별 로컬 임대 만료 시각 (epoch ms, 0 이면 미소유)
+    private final long[] ownedUntil;
+    private CrawlNode self;
+
+    public ClusterCoordinator(CrawlNodeRepository crawlNodeRepository,
+                              CrawlLeaseRepository crawlLeaseRepository,
+                              @Value("${crawler.cluster.enabled:false}") boolean enabled,
+                              @Value("${crawler.cluster.node_id:}") String nodeId,
+                              @Value("${crawler.cluster.partitions:64}") int partitions,
+                              @Value("${crawler.cluster.lease_ttl_ms:30000}") long leaseTtlMs,
+                              @Value("${crawler.cluster.heartbeat_ms:10000}") long heartbeatMs) {
+        this.crawlNodeRepository = crawlNodeRepository;
+        this.crawlLeaseRepository = crawlLeaseRepository;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.partitions = partitions;
+        this.leaseTtlMs = leaseTtlMs;
+        this.heartbeatMs = heartbeatMs;
+        this.ownedUntil = new long[partitions];
+    }
+
+    /**
+     * URL 의 호스트가 이 노드 소유인지 확인합니다.
+     */
+    public boolean ownsUrl(String url) {
+        return owns(UrlUtil.hostOf(url));
+    }
+
+    /**
+     * 샤드 키(보통 호스트)가 속한 파티션의 임대를 이 노드가 유효하게 보유 중인지 확인합니다.
+     * 임대 만료 직전(heartbeat 한 주기 이내)에는 다른 노드와 겹치지 않도록 소유하지 않은 것으로 봅니다.
+     */
+    public boolean owns(String shardKey) {
+        if (!enabled) {
+            return true;
+        }
+        if (shardKey == null) {
+            return false;
+        }
+        long until;
+        synchronized (ownedUntil) {
+            until = ownedUntil[partitionOf(shardKey)];
+        }
+        return until - heartbeatMs > System.currentTimeMillis();
+    }
+
+    public int partitionOf(String shardKey) {
+        return Math.floorMod(MurmurHash3.hash64(shardKey), partitions);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * heartbeat 기록 → 생존 노드로 ring 재계산 → 내 몫의 파티션 임대 획득/갱신, 내 몫이 아닌 파티션 반납
+     */
+    @Scheduled(fixedDelayString = "${crawler.cluster.heartbeat_ms:10000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (self == null) {
+                self = new CrawlNode(nodeId, now);
+                ensureLeaseRows();
+            }
+            self.heartbeat(now);
+            crawlNodeRepository.save(self);
+
+            List<String> liveNodes = crawlNodeRepository.findByHeartbeatAtAfter(now.minusNanos(leaseTtlMs * 1_000_000))
+                    .stream().map(CrawlNode::getNodeId).toList();
+            ConsistentHashRing ring = new ConsistentHashRing(liveNodes, VIRTUAL_NODES);
+
+            LocalDateTime leaseUntil = now.plusNanos(leaseTtlMs * 1_000_000);
+            long leaseUntilMs = System.currentTimeMillis() + leaseTtlMs;
+            int owned = 0;
+            for (int partition = 0; partition < partitions; partition++) {
+                boolean mine = nodeId.equals(ring.nodeFor(partitionHash(partition)));
+                if (mine && crawlLeaseRepository.tryAcquire(partition, nodeId, leaseUntil, now) == 1) {
+                    setOwnedUntil(partition, leaseUntilMs);
+                    owned++;
+                } else {
+                    if (!mine) {
+                        crawlLeaseRepository.release(partition, nodeId);
+                    }
+                    setOwnedUntil(partition, 0);
+                }
+            }
+            LogUtil.logInfo("[CLUSTER] node=" + nodeId + " live=" + liveNodes.size() + " owned=" + owned + "/" + partitions);
+        } catch (Exception e) {
+            // DB 장애 시에는 로컬 만료 시각이 지나면 자연히 소유권을 잃는다
+            LogUtil.logError("[CLUSTER] heartbeat 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 정상 종료 시 임대를 즉시 반납해 다른 노드가 TTL 을 기다리지 않고 넘겨받게 합니다.
+     */
+    @PreDestroy
+    public void leave() {
+        if (!enabled || self == null) {
+            return;
+        }
+        try {
+            for (int partition = 0; partition < partitions; partition++) {
+                setOwnedUntil(partition, 0);
+                crawlLeaseRepository.release(partition, nodeId);
+            }
+            crawlNodeRepository.deleteById(nodeId);
+        } catch (Exception e) {
+            LogUtil.logError("[CLUSTER] 임대 반납 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 임대 행이 모자라면 만듭니다. 엔티티 save 는 merge 가 되어 다른 노드가 그 사이 획득한 임대를 덮어쓸 수 있으므로
+     * 이미 있는 행은 건드리지 않는 INSERT 로 처리합니다.
+     */
+    private void ensureLeaseRows() {
+        if (crawlLeaseRepository.count() >= partitions) {
+            return;
+        }
+        for (int partition = 0; partition < partitions; partition++) {
+            crawlLeaseRepository.createIfAbsent(partition);
+        }
+    }
+
+    private void setOwnedUntil(int partition, long until) {
+        synchronized (ownedUntil) {
+            ownedUntil[partition] = until;
+        }
+    }
+
+    private static long partitionHash(int partition) {
+        return MurmurHash3.hash64("partition-" + partition);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
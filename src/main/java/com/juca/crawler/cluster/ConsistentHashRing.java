@@ -0,0 +1,54 @@
+package com.juca.crawler.cluster;
+
+import com.juca.crawler.util.MurmurHash3;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 가상 노드를 사용하는 consistent hash ring (불변)
+ * 노드가 추가/제거되어도 전체 키 중 약 1/N 만 소유자가 바뀝니다.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(MurmurHash3.hash64(nodeId + "#" + i), nodeId);
+            }
+        }
+
+        this.points = new long[ring.size()];
+        this.owners = new String[ring.size()];
+        int index = 0;
+        for (Map.Entry<Long, String> entry : ring.entrySet()) {
+            points[index] = entry.getKey();
+            owners[index] = entry.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * @return 해시값 이후 시계방향으로 가장 가까운 노드, 노드가 없으면 null
+     */
+    public String nodeFor(long hash) {
+        if (points.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public boolean isEmpty() {
+        return points.length == 0;
+    }
+}
@@ -0,0 +1,53 @@
+package com.juca.crawler.controller;
+
+import com.juca.crawler.export.ArticleExportRequest;
+import com.juca.crawler.export.ArticleExporter;
+import com.juca.crawler.export.ExportFormat;
+import com.juca.crawler.search.ArticleSource;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 수집 기사 대량 내보내기 API
+ * 응답 스트림에 바로 쓰므로 비동기 요청 타임아웃 없이 전체 건수를 한 번에 받을 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ArticleExportController {
+
+    private final ArticleExporter articleExporter;
+
+    @GetMapping("/{source}")
+    public void export(@PathVariable ArticleSource source,
+                       @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                       @RequestParam(defaultValue = "false") boolean gzip,
+                       @RequestParam(required = false) String media,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                       HttpServletResponse response) throws IOException {
+        ArticleExportRequest request = new ArticleExportRequest();
+        request.setSource(source);
+        request.setFormat(format);
+        request.setGzip(gzip);
+        request.setMedia(media);
+        request.setFrom(from);
+        request.setTo(to);
+
+        response.setContentType(gzip ? "application/gzip" : format.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + request.fileName() + "\"");
+        articleExporter.export(request, response.getOutputStream());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,90 @@
+package com.juca.crawler.controller;
+
+import com.juca.crawler.dto.*;
+import com.juca.crawler.service.ArticleQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수집 데이터 조회 API
+ * 목록은 본문 없이 keyset 페이지네이션으로, 본문은 단건 엔드포인트로 분리해 제공합니다.
+ * 기사 목록(/cnn-articles, /news-articles)은 게시 시각 순이므로 게시 시각을 알 수 없는 기사는 나오지 않습니다.
+ * 이런 기사는 수집 시각 기준인 /api/export/{source} 로 조회합니다.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ArticleQueryController {
+
+    private final ArticleQueryService articleQueryService;
+
+    @GetMapping("/cnn-articles")
+    public KeysetPage<CnnArticleSummary> cnnArticles(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return articleQueryService.findCnnArticles(from, to, cursor, size);
+    }
+
+    @GetMapping("/cnn-articles/{id}/body")
+    public ResponseEntity<ArticleBodyDto> cnnArticleBody(@PathVariable Long id,
+                                                         @RequestParam(defaultValue = "false") boolean korean) {
+        return ResponseEntity.of(articleQueryService.findCnnArticleBody(id, korean));
+    }
+
+    @GetMapping("/news-articles")
+    public KeysetPage<CrawledNewsArticleSummary> newsArticles(
+            @RequestParam(required = false) String media,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime publishedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime publishedTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime crawledFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime crawledTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return articleQueryService.findNewsArticles(media, category, publishedFrom, publishedTo,
+                crawledFrom, crawledTo, cursor, size);
+    }
+
+    @GetMapping("/news-articles/{id}/body")
+    public ResponseEntity<ArticleBodyDto> newsArticleBody(@PathVariable Long id,
+                                                          @RequestParam(defaultValue = "false") boolean html) {
+        return ResponseEntity.of(articleQueryService.findNewsArticleBody(id, html));
+    }
+
+    @GetMapping("/pages")
+    public KeysetPage<CrawledPageSummary> crawledPages(
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return articleQueryService.findCrawledPages(domain, from, to, cursor, size);
+    }
+
+    @GetMapping("/pages/{id}/body")
+    public ResponseEntity<ArticleBodyDto> crawledPageBody(@PathVariable Long id) {
+        return ResponseEntity.of(articleQueryService.findCrawledPageBody(id));
+    }
+
+    @GetMapping("/pages/{id}/versions")
+    public List<PageVersionSummary> crawledPageVersions(@PathVariable Long id) {
+        return articleQueryService.findPageVersions(id);
+    }
+
+    @GetMapping("/pages/{id}/versions/{version}")
+    public ResponseEntity<ArticleBodyDto> crawledPageVersionBody(@PathVariable Long id, @PathVariable int version) {
+        return ResponseEntity.of(articleQueryService.findPageVersionBody(id, version));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package com.juca.crawler.controller;
+
+import com.juca.crawler.search.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기사 전문 검색 API
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class ArticleSearchController {
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleSearchIndexRebuilder articleSearchIndexRebuilder;
+
+    @GetMapping
+    public List<ArticleSearchHit> search(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(required = false) ArticleSource source,
+            @RequestParam(required = false) String media,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "20") int size) throws IOException {
+        ArticleSearchRequest request = new ArticleSearchRequest();
+        request.setQuery(query);
+        request.setSource(source);
+        request.setMedia(media);
+        request.setCategory(category);
+        request.setFrom(from);
+        request.setTo(to);
+        request.setLatestFirst("latest".equalsIgnoreCase(sort));
+        request.setSize(size);
+        return articleSearchIndex.search(request);
+    }
+
+    /**
+     * DB 기준 전체 재색인 (비동기)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<String> rebuild() {
+        if (!articleSearchIndexRebuilder.rebuildAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("재색인이 이미 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().body("재색인을 시작했습니다.");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
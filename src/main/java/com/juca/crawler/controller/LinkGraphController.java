@@ -0,0 +1,152 @@
+package com.juca.crawler.controller;
+
+import com.juca.crawler.graph.GraphNode;
+import com.juca.crawler.graph.LinkGraph;
+import com.juca.crawler.graph.LinkGraphCompiler;
+import com.juca.crawler.graph.LinkGraphRanker;
+import com.juca.crawler.graph.LinkGraphStore;
+import com.juca.crawler.graph.RankedPage;
+import com.juca.crawler.repository.PageScoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 링크 그래프 조회 API (컴파일된 CSR 그래프 기준)
+ */
+@RestController
+@RequestMapping("/api/graph")
+@RequiredArgsConstructor
+public class LinkGraphController {
+
+    private static final int MAX_HOP = 5;
+    private static final int MAX_LIMIT = 10000;
+
+    private final LinkGraphStore linkGraphStore;
+    private final LinkGraphCompiler linkGraphCompiler;
+    private final LinkGraphRanker linkGraphRanker;
+    private final PageScoreRepository pageScoreRepository;
+
+    @GetMapping("/nodes")
+    public GraphNode node(@RequestParam String url) {
+        LinkGraph graph = graph();
+        int node = graph.nodeId(url);
+        if (node < 0) {
+            throw new IllegalArgumentException("그래프에 없는 URL 입니다: " + url);
+        }
+        return toNode(graph, node);
+    }
+
+    @GetMapping("/nodes/{id}")
+    public GraphNode node(@PathVariable int id) {
+        return toNode(graph(), id);
+    }
+
+    @GetMapping("/nodes/{id}/out")
+    public List<GraphNode> outNeighbors(@PathVariable int id, @RequestParam(defaultValue = "100") int limit) {
+        LinkGraph graph = graph();
+        return toNodes(graph, graph.outNeighbors(id), limit);
+    }
+
+    @GetMapping("/nodes/{id}/in")
+    public List<GraphNode> inNeighbors(@PathVariable int id, @RequestParam(defaultValue = "100") int limit) {
+        LinkGraph graph = graph();
+        return toNodes(graph, graph.inNeighbors(id), limit);
+    }
+
+    /**
+     * 나가는 링크를 따라 k 단계 안에 도달하는 노드 (가까운 순)
+     */
+    @GetMapping("/nodes/{id}/k-hop")
+    public List<GraphNode> kHop(@PathVariable int id,
+                                @RequestParam(defaultValue = "2") int k,
+                                @RequestParam(defaultValue = "100") int limit) {
+        if (k < 1 || k > MAX_HOP) {
+            throw new IllegalArgumentException("k 는 1~" + MAX_HOP + " 사이여야 합니다.");
+        }
+        LinkGraph graph = graph();
+        int size = clampLimit(limit);
+        return toNodes(graph, graph.kHop(id, k, size), size);
+    }
+
+    /**
+     * DB 기준 링크 그래프 재컴파일 (비동기)
+     */
+    @PostMapping("/compile")
+    public ResponseEntity<String> compile() {
+        if (!linkGraphCompiler.compileAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("링크 그래프 컴파일이 이미 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().body("링크 그래프 컴파일을 시작했습니다.");
+    }
+
+    /**
+     * 마지막 점수 계산 기준 상위 페이지
+     * @param by pagerank, authority, hub 중 하나
+     */
+    @GetMapping("/ranks")
+    public List<RankedPage> ranks(@RequestParam(defaultValue = "pagerank") String by,
+                                  @RequestParam(defaultValue = "100") int limit) {
+        Limit size = Limit.of(clampLimit(limit));
+        return switch (by.toLowerCase()) {
+            case "pagerank" -> pageScoreRepository.findTopByPageRank(size);
+            case "authority" -> pageScoreRepository.findTopByAuthority(size);
+            case "hub" -> pageScoreRepository.findTopByHub(size);
+            default -> throw new IllegalArgumentException("정렬 기준은 pagerank, authority, hub 중 하나여야 합니다.");
+        };
+    }
+
+    /**
+     * 현재 링크 그래프로 PageRank / HITS 재계산 (비동기)
+     */
+    @PostMapping("/rank")
+    public ResponseEntity<String> rank() {
+        if (linkGraphStore.current() == null) {
+            throw new IllegalStateException("링크 그래프가 아직 컴파일되지 않았습니다.");
+        }
+        if (!linkGraphRanker.rankAsync()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("링크 그래프 점수 계산이 이미 진행 중입니다.");
+        }
+        return ResponseEntity.accepted().body("링크 그래프 점수 계산을 시작했습니다.");
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleUnavailable(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    private LinkGraph graph() {
+        LinkGraph graph = linkGraphStore.current();
+        if (graph == null) {
+            throw new IllegalStateException("링크 그래프가 아직 컴파일되지 않았습니다.");
+        }
+        return graph;
+    }
+
+    private static List<GraphNode> toNodes(LinkGraph graph, int[] nodes, int limit) {
+        int size = Math.min(nodes.length, clampLimit(limit));
+        List<GraphNode> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(toNode(graph, nodes[i]));
+        }
+        return result;
+    }
+
+    private static GraphNode toNode(LinkGraph graph, int node) {
+        return new GraphNode(node, graph.url(node), graph.pageId(node), graph.inDegree(node), graph.outDegree(node));
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,9 @@
+package com.juca.crawler.dedup;
+
+/**
+ * 유사 중복 색인 단위 (같은 말뭉치 안에서만 비교)
+ */
+public enum ArticleCorpus {
+    NAVER_NEWS,
+    CNN
+}
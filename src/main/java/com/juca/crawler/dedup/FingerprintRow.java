@@ -0,0 +1,14 @@
+package com.juca.crawler.dedup;
+
+import lombok.Getter;
+import lombok.AllArgsConstructor;
+
+/**
+ * 색인 적재용 (id, simhash) 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class FingerprintRow {
+    private final Long id;
+    private final Long simhash;
+}
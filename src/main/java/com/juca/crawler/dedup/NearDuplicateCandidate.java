@@ -0,0 +1,23 @@
+package com.juca.crawler.dedup;
+
+/**
+ * 유사 중복 검사 대상 엔티티
+ */
+public interface NearDuplicateCandidate {
+
+    Long getId();
+
+    Long getSimhash();
+
+    /**
+     * 지문을 만들 본문 텍스트 (제목처럼 매체마다 다르게 쓰는 부분은 제외)
+     */
+    String fingerprintText();
+
+    void assignSimhash(long simhash);
+
+    /**
+     * 대표 기사에 연결하고 본문 사본(원문 HTML, 본문)은 저장하지 않습니다.
+     */
+    void markDuplicateOf(Long canonicalId);
+}
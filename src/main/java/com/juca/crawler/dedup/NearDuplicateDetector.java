@@ -0,0 +1,196 @@
+package com.juca.crawler.dedup;
+
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.repository.CrawledNewsArticleRepository;
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 기사 유사 중복 검출
+ *
+ * 본문 SimHash 지문을 말뭉치별 메모리 LSH 색인({@link SimHashIndex})에서 찾아,
+ * 해밍 거리 max_distance 이하인 대표 기사가 있으면 새 기사를 그 기사에 연결하고 본문 사본은 저장하지 않습니다.
+ * 색인은 시작 시 DB 의 대표 기사 지문으로 채우고, 이후 저장된 대표 기사는 커밋 뒤에 추가합니다.
+ */
+@Component
+public class NearDuplicateDetector {
+
+    private final CrawledNewsArticleRepository crawledNewsArticleRepository;
+    private final CnnArticleRepository cnnArticleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int maxDistance;
+    private final int minTokens;
+
+    private final Map<ArticleCorpus, SimHashIndex> indexes = new EnumMap<>(ArticleCorpus.class);
+
+    public NearDuplicateDetector(CrawledNewsArticleRepository crawledNewsArticleRepository,
+                                 CnnArticleRepository cnnArticleRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${crawler.dedup.enabled:true}") boolean enabled,
+                                 @Value("${crawler.dedup.max_distance:5}") int maxDistance,
+                                 @Value("${crawler.dedup.min_tokens:50}") int minTokens) {
+        this.crawledNewsArticleRepository = crawledNewsArticleRepository;
+        this.cnnArticleRepository = cnnArticleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.maxDistance = maxDistance;
+        this.minTokens = minTokens;
+        for (ArticleCorpus corpus : ArticleCorpus.values()) {
+            indexes.put(corpus, new SimHashIndex(maxDistance));
+        }
+    }
+
+    @PostConstruct
+    void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                load(ArticleCorpus.NAVER_NEWS, crawledNewsArticleRepository.streamFingerprints());
+                load(ArticleCorpus.CNN, cnnArticleRepository.streamFingerprints());
+            });
+            LogUtil.logInfo("유사 중복 색인 적재 완료: 네이버 " + indexes.get(ArticleCorpus.NAVER_NEWS).size()
+                    + "건, CNN " + indexes.get(ArticleCorpus.CNN).size() + "건, "
+                    + (System.currentTimeMillis() - startTime) + "ms");
+        } catch (Exception e) {
+            // 색인이 비어 있어도 수집은 계속 (그동안은 중복이 대표 기사로 저장될 뿐)
+            LogUtil.logError("유사 중복 색인 적재 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void load(ArticleCorpus corpus, Stream<FingerprintRow> rows) {
+        SimHashIndex index = indexes.get(corpus);
+        try (rows) {
+            rows.forEach(row -> index.add(row.getSimhash(), row.getId()));
+        }
+    }
+
+    /**
+     * 본문이 min_tokens 단어 이상이면 SimHash 지문, 아니면 null (짧은 글은 서로 쉽게 겹치므로 비교하지 않음)
+     */
+    Long fingerprintOf(String text) {
+        List<String> tokens = SimHash.tokens(text);
+        return tokens.size() < minTokens ? null : SimHash.of(tokens);
+    }
+
+    /**
+     * 기사 묶음을 유사 중복 여부에 따라 연결해 저장합니다. 트랜잭션 안에서 호출해야 합니다.
+     * 같은 묶음 안의 중복도 먼저 저장된 대표 기사에 연결됩니다.
+     *
+     * @param saveAll 엔티티 저장 (id 가 채워진 엔티티를 반환)
+     * @return 저장된 대표 기사 (검색 색인 등 후속 처리 대상), 중복으로 연결된 기사는 제외
+     */
+    public <T extends NearDuplicateCandidate> List<T> saveLinked(ArticleCorpus corpus, List<T> items,
+                                                                 Function<List<T>, List<T>> saveAll) {
+        if (!enabled) {
+            return saveAll.apply(items);
+        }
+
+        SimHashIndex index = indexes.get(corpus);
+        List<T> canonical = new ArrayList<>();
+        List<Long> canonicalFingerprints = new ArrayList<>();
+        List<T> duplicates = new ArrayList<>();
+        // 묶음 안의 대표 기사에 연결할 중복 (대표 기사 저장 후 id 를 채움)
+        List<T> pendingDuplicates = new ArrayList<>();
+        List<T> pendingCanonical = new ArrayList<>();
+
+        for (T item : items) {
+            Long fingerprint = fingerprintOf(item.fingerprintText());
+            if (fingerprint == null) {
+                canonical.add(item);
+                canonicalFingerprints.add(null);
+                continue;
+            }
+            item.assignSimhash(fingerprint);
+
+            long canonicalId = index.findNearest(fingerprint);
+            if (canonicalId >= 0) {
+                item.markDuplicateOf(canonicalId);
+                duplicates.add(item);
+                continue;
+            }
+            T batchCanonical = nearestInBatch(canonical, canonicalFingerprints, fingerprint);
+            if (batchCanonical != null) {
+                pendingDuplicates.add(item);
+                pendingCanonical.add(batchCanonical);
+                continue;
+            }
+            canonical.add(item);
+            canonicalFingerprints.add(fingerprint);
+        }
+
+        List<T> savedCanonical = canonical.isEmpty() ? List.of() : saveAll.apply(canonical);
+        for (int i = 0; i < pendingDuplicates.size(); i++) {
+            T duplicate = pendingDuplicates.get(i);
+            duplicate.markDuplicateOf(pendingCanonical.get(i).getId());
+            duplicates.add(duplicate);
+        }
+        if (!duplicates.isEmpty()) {
+            saveAll.apply(duplicates);
+            LogUtil.logInfo("[" + corpus + "] 유사 중복 기사 " + duplicates.size() + "건을 대표 기사에 연결");
+        }
+
+        indexAfterCommit(index, savedCanonical);
+        return savedCanonical;
+    }
+
+    private <T extends NearDuplicateCandidate> T nearestInBatch(List<T> canonical, List<Long> fingerprints, long fingerprint) {
+        T nearest = null;
+        int nearestDistance = maxDistance + 1;
+        for (int i = 0; i < canonical.size(); i++) {
+            Long candidate = fingerprints.get(i);
+            if (candidate == null) {
+                continue;
+            }
+            int distance = SimHash.distance(candidate, fingerprint);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = canonical.get(i);
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * 롤백된 기사가 대표 기사로 남지 않도록 커밋 뒤에 색인에 추가합니다.
+     */
+    private <T extends NearDuplicateCandidate> void indexAfterCommit(SimHashIndex index, List<T> saved) {
+        List<long[]> entries = new ArrayList<>();
+        for (T item : saved) {
+            if (item.getSimhash() != null && item.getId() != null) {
+                entries.add(new long[]{item.getSimhash(), item.getId()});
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        Runnable addAll = () -> entries.forEach(entry -> index.add(entry[0], entry[1]));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAll.run();
+                }
+            });
+        } else {
+            addAll.run();
+        }
+    }
+}
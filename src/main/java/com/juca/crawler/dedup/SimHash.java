@@ -0,0 +1,67 @@
+package com.juca.crawler.dedup;
+
+import com.juca.crawler.util.MurmurHash3;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 64bit SimHash (Charikar)
+ *
+ * 본문을 단어 3-gram(shingle) 으로 나눠 각 shingle 의 64bit 해시를 비트별로 더하고(1 이면 +1, 0 이면 -1),
+ * 합이 양수인 비트만 1 로 둔 지문을 만듭니다. 내용이 비슷한 문서일수록 지문의 해밍 거리가 작습니다.
+ */
+public final class SimHash {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int SHINGLE_SIZE = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 문자/숫자가 아닌 문자를 기준으로 나눈 단어 목록
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static long of(List<String> tokens) {
+        int[] weights = new int[64];
+        int shingles = Math.max(1, tokens.size() - SHINGLE_SIZE + 1);
+        StringBuilder shingle = new StringBuilder();
+        for (int i = 0; i < shingles; i++) {
+            shingle.setLength(0);
+            for (int j = i; j < Math.min(i + SHINGLE_SIZE, tokens.size()); j++) {
+                shingle.append(tokens.get(j)).append(' ');
+            }
+            long hash = MurmurHash3.hash64(shingle.toString());
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1) != 0 ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+}
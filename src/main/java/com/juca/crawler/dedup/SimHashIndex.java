@@ -0,0 +1,102 @@
+package com.juca.crawler.dedup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SimHash 지문의 LSH(band) 색인
+ *
+ * 64bit 를 maxDistance + 1 개의 band 로 나누면, 해밍 거리가 maxDistance 이하인 두 지문은
+ * 비둘기집 원리에 따라 적어도 한 band 가 완전히 같습니다.
+ * 그래서 band 값별 버킷만 확인하면 전체를 훑지 않고도 후보를 빠짐없이 찾을 수 있고, 후보는 실제 거리로 다시 확인합니다.
+ * 항목은 지문/ID 배열에 한 번만 저장하고 버킷에는 그 위치(int)만 둡니다.
+ */
+public final class SimHashIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxDistance;
+    private final int[] bandShifts;
+    private final long[] bandMasks;
+    private final List<Map<Long, int[]>> buckets;
+
+    private long[] fingerprints = new long[INITIAL_CAPACITY];
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    public SimHashIndex(int maxDistance) {
+        if (maxDistance < 0 || maxDistance > 15) {
+            throw new IllegalArgumentException("maxDistance 는 0~15 사이여야 합니다: " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+        int bands = maxDistance + 1;
+        this.bandShifts = new int[bands];
+        this.bandMasks = new long[bands];
+        this.buckets = new ArrayList<>(bands);
+        int bandBits = 64 / bands;
+        for (int band = 0; band < bands; band++) {
+            int bits = band == bands - 1 ? 64 - bandBits * band : bandBits;
+            bandShifts[band] = bandBits * band;
+            bandMasks[band] = bits == 64 ? -1L : (1L << bits) - 1;
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public synchronized void add(long fingerprint, long id) {
+        if (size == fingerprints.length) {
+            fingerprints = Arrays.copyOf(fingerprints, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        fingerprints[size] = fingerprint;
+        ids[size] = id;
+        for (int band = 0; band < buckets.size(); band++) {
+            // 버킷: [0] 은 사용 중인 칸 수, [1..] 은 항목 위치
+            int[] bucket = buckets.get(band).get(bandOf(fingerprint, band));
+            if (bucket == null) {
+                bucket = new int[4];
+            } else if (bucket[0] + 1 == bucket.length) {
+                bucket = Arrays.copyOf(bucket, bucket.length * 2);
+            }
+            bucket[++bucket[0]] = size;
+            buckets.get(band).put(bandOf(fingerprint, band), bucket);
+        }
+        size++;
+    }
+
+    /**
+     * 해밍 거리가 maxDistance 이하인 항목 중 가장 가까운 항목의 ID (같은 거리면 먼저 추가된 항목)
+     * @return 없으면 -1
+     */
+    public synchronized long findNearest(long fingerprint) {
+        long nearestId = -1;
+        int nearestDistance = maxDistance + 1;
+        int nearestPosition = Integer.MAX_VALUE;
+        for (int band = 0; band < buckets.size(); band++) {
+            int[] bucket = buckets.get(band).get(bandOf(fingerprint, band));
+            if (bucket == null) {
+                continue;
+            }
+            for (int i = 1; i <= bucket[0]; i++) {
+                int position = bucket[i];
+                int distance = SimHash.distance(fingerprint, fingerprints[position]);
+                if (distance < nearestDistance || (distance == nearestDistance && position < nearestPosition)) {
+                    nearestDistance = distance;
+                    nearestPosition = position;
+                    nearestId = ids[position];
+                }
+            }
+        }
+        return nearestId;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private long bandOf(long fingerprint, int band) {
+        return (fingerprint >>> bandShifts[band]) & bandMasks[band];
+    }
+}
@@ -1,5 +1,6 @@
 package com.juca.crawler.domain;
 
+import com.juca.crawler.dedup.NearDuplicateCandidate;
 import com.juca.crawler.dto.CnnArticleDto;
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -13,8 +14,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Getter
 @Entity
-@Table(name = "cnn_articles")
-public class CnnArticle {
+@Table(name = "cnn_articles", indexes = {
+        @Index(name = "idx_cnn_articles_published_at_id", columnList = "published_at, id"),
+        @Index(name = "idx_cnn_articles_translated_at_id", columnList = "translated_at, id"),
+        @Index(name = "idx_cnn_articles_duplicate_of", columnList = "duplicate_of")
+})
+public class CnnArticle implements NearDuplicateCandidate {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false)
@@ -53,6 +58,14 @@ public class CnnArticle {
     @Column(name = "translated_at")
     private LocalDateTime translatedAt;
 
+    // 본문 SimHash 지문, 본문이 너무 짧아 만들지 않았으면 null
+    @Column(name = "simhash")
+    private Long simhash;
+
+    // 유사 중복이면 대표 기사 id (이 경우 content 는 저장하지 않고 번역/색인 대상에서도 제외)
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
     @Builder
     public CnnArticle(String title, String titleKr, String articleUrl, String content,
                       String contentKr, String author, Integer statusCode, String errorMessage,
@@ -70,6 +83,22 @@ public class CnnArticle {
         this.translatedAt = translatedAt;
     }
 
+    @Override
+    public String fingerprintText() {
+        return content;
+    }
+
+    @Override
+    public void assignSimhash(long simhash) {
+        this.simhash = simhash;
+    }
+
+    @Override
+    public void markDuplicateOf(Long canonicalId) {
+        this.duplicateOf = canonicalId;
+        this.content = "";
+    }
+
     public static CnnArticle toEntity(CnnArticleDto dto) {
         return CnnArticle.builder()
                 .title(dto.getTitle())
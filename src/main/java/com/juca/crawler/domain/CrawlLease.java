@@ -0,0 +1,31 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 파티션 임대(lease)
+ * 파티션은 호스트 해시로 정해지며, 임대를 가진 노드만 해당 파티션의 호스트를 크롤링합니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "crawl_leases")
+public class CrawlLease {
+    @Id
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    @Column(name = "owner_node_id", length = 100)
+    private String ownerNodeId;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    public CrawlLease(Integer partitionNo) {
+        this.partitionNo = partitionNo;
+    }
+}
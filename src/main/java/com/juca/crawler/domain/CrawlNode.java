@@ -0,0 +1,36 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 클러스터에 참여 중인 크롤러 노드 (heartbeat 로 생존 여부 판단)
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "crawl_nodes")
+public class CrawlNode {
+    @Id
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    public CrawlNode(String nodeId, LocalDateTime startedAt) {
+        this.nodeId = nodeId;
+        this.startedAt = startedAt;
+        this.heartbeatAt = startedAt;
+    }
+
+    public void heartbeat(LocalDateTime now) {
+        this.heartbeatAt = now;
+    }
+}
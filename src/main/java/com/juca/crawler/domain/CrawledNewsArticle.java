@@ -1,5 +1,6 @@
 package com.juca.crawler.domain;
 
+import com.juca.crawler.dedup.NearDuplicateCandidate;
 import com.juca.crawler.dto.CrawledNewsArticleDto;
 import jakarta.persistence.*;
 import lombok.Builder;
@@ -13,8 +14,12 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "crawled_news_articles")
-public class CrawledNewsArticle {
+@Table(name = "crawled_news_articles", indexes = {
+        @Index(name = "idx_news_articles_published_at_id", columnList = "published_at, id"),
+        @Index(name = "idx_news_articles_media_published_at_id", columnList = "media, published_at, id"),
+        @Index(name = "idx_news_articles_duplicate_of", columnList = "duplicate_of")
+})
+public class CrawledNewsArticle implements NearDuplicateCandidate {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,6 +53,14 @@ public class CrawledNewsArticle {
     @Column(name = "crawled_at", nullable = false)
     private LocalDateTime crawledAt;
 
+    // 본문 SimHash 지문, 본문이 너무 짧아 만들지 않았으면 null
+    @Column(name = "simhash")
+    private Long simhash;
+
+    // 유사 중복이면 대표 기사 id (이 경우 article, html_content 는 저장하지 않음)
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
     @Builder
     public CrawledNewsArticle(String articleUrl, String media, String category, String title, String article,
                               String htmlContent, String author, LocalDateTime publishedAt, LocalDateTime crawledAt) {
@@ -62,6 +75,23 @@ public class CrawledNewsArticle {
         this.crawledAt = crawledAt;
     }
 
+    @Override
+    public String fingerprintText() {
+        return article;
+    }
+
+    @Override
+    public void assignSimhash(long simhash) {
+        this.simhash = simhash;
+    }
+
+    @Override
+    public void markDuplicateOf(Long canonicalId) {
+        this.duplicateOf = canonicalId;
+        this.article = null;
+        this.htmlContent = "";
+    }
+
     public static CrawledNewsArticle dtoToEntity(CrawledNewsArticleDto dto) {
         return CrawledNewsArticle.builder()
                 .articleUrl(dto.getArticleUrl())
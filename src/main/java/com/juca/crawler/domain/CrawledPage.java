@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "crawled_pages")
+@Table(name = "crawled_pages", indexes = {
+        @Index(name = "idx_crawled_pages_crawled_at_id", columnList = "crawled_at, id"),
+        @Index(name = "idx_crawled_pages_domain_crawled_at_id", columnList = "domain, crawled_at, id")
+})
 public class CrawledPage extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,14 +44,16 @@ public class CrawledPage extends BaseTimeEntity {
     @Column(name = "content_type", length = 50)
     private String contentType;
 
-    @Column(name = "crawled_at")
+    // 파티션 키 (db/crawl_partitioning.sql)
+    @Column(name = "crawled_at", nullable = false)
     private LocalDateTime crawledAt;
 
     @Column(name = "crawl_depth", nullable = false)
     private Integer crawlDepth;
 
+    // 월 파티션 테이블은 외래키를 둘 수 없고 부모 페이지가 먼저 보관될 수 있으므로 제약 없이 id 만 참조
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "parent_url_id", referencedColumnName = "id")
+    @JoinColumn(name = "parent_url_id", referencedColumnName = "id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private CrawledPage parentPage;
 
     @Column(name = "error_message", length = 1000)
@@ -70,6 +75,40 @@ public class CrawledPage extends BaseTimeEntity {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * 재방문에서 본문이 바뀐 페이지의 내용을 갱신합니다.
+     */
+    public void refresh(CrawledPageDto dto) {
+        this.htmlContent = dto.getHtmlContent();
+        this.title = dto.getTitle();
+        this.metaDescription = dto.getMetaDescription();
+        this.statusCode = dto.getStatusCode();
+        this.contentType = dto.getContentType();
+        this.crawledAt = dto.getCrawledAt();
+        this.errorMessage = null;
+    }
+
+    /**
+     * 재방문한 본문이 같으면 본문은 그대로 두고 수집 시각과 응답 상태만 갱신합니다.
+     * 수집 시각은 파티션 키이므로 살아 있는 페이지가 보관 기간이 지나 보관/삭제되지 않도록 매번 갱신합니다.
+     */
+    public void markRevisited(CrawledPageDto dto) {
+        this.statusCode = dto.getStatusCode();
+        this.contentType = dto.getContentType();
+        this.crawledAt = dto.getCrawledAt();
+        this.errorMessage = null;
+    }
+
+    /**
+     * 재방문 응답이 정상 HTML 이 아니면 이전 본문은 유지하고 응답 상태만 기록합니다.
+     */
+    public void markRevisitFailed(CrawledPageDto dto) {
+        this.statusCode = dto.getStatusCode();
+        this.contentType = dto.getContentType();
+        this.crawledAt = dto.getCrawledAt();
+        this.errorMessage = dto.getErrorMessage();
+    }
+
     public static CrawledPage dtoToEntity(CrawledPageDto dto, CrawledPage parentPage) {
         return CrawledPage.builder()
                 .url(dto.getUrl())
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Entity
 @Table(name = "extracted_links", uniqueConstraints = { // 여기에 복합 유니크 키를 추가합니다.
-        @UniqueConstraint(columnNames = {"source_page_id", "link_url"})
+        // 월 파티션 테이블의 유니크 키는 파티션 키(crawled_at)를 포함해야 함 (같은 페이지 내 중복은 저장 전에 걸러냄)
+        @UniqueConstraint(name = "uk_extracted_links_source_page_link", columnNames = {"source_page_id", "link_url", "crawled_at"})
 })
 public class ExtractedLink extends BaseTimeEntity {
     @Id
@@ -23,7 +24,7 @@ public class ExtractedLink extends BaseTimeEntity {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
-    @JoinColumn(name = "source_page_id", nullable = false)
+    @JoinColumn(name = "source_page_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private CrawledPage sourcePage;
 
     @Column(name = "link_url", nullable = false, length = 1000)
@@ -35,7 +36,8 @@ public class ExtractedLink extends BaseTimeEntity {
     @Column(name = "link_type", nullable = false, length = 50)
     private String linkType;
 
-    @Column(name = "crawled_at")
+    // 파티션 키 (db/crawl_partitioning.sql)
+    @Column(name = "crawled_at", nullable = false)
     private LocalDateTime crawledAt;
 
     @Builder
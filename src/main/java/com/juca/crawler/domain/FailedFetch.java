@@ -0,0 +1,95 @@
+package com.juca.crawler.domain;
+
+import com.juca.crawler.fetch.FetchErrorClass;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실패한 요청 (dead-letter queue)
+ * URL 은 1000자까지 허용되므로 유니크 인덱스는 URL 해시에 둡니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "failed_fetches", indexes = {
+        @Index(name = "uk_failed_fetches_url_hash", columnList = "url_hash", unique = true),
+        @Index(name = "idx_failed_fetches_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+public class FailedFetch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "url_hash", nullable = false)
+    private Long urlHash;
+
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private FailedFetchSource source;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "failure_class", nullable = false, length = 20)
+    private FetchErrorClass failureClass;
+
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private FailedFetchStatus status;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "first_failed_at", nullable = false)
+    private LocalDateTime firstFailedAt;
+
+    @Column(name = "last_failed_at", nullable = false)
+    private LocalDateTime lastFailedAt;
+
+    // WEB_PAGE 재시도 시 원래 BFS 위치 복원용
+    @Column(name = "crawl_depth")
+    private Integer crawlDepth;
+
+    @Column(name = "parent_page_id")
+    private Long parentPageId;
+
+    public FailedFetch(long urlHash, String url, FailedFetchSource source, Integer crawlDepth, Long parentPageId, LocalDateTime now) {
+        this.urlHash = urlHash;
+        this.url = url;
+        this.source = source;
+        this.crawlDepth = crawlDepth;
+        this.parentPageId = parentPageId;
+        this.attemptCount = 0;
+        this.status = FailedFetchStatus.PENDING;
+        this.firstFailedAt = now;
+    }
+
+    /**
+     * 실패 1회를 기록합니다.
+     * @param nextAttemptAt 다음 재시도 시각, null 이면 더 이상 재시도하지 않음(PERMANENT)
+     */
+    public void recordFailure(FetchErrorClass failureClass, Integer statusCode, String lastError,
+                              LocalDateTime now, LocalDateTime nextAttemptAt) {
+        this.failureClass = failureClass;
+        this.statusCode = statusCode;
+        this.lastError = lastError;
+        this.attemptCount++;
+        this.lastFailedAt = now;
+        this.nextAttemptAt = nextAttemptAt;
+        this.status = nextAttemptAt != null ? FailedFetchStatus.PENDING : FailedFetchStatus.PERMANENT;
+    }
+}
@@ -0,0 +1,10 @@
+package com.juca.crawler.domain;
+
+/**
+ * 실패한 요청이 어느 수집 파이프라인에서 발생했는지 (재시도 시 같은 파이프라인으로 다시 처리)
+ */
+public enum FailedFetchSource {
+    WEB_PAGE,
+    CNN_ARTICLE,
+    NAVER_ARTICLE
+}
@@ -0,0 +1,10 @@
+package com.juca.crawler.domain;
+
+/**
+ * 실패 요청 상태
+ * PENDING: 재시도 대기, PERMANENT: 재시도하지 않음 (재시도 불가 실패 또는 최대 시도 횟수 초과)
+ */
+public enum FailedFetchStatus {
+    PENDING,
+    PERMANENT
+}
@@ -0,0 +1,49 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 페이지(섹션, 메인 페이지) 별 증분 수집 기준점
+ * 마지막으로 끝까지 처리한 수집에서 본 가장 새로운 기사 번호를 기록해, 다음 수집은 그보다 새로운 기사만 처리합니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "listing_watermarks", indexes = {
+        @Index(name = "uk_listing_watermarks_listing_hash", columnList = "listing_hash", unique = true)
+})
+public class ListingWatermark {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "listing_hash", nullable = false)
+    private Long listingHash;
+
+    @Column(name = "listing_url", nullable = false, length = 1000)
+    private String listingUrl;
+
+    // RecencyWatermark 인코딩 (그룹:번호 목록)
+    @Column(name = "mark", nullable = false, columnDefinition = "Text")
+    private String mark;
+
+    @Column(name = "advanced_at", nullable = false)
+    private LocalDateTime advancedAt;
+
+    public ListingWatermark(long listingHash, String listingUrl, String mark, LocalDateTime advancedAt) {
+        this.listingHash = listingHash;
+        this.listingUrl = listingUrl;
+        this.mark = mark;
+        this.advancedAt = advancedAt;
+    }
+
+    public void advance(String mark, LocalDateTime advancedAt) {
+        this.mark = mark;
+        this.advancedAt = advancedAt;
+    }
+}
@@ -0,0 +1,43 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 링크 그래프 분석 점수 (페이지당 1행)
+ * LinkGraphRanker 가 실행마다 테이블 전체를 새 스냅샷으로 교체합니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "page_scores", indexes = {
+        @Index(name = "idx_page_scores_page_rank", columnList = "page_rank"),
+        @Index(name = "idx_page_scores_authority", columnList = "authority"),
+        @Index(name = "idx_page_scores_hub", columnList = "hub")
+})
+public class PageScore {
+    @Id
+    @Column(name = "page_id", nullable = false)
+    private Long pageId;
+
+    @Column(name = "page_rank", nullable = false)
+    private Double pageRank;
+
+    @Column(name = "authority", nullable = false)
+    private Double authority;
+
+    @Column(name = "hub", nullable = false)
+    private Double hub;
+
+    @Column(name = "in_degree", nullable = false)
+    private Integer inDegree;
+
+    @Column(name = "out_degree", nullable = false)
+    private Integer outDegree;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
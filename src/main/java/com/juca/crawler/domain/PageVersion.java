@@ -0,0 +1,77 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재수집된 페이지 본문 이력
+ * 첫 수집은 본문 전체를, 이후 수집은 직전 본문 버전에 대한 delta 를 저장하고, 본문이 같으면 수집 시각만 남깁니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "page_versions", indexes = {
+        @Index(name = "uk_page_versions_page_id_version", columnList = "page_id, version", unique = true)
+})
+public class PageVersion {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "page_id", nullable = false)
+    private Long pageId;
+
+    // 페이지별 1부터 증가하는 버전 번호
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+
+    // 본문(html) 해시
+    @Column(name = "content_hash", nullable = false)
+    private Long contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 20)
+    private PageVersionKind kind;
+
+    // DELTA: delta 의 기준 버전, UNCHANGED: 같은 본문을 가진 버전, FULL: null
+    @Column(name = "base_version")
+    private Integer baseVersion;
+
+    // 압축된 본문 또는 delta (UNCHANGED 는 null)
+    @Column(name = "body", columnDefinition = "LongBlob")
+    private byte[] body;
+
+    // 본문 원본 크기 (UTF-8 바이트)
+    @Column(name = "raw_length", nullable = false)
+    private Integer rawLength;
+
+    @Column(name = "stored_length", nullable = false)
+    private Integer storedLength;
+
+    public PageVersion(long pageId, int version, LocalDateTime capturedAt, long contentHash, PageVersionKind kind,
+                       Integer baseVersion, byte[] body, int rawLength) {
+        this.pageId = pageId;
+        this.version = version;
+        this.capturedAt = capturedAt;
+        this.contentHash = contentHash;
+        this.kind = kind;
+        this.baseVersion = baseVersion;
+        this.body = body;
+        this.rawLength = rawLength;
+        this.storedLength = body != null ? body.length : 0;
+    }
+
+    /**
+     * 본문을 가진 버전 (UNCHANGED 면 같은 본문을 가진 이전 버전)
+     */
+    public int contentVersion() {
+        return kind == PageVersionKind.UNCHANGED ? baseVersion : version;
+    }
+}
@@ -0,0 +1,11 @@
+package com.juca.crawler.domain;
+
+/**
+ * 페이지 버전 저장 방식
+ * FULL: 본문 전체 (압축), DELTA: 직전 본문 버전에 대한 바이너리 delta (압축), UNCHANGED: 본문이 같아 수집 시각만 기록
+ */
+public enum PageVersionKind {
+    FULL,
+    DELTA,
+    UNCHANGED
+}
@@ -0,0 +1,93 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * URL 별 재방문 상태
+ * 마지막으로 본 본문 해시와 관측된 변경 주기를 기준으로 다음 방문 시각을 정합니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "recrawl_states", indexes = {
+        @Index(name = "uk_recrawl_states_url_hash", columnList = "url_hash", unique = true),
+        @Index(name = "idx_recrawl_states_domain_next_visit_at", columnList = "domain, next_visit_at")
+})
+public class RecrawlState {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "url_hash", nullable = false)
+    private Long urlHash;
+
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+
+    @Column(name = "domain")
+    private String domain;
+
+    @Column(name = "content_hash", nullable = false)
+    private Long contentHash;
+
+    // 현재 재방문 간격
+    @Column(name = "interval_ms", nullable = false)
+    private Long intervalMs;
+
+    // 관측된 변경 간격의 지수 이동 평균, 변경이 두 번 이상 관측되기 전에는 null
+    @Column(name = "change_interval_ms")
+    private Long changeIntervalMs;
+
+    @Column(name = "visit_count", nullable = false)
+    private Integer visitCount;
+
+    @Column(name = "change_count", nullable = false)
+    private Integer changeCount;
+
+    @Column(name = "last_visited_at", nullable = false)
+    private LocalDateTime lastVisitedAt;
+
+    @Column(name = "last_changed_at", nullable = false)
+    private LocalDateTime lastChangedAt;
+
+    @Column(name = "next_visit_at", nullable = false)
+    private LocalDateTime nextVisitAt;
+
+    // 웹 크롤링 재방문 시 원래 BFS 깊이 유지용
+    @Column(name = "crawl_depth")
+    private Integer crawlDepth;
+
+    public RecrawlState(long urlHash, String url, String domain, long contentHash, Integer crawlDepth, LocalDateTime now) {
+        this.urlHash = urlHash;
+        this.url = url;
+        this.domain = domain;
+        this.contentHash = contentHash;
+        this.crawlDepth = crawlDepth;
+        this.visitCount = 0;
+        this.changeCount = 0;
+        this.lastChangedAt = now;
+    }
+
+    /**
+     * 방문 1회를 기록합니다.
+     * @param changed 본문이 이전 방문과 달라졌는지 여부
+     */
+    public void recordVisit(long contentHash, boolean changed, long intervalMs, Long changeIntervalMs,
+                            LocalDateTime now, LocalDateTime nextVisitAt) {
+        this.contentHash = contentHash;
+        this.intervalMs = intervalMs;
+        this.changeIntervalMs = changeIntervalMs;
+        this.visitCount++;
+        if (changed) {
+            this.changeCount++;
+            this.lastChangedAt = now;
+        }
+        this.lastVisitedAt = now;
+        this.nextVisitAt = nextVisitAt;
+    }
+}
@@ -0,0 +1,53 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사이트맵에서 발견한 URL(기사 또는 하위 사이트맵)과 마지막으로 본 lastmod
+ * 다음 수집 때 lastmod 가 그대로인 URL 은 다시 내보내지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "sitemap_urls", indexes = {
+        @Index(name = "uk_sitemap_urls_url_hash", columnList = "url_hash", unique = true)
+})
+public class SitemapUrl {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "url_hash", nullable = false)
+    private Long urlHash;
+
+    @Column(name = "url", nullable = false, length = 1000)
+    private String url;
+
+    // UTC 기준
+    @Column(name = "lastmod")
+    private LocalDateTime lastmod;
+
+    @Column(name = "first_seen_at", nullable = false)
+    private LocalDateTime firstSeenAt;
+
+    @Column(name = "last_changed_at", nullable = false)
+    private LocalDateTime lastChangedAt;
+
+    public SitemapUrl(long urlHash, String url, LocalDateTime lastmod, LocalDateTime now) {
+        this.urlHash = urlHash;
+        this.url = url;
+        this.lastmod = lastmod;
+        this.firstSeenAt = now;
+        this.lastChangedAt = now;
+    }
+
+    public void changed(LocalDateTime lastmod, LocalDateTime now) {
+        this.lastmod = lastmod;
+        this.lastChangedAt = now;
+    }
+}
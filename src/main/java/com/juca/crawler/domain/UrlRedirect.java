@@ -0,0 +1,49 @@
+package com.juca.crawler.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요청 시 다른 URL 로 리다이렉트된 것으로 확인된 (정규화된) URL
+ * 이후 같은 URL 로의 링크는 요청 없이 최종 URL 로 바로 해석합니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "url_redirects", indexes = {
+        @Index(name = "uk_url_redirects_source_hash", columnList = "source_hash", unique = true),
+        @Index(name = "idx_url_redirects_recorded_at", columnList = "recorded_at")
+})
+public class UrlRedirect {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "source_hash", nullable = false)
+    private Long sourceHash;
+
+    @Column(name = "source_url", nullable = false, length = 1000)
+    private String sourceUrl;
+
+    @Column(name = "target_url", nullable = false, length = 1000)
+    private String targetUrl;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    public UrlRedirect(long sourceHash, String sourceUrl, String targetUrl, LocalDateTime recordedAt) {
+        this.sourceHash = sourceHash;
+        this.sourceUrl = sourceUrl;
+        this.targetUrl = targetUrl;
+        this.recordedAt = recordedAt;
+    }
+
+    public void redirectTo(String targetUrl, LocalDateTime recordedAt) {
+        this.targetUrl = targetUrl;
+        this.recordedAt = recordedAt;
+    }
+}
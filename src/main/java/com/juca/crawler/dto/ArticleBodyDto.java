@@ -0,0 +1,14 @@
+package com.juca.crawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 단건 본문 조회 응답
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleBodyDto {
+    private final Long id;
+    private final String body;
+}
@@ -0,0 +1,20 @@
+package com.juca.crawler.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문(content, content_kr)을 제외한 {@link com.juca.crawler.domain.CnnArticle} 목록 조회용 프로젝션
+ */
+public interface CnnArticleSummary {
+    Long getId();
+    String getTitle();
+    String getTitleKr();
+    String getArticleUrl();
+    String getAuthor();
+    Integer getStatusCode();
+    LocalDateTime getCrawledAt();
+    LocalDateTime getPublishedAt();
+    LocalDateTime getTranslatedAt();
+    // 유사 중복이면 대표 기사 id
+    Long getDuplicateOf();
+}
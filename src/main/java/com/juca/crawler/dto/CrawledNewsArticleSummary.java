@@ -0,0 +1,19 @@
+package com.juca.crawler.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 본문(article, html_content)을 제외한 {@link com.juca.crawler.domain.CrawledNewsArticle} 목록 조회용 프로젝션
+ */
+public interface CrawledNewsArticleSummary {
+    Long getId();
+    String getArticleUrl();
+    String getMedia();
+    String getCategory();
+    String getTitle();
+    String getAuthor();
+    LocalDateTime getPublishedAt();
+    LocalDateTime getCrawledAt();
+    // 유사 중복이면 대표 기사 id
+    Long getDuplicateOf();
+}
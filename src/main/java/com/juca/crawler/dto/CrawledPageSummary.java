@@ -0,0 +1,19 @@
+package com.juca.crawler.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * html_content를 제외한 {@link com.juca.crawler.domain.CrawledPage} 목록 조회용 프로젝션
+ */
+public interface CrawledPageSummary {
+    Long getId();
+    String getUrl();
+    String getDomain();
+    String getTitle();
+    String getMetaDescription();
+    Integer getStatusCode();
+    String getContentType();
+    LocalDateTime getCrawledAt();
+    Integer getCrawlDepth();
+    String getErrorMessage();
+}
@@ -0,0 +1,45 @@
+package com.juca.crawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (시각, id) 기준 keyset 페이지네이션 커서
+ * 클라이언트에는 base64url 로 인코딩된 문자열로만 노출합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime at;
+    private final Long id;
+
+    public String encode() {
+        String raw = at + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode()로 만든 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.juca.crawler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * keyset 페이지네이션 응답
+ * nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+}
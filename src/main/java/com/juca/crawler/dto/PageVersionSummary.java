@@ -0,0 +1,17 @@
+package com.juca.crawler.dto;
+
+import com.juca.crawler.domain.PageVersionKind;
+
+import java.time.LocalDateTime;
+
+/**
+ * body 를 제외한 {@link com.juca.crawler.domain.PageVersion} 목록 조회용 프로젝션
+ */
+public interface PageVersionSummary {
+    Integer getVersion();
+    LocalDateTime getCapturedAt();
+    PageVersionKind getKind();
+    Integer getBaseVersion();
+    Integer getRawLength();
+    Integer getStoredLength();
+}
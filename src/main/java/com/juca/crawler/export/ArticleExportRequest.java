@@ -0,0 +1,27 @@
+package com.juca.crawler.export;
+
+import com.juca.crawler.search.ArticleSource;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 조건 (수집 시각 구간은 [from, to))
+ */
+@Getter
+@Setter
+public class ArticleExportRequest {
+    private ArticleSource source;
+    // 네이버 기사만 해당 (언론사)
+    private String media;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private ExportFormat format = ExportFormat.NDJSON;
+    private boolean gzip;
+
+    public String fileName() {
+        String base = source == ArticleSource.CNN ? "cnn_articles" : "crawled_news_articles";
+        return base + "." + format.extension() + (gzip ? ".gz" : "");
+    }
+}
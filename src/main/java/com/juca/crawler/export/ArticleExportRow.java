@@ -0,0 +1,57 @@
+package com.juca.crawler.export;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.juca.crawler.search.ArticleSource;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 단위 행
+ * JPQL 생성자 표현식으로 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+ * 유사 중복 기사의 본문은 대표 기사 본문으로 채워집니다.
+ */
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"source", "id", "url", "media", "category", "title", "titleKr", "body", "bodyKr", "author",
+        "publishedAt", "crawledAt", "translatedAt", "duplicateOf"})
+public class ArticleExportRow {
+
+    static final String[] COLUMNS = {"source", "id", "url", "media", "category", "title", "title_kr", "body", "body_kr",
+            "author", "published_at", "crawled_at", "translated_at", "duplicate_of"};
+
+    private final ArticleSource source;
+    private final Long id;
+    private final String url;
+    private final String media;
+    private final String category;
+    private final String title;
+    private final String titleKr;
+    private final String body;
+    private final String bodyKr;
+    private final String author;
+    private final LocalDateTime publishedAt;
+    private final LocalDateTime crawledAt;
+    private final LocalDateTime translatedAt;
+    private final Long duplicateOf;
+
+    /** {@code select new ...} 용 CNN 생성자 (media 고정) */
+    public ArticleExportRow(Long id, String url, String title, String titleKr, String body, String bodyKr, String author,
+                            LocalDateTime publishedAt, LocalDateTime crawledAt, LocalDateTime translatedAt, Long duplicateOf) {
+        this(ArticleSource.CNN, id, url, "CNN", null, title, titleKr, body, bodyKr, author, publishedAt, crawledAt, translatedAt, duplicateOf);
+    }
+
+    /** {@code select new ...} 용 네이버 생성자 */
+    public ArticleExportRow(Long id, String url, String media, String category, String title, String body, String author,
+                            LocalDateTime publishedAt, LocalDateTime crawledAt, Long duplicateOf) {
+        this(ArticleSource.NAVER, id, url, media, category, title, null, body, null, author, publishedAt, crawledAt, null, duplicateOf);
+    }
+
+    /**
+     * CSV 열 순서({@link #COLUMNS})대로의 값
+     */
+    Object[] values() {
+        return new Object[]{source, id, url, media, category, title, titleKr, body, bodyKr, author, publishedAt, crawledAt, translatedAt, duplicateOf};
+    }
+}
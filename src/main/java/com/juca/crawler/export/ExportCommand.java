@@ -0,0 +1,126 @@
+package com.juca.crawler.export;
+
+import com.juca.crawler.CrawlerApplication;
+import com.juca.crawler.search.ArticleSource;
+import com.juca.crawler.util.LogUtil;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 내보내기 CLI 모드
+ *
+ * <pre>
+ * java -jar crawler.jar export --source=CNN|NAVER [--format=NDJSON|CSV] [--gzip] [--media=언론사]
+ *                              [--from=2025-01-01T00:00:00] [--to=...] [--out=파일 경로, 생략 시 표준 출력]
+ * </pre>
+ *
+ * 웹 서버와 스케줄러 없이 컨텍스트를 띄워 한 번 내보내고 종료합니다. (종료 코드 0: 성공, 1: 실패, 2: 잘못된 인자)
+ * 그 밖의 --spring.* 인자는 그대로 설정으로 전달됩니다.
+ */
+public final class ExportCommand {
+
+    public static final String NAME = "export";
+
+    private static final String USAGE = "사용법: export --source=CNN|NAVER [--format=NDJSON|CSV] [--gzip] [--media=언론사] "
+            + "[--from=yyyy-MM-ddTHH:mm:ss] [--to=yyyy-MM-ddTHH:mm:ss] [--out=경로]";
+
+    private ExportCommand() {
+    }
+
+    public static int run(String[] args) {
+        // AOT 생성 코드는 빌드 시점의 조건(스케줄러 활성화 등)으로 빈 구성이 고정되므로 CLI 는 AOT 없이 실행
+        System.setProperty("spring.aot.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CrawlerApplication.class)
+                .web(WebApplicationType.NONE)
+                // 표준 출력으로 내보낼 수 있도록 배너/SQL 출력을 끄고, 수집과 색인 관련 시작 작업은 건너뜀
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "crawler.scheduling.enabled=false",
+                        "crawler.engine.enabled=false",
+                        "crawler.dedup.enabled=false",
+                        "crawler.search.index_dir=" + Path.of(System.getProperty("java.io.tmpdir"), "crawler-export-index"))
+                .run(args);
+        try {
+            return execute(context.getBean(ApplicationArguments.class), context.getBean(ArticleExporter.class),
+                    System.out, System.err);
+        } finally {
+            SpringApplication.exit(context);
+        }
+    }
+
+    /**
+     * 인자를 해석해 한 번 내보냅니다.
+     * @return 종료 코드 (0: 성공, 1: 실패, 2: 잘못된 인자)
+     */
+    static int execute(ApplicationArguments arguments, ArticleExporter exporter, PrintStream stdout, PrintStream stderr) {
+        try {
+            ArticleExportRequest request = parse(arguments);
+            String out = option(arguments, "out");
+            if (out == null || out.equals("-")) {
+                exporter.export(request, stdout);
+            } else {
+                try (OutputStream file = Files.newOutputStream(Path.of(out))) {
+                    exporter.export(request, file);
+                }
+            }
+            return 0;
+        } catch (IllegalArgumentException e) {
+            stderr.println(e.getMessage());
+            stderr.println(USAGE);
+            return 2;
+        } catch (Exception e) {
+            LogUtil.logError("기사 내보내기 실패: " + e.getMessage(), e);
+            stderr.println("내보내기 실패: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    static ArticleExportRequest parse(ApplicationArguments arguments) {
+        ArticleExportRequest request = new ArticleExportRequest();
+        String source = option(arguments, "source");
+        if (source == null) {
+            throw new IllegalArgumentException("--source 는 필수입니다.");
+        }
+        request.setSource(ArticleSource.valueOf(source.toUpperCase(Locale.ROOT)));
+        String format = option(arguments, "format");
+        if (format != null) {
+            request.setFormat(ExportFormat.valueOf(format.toUpperCase(Locale.ROOT)));
+        }
+        String gzip = arguments.containsOption("gzip") ? option(arguments, "gzip") : "false";
+        request.setGzip(gzip == null || Boolean.parseBoolean(gzip));
+        request.setMedia(option(arguments, "media"));
+        request.setFrom(dateTime(option(arguments, "from")));
+        request.setTo(dateTime(option(arguments, "to")));
+        return request;
+    }
+
+    private static LocalDateTime dateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 날짜: " + value);
+        }
+    }
+
+    private static String option(ApplicationArguments arguments, String name) {
+        List<String> values = arguments.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+}
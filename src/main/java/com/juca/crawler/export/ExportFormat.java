@@ -0,0 +1,26 @@
+package com.juca.crawler.export;
+
+/**
+ * 내보내기 형식
+ * NDJSON: 한 줄에 JSON 객체 1건, CSV: 헤더 1줄 + RFC 4180 따옴표 규칙
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
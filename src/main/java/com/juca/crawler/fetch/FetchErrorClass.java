@@ -0,0 +1,25 @@
+package com.juca.crawler.fetch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 실패 분류
+ * retryable: 잠시 후 다시 시도하면 성공할 수 있는 실패
+ * hostFailure: 호스트 자체가 불안정하다는 신호 (서킷 브레이커 실패로 집계)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FetchErrorClass {
+    TIMEOUT(true, true),
+    CONNECTION(true, true),
+    RATE_LIMITED(true, true),
+    SERVER_ERROR(true, true),
+    NOT_FOUND(false, false),
+    CLIENT_ERROR(false, false),
+    CIRCUIT_OPEN(true, false),
+    UNKNOWN(false, false);
+
+    private final boolean retryable;
+    private final boolean hostFailure;
+}
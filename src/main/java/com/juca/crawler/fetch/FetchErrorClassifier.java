@@ -0,0 +1,38 @@
+package com.juca.crawler.fetch;
+
+import org.jsoup.HttpStatusException;
+
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import javax.net.ssl.SSLException;
+
+public class FetchErrorClassifier {
+
+    /**
+     * @return 성공(2xx, 3xx) 이면 null
+     */
+    public static FetchErrorClass classify(int statusCode) {
+        if (statusCode < 400) return null;
+        if (statusCode == 429) return FetchErrorClass.RATE_LIMITED;
+        if (statusCode == 408) return FetchErrorClass.TIMEOUT;
+        if (statusCode == 404 || statusCode == 410) return FetchErrorClass.NOT_FOUND;
+        if (statusCode >= 500) return FetchErrorClass.SERVER_ERROR;
+        return FetchErrorClass.CLIENT_ERROR;
+    }
+
+    public static FetchErrorClass classify(Throwable e) {
+        if (e instanceof FetchException fetchException) return fetchException.getErrorClass();
+        if (e instanceof HttpStatusException statusException) return classify(statusException.getStatusCode());
+        if (e instanceof SocketTimeoutException) return FetchErrorClass.TIMEOUT;
+        // 도메인이 없는 경우는 재시도해도 의미가 없음
+        if (e instanceof UnknownHostException) return FetchErrorClass.CLIENT_ERROR;
+        if (e instanceof InterruptedIOException) return FetchErrorClass.UNKNOWN;
+        if (e instanceof ConnectException || e instanceof NoRouteToHostException
+                || e instanceof SocketException || e instanceof SSLException) return FetchErrorClass.CONNECTION;
+        return FetchErrorClass.UNKNOWN;
+    }
+}
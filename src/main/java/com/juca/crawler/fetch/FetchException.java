@@ -0,0 +1,21 @@
+package com.juca.crawler.fetch;
+
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 재시도 후에도 응답을 받지 못한 요청 (분류된 실패)
+ */
+@Getter
+public class FetchException extends IOException {
+
+    private final String url;
+    private final FetchErrorClass errorClass;
+
+    public FetchException(String url, FetchErrorClass errorClass, String message, Throwable cause) {
+        super("[" + errorClass + "] " + url + " - " + message, cause);
+        this.url = url;
+        this.errorClass = errorClass;
+    }
+}
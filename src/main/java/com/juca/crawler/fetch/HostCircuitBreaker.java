@@ -0,0 +1,130 @@
+package com.juca.crawler.fetch;
+
+import com.juca.crawler.util.LogUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호스트별 서킷 브레이커
+ *
+ * CLOSED: 연속 실패가 임계치를 넘으면 OPEN
+ * OPEN: 대기 시간 동안 요청 차단, 이후 HALF_OPEN
+ * HALF_OPEN: 소수의 시험 요청만 허용, 성공하면 CLOSED / 실패하면 대기 시간을 두 배로 늘려 다시 OPEN
+ */
+@Component
+public class HostCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final long maxOpenMs;
+    private final int halfOpenProbes;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public HostCircuitBreaker(@Value("${crawler.fetch.circuit.failure_threshold:5}") int failureThreshold,
+                              @Value("${crawler.fetch.circuit.open_ms:30000}") long openMs,
+                              @Value("${crawler.fetch.circuit.max_open_ms:600000}") long maxOpenMs,
+                              @Value("${crawler.fetch.circuit.half_open_probes:1}") int halfOpenProbes) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.maxOpenMs = maxOpenMs;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 요청 가능 여부. HALF_OPEN 에서 true 를 반환하면 시험 요청 한 건을 예약한 것으로 봅니다.
+     */
+    public boolean allowRequest(String host) {
+        Circuit circuit = circuitOf(host);
+        synchronized (circuit) {
+            long now = System.currentTimeMillis();
+            if (circuit.state == State.OPEN && now >= circuit.openUntil) {
+                circuit.state = State.HALF_OPEN;
+                circuit.probesInFlight = 0;
+            }
+            return switch (circuit.state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (circuit.probesInFlight >= halfOpenProbes) {
+                        yield false;
+                    }
+                    circuit.probesInFlight++;
+                    yield true;
+                }
+            };
+        }
+    }
+
+    public void onSuccess(String host) {
+        Circuit circuit = circuitOf(host);
+        synchronized (circuit) {
+            if (circuit.state != State.CLOSED) {
+                LogUtil.logInfo("[CIRCUIT] " + host + " 복구 (CLOSED)");
+            }
+            circuit.state = State.CLOSED;
+            circuit.consecutiveFailures = 0;
+            circuit.currentOpenMs = openMs;
+        }
+    }
+
+    public void onFailure(String host) {
+        Circuit circuit = circuitOf(host);
+        synchronized (circuit) {
+            circuit.consecutiveFailures++;
+            if (circuit.state == State.HALF_OPEN) {
+                circuit.currentOpenMs = Math.min(maxOpenMs, circuit.currentOpenMs * 2);
+                open(host, circuit);
+            } else if (circuit.state == State.CLOSED && circuit.consecutiveFailures >= failureThreshold) {
+                open(host, circuit);
+            }
+        }
+    }
+
+    public boolean isOpen(String host) {
+        Circuit circuit = circuitOf(host);
+        synchronized (circuit) {
+            return circuit.state == State.OPEN && System.currentTimeMillis() < circuit.openUntil;
+        }
+    }
+
+    /**
+     * @return 다음 시험 요청이 허용되는 시각(epoch ms), 열려있지 않으면 0
+     */
+    public long retryAt(String host) {
+        Circuit circuit = circuitOf(host);
+        synchronized (circuit) {
+            return circuit.state == State.OPEN ? circuit.openUntil : 0;
+        }
+    }
+
+    private void open(String host, Circuit circuit) {
+        circuit.state = State.OPEN;
+        circuit.openUntil = System.currentTimeMillis() + circuit.currentOpenMs;
+        circuit.probesInFlight = 0;
+        LogUtil.logInfo("[CIRCUIT] " + host + " 차단 (OPEN) " + circuit.currentOpenMs + "ms, 연속 실패 " + circuit.consecutiveFailures);
+    }
+
+    private Circuit circuitOf(String host) {
+        return circuits.computeIfAbsent(host == null ? "" : host, h -> new Circuit(openMs));
+    }
+
+    private static final class Circuit {
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openUntil;
+        private int probesInFlight;
+        private long currentOpenMs;
+
+        private Circuit(long openMs) {
+            this.currentOpenMs = openMs;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.juca.crawler.fetch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * {@link HostRateController#acquire(String)} 로 받은 요청 허가
+ */
+@Getter
+@AllArgsConstructor
+public class HostPermit {
+    private final String host;
+    private final long startedAtNanos;
+
+    public long elapsedMs() {
+        return (System.nanoTime() - startedAtNanos) / 1_000_000;
+    }
+}
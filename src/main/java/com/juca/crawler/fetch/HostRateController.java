@@ -0,0 +1,274 @@
+package com.juca.crawler.fetch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트별 요청 속도/동시성/타임아웃 피드백 제어기
+ *
+ * AIMD 방식으로 동작합니다.
+ *  - 응답이 빠르고(p95 가 목표 지연 이하) 정상이면 요청 간격을 조금씩(가산) 줄이고, 간격이 하한에 닿으면 동시성을 1씩 늘립니다.
+ *  - 429/503, Retry-After, 타임아웃, 목표보다 느린 응답이 관측되면 간격을 배수로 늘리고 동시성을 절반으로 줄입니다.
+ * 타임아웃은 고정값 대신 호스트별 최근 지연 분포(p95)로부터 정해지므로, 느린 것으로 알려진 호스트에 매번 최대 타임아웃을 낭비하지 않습니다.
+ * 수집 요청은 가상 스레드에서 실행되므로 호스트 상태는 ReentrantLock/Condition 으로 보호해, 대기 중에도 캐리어 스레드를 점유하지 않습니다.
+ */
+@Component
+public class HostRateController {
+
+    private static final int SAMPLE_SIZE = 64;
+    private static final int MIN_SAMPLES_FOR_TIMEOUT = 8;
+    private static final long DEFAULT_TIMEOUT_MS = 10000;
+    private static final long ADDITIVE_STEP_MS = 100;
+    private static final double BACKOFF_FACTOR = 2.0;
+    private static final double SLOW_RESPONSE_FACTOR = 1.25;
+    private static final double TIMEOUT_TO_P95_RATIO = 4.0;
+
+    private final long initialDelayMs;
+    private final long minDelayMs;
+    private final long maxDelayMs;
+    private final int maxConcurrency;
+    private final long targetLatencyMs;
+    private final long minTimeoutMs;
+    private final long maxTimeoutMs;
+
+    private final Map<String, HostState> hosts = new ConcurrentHashMap<>();
+
+    public HostRateController(@Value("${crawler.fetch.initial_delay_ms:2000}") long initialDelayMs,
+                              @Value("${crawler.fetch.min_delay_ms:500}") long minDelayMs,
+                              @Value("${crawler.fetch.max_delay_ms:120000}") long maxDelayMs,
+                              @Value("${crawler.fetch.max_concurrency:4}") int maxConcurrency,
+                              @Value("${crawler.fetch.target_latency_ms:2000}") long targetLatencyMs,
+                              @Value("${crawler.fetch.min_timeout_ms:3000}") long minTimeoutMs,
+                              @Value("${crawler.fetch.max_timeout_ms:30000}") long maxTimeoutMs) {
+        this.initialDelayMs = initialDelayMs;
+        this.minDelayMs = minDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.maxConcurrency = maxConcurrency;
+        this.targetLatencyMs = targetLatencyMs;
+        this.minTimeoutMs = minTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+    }
+
+    /**
+     * 호스트에 요청을 보낼 수 있을 때까지(간격, 동시성 한도, Retry-After) 대기합니다.
+     * 반환된 permit 은 반드시 release 계열 메서드로 반납해야 합니다.
+     */
+    public HostPermit acquire(String host) throws InterruptedException {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                long waitMs = Math.max(state.nextAllowedAt, state.blockedUntil) - now;
+                if (state.inFlight < state.concurrencyLimit && waitMs <= 0) {
+                    break;
+                }
+                state.changed.await(waitMs > 0 ? waitMs : 1000, TimeUnit.MILLISECONDS);
+            }
+            state.inFlight++;
+            // 매 요청 간격에 0~50% 지터를 더해 요청 패턴이 일정하지 않도록 함
+            long jitter = (long) (state.delayMs * ThreadLocalRandom.current().nextDouble(0.5));
+            state.nextAllowedAt = System.currentTimeMillis() + state.delayMs + jitter;
+            return new HostPermit(host, System.nanoTime());
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 응답을 받은 요청의 결과를 반영합니다.
+     * @param retryAfterMs Retry-After 헤더 값(ms), 없으면 0
+     */
+    public void release(HostPermit permit, int statusCode, long retryAfterMs) {
+        HostState state = stateOf(permit.getHost());
+        long latencyMs = permit.elapsedMs();
+        state.lock.lock();
+        try {
+            state.inFlight--;
+            if (statusCode == 429 || statusCode == 503 || retryAfterMs > 0) {
+                backOff(state, BACKOFF_FACTOR);
+                if (retryAfterMs > 0) {
+                    // 비정상적으로 긴 Retry-After 도 max_delay_ms 까지만 따름 (그 이상은 서킷 브레이커/DLQ 가 처리)
+                    long blockMs = Math.min(maxDelayMs, retryAfterMs);
+                    state.delayMs = Math.max(state.delayMs, blockMs);
+                    state.blockedUntil = System.currentTimeMillis() + blockMs;
+                }
+            } else if (statusCode >= 500) {
+                state.recordLatency(latencyMs);
+                backOff(state, SLOW_RESPONSE_FACTOR);
+            } else {
+                state.recordLatency(latencyMs);
+                if (state.percentile(0.95) > targetLatencyMs) {
+                    backOff(state, SLOW_RESPONSE_FACTOR);
+                } else {
+                    speedUp(state);
+                }
+            }
+            state.changed.signalAll();
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 응답을 받지 못한 요청(타임아웃, 연결 실패)의 결과를 반영합니다.
+     */
+    public void releaseFailure(HostPermit permit, boolean timedOut) {
+        HostState state = stateOf(permit.getHost());
+        state.lock.lock();
+        try {
+            state.inFlight--;
+            if (timedOut) {
+                // 타임아웃까지 걸린 시간도 지연 분포에 포함해 다음 타임아웃 계산에 반영
+                state.recordLatency(permit.elapsedMs());
+            }
+            backOff(state, BACKOFF_FACTOR);
+            state.changed.signalAll();
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 호스트 지연 이력(p95)으로 계산한 요청 타임아웃
+     */
+    public int timeoutFor(String host) {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            if (state.sampleCount < MIN_SAMPLES_FOR_TIMEOUT) {
+                return (int) Math.min(maxTimeoutMs, DEFAULT_TIMEOUT_MS);
+            }
+            long timeout = (long) (state.percentile(0.95) * TIMEOUT_TO_P95_RATIO);
+            return (int) Math.max(minTimeoutMs, Math.min(maxTimeoutMs, timeout));
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 호스트의 최소 요청 간격(예의상 하한)을 지정합니다. 제어기는 이보다 빠르게 요청하지 않습니다.
+     */
+    public void setPolitenessFloor(String host, long floorMs) {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            state.floorMs = Math.max(minDelayMs, floorMs);
+            state.delayMs = Math.max(state.delayMs, state.floorMs);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * 최소 요청 간격을 지정값 이상으로만 올립니다. (robots.txt Crawl-delay 처럼 이미 지정된 하한을 낮추면 안 되는 경우)
+     */
+    public void raisePolitenessFloor(String host, long floorMs) {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            state.floorMs = Math.max(state.floorMs, floorMs);
+            state.delayMs = Math.max(state.delayMs, state.floorMs);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    long delayOf(String host) {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            return state.delayMs;
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    int concurrencyOf(String host) {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            return state.concurrencyLimit;
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    long blockedUntil(String host) {
+        HostState state = stateOf(host);
+        state.lock.lock();
+        try {
+            return state.blockedUntil;
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private void backOff(HostState state, double factor) {
+        state.delayMs = Math.min(maxDelayMs, Math.max(state.floorMs, (long) (state.delayMs * factor)));
+        state.concurrencyLimit = Math.max(1, state.concurrencyLimit / 2);
+        state.successStreak = 0;
+    }
+
+    private void speedUp(HostState state) {
+        // 현재 동시성만큼 연속 성공하면 한 단계 가속 (윈도우당 1회 가산 증가)
+        if (++state.successStreak < state.concurrencyLimit) {
+            return;
+        }
+        state.successStreak = 0;
+        if (state.delayMs > state.floorMs) {
+            state.delayMs = Math.max(state.floorMs, state.delayMs - ADDITIVE_STEP_MS);
+        } else if (state.concurrencyLimit < maxConcurrency) {
+            state.concurrencyLimit++;
+        }
+    }
+
+    private HostState stateOf(String host) {
+        return hosts.computeIfAbsent(host == null ? "" : host, h -> new HostState(initialDelayMs, minDelayMs));
+    }
+
+    private static final class HostState {
+        private final ReentrantLock lock = new ReentrantLock();
+        // 간격/동시성/차단 상태가 바뀌면 signalAll
+        private final Condition changed = lock.newCondition();
+        private long delayMs;
+        private long floorMs;
+        private int concurrencyLimit = 1;
+        private int inFlight;
+        private long nextAllowedAt;
+        private long blockedUntil;
+        private int successStreak;
+
+        private final long[] latencies = new long[SAMPLE_SIZE];
+        private int sampleCount;
+        private int sampleIndex;
+
+        private HostState(long initialDelayMs, long floorMs) {
+            this.delayMs = Math.max(initialDelayMs, floorMs);
+            this.floorMs = floorMs;
+        }
+
+        private void recordLatency(long latencyMs) {
+            latencies[sampleIndex] = latencyMs;
+            sampleIndex = (sampleIndex + 1) % SAMPLE_SIZE;
+            sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+        }
+
+        private long percentile(double p) {
+            if (sampleCount == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, sampleCount);
+            Arrays.sort(sorted);
+            return sorted[Math.min(sampleCount - 1, (int) Math.ceil(p * sampleCount) - 1)];
+        }
+    }
+}
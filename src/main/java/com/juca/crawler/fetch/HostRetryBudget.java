@@ -0,0 +1,50 @@
+package com.juca.crawler.fetch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호스트별 재시도 예산 (토큰 버킷)
+ * 요청 1건마다 ratio 만큼 토큰이 쌓이고 재시도 1건마다 토큰 1개를 씁니다.
+ * 장애 중인 호스트에서 재시도가 전체 요청의 일정 비율을 넘지 않게 해 재시도 폭주를 막습니다.
+ */
+@Component
+public class HostRetryBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+
+    private final Map<String, double[]> tokens = new ConcurrentHashMap<>();
+
+    public HostRetryBudget(@Value("${crawler.fetch.retry_budget.ratio:0.2}") double ratio,
+                           @Value("${crawler.fetch.retry_budget.max_tokens:10}") double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    public void recordRequest(String host) {
+        double[] bucket = bucketOf(host);
+        synchronized (bucket) {
+            bucket[0] = Math.min(maxTokens, bucket[0] + ratio);
+        }
+    }
+
+    public boolean tryAcquireRetry(String host) {
+        double[] bucket = bucketOf(host);
+        synchronized (bucket) {
+            if (bucket[0] < 1.0) {
+                return false;
+            }
+            bucket[0] -= 1.0;
+            return true;
+        }
+    }
+
+    private double[] bucketOf(String host) {
+        // 처음 보는 호스트도 몇 번은 재시도할 수 있도록 최대치의 절반으로 시작
+        return tokens.computeIfAbsent(host == null ? "" : host, h -> new double[]{maxTokens / 2});
+    }
+}
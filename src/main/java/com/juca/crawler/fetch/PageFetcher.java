@@ -0,0 +1,173 @@
+package com.juca.crawler.fetch;
+
+import com.juca.crawler.util.UrlUtil;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 모든 HTTP 요청의 단일 진입점
+ * 호스트별 제어기({@link HostRateController})로 요청 간격/동시성/타임아웃을 정하고, 응답 결과를 다시 제어기에 반영합니다.
+ * 실패는 분류 후 재시도 예산({@link HostRetryBudget})과 서킷 브레이커({@link HostCircuitBreaker})를 거쳐 처리합니다.
+ */
+@Component
+public class PageFetcher {
+
+    public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/100.0.4896.75 Safari/537.36";
+
+    // Jsoup 기본값과 동일 (2MB)
+    private static final int DEFAULT_MAX_BODY_BYTES = 2 * 1024 * 1024;
+
+    private final HostRateController hostRateController;
+    private final HostCircuitBreaker hostCircuitBreaker;
+    private final HostRetryBudget hostRetryBudget;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public PageFetcher(HostRateController hostRateController,
+                       HostCircuitBreaker hostCircuitBreaker,
+                       HostRetryBudget hostRetryBudget,
+                       @Value("${crawler.fetch.retry.max_attempts:3}") int maxAttempts,
+                       @Value("${crawler.fetch.retry.base_backoff_ms:500}") long baseBackoffMs,
+                       @Value("${crawler.fetch.retry.max_backoff_ms:30000}") long maxBackoffMs) {
+        this.hostRateController = hostRateController;
+        this.hostCircuitBreaker = hostCircuitBreaker;
+        this.hostRetryBudget = hostRetryBudget;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    /**
+     * HTTP 에러 상태와 content-type 에 관계없이 응답을 반환합니다. (호출자가 상태 코드로 판단)
+     * 재시도 가능한 실패는 호스트 재시도 예산 안에서 지수 백오프로 재시도하고,
+     * 응답을 끝내 받지 못하면 분류된 {@link FetchException} 을 던집니다.
+     * 호스트 서킷이 열려 있으면 요청하지 않고 즉시 {@link FetchErrorClass#CIRCUIT_OPEN} 으로 실패합니다.
+     */
+    public Connection.Response fetch(String url, String referrer) throws IOException {
+        return fetch(url, referrer, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    /**
+     * @param maxBodyBytes 응답 본문 최대 크기 (0 이면 제한 없음). 사이트맵처럼 큰 문서를 {@link Connection.Response#bodyStream()} 으로 읽을 때 사용
+     */
+    public Connection.Response fetch(String url, String referrer, int maxBodyBytes) throws IOException {
+        String host = UrlUtil.hostOf(url);
+
+        for (int attempt = 1; ; attempt++) {
+            if (!hostCircuitBreaker.allowRequest(host)) {
+                throw new FetchException(url, FetchErrorClass.CIRCUIT_OPEN,
+                        "호스트 차단 중 (재시도 가능 시각: " + hostCircuitBreaker.retryAt(host) + ")", null);
+            }
+            hostRetryBudget.recordRequest(host);
+
+            Connection.Response response = null;
+            IOException failure = null;
+            FetchErrorClass errorClass;
+            try {
+                response = execute(url, referrer, host, maxBodyBytes);
+                errorClass = FetchErrorClassifier.classify(response.statusCode());
+            } catch (IOException e) {
+                failure = e;
+                errorClass = FetchErrorClassifier.classify(e);
+            }
+
+            if (errorClass != null && errorClass.isHostFailure()) {
+                hostCircuitBreaker.onFailure(host);
+            } else {
+                hostCircuitBreaker.onSuccess(host);
+            }
+
+            if (errorClass == null) {
+                return response;
+            }
+
+            boolean retry = errorClass.isRetryable()
+                    && attempt < maxAttempts
+                    && !Thread.currentThread().isInterrupted()
+                    && hostRetryBudget.tryAcquireRetry(host);
+            if (!retry) {
+                if (response != null) {
+                    // HTTP 에러 응답은 기존처럼 호출자에게 그대로 전달
+                    return response;
+                }
+                throw new FetchException(url, errorClass, failure.getMessage() + " (시도 " + attempt + "회)", failure);
+            }
+
+            sleepBackoff(url, attempt);
+        }
+    }
+
+    private Connection.Response execute(String url, String referrer, String host, int maxBodyBytes) throws IOException {
+        HostPermit permit;
+        try {
+            permit = hostRateController.acquire(host);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청 대기 중 인터럽트: " + url);
+        }
+
+        try {
+            Connection.Response response = Jsoup.connect(url)
+                    .userAgent(USER_AGENT)
+                    .referrer(referrer)
+                    .timeout(hostRateController.timeoutFor(host))
+                    .ignoreHttpErrors(true)
+                    .ignoreContentType(true)
+                    .maxBodySize(maxBodyBytes)
+                    .execute();
+
+            hostRateController.release(permit, response.statusCode(), parseRetryAfterMs(response.header("Retry-After")));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            // 잘못된 인자 등으로 요청 전에 실패해도 permit 을 돌려줘야 같은 호스트의 다른 요청이 막히지 않음
+            hostRateController.releaseFailure(permit, e instanceof SocketTimeoutException);
+            throw e;
+        }
+    }
+
+    /**
+     * full jitter 지수 백오프: [0, min(max, base * 2^(attempt-1))) 만큼 대기
+     */
+    private void sleepBackoff(String url, int attempt) throws InterruptedIOException {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("재시도 대기 중 인터럽트: " + url);
+        }
+    }
+
+    /**
+     * Retry-After 헤더(초 또는 HTTP-date)를 ms 로 변환합니다.
+     */
+    static long parseRetryAfterMs(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+}
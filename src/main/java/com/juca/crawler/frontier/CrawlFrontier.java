@@ -0,0 +1,49 @@
+package com.juca.crawler.frontier;
+
+/**
+ * 크롤링 대기열(frontier)과 방문 기록
+ *
+ * poll()로 꺼낸 작업은 checkpoint()가 호출되어야 처리 완료로 기록됩니다.
+ * 구현체에 따라 checkpoint 이전에 프로세스가 종료되면 해당 작업부터 다시 수행될 수 있습니다(at-least-once).
+ */
+public interface CrawlFrontier extends AutoCloseable {
+
+    /**
+     * 작업을 추가합니다.
+     * @return 이미 본 URL 이라 추가하지 않았으면 false
+     */
+    boolean offer(CrawlTask task);
+
+    /**
+     * 다음 작업을 꺼냅니다.
+     * @return 대기 중인 작업이 없으면 null
+     */
+    CrawlTask poll();
+
+    boolean hasSeen(String url);
+
+    /**
+     * 이미 본 URL 로의 링크를 다른 페이지에서 또 발견했을 때 호출합니다. (우선순위 frontier 의 유입 링크 수 반영)
+     */
+    default void recordInbound(String url) {
+    }
+
+    /**
+     * 지금까지 poll()한 작업을 처리 완료로 기록합니다.
+     */
+    void checkpoint();
+
+    long size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    void close();
+
+    /**
+     * 크롤링이 끝난 frontier 의 저장 상태를 모두 지웁니다.
+     */
+    void destroy();
+}
@@ -0,0 +1,63 @@
+package com.juca.crawler.frontier;
+
+import com.juca.crawler.util.UrlUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * 크롤링 시작 URL 별로 디스크 frontier 를 열어줍니다.
+ * 같은 시작 URL 로 다시 크롤링하면 이전에 중단된 frontier 를 이어서 사용합니다.
+ */
+@Component
+public class CrawlFrontierFactory {
+
+    private final Path baseDir;
+    private final int segmentSize;
+    private final int windowSize;
+    private final boolean priorityEnabled;
+    private final int priorityCapacity;
+    private final int hostBudget;
+
+    public CrawlFrontierFactory(@Value("${crawler.frontier.dir:/app/frontier}") String baseDir,
+                                @Value("${crawler.frontier.segment_size_mb:64}") int segmentSizeMb,
+                                @Value("${crawler.frontier.window_size:1024}") int windowSize,
+                                @Value("${crawler.frontier.priority.enabled:true}") boolean priorityEnabled,
+                                @Value("${crawler.frontier.priority.capacity:10000}") int priorityCapacity,
+                                @Value("${crawler.frontier.priority.host_budget:5000}") int hostBudget) {
+        this.baseDir = Paths.get(baseDir);
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.windowSize = windowSize;
+        this.priorityEnabled = priorityEnabled;
+        this.priorityCapacity = priorityCapacity;
+        this.hostBudget = hostBudget;
+    }
+
+    /**
+     * 우선순위 frontier 를 사용하면 디스크 로그 위에 점수 상위 작업을 메모리에 유지하는 best-first 순서로,
+     * 사용하지 않으면 디스크 로그의 FIFO(BFS) 순서로 작업을 꺼냅니다.
+     */
+    public CrawlFrontier open(String startUrl) {
+        DiskBackedCrawlFrontier log = DiskBackedCrawlFrontier.open(baseDir.resolve(directoryName(startUrl)), segmentSize, windowSize);
+        if (!priorityEnabled) {
+            return log;
+        }
+        return new PriorityCrawlFrontier(log, UrlUtil.domainOf(startUrl), priorityCapacity, hostBudget);
+    }
+
+    private static String directoryName(String startUrl) {
+        String host;
+        try {
+            host = URI.create(startUrl).getHost();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        String id = UUID.nameUUIDFromBytes(startUrl.getBytes(StandardCharsets.UTF_8)).toString().substring(0, 8);
+        return (host != null ? host : "crawl") + "-" + id;
+    }
+}
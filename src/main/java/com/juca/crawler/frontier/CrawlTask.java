@@ -0,0 +1,15 @@
+package com.juca.crawler.frontier;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 크롤링 작업 단위
+ */
+@Getter
+@AllArgsConstructor
+public class CrawlTask {
+    private final String url;
+    private final int depth;
+    private final Long parentPageId;
+}
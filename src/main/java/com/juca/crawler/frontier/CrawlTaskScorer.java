@@ -0,0 +1,80 @@
+package com.juca.crawler.frontier;
+
+import com.juca.crawler.util.UrlUtil;
+
+import java.util.regex.Pattern;
+
+/**
+ * frontier 작업 우선순위 점수 (높을수록 먼저 방문)
+ *
+ *  - 깊이가 깊을수록 감점
+ *  - 링크 타입(UrlUtil.linkTypeOf)이 내부 HTML 페이지가 아니면 감점
+ *  - 날짜/기사 ID 가 들어간 기사형 URL 은 가점, 태그/검색/로그인 등 탐색용 링크는 감점
+ *  - 여러 페이지에서 링크될수록 가점 (로그 스케일)
+ *  - 호스트별 방문 예산을 넘긴 호스트는 크게 감점
+ */
+public final class CrawlTaskScorer {
+
+    private static final double DEPTH_WEIGHT = 1.0;
+    private static final double ARTICLE_BONUS = 3.0;
+    private static final double NAVIGATION_PENALTY = 2.0;
+    private static final double STATIC_RESOURCE_PENALTY = 5.0;
+    private static final double EXTERNAL_PENALTY = 2.0;
+    private static final double HOST_BUDGET_PENALTY = 20.0;
+
+    // 예: /2025/08/01/, /20250801, /article/, /mnews/article/001/0012345678
+    private static final Pattern ARTICLE_URL = Pattern.compile(
+            "/(19|20)\\d{2}[/-]?\\d{1,2}[/-]?\\d{1,2}(/|$)|/articles?/|/news/\\d+|/\\d{6,}(/|$|\\?|\\.html?)");
+
+    private static final Pattern NAVIGATION_URL = Pattern.compile(
+            "/(tags?|category|categories|search|login|signin|signup|register|account|privacy|terms|about|contact|help|rss)(/|$|\\?)"
+                    + "|[?&](page|sort|order|lang|ref)=",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern STATIC_RESOURCE = Pattern.compile(
+            "\\.(jpg|jpeg|png|gif|bmp|svg|webp|ico|css|js|pdf|doc|docx|xls|xlsx|ppt|pptx|zip|mp3|mp4)$",
+            Pattern.CASE_INSENSITIVE);
+
+    private CrawlTaskScorer() {
+    }
+
+    /**
+     * @param baseDomain     크롤링 시작 도메인
+     * @param inbound        이 URL 로의 링크를 발견한 횟수 (처음 발견이면 1)
+     * @param overHostBudget 호스트가 방문 예산을 넘겼는지 여부
+     */
+    public static double score(CrawlTask task, String baseDomain, int inbound, boolean overHostBudget) {
+        String url = task.getUrl();
+        double score = -DEPTH_WEIGHT * task.getDepth();
+
+        switch (UrlUtil.linkTypeOf(url, baseDomain)) {
+            case "image", "document" -> score -= STATIC_RESOURCE_PENALTY;
+            case "external", "unknown" -> score -= EXTERNAL_PENALTY;
+            default -> {
+                // internal
+            }
+        }
+
+        String path = pathAndQuery(url);
+        if (STATIC_RESOURCE.matcher(path).find()) {
+            score -= STATIC_RESOURCE_PENALTY;
+        } else if (ARTICLE_URL.matcher(path).find()) {
+            score += ARTICLE_BONUS;
+        } else if (NAVIGATION_URL.matcher(path).find()) {
+            score -= NAVIGATION_PENALTY;
+        }
+
+        score += Math.log(Math.max(1, inbound));
+
+        if (overHostBudget) {
+            score -= HOST_BUDGET_PENALTY;
+        }
+        return score;
+    }
+
+    private static String pathAndQuery(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+        return pathStart < 0 ? "/" : url.substring(pathStart);
+    }
+}
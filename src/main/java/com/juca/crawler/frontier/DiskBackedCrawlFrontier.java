@@ -0,0 +1,368 @@
+package com.juca.crawler.frontier;
+
+import com.juca.crawler.util.LogUtil;
+import com.juca.crawler.util.UrlFingerprintSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 맵 세그먼트 로그 기반의 크래시 복구 가능한 frontier
+ *
+ * 모든 작업은 append-only 세그먼트 파일(segment-N.log)에 기록되고, 힙에는 앞부분 일부(window)만 읽어 둡니다.
+ * 소비 위치(head)는 checkpoint 파일에 기록되므로 재시작 시 마지막 체크포인트 이후 작업부터 이어서 크롤링합니다.
+ * 전부 소비된 세그먼트는 체크포인트 시 삭제되므로 frontier 크기는 힙이 아니라 디스크 용량에 의해 제한됩니다.
+ * 방문 기록은 URL 문자열 대신 지문(UrlFingerprintSet)으로 힙에 유지합니다.
+ *
+ * 세그먼트 크기는 로그를 만들 때 header 파일에 기록하고, 다시 열 때는 설정값 대신 기록된 크기를 사용합니다.
+ *
+ * 헤더 형식: [magic:long][segmentSize:int]
+ * 레코드 형식: [length:int][depth:int][parentPageId:long][url:UTF-8]
+ * length 는 본문을 모두 쓴 뒤 마지막에 기록하므로, 쓰는 도중 종료되어도 length == 0 인 지점이 로그의 끝이 됩니다.
+ */
+public class DiskBackedCrawlFrontier implements CrawlFrontier {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int CHECKPOINT_SIZE = Long.BYTES * 3;
+    private static final long CHECKPOINT_MAGIC = 0x46524F4E54494552L; // "FRONTIER"
+    private static final String HEADER_FILE = "header";
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final long HEADER_MAGIC = 0x46524F4E54484452L; // "FRONTHDR"
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int FIXED_BYTES = Integer.BYTES + Long.BYTES; // depth + parentPageId
+    private static final int END_OF_SEGMENT = -1;
+    private static final long NO_PARENT = -1L;
+
+    // 매 체크포인트마다 fsync 하지 않고 일정 횟수마다 디스크에 강제 반영
+    private static final int FORCE_INTERVAL = 64;
+
+    private final Path dir;
+    // 기존 로그를 열면 헤더에 기록된 크기로 바뀜
+    private int segmentSize;
+    private final int windowCapacity;
+
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final Deque<WindowEntry> window = new ArrayDeque<>();
+    private final UrlFingerprintSet seen = new UrlFingerprintSet();
+    private MappedByteBuffer checkpointBuffer;
+
+    // 다음 레코드를 쓸 위치
+    private long tailSegment;
+    private int tailPosition;
+    // 다음으로 window 에 읽어올 위치
+    private long readSegment;
+    private int readPosition;
+    // poll()로 소비된 위치 (checkpoint 시 기록)
+    private long consumedSegment;
+    private int consumedPosition;
+
+    private long pending;
+    private int checkpointsSinceForce;
+
+    private record WindowEntry(CrawlTask task, long segment, int endPosition) {
+    }
+
+    private DiskBackedCrawlFrontier(Path dir, int segmentSize, int windowCapacity) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.windowCapacity = windowCapacity;
+    }
+
+    /**
+     * 디렉터리의 기존 로그를 열어 마지막 체크포인트부터 이어서 사용하거나, 없으면 새로 만듭니다.
+     */
+    public static DiskBackedCrawlFrontier open(Path dir, int segmentSize, int windowCapacity) {
+        DiskBackedCrawlFrontier frontier = new DiskBackedCrawlFrontier(dir, segmentSize, windowCapacity);
+        try {
+            frontier.recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("frontier 복구 실패: " + dir, e);
+        }
+        return frontier;
+    }
+
+    @Override
+    public synchronized boolean offer(CrawlTask task) {
+        if (!seen.add(task.getUrl())) {
+            return false;
+        }
+        append(task);
+        return true;
+    }
+
+    /**
+     * 이미 본 작업을 로그 끝에 다시 기록합니다. 소비 위치를 앞으로 옮기기 위해 아직 처리하지 않은 작업을 뒤로 보낼 때 사용합니다.
+     */
+    public synchronized void requeue(CrawlTask task) {
+        append(task);
+    }
+
+    private void append(CrawlTask task) {
+        byte[] urlBytes = task.getUrl().getBytes(StandardCharsets.UTF_8);
+        int length = FIXED_BYTES + urlBytes.length;
+        if (LENGTH_BYTES + length + LENGTH_BYTES > segmentSize) {
+            throw new IllegalArgumentException("세그먼트보다 큰 URL: " + task.getUrl());
+        }
+
+        MappedByteBuffer buffer = segments.get(tailSegment);
+        // 세그먼트 끝 표시(END_OF_SEGMENT)를 쓸 공간까지 남겨둔다
+        if (tailPosition + LENGTH_BYTES + length + LENGTH_BYTES > segmentSize) {
+            buffer.putInt(tailPosition, END_OF_SEGMENT);
+            buffer = mapSegment(tailSegment + 1);
+            tailSegment++;
+            tailPosition = 0;
+        }
+
+        buffer.putInt(tailPosition + LENGTH_BYTES, task.getDepth());
+        buffer.putLong(tailPosition + LENGTH_BYTES + Integer.BYTES,
+                task.getParentPageId() != null ? task.getParentPageId() : NO_PARENT);
+        buffer.put(tailPosition + LENGTH_BYTES + FIXED_BYTES, urlBytes);
+        buffer.putInt(tailPosition, length); // 커밋 마커
+
+        tailPosition += LENGTH_BYTES + length;
+        pending++;
+    }
+
+    @Override
+    public synchronized CrawlTask poll() {
+        if (window.isEmpty()) {
+            fillWindow();
+        }
+        WindowEntry entry = window.poll();
+        if (entry == null) {
+            return null;
+        }
+        consumedSegment = entry.segment();
+        consumedPosition = entry.endPosition();
+        pending--;
+        return entry.task();
+    }
+
+    @Override
+    public synchronized boolean hasSeen(String url) {
+        return seen.contains(url);
+    }
+
+    @Override
+    public synchronized void checkpoint() {
+        writeCheckpoint(consumedSegment, consumedPosition);
+
+        // 완전히 소비된 세그먼트 삭제
+        while (!segments.isEmpty() && segments.firstKey() < consumedSegment) {
+            long segment = segments.pollFirstEntry().getKey();
+            deleteQuietly(segmentPath(segment));
+        }
+
+        if (++checkpointsSinceForce >= FORCE_INTERVAL) {
+            force();
+        }
+    }
+
+    @Override
+    public synchronized long size() {
+        return pending;
+    }
+
+    /**
+     * 마지막 checkpoint() 상태를 디스크에 반영합니다. 체크포인트 이후 poll()한 작업은 재시작 시 다시 나옵니다.
+     */
+    @Override
+    public synchronized void close() {
+        force();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        segments.clear();
+        window.clear();
+        seen.clear();
+        pending = 0;
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(DiskBackedCrawlFrontier::deleteQuietly);
+        } catch (IOException e) {
+            throw new UncheckedIOException("frontier 삭제 실패: " + dir, e);
+        }
+        deleteQuietly(dir);
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(dir);
+        checkpointBuffer = map(dir.resolve(CHECKPOINT_FILE), CHECKPOINT_SIZE);
+
+        List<Long> segmentIds = listSegmentIds();
+        if (segmentIds.isEmpty()) {
+            writeHeader();
+            mapSegment(0);
+            writeCheckpoint(0, 0);
+            return;
+        }
+        readHeader(segmentIds);
+
+        long headSegment = checkpointBuffer.getLong(0);
+        long headPosition = checkpointBuffer.getLong(Long.BYTES);
+        boolean validCheckpoint = checkpointBuffer.getLong(Long.BYTES * 2) == (CHECKPOINT_MAGIC ^ headSegment ^ headPosition)
+                && segmentIds.contains(headSegment);
+        if (!validCheckpoint) {
+            // 체크포인트가 없거나 손상된 경우 남아있는 가장 오래된 세그먼트부터 다시 처리
+            headSegment = segmentIds.get(0);
+            headPosition = 0;
+        }
+
+        // 남아있는 로그 전체를 훑어 방문 기록과 대기 건수를 복원하고 tail 위치를 찾는다
+        for (long segment : segmentIds) {
+            MappedByteBuffer buffer = mapSegment(segment);
+            int position = 0;
+            while (position + LENGTH_BYTES <= segmentSize) {
+                int length = buffer.getInt(position);
+                if (length == 0 || length == END_OF_SEGMENT) {
+                    break;
+                }
+                seen.add(readUrl(buffer, position, length));
+                if (segment > headSegment || (segment == headSegment && position >= headPosition)) {
+                    pending++;
+                }
+                position += LENGTH_BYTES + length;
+            }
+            tailSegment = segment;
+            tailPosition = position;
+        }
+
+        consumedSegment = headSegment;
+        consumedPosition = (int) headPosition;
+        readSegment = headSegment;
+        readPosition = (int) headPosition;
+        checkpoint();
+    }
+
+    private void writeHeader() throws IOException {
+        MappedByteBuffer header = map(dir.resolve(HEADER_FILE), HEADER_SIZE);
+        header.putLong(0, HEADER_MAGIC);
+        header.putInt(Long.BYTES, segmentSize);
+        header.force();
+    }
+
+    /**
+     * 로그를 만들 때 기록한 세그먼트 크기를 읽고 세그먼트 파일 크기와 맞는지 확인합니다.
+     * 헤더가 없는 이전 형식의 로그는 세그먼트 파일 크기(매핑 시 세그먼트 크기로 늘어남)를 기준으로 헤더를 새로 씁니다.
+     */
+    private void readHeader(List<Long> segmentIds) throws IOException {
+        int configured = segmentSize;
+        Path headerPath = dir.resolve(HEADER_FILE);
+        if (Files.exists(headerPath)) {
+            MappedByteBuffer header = map(headerPath, HEADER_SIZE);
+            if (header.getLong(0) != HEADER_MAGIC || header.getInt(Long.BYTES) <= 0) {
+                throw new IOException("손상된 frontier 헤더: " + headerPath);
+            }
+            segmentSize = header.getInt(Long.BYTES);
+        } else {
+            segmentSize = Math.toIntExact(Files.size(segmentPath(segmentIds.get(0))));
+            writeHeader();
+        }
+
+        for (long segment : segmentIds) {
+            long fileSize = Files.size(segmentPath(segment));
+            if (fileSize != segmentSize) {
+                throw new IOException("세그먼트 크기 불일치: " + segmentPath(segment) + " (" + fileSize + " != " + segmentSize + ")");
+            }
+        }
+        if (segmentSize != configured) {
+            LogUtil.logInfo("[frontier] 기존 로그의 세그먼트 크기 " + segmentSize + " bytes 를 사용합니다. (설정값 " + configured + " bytes, " + dir + ")");
+        }
+    }
+
+    private void fillWindow() {
+        while (window.size() < windowCapacity) {
+            if (readSegment == tailSegment && readPosition >= tailPosition) {
+                return;
+            }
+            MappedByteBuffer buffer = segments.get(readSegment);
+            int length = buffer.getInt(readPosition);
+            if (length == END_OF_SEGMENT) {
+                readSegment = segments.higherKey(readSegment);
+                readPosition = 0;
+                continue;
+            }
+            if (length == 0) {
+                return;
+            }
+
+            int depth = buffer.getInt(readPosition + LENGTH_BYTES);
+            long parent = buffer.getLong(readPosition + LENGTH_BYTES + Integer.BYTES);
+            String url = readUrl(buffer, readPosition, length);
+            int endPosition = readPosition + LENGTH_BYTES + length;
+
+            window.add(new WindowEntry(new CrawlTask(url, depth, parent == NO_PARENT ? null : parent), readSegment, endPosition));
+            readPosition = endPosition;
+        }
+    }
+
+    private static String readUrl(MappedByteBuffer buffer, int position, int length) {
+        byte[] urlBytes = new byte[length - FIXED_BYTES];
+        buffer.get(position + LENGTH_BYTES + FIXED_BYTES, urlBytes);
+        return new String(urlBytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeCheckpoint(long segment, long position) {
+        checkpointBuffer.putLong(0, segment);
+        checkpointBuffer.putLong(Long.BYTES, position);
+        checkpointBuffer.putLong(Long.BYTES * 2, CHECKPOINT_MAGIC ^ segment ^ position);
+    }
+
+    private void force() {
+        checkpointsSinceForce = 0;
+        MappedByteBuffer tail = segments.get(tailSegment);
+        if (tail != null) {
+            tail.force();
+        }
+        checkpointBuffer.force();
+    }
+
+    private MappedByteBuffer mapSegment(long segment) {
+        try {
+            MappedByteBuffer buffer = map(segmentPath(segment), segmentSize);
+            segments.put(segment, buffer);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("frontier 세그먼트 생성 실패: " + segment, e);
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 파일 크기보다 크게 매핑하면 0으로 채워진 영역으로 확장된다
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return dir.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 다음 체크포인트 또는 다음 크롤링 시작 시 다시 정리된다
+        }
+    }
+}
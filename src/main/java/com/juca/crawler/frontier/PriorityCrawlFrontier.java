@@ -0,0 +1,208 @@
+package com.juca.crawler.frontier;
+
+import com.juca.crawler.util.UrlUtil;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 우선순위(best-first) frontier
+ *
+ * 모든 작업은 먼저 디스크 로그(DiskBackedCrawlFrontier)에 기록되어 크래시 복구가 가능하고,
+ * 메모리에는 점수 상위 작업만 용량 제한 큐(ScoredTaskQueue)에 유지합니다.
+ * 메모리가 가득 차면 점수가 가장 낮은 작업을 큐에서 밀어내며, 밀려난 작업은 로그에 남아 있다가
+ * 메모리 큐가 비었을 때 로그 순서대로 다시 읽혀 점수가 매겨집니다.
+ *
+ * 작업마다 로그 위치(로그에 추가된 순번)를 기억하고, 로그 소비 위치 이후에서 먼저 꺼낸 작업의 위치만 비트로 표시합니다.
+ * 체크포인트 시 로그 앞쪽에서 이미 꺼낸 작업을 소비 위치 밖으로 넘기고, 아직 꺼내지 않은 작업은 꺼낸 수만큼
+ * 로그 끝으로 다시 기록(requeue)해 소비 위치를 앞으로 옮깁니다. 링크가 계속 들어와 메모리 큐가 비지 않아도
+ * 체크포인트가 진행되어 세그먼트가 정리되고, 표시 비트도 소비 위치와 함께 줄어듭니다.
+ * 소비 위치 앞의 작업은 모두 꺼냈거나 로그 끝에 다시 기록된 것이므로 at-least-once 가 유지됩니다.
+ */
+public class PriorityCrawlFrontier implements CrawlFrontier {
+
+    // 소비 위치가 이만큼 앞서면 표시 비트 창을 당김
+    private static final int COMPACT_THRESHOLD = 4096;
+
+    private final DiskBackedCrawlFrontier log;
+    private final String baseDomain;
+    private final int hostBudget;
+    private final int capacity;
+    private final int refillBatch;
+    private final ScoredTaskQueue queue;
+
+    // 다음으로 로그에서 읽을 위치 (이보다 앞은 모두 로그에서 소비됨)
+    private long logRead;
+    // 다음에 로그에 추가될 위치
+    private long appended;
+    // logRead 이후에서 메모리 큐로 먼저 꺼낸 위치 (비트 i = 위치 handedBase + i)
+    private BitSet handed = new BitSet();
+    private long handedBase;
+    // 다음 체크포인트에서 로그 끝으로 다시 기록할 수 있는 작업 수 (꺼낸 작업 수만큼 쌓임)
+    private int requeueBudget;
+    // 호스트별 꺼낸 작업 수 (방문 예산)
+    private final Map<String, Integer> hostPolled = new ConcurrentHashMap<>();
+
+    public PriorityCrawlFrontier(DiskBackedCrawlFrontier log, String baseDomain, int capacity, int hostBudget) {
+        this.log = log;
+        this.baseDomain = baseDomain;
+        this.hostBudget = hostBudget;
+        this.capacity = capacity;
+        // 로그에서 한 번에 다시 읽는 양은 용량의 절반 (새로 발견되는 링크가 들어올 공간 확보)
+        this.refillBatch = Math.max(1, capacity / 2);
+        this.queue = new ScoredTaskQueue(capacity, this::score);
+        // 이전 실행에서 남은 작업은 위치 0 부터
+        this.appended = log.size();
+    }
+
+    @Override
+    public synchronized boolean offer(CrawlTask task) {
+        if (!log.offer(task)) {
+            return false;
+        }
+        // 밀려난 작업은 로그 소비 위치 이후에 남아 있으므로 버려도 됨
+        queue.add(task, appended++);
+        return true;
+    }
+
+    @Override
+    public synchronized CrawlTask poll() {
+        ScoredTaskQueue.Entry entry = queue.poll();
+        if (entry == null) {
+            refill();
+            entry = queue.poll();
+            if (entry == null) {
+                return null;
+            }
+        }
+        handed.set(bitOf(entry.offset()));
+        requeueBudget = Math.min(capacity, requeueBudget + 1);
+        hostPolled.merge(hostKey(entry.task().getUrl()), 1, Integer::sum);
+        return entry.task();
+    }
+
+    @Override
+    public synchronized boolean hasSeen(String url) {
+        return log.hasSeen(url);
+    }
+
+    @Override
+    public synchronized void recordInbound(String url) {
+        queue.boost(url);
+    }
+
+    @Override
+    public synchronized void checkpoint() {
+        advance(requeueBudget);
+        log.checkpoint();
+    }
+
+    @Override
+    public synchronized long size() {
+        return log.size() - handed.cardinality();
+    }
+
+    @Override
+    public synchronized void close() {
+        log.close();
+    }
+
+    @Override
+    public synchronized void destroy() {
+        queue.clear();
+        handed.clear();
+        hostPolled.clear();
+        log.destroy();
+    }
+
+    /**
+     * 로그 소비 위치 기준 추적 중인 위치 수 (테스트용)
+     */
+    synchronized long trackedPositions() {
+        return appended - handedBase;
+    }
+
+    /**
+     * 로그 앞쪽의 이미 꺼낸 작업을 소비하고, 아직 꺼내지 않은 작업은 최대 budget 개까지 로그 끝으로 옮깁니다.
+     */
+    private void advance(int budget) {
+        while (logRead < appended) {
+            int bit = bitOf(logRead);
+            if (!handed.get(bit) && budget == 0) {
+                break;
+            }
+            CrawlTask task = log.poll();
+            if (task == null) {
+                break;
+            }
+            long offset = logRead++;
+            if (handed.get(bit)) {
+                handed.clear(bit);
+                continue;
+            }
+            long queued = queue.offsetOf(task.getUrl());
+            if (queued >= 0 && queued != offset) {
+                // 같은 URL 이 로그에 두 번 있음 (재기록 후 체크포인트 전에 종료된 경우), 큐에 있는 쪽만 유지
+                continue;
+            }
+            requeue(task, queued == offset);
+            budget--;
+            requeueBudget--;
+        }
+        compact();
+    }
+
+    /**
+     * 메모리 큐가 비었을 때 로그에서 다음 작업들을 읽어 점수를 매겨 큐에 넣습니다.
+     * 읽은 작업은 로그 끝에 다시 기록해 큐에 있는 작업이 항상 로그 소비 위치 이후에 있도록 합니다.
+     */
+    private void refill() {
+        int added = 0;
+        CrawlTask task;
+        while (added < refillBatch && logRead < appended && (task = log.poll()) != null) {
+            int bit = bitOf(logRead++);
+            if (handed.get(bit)) {
+                handed.clear(bit);
+                continue;
+            }
+            if (queue.offsetOf(task.getUrl()) >= 0) {
+                continue;
+            }
+            requeue(task, false);
+            added++;
+        }
+        compact();
+    }
+
+    private void requeue(CrawlTask task, boolean queued) {
+        log.requeue(task);
+        long offset = appended++;
+        if (queued) {
+            queue.moveTo(task.getUrl(), offset);
+        } else {
+            queue.add(task, offset);
+        }
+    }
+
+    private int bitOf(long offset) {
+        return Math.toIntExact(offset - handedBase);
+    }
+
+    private void compact() {
+        if (logRead - handedBase >= COMPACT_THRESHOLD) {
+            handed = handed.get(bitOf(logRead), Math.max(bitOf(logRead), handed.length()));
+            handedBase = logRead;
+        }
+    }
+
+    private double score(CrawlTask task, int inbound) {
+        boolean overHostBudget = hostPolled.getOrDefault(hostKey(task.getUrl()), 0) >= hostBudget;
+        return CrawlTaskScorer.score(task, baseDomain, inbound, overHostBudget);
+    }
+
+    private static String hostKey(String url) {
+        String host = UrlUtil.hostOf(url);
+        return host != null ? host : "";
+    }
+}
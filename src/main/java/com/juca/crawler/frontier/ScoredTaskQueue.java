@@ -0,0 +1,131 @@
+package com.juca.crawler.frontier;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 점수 순으로 꺼내는 용량 제한 동시성 큐
+ *
+ * 용량을 넘으면 가장 점수가 낮은 작업을 밀어내 반환합니다. 점수가 같으면 먼저 들어온 작업이 먼저 나옵니다.
+ * 같은 URL 은 한 번만 들어갈 수 있으며, 추가 링크가 발견되면 boost() 로 점수를 다시 계산합니다.
+ */
+final class ScoredTaskQueue {
+
+    /**
+     * @param offset 작업이 기록된 디스크 로그 위치 (로그에 추가된 순번)
+     */
+    record Entry(CrawlTask task, double score, long seq, int inbound, long offset) {
+    }
+
+    @FunctionalInterface
+    interface Scorer {
+        double score(CrawlTask task, int inbound);
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::seq);
+
+    private final int capacity;
+    private final Scorer scorer;
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<String, Entry> byUrl = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+
+    ScoredTaskQueue(int capacity, Scorer scorer) {
+        this.capacity = capacity;
+        this.scorer = scorer;
+    }
+
+    /**
+     * @return 용량 초과로 밀려난 항목 (추가한 항목 자신일 수 있음), 없으면 null
+     */
+    Entry add(CrawlTask task, long offset) {
+        Entry entry = new Entry(task, scorer.score(task, 1), sequence.incrementAndGet(), 1, offset);
+        if (byUrl.putIfAbsent(task.getUrl(), entry) != null) {
+            return null;
+        }
+        entries.add(entry);
+        if (size.incrementAndGet() <= capacity) {
+            return null;
+        }
+        return evictLowest();
+    }
+
+    Entry poll() {
+        Entry entry = entries.pollFirst();
+        if (entry == null) {
+            return null;
+        }
+        byUrl.remove(entry.task().getUrl(), entry);
+        size.decrementAndGet();
+        return entry;
+    }
+
+    /**
+     * 이미 대기 중인 URL 로의 링크를 추가로 발견하면 유입 링크 수를 늘리고 점수를 다시 계산합니다.
+     * @return 대기 중인 URL 이었으면 true
+     */
+    boolean boost(String url) {
+        Entry current = byUrl.get(url);
+        // 정렬 집합에서 먼저 제거에 성공한 스레드만 항목을 갱신 (그 사이 꺼내갔거나 밀려났으면 false)
+        if (current == null || !entries.remove(current)) {
+            return false;
+        }
+        int inbound = current.inbound() + 1;
+        Entry boosted = new Entry(current.task(), scorer.score(current.task(), inbound), current.seq(), inbound,
+                current.offset());
+        byUrl.put(url, boosted);
+        entries.add(boosted);
+        return true;
+    }
+
+    /**
+     * 대기 중인 작업이 로그의 다른 위치로 다시 기록되었을 때 위치를 바꿉니다. (점수와 순서는 유지)
+     */
+    void moveTo(String url, long offset) {
+        Entry current = byUrl.get(url);
+        if (current == null || !entries.remove(current)) {
+            return;
+        }
+        Entry moved = new Entry(current.task(), current.score(), current.seq(), current.inbound(), offset);
+        byUrl.put(url, moved);
+        entries.add(moved);
+    }
+
+    /**
+     * @return 대기 중인 URL 의 로그 위치, 없으면 -1
+     */
+    long offsetOf(String url) {
+        Entry entry = byUrl.get(url);
+        return entry != null ? entry.offset() : -1;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    void clear() {
+        entries.clear();
+        byUrl.clear();
+        size.set(0);
+    }
+
+    private Entry evictLowest() {
+        Entry lowest = entries.pollLast();
+        if (lowest == null) {
+            return null;
+        }
+        byUrl.remove(lowest.task().getUrl(), lowest);
+        size.decrementAndGet();
+        return lowest;
+    }
+}
@@ -0,0 +1,16 @@
+package com.juca.crawler.graph;
+
+/**
+ * 원시 배열 CSR 인접 목록 (분석용)
+ * 노드 v 의 이웃은 targets[offsets[v] ..< offsets[v + 1]] 입니다.
+ */
+public record Csr(int[] offsets, int[] targets) {
+
+    public int nodeCount() {
+        return offsets.length - 1;
+    }
+
+    public int degree(int node) {
+        return offsets[node + 1] - offsets[node];
+    }
+}
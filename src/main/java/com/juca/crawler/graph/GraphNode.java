@@ -0,0 +1,18 @@
+package com.juca.crawler.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 링크 그래프 노드 조회 응답
+ * pageId 는 수집된 페이지인 경우에만 있고, 링크로만 발견된 URL 이면 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class GraphNode {
+    private final int id;
+    private final String url;
+    private final Long pageId;
+    private final int inDegree;
+    private final int outDegree;
+}
@@ -0,0 +1,274 @@
+package com.juca.crawler.graph;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 메모리 맵으로 읽는 읽기 전용 CSR 링크 그래프 (파일 형식은 LinkGraphWriter 참고)
+ *
+ * 차수 조회는 O(1), 이웃 조회는 차수에 비례하며, URL → 노드 id 는 정렬된 URL 사전의 이진 탐색입니다.
+ * 모든 조회는 버퍼의 절대 위치 읽기만 사용하므로 여러 스레드에서 동시에 호출할 수 있습니다.
+ * 파일 하나가 2GB 를 넘는 그래프는 지원하지 않습니다.
+ */
+public final class LinkGraph {
+
+    private static final long NO_PAGE = -1L;
+
+    private final Path dir;
+    private final int nodeCount;
+    private final long edgeCount;
+    private final MappedByteBuffer nodes;
+    private final LongBuffer nodeIndex;
+    private final LongBuffer nodePages;
+    private final Adjacency out;
+    private final Adjacency in;
+
+    private record Adjacency(LongBuffer index, MappedByteBuffer data, IntBuffer degrees) {
+    }
+
+    private LinkGraph(Path dir, int nodeCount, long edgeCount, MappedByteBuffer nodes, LongBuffer nodeIndex,
+                      LongBuffer nodePages, Adjacency out, Adjacency in) {
+        this.dir = dir;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.nodes = nodes;
+        this.nodeIndex = nodeIndex;
+        this.nodePages = nodePages;
+        this.out = out;
+        this.in = in;
+    }
+
+    public static LinkGraph open(Path dir) throws IOException {
+        MappedByteBuffer meta = map(dir.resolve(LinkGraphWriter.META));
+        if (meta.capacity() < Long.BYTES * 2 + Integer.BYTES * 2 || meta.getLong(0) != LinkGraphWriter.MAGIC) {
+            throw new IOException("링크 그래프 파일이 아닙니다: " + dir);
+        }
+        int version = meta.getInt(Long.BYTES);
+        if (version != LinkGraphWriter.VERSION) {
+            throw new IOException("지원하지 않는 링크 그래프 버전: " + version);
+        }
+        int nodeCount = meta.getInt(Long.BYTES + Integer.BYTES);
+        long edgeCount = meta.getLong(Long.BYTES + Integer.BYTES * 2);
+
+        return new LinkGraph(dir, nodeCount, edgeCount,
+                map(dir.resolve(LinkGraphWriter.NODES)),
+                map(dir.resolve(LinkGraphWriter.NODES_INDEX)).asLongBuffer(),
+                map(dir.resolve(LinkGraphWriter.NODE_PAGES)).asLongBuffer(),
+                adjacency(dir, LinkGraphWriter.OUT_PREFIX),
+                adjacency(dir, LinkGraphWriter.IN_PREFIX));
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    public long edgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @return URL 의 노드 id, 그래프에 없으면 -1
+     */
+    public int nodeId(String url) {
+        byte[] target = url.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = nodeCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareUrl(mid, target);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    public String url(int node) {
+        checkNode(node);
+        int start = (int) nodeIndex.get(node);
+        int end = (int) nodeIndex.get(node + 1);
+        byte[] bytes = new byte[end - start];
+        nodes.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return 노드의 crawled_pages id, 링크로만 발견된(수집되지 않은) URL 이면 null
+     */
+    public Long pageId(int node) {
+        checkNode(node);
+        long pageId = nodePages.get(node);
+        return pageId == NO_PAGE ? null : pageId;
+    }
+
+    public int outDegree(int node) {
+        checkNode(node);
+        return out.degrees().get(node);
+    }
+
+    public int inDegree(int node) {
+        checkNode(node);
+        return in.degrees().get(node);
+    }
+
+    /**
+     * @return 이 노드가 링크하는 노드 id (오름차순)
+     */
+    public int[] outNeighbors(int node) {
+        checkNode(node);
+        return neighbors(out, node);
+    }
+
+    /**
+     * @return 이 노드로 링크하는 노드 id (오름차순)
+     */
+    public int[] inNeighbors(int node) {
+        checkNode(node);
+        return neighbors(in, node);
+    }
+
+    /**
+     * 나가는 링크를 따라 k 단계 안에 도달할 수 있는 노드를 가까운 순(BFS)으로 최대 limit 개 반환합니다. 시작 노드는 제외합니다.
+     */
+    public int[] kHop(int node, int k, int limit) {
+        checkNode(node);
+        if (k <= 0 || limit <= 0) {
+            return new int[0];
+        }
+        BitSet visited = new BitSet(nodeCount);
+        visited.set(node);
+
+        int[] result = new int[Math.min(limit, 1024)];
+        int found = 0;
+        int levelStart = 0;
+        int[] level = {node};
+        int levelSize = 1;
+
+        for (int hop = 0; hop < k && levelSize > 0 && found < limit; hop++) {
+            levelStart = found;
+            for (int i = 0; i < levelSize && found < limit; i++) {
+                for (int neighbor : neighbors(out, level[i])) {
+                    if (visited.get(neighbor)) {
+                        continue;
+                    }
+                    visited.set(neighbor);
+                    if (found == result.length) {
+                        result = Arrays.copyOf(result, Math.min(limit, result.length * 2));
+                    }
+                    result[found++] = neighbor;
+                    if (found == limit) {
+                        break;
+                    }
+                }
+            }
+            // 이번 단계에서 새로 도달한 노드가 다음 단계의 시작점
+            level = Arrays.copyOfRange(result, levelStart, found);
+            levelSize = level.length;
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    /**
+     * 나가는 간선 전체를 원시 배열 CSR 로 풀어 반환합니다. (PageRank 등 전체 순회 분석용)
+     */
+    public Csr outAdjacency() {
+        return toCsr(out);
+    }
+
+    /**
+     * 들어오는 간선 전체를 원시 배열 CSR 로 풀어 반환합니다.
+     */
+    public Csr inAdjacency() {
+        return toCsr(in);
+    }
+
+    private Csr toCsr(Adjacency adjacency) {
+        if (edgeCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("간선 수가 배열 한도를 넘습니다: " + edgeCount);
+        }
+        int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[(int) edgeCount];
+        int next = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node] = next;
+            int[] neighbors = neighbors(adjacency, node);
+            System.arraycopy(neighbors, 0, targets, next, neighbors.length);
+            next += neighbors.length;
+        }
+        offsets[nodeCount] = next;
+        return new Csr(offsets, targets);
+    }
+
+    private int[] neighbors(Adjacency adjacency, int node) {
+        int degree = adjacency.degrees().get(node);
+        int[] neighbors = new int[degree];
+        int position = (int) adjacency.index().get(node);
+        MappedByteBuffer data = adjacency.data();
+        int previous = 0;
+        for (int i = 0; i < degree; i++) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            previous = i == 0 ? value : previous + value;
+            neighbors[i] = previous;
+        }
+        return neighbors;
+    }
+
+    private int compareUrl(int node, byte[] target) {
+        int start = (int) nodeIndex.get(node);
+        int end = (int) nodeIndex.get(node + 1);
+        int length = Math.min(end - start, target.length);
+        for (int i = 0; i < length; i++) {
+            int cmp = Integer.compare(nodes.get(start + i) & 0xFF, target[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(end - start, target.length);
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("존재하지 않는 노드: " + node);
+        }
+    }
+
+    private static Adjacency adjacency(Path dir, String prefix) throws IOException {
+        return new Adjacency(
+                map(dir.resolve(prefix + LinkGraphWriter.INDEX_SUFFIX)).asLongBuffer(),
+                map(dir.resolve(prefix + LinkGraphWriter.ADJACENCY_SUFFIX)),
+                map(dir.resolve(prefix + LinkGraphWriter.DEGREE_SUFFIX)).asIntBuffer());
+    }
+
+    private static MappedByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("2GB 를 넘는 링크 그래프 파일: " + path);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+}
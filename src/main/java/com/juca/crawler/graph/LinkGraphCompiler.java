@@ -0,0 +1,173 @@
+package com.juca.crawler.graph;
+
+import com.juca.crawler.repository.CrawledPageRepository;
+import com.juca.crawler.repository.ExtractedLinkRepository;
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * crawled_pages / extracted_links 를 스트리밍으로 읽어 CSR 링크 그래프 파일로 컴파일합니다.
+ *
+ * 1. 페이지 URL 과 링크 URL 을 모아 UTF-8 바이트 사전순으로 정렬한 URL 사전을 만들고, 사전 순번을 노드 id 로 씁니다.
+ * 2. 간선은 (출발 노드 &lt;&lt; 32 | 도착 노드) long 배열에 모아 LinkGraphWriter 가 정렬/중복 제거 후 기록합니다.
+ * 엔티티를 로드하지 않으므로 힙 사용량은 URL 사전과 간선 배열 크기로 제한됩니다.
+ */
+@Service
+public class LinkGraphCompiler {
+
+    private static final long NO_PAGE = -1L;
+
+    private final CrawledPageRepository crawledPageRepository;
+    private final ExtractedLinkRepository extractedLinkRepository;
+    private final LinkGraphStore linkGraphStore;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "link-graph-compile"));
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public LinkGraphCompiler(CrawledPageRepository crawledPageRepository,
+                             ExtractedLinkRepository extractedLinkRepository,
+                             LinkGraphStore linkGraphStore,
+                             PlatformTransactionManager transactionManager) {
+        this.crawledPageRepository = crawledPageRepository;
+        this.extractedLinkRepository = extractedLinkRepository;
+        this.linkGraphStore = linkGraphStore;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 백그라운드에서 컴파일을 시작합니다.
+     * @return 이미 컴파일이 진행 중이면 false
+     */
+    public boolean compileAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                compile();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void compile() {
+        long startTime = System.currentTimeMillis();
+        Path dir = null;
+        try {
+            dir = linkGraphStore.newVersionDir();
+            Path target = dir;
+            long edgeCount = readOnlyTransaction.execute(status -> {
+                try {
+                    return compileTo(target);
+                } catch (IOException e) {
+                    throw new IllegalStateException("링크 그래프 파일 쓰기 실패", e);
+                }
+            });
+            LinkGraph graph = linkGraphStore.publish(dir);
+            LogUtil.logInfo("링크 그래프 컴파일 완료: 노드 " + graph.nodeCount() + ", 간선 " + edgeCount
+                    + ", " + (System.currentTimeMillis() - startTime) + "ms");
+        } catch (Exception e) {
+            LogUtil.logError("링크 그래프 컴파일 실패: " + e.getMessage(), e);
+            if (dir != null) {
+                LinkGraphStore.deleteQuietly(dir);
+            }
+        }
+    }
+
+    private long compileTo(Path dir) throws IOException {
+        // 페이지 (id 오름차순) 와 URL
+        long[] pageIds = new long[1024];
+        List<byte[]> pageUrls = new ArrayList<>();
+        try (Stream<PageUrl> pages = crawledPageRepository.streamPageUrls()) {
+            Iterator<PageUrl> iterator = pages.iterator();
+            while (iterator.hasNext()) {
+                PageUrl page = iterator.next();
+                if (pageUrls.size() == pageIds.length) {
+                    pageIds = Arrays.copyOf(pageIds, pageIds.length * 2);
+                }
+                pageIds[pageUrls.size()] = page.getId();
+                pageUrls.add(page.getUrl().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int pageCount = pageUrls.size();
+
+        // URL 사전
+        List<byte[]> all = new ArrayList<>(pageUrls);
+        try (Stream<String> links = extractedLinkRepository.streamDistinctLinkUrls()) {
+            links.forEach(url -> all.add(url.getBytes(StandardCharsets.UTF_8)));
+        }
+        byte[][] urls = sortedUnique(all);
+        all.clear();
+
+        long[] nodePageIds = new long[urls.length];
+        Arrays.fill(nodePageIds, NO_PAGE);
+        int[] pageNodes = new int[pageCount];
+        for (int i = 0; i < pageCount; i++) {
+            int node = Arrays.binarySearch(urls, pageUrls.get(i), Arrays::compareUnsigned);
+            pageNodes[i] = node;
+            nodePageIds[node] = pageIds[i];
+        }
+        pageUrls.clear();
+
+        // 간선
+        long[] edges = new long[1024];
+        int edgeCount = 0;
+        try (Stream<LinkRow> links = extractedLinkRepository.streamLinks()) {
+            Iterator<LinkRow> iterator = links.iterator();
+            while (iterator.hasNext()) {
+                LinkRow link = iterator.next();
+                int page = Arrays.binarySearch(pageIds, 0, pageCount, link.getSourcePageId());
+                int target = Arrays.binarySearch(urls, link.getLinkUrl().getBytes(StandardCharsets.UTF_8), Arrays::compareUnsigned);
+                if (page < 0 || target < 0) {
+                    // 컴파일 도중 추가된 행
+                    continue;
+                }
+                if (edgeCount == edges.length) {
+                    edges = Arrays.copyOf(edges, edges.length * 2);
+                }
+                edges[edgeCount++] = ((long) pageNodes[page] << 32) | target;
+            }
+        }
+
+        return LinkGraphWriter.write(dir, urls, nodePageIds, edges, edgeCount);
+    }
+
+    static byte[][] sortedUnique(List<byte[]> values) {
+        byte[][] sorted = values.toArray(new byte[0][]);
+        Arrays.parallelSort(sorted, Arrays::compareUnsigned);
+        int count = 0;
+        for (byte[] value : sorted) {
+            if (count == 0 || !Arrays.equals(sorted[count - 1], value)) {
+                sorted[count++] = value;
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,151 @@
+package com.juca.crawler.graph;
+
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 현재 링크 그래프로 PageRank / HITS 를 계산해 page_scores 테이블을 새 스냅샷으로 교체합니다.
+ *
+ * 계산은 메모리 맵 그래프를 원시 배열 CSR 로 풀어 전용 ForkJoinPool 에서 수행하고(GraphRanking),
+ * DB 에는 수집된 페이지(노드에 page id 가 있는 경우) 점수만 JDBC 배치로 한 트랜잭션에 기록합니다.
+ */
+@Service
+public class LinkGraphRanker {
+
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final String DELETE_SQL = "delete from page_scores";
+    private static final String INSERT_SQL = """
+            insert into page_scores (page_id, page_rank, authority, hub, in_degree, out_degree, computed_at)
+            values (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final LinkGraphStore linkGraphStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final double damping;
+    private final double tolerance;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "link-graph-rank"));
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public LinkGraphRanker(LinkGraphStore linkGraphStore,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${crawler.graph.rank.damping:0.85}") double damping,
+                           @Value("${crawler.graph.rank.tolerance:1e-6}") double tolerance,
+                           @Value("${crawler.graph.rank.max_iterations:100}") int maxIterations,
+                           @Value("${crawler.graph.rank.parallelism:0}") int parallelism) {
+        this.linkGraphStore = linkGraphStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.damping = damping;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        // 0 이면 코어 수만큼
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 백그라운드에서 점수 계산을 시작합니다.
+     * @return 이미 계산이 진행 중이면 false
+     */
+    public boolean rankAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                rank();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void rank() {
+        LinkGraph graph = linkGraphStore.current();
+        if (graph == null) {
+            LogUtil.logInfo("링크 그래프가 아직 컴파일되지 않아 점수 계산을 건너뜁니다.");
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            Csr in = graph.inAdjacency();
+            Csr out = graph.outAdjacency();
+            int[] outDegree = new int[out.nodeCount()];
+            for (int node = 0; node < outDegree.length; node++) {
+                outDegree[node] = out.degree(node);
+            }
+            long loadedTime = System.currentTimeMillis();
+
+            GraphRanking.PageRankResult pageRank = GraphRanking.pageRank(in, outDegree, damping, tolerance, maxIterations, pool);
+            GraphRanking.HitsResult hits = GraphRanking.hits(in, out, tolerance, maxIterations, pool);
+            long rankedTime = System.currentTimeMillis();
+
+            int written = write(graph, in, outDegree, pageRank, hits);
+            LogUtil.logInfo("링크 그래프 점수 계산 완료: 노드 " + graph.nodeCount() + ", 간선 " + graph.edgeCount()
+                    + ", PageRank " + pageRank.iterations() + "회(delta " + pageRank.delta() + ")"
+                    + ", HITS " + hits.iterations() + "회(delta " + hits.delta() + ")"
+                    + ", 저장 " + written + "건 - 로드 " + (loadedTime - startTime) + "ms, 계산 " + (rankedTime - loadedTime)
+                    + "ms, 저장 " + (System.currentTimeMillis() - rankedTime) + "ms");
+        } catch (Exception e) {
+            LogUtil.logError("링크 그래프 점수 계산 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private int write(LinkGraph graph, Csr in, int[] outDegree,
+                      GraphRanking.PageRankResult pageRank, GraphRanking.HitsResult hits) {
+        Timestamp computedAt = Timestamp.valueOf(LocalDateTime.now());
+        Integer written = transaction.execute(status -> {
+            jdbcTemplate.update(DELETE_SQL);
+            int count = 0;
+            List<Object[]> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+            for (int node = 0; node < graph.nodeCount(); node++) {
+                Long pageId = graph.pageId(node);
+                if (pageId == null) {
+                    continue;
+                }
+                batch.add(new Object[]{pageId, pageRank.scores()[node], hits.authority()[node], hits.hub()[node],
+                        in.degree(node), outDegree[node], computedAt});
+                if (batch.size() == WRITE_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                count += batch.size();
+            }
+            return count;
+        });
+        return written != null ? written : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,95 @@
+package com.juca.crawler.graph;
+
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 현재 사용 중인 링크 그래프 보관소
+ *
+ * 그래프는 graph_dir 아래 버전별 디렉토리(graph-{epochMs})에 기록되고, CURRENT 파일이 현재 버전을 가리킵니다.
+ * 새 그래프를 게시하면 CURRENT 를 원자적으로 교체한 뒤 이전 버전을 삭제합니다.
+ * (이미 열려 있는 메모리 맵은 파일이 삭제되어도 유효하므로 조회 중인 요청에는 영향이 없습니다)
+ */
+@Component
+public class LinkGraphStore {
+
+    private static final String CURRENT = "CURRENT";
+    private static final String VERSION_PREFIX = "graph-";
+
+    private final Path graphDir;
+    private volatile LinkGraph current;
+
+    public LinkGraphStore(@Value("${crawler.graph.dir:/app/graph}") String graphDir) {
+        this.graphDir = Paths.get(graphDir);
+    }
+
+    @PostConstruct
+    public void load() {
+        Path marker = graphDir.resolve(CURRENT);
+        if (!Files.exists(marker)) {
+            return;
+        }
+        try {
+            Path dir = graphDir.resolve(Files.readString(marker, StandardCharsets.UTF_8).trim());
+            current = LinkGraph.open(dir);
+            LogUtil.logInfo("링크 그래프 로드: " + dir + " (노드 " + current.nodeCount() + ", 간선 " + current.edgeCount() + ")");
+        } catch (IOException e) {
+            LogUtil.logError("링크 그래프 로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 현재 링크 그래프, 아직 컴파일된 적이 없으면 null
+     */
+    public LinkGraph current() {
+        return current;
+    }
+
+    /**
+     * 새 버전 디렉토리 경로를 만듭니다.
+     */
+    Path newVersionDir() throws IOException {
+        Files.createDirectories(graphDir);
+        return graphDir.resolve(VERSION_PREFIX + System.currentTimeMillis());
+    }
+
+    /**
+     * 기록이 끝난 버전 디렉토리를 현재 그래프로 게시하고 이전 버전을 삭제합니다.
+     */
+    synchronized LinkGraph publish(Path dir) throws IOException {
+        LinkGraph graph = LinkGraph.open(dir);
+
+        Path temp = graphDir.resolve(CURRENT + ".tmp");
+        Files.writeString(temp, dir.getFileName().toString(), StandardCharsets.UTF_8);
+        Files.move(temp, graphDir.resolve(CURRENT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        LinkGraph previous = current;
+        current = graph;
+        if (previous != null && !previous.getDir().equals(dir)) {
+            deleteQuietly(previous.getDir());
+        }
+        return graph;
+    }
+
+    static void deleteQuietly(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            LogUtil.logError("링크 그래프 디렉토리 삭제 실패: " + dir, e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.juca.crawler.graph;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 링크 그래프를 CSR(compressed sparse row) 파일로 기록합니다.
+ *
+ * 파일 구성 (정수는 모두 big-endian)
+ *  - meta           : [magic:long][version:int][nodeCount:int][edgeCount:long]
+ *  - nodes.dat/.idx : URL 사전. UTF-8 바이트를 이어 붙인 것과 노드별 시작 오프셋(long, nodeCount + 1 개)
+ *  - node_pages.dat : 노드별 crawled_pages id (long), 수집되지 않은 URL 이면 -1
+ *  - out.idx/.adj/.deg, in.idx/.adj/.deg : 나가는/들어오는 간선의 CSR.
+ *    인접 목록은 정렬된 이웃 id 의 차이(delta)를 varint 로 기록하며, idx 는 노드별 adj 바이트 오프셋, deg 는 노드별 차수(int)
+ */
+final class LinkGraphWriter {
+
+    static final long MAGIC = 0x4C494E4B47524150L; // "LINKGRAP"
+    static final int VERSION = 1;
+
+    static final String META = "meta";
+    static final String NODES = "nodes.dat";
+    static final String NODES_INDEX = "nodes.idx";
+    static final String NODE_PAGES = "node_pages.dat";
+    static final String OUT_PREFIX = "out";
+    static final String IN_PREFIX = "in";
+    static final String INDEX_SUFFIX = ".idx";
+    static final String ADJACENCY_SUFFIX = ".adj";
+    static final String DEGREE_SUFFIX = ".deg";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private LinkGraphWriter() {
+    }
+
+    /**
+     * @param urls      URL 사전 (UTF-8 바이트의 부호 없는 사전순 정렬, 중복 없음), 노드 id 는 배열 인덱스
+     * @param pageIds   노드별 페이지 id, 수집되지 않은 노드는 -1
+     * @param edges     (출발 노드 &lt;&lt; 32 | 도착 노드) 간선, 정렬/중복 여부와 무관하며 이 배열의 내용은 바뀝니다
+     * @param edgeCount edges 중 유효한 앞부분 길이
+     * @return 중복과 자기 자신으로의 링크를 제외한 간선 수
+     */
+    static long write(Path dir, byte[][] urls, long[] pageIds, long[] edges, int edgeCount) throws IOException {
+        Files.createDirectories(dir);
+        int nodeCount = urls.length;
+
+        writeNodes(dir, urls, pageIds);
+
+        Arrays.parallelSort(edges, 0, edgeCount);
+        int count = dedupe(edges, edgeCount);
+        writeAdjacency(dir, OUT_PREFIX, edges, count, nodeCount);
+
+        // 간선 방향을 뒤집어 들어오는 간선 CSR 을 만든다
+        for (int i = 0; i < count; i++) {
+            edges[i] = (edges[i] << 32) | (edges[i] >>> 32);
+        }
+        Arrays.parallelSort(edges, 0, count);
+        writeAdjacency(dir, IN_PREFIX, edges, count, nodeCount);
+
+        try (DataOutputStream meta = open(dir.resolve(META))) {
+            meta.writeLong(MAGIC);
+            meta.writeInt(VERSION);
+            meta.writeInt(nodeCount);
+            meta.writeLong(count);
+        }
+        return count;
+    }
+
+    private static void writeNodes(Path dir, byte[][] urls, long[] pageIds) throws IOException {
+        try (DataOutputStream data = open(dir.resolve(NODES));
+             DataOutputStream index = open(dir.resolve(NODES_INDEX));
+             DataOutputStream pages = open(dir.resolve(NODE_PAGES))) {
+            long offset = 0;
+            for (int node = 0; node < urls.length; node++) {
+                index.writeLong(offset);
+                data.write(urls[node]);
+                offset += urls[node].length;
+                pages.writeLong(pageIds[node]);
+            }
+            index.writeLong(offset);
+        }
+    }
+
+    /**
+     * 정렬된 간선에서 중복과 자기 자신으로의 링크를 제거하고 남은 개수를 반환합니다.
+     */
+    private static int dedupe(long[] edges, int edgeCount) {
+        int count = 0;
+        for (int i = 0; i < edgeCount; i++) {
+            long edge = edges[i];
+            if ((int) (edge >>> 32) == (int) edge) {
+                continue;
+            }
+            if (count > 0 && edges[count - 1] == edge) {
+                continue;
+            }
+            edges[count++] = edge;
+        }
+        return count;
+    }
+
+    private static void writeAdjacency(Path dir, String prefix, long[] sortedEdges, int count, int nodeCount)
+            throws IOException {
+        try (DataOutputStream index = open(dir.resolve(prefix + INDEX_SUFFIX));
+             DataOutputStream degrees = open(dir.resolve(prefix + DEGREE_SUFFIX));
+             OutputStream adjacency = new BufferedOutputStream(Files.newOutputStream(dir.resolve(prefix + ADJACENCY_SUFFIX)), BUFFER_SIZE)) {
+            long offset = 0;
+            int e = 0;
+            for (int node = 0; node < nodeCount; node++) {
+                index.writeLong(offset);
+                int degree = 0;
+                int previous = 0;
+                while (e < count && (int) (sortedEdges[e] >>> 32) == node) {
+                    int target = (int) sortedEdges[e];
+                    offset += writeVarint(adjacency, degree == 0 ? target : target - previous);
+                    previous = target;
+                    degree++;
+                    e++;
+                }
+                degrees.writeInt(degree);
+            }
+            index.writeLong(offset);
+        }
+    }
+
+    /**
+     * @return 기록한 바이트 수
+     */
+    static int writeVarint(OutputStream out, int value) throws IOException {
+        int written = 1;
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+            written++;
+        }
+        out.write(value);
+        return written;
+    }
+
+    private static DataOutputStream open(Path path) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    }
+}
@@ -0,0 +1,14 @@
+package com.juca.crawler.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 링크 그래프 컴파일용 간선 (출발 페이지 id, 링크 URL) 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class LinkRow {
+    private final Long sourcePageId;
+    private final String linkUrl;
+}
@@ -0,0 +1,14 @@
+package com.juca.crawler.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 링크 그래프 컴파일용 페이지 (id, URL) 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class PageUrl {
+    private final Long id;
+    private final String url;
+}
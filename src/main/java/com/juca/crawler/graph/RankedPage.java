@@ -0,0 +1,19 @@
+package com.juca.crawler.graph;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 링크 분석 점수 조회 응답
+ */
+@Getter
+@AllArgsConstructor
+public class RankedPage {
+    private final Long pageId;
+    private final String url;
+    private final Double pageRank;
+    private final Double authority;
+    private final Double hub;
+    private final Integer inDegree;
+    private final Integer outDegree;
+}
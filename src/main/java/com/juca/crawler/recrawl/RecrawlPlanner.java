@@ -0,0 +1,182 @@
+package com.juca.crawler.recrawl;
+
+import com.juca.crawler.cluster.ClusterCoordinator;
+import com.juca.crawler.domain.RecrawlState;
+import com.juca.crawler.repository.RecrawlStateRepository;
+import com.juca.crawler.util.MurmurHash3;
+import com.juca.crawler.util.UrlUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 변경 빈도 기반 재방문 계획
+ *
+ * URL 별로 마지막 본문 해시와 관측된 변경 간격을 기록하고 다음 방문 시각을 정합니다.
+ *  - 본문이 바뀌었으면 간격을 절반으로 줄이고, 관측된 변경 간격의 절반보다 길지 않게 맞춥니다.
+ *  - 바뀌지 않았으면 간격을 두 배로 늘립니다. (정적인 페이지는 최대 간격까지 지수 백오프)
+ * 기한이 된 URL 은 claimDue() 로 선점해 크롤링 frontier 에 다시 넣습니다.
+ */
+@Component
+public class RecrawlPlanner {
+
+    private static final double CHANGE_INTERVAL_ALPHA = 0.3;
+    private static final double JITTER_RATIO = 0.1;
+
+    // 선점 대상을 고를 때 다른 노드 소유 항목을 건너뛸 수 있도록 배치보다 넉넉히 조회
+    private static final int CANDIDATE_FACTOR = 2;
+
+    private final RecrawlStateRepository recrawlStateRepository;
+    private final ClusterCoordinator clusterCoordinator;
+    private final long initialIntervalMs;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final long claimMs;
+
+    public RecrawlPlanner(RecrawlStateRepository recrawlStateRepository,
+                          ClusterCoordinator clusterCoordinator,
+                          @Value("${crawler.recrawl.initial_interval_ms:3600000}") long initialIntervalMs,
+                          @Value("${crawler.recrawl.min_interval_ms:600000}") long minIntervalMs,
+                          @Value("${crawler.recrawl.max_interval_ms:604800000}") long maxIntervalMs,
+                          @Value("${crawler.recrawl.claim_ms:1800000}") long claimMs) {
+        this.recrawlStateRepository = recrawlStateRepository;
+        this.clusterCoordinator = clusterCoordinator;
+        this.initialIntervalMs = initialIntervalMs;
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.claimMs = claimMs;
+    }
+
+    /**
+     * 처음 보는 URL 이거나 재방문 기한이 된 URL 이면 true
+     */
+    public boolean isDue(String url) {
+        return recrawlStateRepository.findByUrlHash(MurmurHash3.hash64(url))
+                .map(state -> !state.getNextVisitAt().isAfter(LocalDateTime.now()))
+                .orElse(true);
+    }
+
+    /**
+     * 방문 결과를 기록하고 다음 방문 시각을 정합니다.
+     * @return 처음 본 URL 이거나 본문이 이전 방문과 달라졌으면 true
+     */
+    @Transactional
+    public boolean observe(String url, long contentHash, Integer crawlDepth) {
+        LocalDateTime now = LocalDateTime.now();
+        long urlHash = MurmurHash3.hash64(url);
+
+        RecrawlState state = recrawlStateRepository.findByUrlHash(urlHash).orElse(null);
+        if (state == null) {
+            state = new RecrawlState(urlHash, url, UrlUtil.domainOf(url), contentHash, crawlDepth, now);
+            state.recordVisit(contentHash, true, initialIntervalMs, null, now, nextVisitAt(now, initialIntervalMs));
+            recrawlStateRepository.save(state);
+            return true;
+        }
+
+        boolean changed = state.getContentHash() != contentHash;
+        Long changeIntervalMs = state.getChangeIntervalMs();
+        if (changed) {
+            long observedMs = Duration.between(state.getLastChangedAt(), now).toMillis();
+            changeIntervalMs = nextChangeIntervalMs(changeIntervalMs, observedMs);
+        }
+        long intervalMs = nextIntervalMs(state.getIntervalMs(), changed, changeIntervalMs, minIntervalMs, maxIntervalMs);
+        state.recordVisit(contentHash, changed, intervalMs, changeIntervalMs, now, nextVisitAt(now, intervalMs));
+        recrawlStateRepository.save(state);
+        return changed;
+    }
+
+    /**
+     * 본문을 확인하지 못한 방문(오류 응답 등)은 변경 없음으로 보고 간격을 늘립니다.
+     */
+    @Transactional
+    public void backOff(String url) {
+        recrawlStateRepository.findByUrlHash(MurmurHash3.hash64(url))
+                .ifPresent(state -> observe(url, state.getContentHash(), state.getCrawlDepth()));
+    }
+
+    /**
+     * 다른 URL 로 옮겨간 페이지 등 더 이상 재방문하지 않을 URL 을 제외합니다.
+     */
+    public void forget(String url) {
+        recrawlStateRepository.deleteByUrlHash(MurmurHash3.hash64(url));
+    }
+
+    /**
+     * 도메인에서 재방문 기한이 된 URL 을 오래 기다린 순으로 최대 limit 건 선점합니다.
+     * 선점한 URL 을 방문하지 못하고 노드가 죽으면 claim_ms 뒤 다시 기한이 됩니다.
+     */
+    public List<RecrawlState> claimDue(String domain, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimUntil = now.plusNanos(claimMs * 1_000_000L);
+
+        List<RecrawlState> candidates = recrawlStateRepository.findByDomainAndNextVisitAtLessThanEqualOrderByNextVisitAtAsc(
+                domain, now, Limit.of(limit * CANDIDATE_FACTOR));
+
+        List<RecrawlState> claimed = new ArrayList<>();
+        for (RecrawlState candidate : candidates) {
+            if (claimed.size() >= limit) {
+                break;
+            }
+            if (!clusterCoordinator.ownsUrl(candidate.getUrl())) {
+                continue;
+            }
+            if (recrawlStateRepository.claim(candidate.getId(), candidate.getNextVisitAt(), claimUntil) == 1) {
+                claimed.add(candidate);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 페이지 본문 해시. 마크업/스크립트 변경(광고, 캐시 버스터 등)은 무시하도록 텍스트 기준으로 계산합니다.
+     */
+    public static long contentHashOf(String text) {
+        return MurmurHash3.hash64(text != null ? text : "");
+    }
+
+    /**
+     * 목록 페이지 해시. 목록에 실린 URL 집합이 같으면 순서와 무관하게 같은 값입니다.
+     */
+    public static long listingHashOf(Collection<String> urls) {
+        return MurmurHash3.hash64(String.join("\n", new TreeSet<>(urls)));
+    }
+
+    static long nextIntervalMs(long currentMs, boolean changed, Long changeIntervalMs, long minMs, long maxMs) {
+        long next;
+        if (changed) {
+            next = currentMs / 2;
+            if (changeIntervalMs != null) {
+                next = Math.min(next, changeIntervalMs / 2);
+            }
+        } else {
+            next = currentMs > maxMs / 2 ? maxMs : currentMs * 2;
+        }
+        return Math.max(minMs, Math.min(maxMs, next));
+    }
+
+    /**
+     * 관측된 변경 간격의 지수 이동 평균
+     */
+    static long nextChangeIntervalMs(Long previousMs, long observedMs) {
+        if (previousMs == null) {
+            return observedMs;
+        }
+        return Math.round(previousMs * (1 - CHANGE_INTERVAL_ALPHA) + observedMs * CHANGE_INTERVAL_ALPHA);
+    }
+
+    private LocalDateTime nextVisitAt(LocalDateTime now, long intervalMs) {
+        // 같은 시각에 기한이 몰리지 않도록 ±10% 지터
+        long jitter = (long) (intervalMs * JITTER_RATIO);
+        long delayMs = intervalMs + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        return now.plusNanos(delayMs * 1_000_000L);
+    }
+}
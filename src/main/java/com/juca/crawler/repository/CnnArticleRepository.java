@@ -1,10 +1,115 @@
 package com.juca.crawler.repository;
 
+import com.juca.crawler.dedup.FingerprintRow;
 import com.juca.crawler.domain.CnnArticle;
+import com.juca.crawler.dto.CnnArticleSummary;
+import com.juca.crawler.export.ArticleExportRow;
+import com.juca.crawler.search.ArticleDocument;
+import com.juca.crawler.translate.PendingTranslation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CnnArticleRepository extends JpaRepository<CnnArticle, Long> {
     Optional<CnnArticle> findByArticleUrl(String articleUrl);
-}
\ No newline at end of file
+
+    /**
+     * (published_at, id) 내림차순 keyset 조회. 본문 컬럼은 select 하지 않습니다.
+     * cursorAt 이 null 이면 첫 페이지입니다.
+     * (published_at, id) 인덱스만으로 정렬하기 위해 published_at 이 없는 기사는 제외합니다. (수집 시각 기준 내보내기 /api/export 로 조회)
+     */
+    @Query("""
+            select a.id as id, a.title as title, a.titleKr as titleKr, a.articleUrl as articleUrl,
+                   a.author as author, a.statusCode as statusCode, a.crawledAt as crawledAt,
+                   a.publishedAt as publishedAt, a.translatedAt as translatedAt, a.duplicateOf as duplicateOf
+            from CnnArticle a
+            where a.publishedAt is not null
+              and (:from is null or a.publishedAt >= :from)
+              and (:to is null or a.publishedAt < :to)
+              and (:cursorAt is null or a.publishedAt < :cursorAt or (a.publishedAt = :cursorAt and a.id < :cursorId))
+            order by a.publishedAt desc, a.id desc
+            """)
+    List<CnnArticleSummary> findSummaries(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("cursorAt") LocalDateTime cursorAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Limit limit);
+
+    /**
+     * 유사 중복 기사는 본문을 저장하지 않으므로 대표 기사의 본문을 돌려줍니다. (content_kr 도 동일)
+     */
+    @Query("""
+            select case when a.duplicateOf is null then a.content else c.content end from CnnArticle a
+            left join CnnArticle c on c.id = a.duplicateOf
+            where a.id = :id
+            """)
+    Optional<String> findContentById(@Param("id") Long id);
+
+    @Query("""
+            select case when a.duplicateOf is null then a.contentKr else c.contentKr end from CnnArticle a
+            left join CnnArticle c on c.id = a.duplicateOf
+            where a.id = :id
+            """)
+    Optional<String> findContentKrById(@Param("id") Long id);
+
+    /**
+     * 검색 인덱스 재색인용 전방향 스트림 (유사 중복 기사 제외). 트랜잭션 안에서 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.juca.crawler.search.ArticleDocument(a.id, a.articleUrl, a.title, a.content, a.publishedAt) from CnnArticle a where a.duplicateOf is null")
+    Stream<ArticleDocument> streamIndexDocuments();
+
+    /**
+     * 내보내기용 전방향 스트림 (수집 시각 [from, to), id 순). 트랜잭션 안에서 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.juca.crawler.export.ArticleExportRow(a.id, a.articleUrl, a.title, a.titleKr,
+                   case when a.duplicateOf is null then a.content else c.content end,
+                   case when a.duplicateOf is null then a.contentKr else c.contentKr end,
+                   a.author, a.publishedAt, a.crawledAt, a.translatedAt, a.duplicateOf)
+            from CnnArticle a
+            left join CnnArticle c on c.id = a.duplicateOf
+            where (:from is null or a.crawledAt >= :from)
+              and (:to is null or a.crawledAt < :to)
+            order by a.id
+            """)
+    Stream<ArticleExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 유사 중복 색인 적재용 대표 기사 지문 스트림. 트랜잭션 안에서 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.juca.crawler.dedup.FingerprintRow(a.id, a.simhash) from CnnArticle a where a.simhash is not null and a.duplicateOf is null")
+    Stream<FingerprintRow> streamFingerprints();
+
+    /**
+     * 번역되지 않은 기사를 id 오름차순으로 afterId 다음부터 조회합니다. (번역 실패 기사를 같은 실행에서 다시 집지 않도록 keyset)
+     * 유사 중복 기사는 대표 기사의 번역을 쓰므로 제외합니다.
+     */
+    @Query("""
+            select new com.juca.crawler.translate.PendingTranslation(a.id, a.title, a.content)
+            from CnnArticle a
+            where a.translatedAt is null and a.duplicateOf is null and a.id > :afterId
+            order by a.id
+            """)
+    List<PendingTranslation> findPendingTranslations(@Param("afterId") Long afterId, Limit limit);
+}
@@ -0,0 +1,48 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.CrawlLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface CrawlLeaseRepository extends JpaRepository<CrawlLease, Integer> {
+
+    /**
+     * 비어 있는 임대 행을 만듭니다. 이미 있으면(다른 노드가 먼저 만들었거나 획득한 경우) 아무것도 바꾸지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            insert into crawl_leases (partition_no) values (:partitionNo)
+            on duplicate key update partition_no = partition_no
+            """, nativeQuery = true)
+    int createIfAbsent(@Param("partitionNo") int partitionNo);
+
+    /**
+     * 비어 있거나, 만료되었거나, 이미 내가 가진 임대만 획득(갱신)합니다. 조건부 UPDATE 한 번으로 원자적으로 처리됩니다.
+     * @return 획득 성공 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update CrawlLease l set l.ownerNodeId = :nodeId, l.leaseUntil = :leaseUntil
+            where l.partitionNo = :partitionNo
+              and (l.ownerNodeId is null or l.ownerNodeId = :nodeId or l.leaseUntil < :now)
+            """)
+    int tryAcquire(@Param("partitionNo") int partitionNo,
+                   @Param("nodeId") String nodeId,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update CrawlLease l set l.ownerNodeId = null, l.leaseUntil = null
+            where l.partitionNo = :partitionNo and l.ownerNodeId = :nodeId
+            """)
+    int release(@Param("partitionNo") int partitionNo, @Param("nodeId") String nodeId);
+}
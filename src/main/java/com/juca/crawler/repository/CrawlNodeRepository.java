@@ -0,0 +1,11 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.CrawlNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CrawlNodeRepository extends JpaRepository<CrawlNode, String> {
+    List<CrawlNode> findByHeartbeatAtAfter(LocalDateTime since);
+}
@@ -1,11 +1,114 @@
 package com.juca.crawler.repository;
 
+import com.juca.crawler.dedup.FingerprintRow;
 import com.juca.crawler.domain.CrawledNewsArticle;
+import com.juca.crawler.dto.CrawledNewsArticleSummary;
+import com.juca.crawler.export.ArticleExportRow;
+import com.juca.crawler.search.ArticleDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CrawledNewsArticleRepository extends JpaRepository<CrawledNewsArticle, Long> {
 
     Optional<CrawledNewsArticle> findByArticleUrl(String articleUrl);
-}
\ No newline at end of file
+
+    /**
+     * (published_at, id) 내림차순 keyset 조회. article, html_content 컬럼은 select 하지 않습니다.
+     * cursorAt 이 null 이면 첫 페이지입니다.
+     * (published_at, id) 인덱스만으로 정렬하기 위해 published_at 이 없는 기사는 제외합니다. (수집 시각 기준 내보내기 /api/export 로 조회)
+     */
+    @Query("""
+            select a.id as id, a.articleUrl as articleUrl, a.media as media, a.category as category,
+                   a.title as title, a.author as author, a.publishedAt as publishedAt, a.crawledAt as crawledAt,
+                   a.duplicateOf as duplicateOf
+            from CrawledNewsArticle a
+            where a.publishedAt is not null
+              and (:media is null or a.media = :media)
+              and (:category is null or a.category = :category)
+              and (:publishedFrom is null or a.publishedAt >= :publishedFrom)
+              and (:publishedTo is null or a.publishedAt < :publishedTo)
+              and (:crawledFrom is null or a.crawledAt >= :crawledFrom)
+              and (:crawledTo is null or a.crawledAt < :crawledTo)
+              and (:cursorAt is null or a.publishedAt < :cursorAt or (a.publishedAt = :cursorAt and a.id < :cursorId))
+            order by a.publishedAt desc, a.id desc
+            """)
+    List<CrawledNewsArticleSummary> findSummaries(@Param("media") String media,
+                                                  @Param("category") String category,
+                                                  @Param("publishedFrom") LocalDateTime publishedFrom,
+                                                  @Param("publishedTo") LocalDateTime publishedTo,
+                                                  @Param("crawledFrom") LocalDateTime crawledFrom,
+                                                  @Param("crawledTo") LocalDateTime crawledTo,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Limit limit);
+
+    /**
+     * 유사 중복 기사는 본문을 저장하지 않으므로 대표 기사의 본문을 돌려줍니다. (html_content 도 동일)
+     */
+    @Query("""
+            select case when a.duplicateOf is null then a.article else c.article end from CrawledNewsArticle a
+            left join CrawledNewsArticle c on c.id = a.duplicateOf
+            where a.id = :id
+            """)
+    Optional<String> findArticleById(@Param("id") Long id);
+
+    @Query("""
+            select case when a.duplicateOf is null then a.htmlContent else c.htmlContent end from CrawledNewsArticle a
+            left join CrawledNewsArticle c on c.id = a.duplicateOf
+            where a.id = :id
+            """)
+    Optional<String> findHtmlContentById(@Param("id") Long id);
+
+    /**
+     * 검색 인덱스 재색인용 전방향 스트림 (유사 중복 기사 제외). 트랜잭션 안에서 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.juca.crawler.search.ArticleDocument(a.id, a.articleUrl, a.title, a.article, a.media, a.category, a.publishedAt) from CrawledNewsArticle a where a.duplicateOf is null")
+    Stream<ArticleDocument> streamIndexDocuments();
+
+    /**
+     * 내보내기용 전방향 스트림 (수집 시각 [from, to), id 순). html_content 는 포함하지 않습니다.
+     * 트랜잭션 안에서 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.juca.crawler.export.ArticleExportRow(a.id, a.articleUrl, a.media, a.category, a.title,
+                   case when a.duplicateOf is null then a.article else c.article end,
+                   a.author, a.publishedAt, a.crawledAt, a.duplicateOf)
+            from CrawledNewsArticle a
+            left join CrawledNewsArticle c on c.id = a.duplicateOf
+            where (:media is null or a.media = :media)
+              and (:from is null or a.crawledAt >= :from)
+              and (:to is null or a.crawledAt < :to)
+            order by a.id
+            """)
+    Stream<ArticleExportRow> streamExportRows(@Param("media") String media,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    /**
+     * 유사 중복 색인 적재용 대표 기사 지문 스트림. 트랜잭션 안에서 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.juca.crawler.dedup.FingerprintRow(a.id, a.simhash) from CrawledNewsArticle a where a.simhash is not null and a.duplicateOf is null")
+    Stream<FingerprintRow> streamFingerprints();
+}
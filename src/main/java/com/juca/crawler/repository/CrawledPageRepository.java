@@ -1,10 +1,57 @@
 package com.juca.crawler.repository;
 
 import com.juca.crawler.domain.CrawledPage;
+import com.juca.crawler.dto.CrawledPageSummary;
+import com.juca.crawler.graph.PageUrl;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CrawledPageRepository extends JpaRepository<CrawledPage, Long> {
     Optional<CrawledPage> findByUrl(String url);
-}
\ No newline at end of file
+
+    /**
+     * (crawled_at, id) 내림차순 keyset 조회. html_content 컬럼은 select 하지 않습니다.
+     * cursorAt 이 null 이면 첫 페이지입니다.
+     */
+    @Query("""
+            select p.id as id, p.url as url, p.domain as domain, p.title as title,
+                   p.metaDescription as metaDescription, p.statusCode as statusCode, p.contentType as contentType,
+                   p.crawledAt as crawledAt, p.crawlDepth as crawlDepth, p.errorMessage as errorMessage
+            from CrawledPage p
+            where p.crawledAt is not null
+              and (:domain is null or p.domain = :domain)
+              and (:from is null or p.crawledAt >= :from)
+              and (:to is null or p.crawledAt < :to)
+              and (:cursorAt is null or p.crawledAt < :cursorAt or (p.crawledAt = :cursorAt and p.id < :cursorId))
+            order by p.crawledAt desc, p.id desc
+            """)
+    List<CrawledPageSummary> findSummaries(@Param("domain") String domain,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           @Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Limit limit);
+
+    @Query("select p.htmlContent from CrawledPage p where p.id = :id")
+    Optional<String> findHtmlContentById(@Param("id") Long id);
+
+    /**
+     * 링크 그래프 컴파일용 (id, URL) 스트리밍 조회, id 오름차순
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.juca.crawler.graph.PageUrl(p.id, p.url) from CrawledPage p order by p.id")
+    Stream<PageUrl> streamPageUrls();
+}
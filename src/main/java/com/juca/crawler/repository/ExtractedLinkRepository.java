@@ -1,7 +1,39 @@
 package com.juca.crawler.repository;
 
 import com.juca.crawler.domain.ExtractedLink;
+import com.juca.crawler.graph.LinkRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ExtractedLinkRepository extends JpaRepository<ExtractedLink, Long> {
-}
\ No newline at end of file
+
+    @Query("select l.linkUrl from ExtractedLink l where l.sourcePage.id = :sourcePageId")
+    Set<String> findLinkUrlsBySourcePageId(@Param("sourcePageId") Long sourcePageId);
+
+    /**
+     * 링크 그래프 URL 사전용, 추출된 링크 URL 을 중복 없이 스트리밍 조회
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select distinct l.linkUrl from ExtractedLink l")
+    Stream<String> streamDistinctLinkUrls();
+
+    /**
+     * 링크 그래프 간선용 (출발 페이지 id, 링크 URL) 스트리밍 조회
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.juca.crawler.graph.LinkRow(l.sourcePage.id, l.linkUrl) from ExtractedLink l")
+    Stream<LinkRow> streamLinks();
+}
@@ -0,0 +1,47 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.FailedFetch;
+import com.juca.crawler.domain.FailedFetchStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FailedFetchRepository extends JpaRepository<FailedFetch, Long> {
+
+    Optional<FailedFetch> findByUrlHash(Long urlHash);
+
+    List<FailedFetch> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(FailedFetchStatus status,
+                                                                                      LocalDateTime now,
+                                                                                      Limit limit);
+
+    /**
+     * 조회 시점의 next_attempt_at 이 그대로인 경우에만 재시도 시각을 미뤄 선점합니다.
+     * 여러 노드가 같은 항목을 동시에 재시도하지 않도록 조건부 UPDATE 한 번으로 처리됩니다.
+     * @return 선점 성공 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update FailedFetch f set f.nextAttemptAt = :claimUntil
+            where f.id = :id and f.status = com.juca.crawler.domain.FailedFetchStatus.PENDING
+              and f.nextAttemptAt = :expected
+            """)
+    int claim(@Param("id") Long id,
+              @Param("expected") LocalDateTime expected,
+              @Param("claimUntil") LocalDateTime claimUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update FailedFetch f set f.nextAttemptAt = :nextAttemptAt
+            where f.id = :id and f.status = com.juca.crawler.domain.FailedFetchStatus.PENDING
+            """)
+    int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -0,0 +1,11 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.ListingWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ListingWatermarkRepository extends JpaRepository<ListingWatermark, Long> {
+
+    Optional<ListingWatermark> findByListingHash(Long listingHash);
+}
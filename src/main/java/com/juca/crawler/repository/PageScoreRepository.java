@@ -0,0 +1,33 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.PageScore;
+import com.juca.crawler.graph.RankedPage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PageScoreRepository extends JpaRepository<PageScore, Long> {
+
+    @Query("""
+            select new com.juca.crawler.graph.RankedPage(s.pageId, p.url, s.pageRank, s.authority, s.hub, s.inDegree, s.outDegree)
+            from PageScore s join CrawledPage p on p.id = s.pageId
+            order by s.pageRank desc
+            """)
+    List<RankedPage> findTopByPageRank(Limit limit);
+
+    @Query("""
+            select new com.juca.crawler.graph.RankedPage(s.pageId, p.url, s.pageRank, s.authority, s.hub, s.inDegree, s.outDegree)
+            from PageScore s join CrawledPage p on p.id = s.pageId
+            order by s.authority desc
+            """)
+    List<RankedPage> findTopByAuthority(Limit limit);
+
+    @Query("""
+            select new com.juca.crawler.graph.RankedPage(s.pageId, p.url, s.pageRank, s.authority, s.hub, s.inDegree, s.outDegree)
+            from PageScore s join CrawledPage p on p.id = s.pageId
+            order by s.hub desc
+            """)
+    List<RankedPage> findTopByHub(Limit limit);
+}
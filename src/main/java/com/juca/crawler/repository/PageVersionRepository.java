@@ -0,0 +1,48 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.PageVersion;
+import com.juca.crawler.dto.PageVersionSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PageVersionRepository extends JpaRepository<PageVersion, Long> {
+
+    Optional<PageVersion> findFirstByPageIdOrderByVersionDesc(Long pageId);
+
+    Optional<PageVersion> findByPageIdAndVersion(Long pageId, Integer version);
+
+    /**
+     * version 이하에서 가장 가까운 전체 본문 버전 (복원 시작점)
+     */
+    @Query("""
+            select v from PageVersion v
+            where v.pageId = :pageId and v.kind = com.juca.crawler.domain.PageVersionKind.FULL and v.version <= :version
+            order by v.version desc
+            limit 1
+            """)
+    Optional<PageVersion> findKeyframe(@Param("pageId") Long pageId, @Param("version") Integer version);
+
+    /**
+     * (from, to] 구간의 delta 버전을 순서대로 조회합니다.
+     */
+    @Query("""
+            select v from PageVersion v
+            where v.pageId = :pageId and v.kind = com.juca.crawler.domain.PageVersionKind.DELTA
+              and v.version > :from and v.version <= :to
+            order by v.version
+            """)
+    List<PageVersion> findDeltas(@Param("pageId") Long pageId, @Param("from") Integer from, @Param("to") Integer to);
+
+    @Query("""
+            select v.version as version, v.capturedAt as capturedAt, v.kind as kind, v.baseVersion as baseVersion,
+                   v.rawLength as rawLength, v.storedLength as storedLength
+            from PageVersion v
+            where v.pageId = :pageId
+            order by v.version desc
+            """)
+    List<PageVersionSummary> findSummaries(@Param("pageId") Long pageId);
+}
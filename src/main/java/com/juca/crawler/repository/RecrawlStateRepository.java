@@ -0,0 +1,41 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.RecrawlState;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecrawlStateRepository extends JpaRepository<RecrawlState, Long> {
+
+    Optional<RecrawlState> findByUrlHash(Long urlHash);
+
+    List<RecrawlState> findByDomainAndNextVisitAtLessThanEqualOrderByNextVisitAtAsc(String domain,
+                                                                                    LocalDateTime now,
+                                                                                    Limit limit);
+
+    /**
+     * 조회 시점의 next_visit_at 이 그대로인 경우에만 방문 시각을 미뤄 선점합니다.
+     * @return 선점 성공 시 1
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update RecrawlState r set r.nextVisitAt = :claimUntil
+            where r.id = :id and r.nextVisitAt = :expected
+            """)
+    int claim(@Param("id") Long id,
+              @Param("expected") LocalDateTime expected,
+              @Param("claimUntil") LocalDateTime claimUntil);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RecrawlState r where r.urlHash = :urlHash")
+    int deleteByUrlHash(@Param("urlHash") Long urlHash);
+}
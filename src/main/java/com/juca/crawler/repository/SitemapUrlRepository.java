@@ -0,0 +1,12 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.SitemapUrl;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SitemapUrlRepository extends JpaRepository<SitemapUrl, Long> {
+
+    List<SitemapUrl> findByUrlHashIn(Collection<Long> urlHashes);
+}
@@ -0,0 +1,15 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.UrlRedirect;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UrlRedirectRepository extends JpaRepository<UrlRedirect, Long> {
+
+    Optional<UrlRedirect> findBySourceHash(Long sourceHash);
+
+    List<UrlRedirect> findAllByOrderByRecordedAtDesc(Limit limit);
+}
@@ -0,0 +1,176 @@
+package com.juca.crawler.robots;
+
+import com.juca.crawler.fetch.HostRateController;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.util.LogUtil;
+import org.jsoup.Connection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 호스트별 robots.txt 캐시
+ *
+ * robots.txt 는 호스트(scheme + host + port)마다 한 번만 요청하고 TTL 동안 재사용합니다.
+ * 상태 코드 처리는 RFC 9309 를 따릅니다.
+ *  - 2xx: 파싱한 규칙 사용
+ *  - 4xx: 제한 없음 (robots.txt 없음)
+ *  - 5xx, 네트워크 오류: 이전 규칙이 있으면 계속 사용, 없으면 UNAVAILABLE(전체 차단)로 두고 짧은 주기로 다시 요청
+ * Crawl-delay 는 호스트 제어기의 최소 요청 간격으로 반영됩니다.
+ */
+@Component
+public class RobotsCache {
+
+    // RFC 9309: 최소 500KiB 까지는 파싱해야 함
+    private static final int MAX_ROBOTS_LENGTH = 500 * 1024;
+
+    private final PageFetcher pageFetcher;
+    private final HostRateController hostRateController;
+    private final boolean enabled;
+    private final String agent;
+    private final long ttlMs;
+    private final long errorTtlMs;
+    private final long maxCrawlDelayMs;
+
+    private final Map<String, CachedPolicy> policies = new ConcurrentHashMap<>();
+
+    public RobotsCache(PageFetcher pageFetcher,
+                       HostRateController hostRateController,
+                       @Value("${crawler.robots.enabled:true}") boolean enabled,
+                       @Value("${crawler.robots.agent:*}") String agent,
+                       @Value("${crawler.robots.ttl_ms:86400000}") long ttlMs,
+                       @Value("${crawler.robots.error_ttl_ms:600000}") long errorTtlMs,
+                       @Value("${crawler.robots.max_crawl_delay_ms:60000}") long maxCrawlDelayMs) {
+        this.pageFetcher = pageFetcher;
+        this.hostRateController = hostRateController;
+        this.enabled = enabled;
+        this.agent = agent;
+        this.ttlMs = ttlMs;
+        this.errorTtlMs = errorTtlMs;
+        this.maxCrawlDelayMs = maxCrawlDelayMs;
+    }
+
+    /**
+     * robots.txt 규칙상 요청해도 되는 URL 인지 확인합니다. http(s) 가 아닌 URL 은 판단하지 않고 허용합니다.
+     */
+    public boolean isAllowed(String url) {
+        if (!enabled) {
+            return true;
+        }
+        URI uri = parse(url);
+        if (uri == null) {
+            return true;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path = path + "?" + uri.getRawQuery();
+        }
+        return policyFor(uri).isAllowed(path);
+    }
+
+    /**
+     * robots.txt 가 명시적으로 금지한 URL 인지 확인합니다. (robots.txt 를 받지 못한 경우는 false)
+     */
+    public boolean isDisallowed(String url) {
+        return !isAllowed(url) && !isUnavailable(url);
+    }
+
+    /**
+     * robots.txt 를 받지 못해 판단을 보류한 호스트인지 확인합니다.
+     */
+    public boolean isUnavailable(String url) {
+        return enabled && policyFor(url).isUnavailable();
+    }
+
+    /**
+     * URL 이 속한 호스트의 robots.txt 해석 결과 (캐시가 만료되었으면 다시 요청)
+     */
+    public RobotsPolicy policyFor(String url) {
+        URI uri = parse(url);
+        return uri == null ? RobotsPolicy.ALLOW_ALL : policyFor(uri);
+    }
+
+    private RobotsPolicy policyFor(URI uri) {
+        String origin = uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getRawAuthority().toLowerCase(Locale.ROOT);
+        CachedPolicy cached = policies.computeIfAbsent(origin, o -> new CachedPolicy());
+
+        // 같은 호스트는 한 스레드만 robots.txt 를 요청하고 나머지는 결과를 기다림
+        // (요청 스레드가 가상 스레드이므로 모니터 대신 ReentrantLock 으로 기다려 캐리어 스레드를 점유하지 않음)
+        cached.lock.lock();
+        try {
+            if (cached.policy == null || System.currentTimeMillis() >= cached.expiresAt) {
+                refresh(origin, uri.getHost().toLowerCase(Locale.ROOT), cached);
+            }
+            return cached.policy;
+        } finally {
+            cached.lock.unlock();
+        }
+    }
+
+    private void refresh(String origin, String host, CachedPolicy cached) {
+        String robotsUrl = origin + "/robots.txt";
+        try {
+            Connection.Response response = pageFetcher.fetch(robotsUrl, origin + "/");
+            int statusCode = response.statusCode();
+
+            if (statusCode >= 200 && statusCode < 300) {
+                String body = response.body();
+                if (body.length() > MAX_ROBOTS_LENGTH) {
+                    body = body.substring(0, MAX_ROBOTS_LENGTH);
+                }
+                RobotsPolicy policy = RobotsTxtParser.parse(body, agent);
+                cached.update(policy, ttlMs);
+                applyCrawlDelay(host, policy);
+                LogUtil.logInfo("[ROBOTS] " + origin + " 규칙 " + policy.getRules().size() + "개, Crawl-delay " + policy.getCrawlDelayMs() + "ms");
+            } else if (statusCode >= 400 && statusCode < 500) {
+                cached.update(RobotsPolicy.ALLOW_ALL, ttlMs);
+            } else {
+                keepOrDisallow(cached, robotsUrl + " - HTTP " + statusCode);
+            }
+        } catch (IOException e) {
+            keepOrDisallow(cached, robotsUrl + " - " + e.getMessage());
+        }
+    }
+
+    private void keepOrDisallow(CachedPolicy cached, String reason) {
+        LogUtil.logInfo("[ROBOTS] robots.txt 요청 실패: " + reason);
+        cached.update(cached.policy != null ? cached.policy : RobotsPolicy.UNAVAILABLE, errorTtlMs);
+    }
+
+    private void applyCrawlDelay(String host, RobotsPolicy policy) {
+        if (policy.getCrawlDelayMs() > 0) {
+            hostRateController.raisePolitenessFloor(host, Math.min(maxCrawlDelayMs, policy.getCrawlDelayMs()));
+        }
+    }
+
+    private static URI parse(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            String scheme = uri.getScheme();
+            if (scheme == null || uri.getHost() == null
+                    || !(scheme.equalsIgnoreCase("http") || scheme.equalsIgnoreCase("https"))) {
+                return null;
+            }
+            return uri;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class CachedPolicy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private RobotsPolicy policy;
+        private long expiresAt;
+
+        private void update(RobotsPolicy policy, long ttlMs) {
+            this.policy = policy;
+            this.expiresAt = System.currentTimeMillis() + ttlMs;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.juca.crawler.robots;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 호스트 하나의 robots.txt 해석 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class RobotsPolicy {
+
+    public static final RobotsPolicy ALLOW_ALL = new RobotsPolicy(RobotsRules.ALLOW_ALL, 0, List.of(), false);
+    // robots.txt 를 받지 못한 상태: 전체 차단으로 취급하되 "금지"가 아니라 "나중에 다시 시도"할 대상
+    public static final RobotsPolicy UNAVAILABLE = new RobotsPolicy(RobotsRules.DISALLOW_ALL, 0, List.of(), true);
+
+    private final RobotsRules rules;
+    // Crawl-delay (ms), 지정되지 않았으면 0
+    private final long crawlDelayMs;
+    // Sitemap 지시어 (그룹과 무관하게 파일 전체에서 수집)
+    private final List<String> sitemaps;
+    private final boolean unavailable;
+
+    public boolean isAllowed(String pathAndQuery) {
+        return rules.isAllowed(pathAndQuery);
+    }
+}
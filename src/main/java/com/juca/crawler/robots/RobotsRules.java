@@ -0,0 +1,143 @@
+package com.juca.crawler.robots;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * robots.txt Allow/Disallow 규칙을 문자 단위 trie 로 컴파일한 매처
+ *
+ * 경로를 한 글자씩 따라가며 일치하는 규칙을 모으므로 링크마다 정규식을 실행하지 않고 O(경로 길이)로 판정합니다.
+ * '*' 는 자기 자신으로 되돌아오는 노드, 끝의 '$' 는 경로 끝에서만 일치하는 규칙으로 표현합니다.
+ * 판정 규칙(RFC 9309): 가장 긴 패턴이 우선, 길이가 같으면 Allow 우선, 일치하는 규칙이 없으면 허용.
+ */
+public class RobotsRules {
+
+    public static final RobotsRules ALLOW_ALL = new RobotsRules();
+    public static final RobotsRules DISALLOW_ALL = new RobotsRules();
+
+    static {
+        DISALLOW_ALL.add("/", false);
+    }
+
+    private final Node root = new Node(false);
+    private int ruleCount;
+
+    /**
+     * @param pattern '/' 또는 '*' 로 시작하는 경로 패턴 ('*' 와 끝의 '$' 지원)
+     */
+    void add(String pattern, boolean allow) {
+        boolean endAnchored = pattern.endsWith("$");
+        String body = endAnchored ? pattern.substring(0, pattern.length() - 1) : pattern;
+
+        Node node = root;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '*') {
+                // 연속된 '*' 는 하나로 취급
+                if (!node.wildcard) {
+                    if (node.star == null) {
+                        node.star = new Node(true);
+                    }
+                    node = node.star;
+                }
+            } else {
+                node = node.children().computeIfAbsent(c, k -> new Node(false));
+            }
+        }
+
+        int length = pattern.length();
+        if (endAnchored) {
+            if (allow) node.allowEndLength = Math.max(node.allowEndLength, length);
+            else node.disallowEndLength = Math.max(node.disallowEndLength, length);
+        } else {
+            if (allow) node.allowLength = Math.max(node.allowLength, length);
+            else node.disallowLength = Math.max(node.disallowLength, length);
+        }
+        ruleCount++;
+    }
+
+    /**
+     * @param pathAndQuery '/' 로 시작하는 경로(쿼리 포함)
+     */
+    public boolean isAllowed(String pathAndQuery) {
+        if (ruleCount == 0) {
+            return true;
+        }
+        String path = pathAndQuery == null || pathAndQuery.isEmpty() ? "/" : pathAndQuery;
+
+        int bestAllow = -1;
+        int bestDisallow = -1;
+        List<Node> current = new ArrayList<>();
+        addWithStar(root, current);
+
+        for (int i = 0; ; i++) {
+            for (Node node : current) {
+                bestAllow = Math.max(bestAllow, node.allowLength);
+                bestDisallow = Math.max(bestDisallow, node.disallowLength);
+            }
+            if (i == path.length()) {
+                for (Node node : current) {
+                    bestAllow = Math.max(bestAllow, node.allowEndLength);
+                    bestDisallow = Math.max(bestDisallow, node.disallowEndLength);
+                }
+                break;
+            }
+
+            char c = path.charAt(i);
+            List<Node> next = new ArrayList<>(current.size() + 1);
+            for (Node node : current) {
+                if (node.wildcard) {
+                    addWithStar(node, next); // '*' 가 한 글자를 더 소비
+                }
+                Node child = node.children == null ? null : node.children.get(c);
+                if (child != null) {
+                    addWithStar(child, next);
+                }
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            current = next;
+        }
+
+        return bestDisallow <= bestAllow;
+    }
+
+    public int size() {
+        return ruleCount;
+    }
+
+    // '*' 는 빈 문자열과도 일치하므로 노드에 들어갈 때 '*' 노드도 함께 활성화
+    private static void addWithStar(Node node, List<Node> states) {
+        while (node != null) {
+            if (!states.contains(node)) {
+                states.add(node);
+            }
+            node = node.star;
+        }
+    }
+
+    private static final class Node {
+        private final boolean wildcard;
+        private Map<Character, Node> children;
+        private Node star;
+        // 이 노드에서 끝나는 규칙의 패턴 길이 (-1: 없음)
+        private int allowLength = -1;
+        private int disallowLength = -1;
+        private int allowEndLength = -1;
+        private int disallowEndLength = -1;
+
+        private Node(boolean wildcard) {
+            this.wildcard = wildcard;
+        }
+
+        private Map<Character, Node> children() {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children;
+        }
+    }
+}
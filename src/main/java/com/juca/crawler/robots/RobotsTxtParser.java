@@ -0,0 +1,117 @@
+package com.juca.crawler.robots;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * robots.txt 파서
+ *
+ * 연속된 User-agent 줄이 하나의 그룹을 이루고, 이어지는 Allow/Disallow/Crawl-delay 는 그 그룹에 속합니다.
+ * 설정한 에이전트 이름과 일치하는 그룹이 있으면 그 그룹들만, 없으면 '*' 그룹을 사용합니다.
+ */
+public class RobotsTxtParser {
+
+    private static final String ANY_AGENT = "*";
+
+    private static final class Group {
+        private final List<String> agents = new ArrayList<>();
+        private final List<String[]> rules = new ArrayList<>(); // [allow|disallow, pattern]
+        private double crawlDelaySeconds = -1;
+    }
+
+    public static RobotsPolicy parse(String content, String agent) {
+        List<Group> groups = new ArrayList<>();
+        List<String> sitemaps = new ArrayList<>();
+        Group group = null;
+        boolean groupHasDirectives = false;
+
+        for (String rawLine : content.split("\\r?\\n|\\r")) {
+            int comment = rawLine.indexOf('#');
+            String line = (comment >= 0 ? rawLine.substring(0, comment) : rawLine).trim();
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String key = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+
+            switch (key) {
+                case "user-agent" -> {
+                    // 규칙이 나온 뒤의 User-agent 는 새 그룹의 시작
+                    if (group == null || groupHasDirectives) {
+                        group = new Group();
+                        groups.add(group);
+                        groupHasDirectives = false;
+                    }
+                    group.agents.add(value.toLowerCase(Locale.ROOT));
+                }
+                case "allow", "disallow" -> {
+                    if (group != null) {
+                        group.rules.add(new String[]{key, value});
+                        groupHasDirectives = true;
+                    }
+                }
+                case "crawl-delay" -> {
+                    if (group != null) {
+                        try {
+                            group.crawlDelaySeconds = Double.parseDouble(value);
+                        } catch (NumberFormatException ignored) {
+                            // 잘못된 값은 무시
+                        }
+                        groupHasDirectives = true;
+                    }
+                }
+                case "sitemap" -> {
+                    if (!value.isEmpty()) {
+                        sitemaps.add(value);
+                    }
+                }
+                default -> {
+                    // 알 수 없는 지시어는 무시
+                }
+            }
+        }
+
+        List<Group> selected = select(groups, agent == null ? ANY_AGENT : agent.toLowerCase(Locale.ROOT));
+
+        RobotsRules rules = new RobotsRules();
+        double crawlDelaySeconds = -1;
+        for (Group g : selected) {
+            for (String[] rule : g.rules) {
+                String pattern = rule[1];
+                // 빈 Disallow 는 "모두 허용" 이므로 규칙을 추가하지 않음
+                if (pattern.isEmpty()) {
+                    continue;
+                }
+                if (!pattern.startsWith("/") && !pattern.startsWith("*")) {
+                    pattern = "/" + pattern;
+                }
+                rules.add(pattern, rule[0].equals("allow"));
+            }
+            crawlDelaySeconds = Math.max(crawlDelaySeconds, g.crawlDelaySeconds);
+        }
+
+        long crawlDelayMs = crawlDelaySeconds > 0 ? (long) (crawlDelaySeconds * 1000) : 0;
+        return new RobotsPolicy(rules, crawlDelayMs, List.copyOf(sitemaps), false);
+    }
+
+    private static List<Group> select(List<Group> groups, String agent) {
+        List<Group> matched = new ArrayList<>();
+        if (!agent.equals(ANY_AGENT)) {
+            for (Group g : groups) {
+                if (g.agents.contains(agent)) {
+                    matched.add(g);
+                }
+            }
+        }
+        if (matched.isEmpty()) {
+            for (Group g : groups) {
+                if (g.agents.contains(ANY_AGENT)) {
+                    matched.add(g);
+                }
+            }
+        }
+        return matched;
+    }
+}
@@ -1,13 +1,21 @@
 package com.juca.crawler.scheduler;
 
+import com.juca.crawler.domain.FailedFetch;
+import com.juca.crawler.fetch.HostCircuitBreaker;
+import com.juca.crawler.graph.LinkGraphCompiler;
+import com.juca.crawler.graph.LinkGraphRanker;
+import com.juca.crawler.service.CrawlOutcome;
+import com.juca.crawler.service.FailedFetchService;
 import com.juca.crawler.service.WebCrawlingService;
+import com.juca.crawler.storage.PartitionArchiver;
+import com.juca.crawler.translate.CnnArticleTranslationStage;
+import com.juca.crawler.util.UrlUtil;
 import com.juca.crawler.util.LogUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
 import java.util.List;
 
 @Component
@@ -20,31 +28,20 @@ public class CrawlingScheduler {
     @Value("${crawler.base_stock_price_url}")
     String baseStockPriceUrl;
 
-    @Value("${crawler.base_article_url}")
-    String baseArticleUrl;
-
-    @Value("${crawler.naver_politics_news_url}")
-    String politicsUrl;
-
-    @Value("${crawler.naver_economy_news_url}")
-    String economyUrl;
-
-    @Value("${crawler.naver_society_news_url}")
-    String societyUrl;
-
-    @Value("${crawler.naver_life_news_url}")
-    String lifeUrl;
-
-    @Value("${crawler.naver_world_news_url}")
-    String worldUrl;
-
-    @Value("${crawler.naver_science_news_url}")
-    String scienceUrl;
-
     @Value("${crawler.max_depth}")
     int maxDepth;
 
+    // 실패 요청 재시도 1회당 최대 처리 건수 (복구 처리량 제한)
+    @Value("${crawler.dlq.batch_size:50}")
+    int failedFetchBatchSize;
+
     private final WebCrawlingService webCrawlingService;
+    private final FailedFetchService failedFetchService;
+    private final HostCircuitBreaker hostCircuitBreaker;
+    private final LinkGraphCompiler linkGraphCompiler;
+    private final LinkGraphRanker linkGraphRanker;
+    private final CnnArticleTranslationStage cnnArticleTranslationStage;
+    private final PartitionArchiver partitionArchiver;
 
 //    @Scheduled(fixedDelayString = "#{T(java.util.concurrent.ThreadLocalRandom).current().nextLong(30000, 60000)}") // 5분 ~ 1시간 사이 랜덤 딜레이
 //    public void startWebCrawling() {
@@ -83,46 +80,79 @@ public class CrawlingScheduler {
 //        webCrawlingService.stockPriceCrawling(url, maxDepth);
 //    }
 
-    @Scheduled(fixedDelayString = "#{T(java.util.concurrent.ThreadLocalRandom).current().nextLong(30000, 60000)}") // 5분 ~ 1시간 사이 랜덤 딜레이
-    public void startCnnArticleCrawling() {
-        String schedulerName = "CNN Article Crawler Scheduler";
-        String methodName = "startArticleCrawling";
+    // CNN / 네이버 뉴스 수집은 CrawlSource 로 옮겨져 CrawlEngine 이 사이트별 주기로 실행
+
+    @Scheduled(fixedDelayString = "${crawler.dlq.sweep_interval_ms:60000}", initialDelayString = "${crawler.dlq.sweep_interval_ms:60000}")
+    public void retryFailedFetches() {
+        String schedulerName = "Failed Fetch Retry Scheduler";
+        String methodName = "retryFailedFetches";
+
+        List<FailedFetch> due = failedFetchService.claimDue(failedFetchBatchSize);
+        if (due.isEmpty()) {
+            return;
+        }
 
         LogUtil.logSchedulerStart(schedulerName, methodName); // 스케줄러 시작 로그
 
+        int succeeded = 0;
+        int failed = 0;
+        int deferred = 0;
         try {
-            webCrawlingService.cnnArticleCrawling(baseArticleUrl, 0);
-            LogUtil.logSchedulerCompletion(schedulerName, methodName, "기사 크롤링 작업 성공적으로 완료."); // 완료 로그
+            for (FailedFetch failedFetch : due) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                CrawlOutcome outcome = webCrawlingService.retryFailedFetch(failedFetch);
+                switch (outcome) {
+                    case SUCCESS, SKIPPED -> {
+                        failedFetchService.resolve(failedFetch);
+                        succeeded++;
+                    }
+                    case FAILED -> failed++;
+                    case DEFERRED -> {
+                        // 호스트 차단 중: 시도 횟수는 그대로 두고 서킷이 다시 열리는 시각 이후로 미룸
+                        long retryAt = hostCircuitBreaker.retryAt(UrlUtil.hostOf(failedFetch.getUrl()));
+                        failedFetchService.defer(failedFetch, Math.max(retryAt, System.currentTimeMillis()));
+                        deferred++;
+                    }
+                }
+            }
+            LogUtil.logSchedulerCompletion(schedulerName, methodName,
+                    "재시도 " + due.size() + "건 - 성공 " + succeeded + ", 실패 " + failed + ", 보류 " + deferred); // 완료 로그
         } catch (Exception e) {
-            // 스케줄러 실행 중 최상위 예외 처리
-            LogUtil.logSchedulerException(schedulerName, methodName, e, "기사 크롤링 작업 중 예상치 못한 오류 발생."); // 예외 로그
+            LogUtil.logSchedulerException(schedulerName, methodName, e, "실패 요청 재시도 중 예상치 못한 오류 발생."); // 예외 로그
         }
     }
 
-    @Scheduled(fixedDelayString = "#{T(java.util.concurrent.ThreadLocalRandom).current().nextLong(1800000, 3600000)}") // 30분 ~ 1시간 사이 랜덤 딜레이
-    public void startNaverNewsArticleCrawling() {
-        String schedulerName = "Naver News Article Crawler Scheduler";
-        String methodName = "startNaverNewsArticleCrawling";
+    // 링크 그래프는 분석용 스냅샷이므로 하루 한 번 한가한 시간에 다시 컴파일
+    @Scheduled(cron = "${crawler.graph.compile_cron:0 0 4 * * *}")
+    public void compileLinkGraph() {
+        if (!linkGraphCompiler.compileAsync()) {
+            LogUtil.logInfo("링크 그래프 컴파일이 이미 진행 중이어서 이번 주기는 건너뜁니다.");
+        }
+    }
 
-        List<String> newsUrls = Arrays.asList(
-                politicsUrl,
-                economyUrl,
-                societyUrl,
-                lifeUrl,
-                worldUrl,
-                scienceUrl
-        );
+    // 컴파일이 끝난 뒤의 그래프로 PageRank / HITS 점수 갱신
+    @Scheduled(cron = "${crawler.graph.rank_cron:0 30 4 * * *}")
+    public void rankLinkGraph() {
+        if (!linkGraphRanker.rankAsync()) {
+            LogUtil.logInfo("링크 그래프 점수 계산이 이미 진행 중이어서 이번 주기는 건너뜁니다.");
+        }
+    }
 
-        LogUtil.logSchedulerStart(schedulerName, methodName); // 스케줄러 시작 로그
+    // 번역은 전용 스레드에서 돌기 때문에 여기서는 시작만 시키고 바로 반환 (진행 중이면 이번 주기는 건너뜀)
+    @Scheduled(fixedDelayString = "${crawler.translation.interval_ms:60000}", initialDelayString = "${crawler.translation.interval_ms:60000}")
+    public void translateCnnArticles() {
+        if (cnnArticleTranslationStage.isEnabled()) {
+            cnnArticleTranslationStage.translateAsync();
+        }
+    }
 
-        try {
-            for (String url : newsUrls) {
-                webCrawlingService.naverNewsCrawling(url);
-            }
-            LogUtil.logSchedulerCompletion(schedulerName, methodName, "기사 크롤링 작업 성공적으로 완료."); // 완료 로그
-        } catch (Exception e) {
-            // 스케줄러 실행 중 최상위 예외 처리
-            LogUtil.logSchedulerException(schedulerName, methodName, e, "기사 크롤링 작업 중 예상치 못한 오류 발생."); // 예외 로그
+    // 보관 기간이 지난 월 파티션을 파일로 옮기고 삭제 (다음 달 파티션도 미리 생성), 수집이 한가한 새벽에 실행
+    @Scheduled(cron = "${crawler.storage.archive_cron:0 0 3 * * *}")
+    public void archiveExpiredPartitions() {
+        if (partitionArchiver.isEnabled()) {
+            partitionArchiver.run();
         }
     }
 }
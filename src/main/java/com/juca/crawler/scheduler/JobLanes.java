@@ -0,0 +1,95 @@
+package com.juca.crawler.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 작업별 실행 레인 (bulkhead)
+ *
+ * 작업마다 전용 실행기를 두어 한 작업이 오래 걸려도 다른 작업의 시작이 밀리지 않게 합니다.
+ * 같은 작업은 한 번에 하나만 실행되며, 실행 중에 들어온 트리거는 대기열에 쌓지 않고 버립니다.
+ * virtual_threads 가 켜져 있으면 실행마다 가상 스레드를 새로 만들고, 꺼져 있으면 작업별 단일 플랫폼 스레드를 씁니다.
+ */
+@Component
+public class JobLanes {
+
+    private final boolean virtualThreads;
+    // 첫 작업 시작 시각 기록 (시작 시간 측정), 없으면 null
+    private final StartupProbe startupProbe;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    public JobLanes(boolean virtualThreads) {
+        this(virtualThreads, null);
+    }
+
+    @Autowired
+    public JobLanes(@Value("${crawler.scheduler.virtual_threads:true}") boolean virtualThreads,
+                    StartupProbe startupProbe) {
+        this.virtualThreads = virtualThreads;
+        this.startupProbe = startupProbe;
+    }
+
+    /**
+     * 작업을 자기 레인에서 실행시킵니다.
+     * @return 같은 작업이 아직 실행 중이어서 이번 트리거를 건너뛰었으면 false
+     */
+    public boolean trySubmit(String job, Runnable task) {
+        Lane lane = lanes.computeIfAbsent(job, this::newLane);
+        if (!lane.running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            lane.executor.execute(() -> {
+                try {
+                    if (startupProbe != null) {
+                        startupProbe.jobStarted(job);
+                    }
+                    task.run();
+                } finally {
+                    lane.running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            lane.running.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isRunning(String job) {
+        Lane lane = lanes.get(job);
+        return lane != null && lane.running.get();
+    }
+
+    private Lane newLane(String job) {
+        String threadName = "job-" + job;
+        ExecutorService executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadName + "-", 0).factory())
+                : Executors.newSingleThreadExecutor(r -> new Thread(r, threadName));
+        return new Lane(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(lane -> lane.executor.shutdownNow());
+    }
+
+    private static final class Lane {
+        private final ExecutorService executor;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private Lane(ExecutorService executor) {
+            this.executor = executor;
+        }
+    }
+}
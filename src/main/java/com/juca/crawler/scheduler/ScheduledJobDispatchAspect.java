@@ -0,0 +1,54 @@
+package com.juca.crawler.scheduler;
+
+import com.juca.crawler.util.LogUtil;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Scheduled 메서드 실행을 스케줄러 스레드에서 작업별 레인(JobLanes)으로 넘깁니다.
+ *
+ * 스케줄러 스레드는 넘겨주기만 하고 바로 돌아오므로 한 작업의 실행 시간이 다른 작업의 시작 지연에 영향을 주지 않습니다.
+ * 가장 바깥 advice 로 동작하므로 실행 시간 기록(SchedulerLoggingAspect) 등 나머지 advice 는 레인 스레드에서 실행됩니다.
+ * fixedDelay 작업도 이전 실행이 끝나기를 기다리지 않고 주기마다 트리거되며, 실행 중이면 그 트리거는 건너뜁니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ScheduledJobDispatchAspect {
+
+    private final JobLanes jobLanes;
+    private final boolean enabled;
+
+    public ScheduledJobDispatchAspect(JobLanes jobLanes,
+                                      @Value("${crawler.scheduler.isolated_lanes:true}") boolean enabled) {
+        this.jobLanes = jobLanes;
+        this.enabled = enabled;
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object dispatch(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        String target = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+
+        boolean submitted = jobLanes.trySubmit(target + "." + method, () -> {
+            try {
+                joinPoint.proceed();
+            } catch (Throwable e) {
+                LogUtil.logSchedulerException(target, method, e, "작업 레인 실행 중 예외 발생");
+            }
+        });
+        if (!submitted) {
+            LogUtil.logJobSkipped(target, method);
+        }
+        // @Scheduled 메서드는 반환값이 없음
+        return null;
+    }
+}
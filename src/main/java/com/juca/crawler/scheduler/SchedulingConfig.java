@@ -0,0 +1,14 @@
+package com.juca.crawler.scheduler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 활성화. 내보내기 CLI 처럼 한 번 실행하고 끝나는 실행에서는 crawler.scheduling.enabled=false 로 끕니다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "crawler.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,86 @@
+package com.juca.crawler.scheduler;
+
+import com.juca.crawler.util.LogUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 시작 시간 측정
+ *
+ * JVM 시작부터 애플리케이션 준비 완료(ready)까지, 첫 스케줄 작업이 실행되기 시작할 때까지(first_job)의 시간을 기록합니다.
+ * 배포 중 스케줄러가 쉬는 시간은 first_job 으로 봅니다.
+ * crawler.startup.benchmark=true 면 두 값을 표준 출력에 한 줄(STARTUP ...)로 남기고 바로 종료합니다. (scripts/startup-benchmark.sh)
+ */
+@Component
+public class StartupProbe {
+
+    private final ApplicationContext context;
+    private final boolean benchmark;
+    private final long jvmStartTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    private final AtomicLong readyMs = new AtomicLong(-1);
+    private final AtomicLong firstJobMs = new AtomicLong(-1);
+    private final AtomicReference<String> firstJob = new AtomicReference<>();
+
+    public StartupProbe(ApplicationContext context,
+                        @Value("${crawler.startup.benchmark:false}") boolean benchmark) {
+        this.context = context;
+        this.benchmark = benchmark;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        long elapsedMs = elapsedMs();
+        readyMs.set(elapsedMs);
+        LogUtil.logStartup("ready", elapsedMs);
+        finishBenchmark();
+    }
+
+    /**
+     * 작업 레인에서 작업이 실행되기 시작할 때 호출됩니다. 첫 호출만 기록합니다.
+     */
+    void jobStarted(String job) {
+        if (firstJobMs.get() >= 0) {
+            return;
+        }
+        long elapsedMs = elapsedMs();
+        if (!firstJobMs.compareAndSet(-1, elapsedMs)) {
+            return;
+        }
+        firstJob.set(job);
+        LogUtil.logStartup("first_job", elapsedMs);
+        finishBenchmark();
+    }
+
+    private long elapsedMs() {
+        return System.currentTimeMillis() - jvmStartTime;
+    }
+
+    /**
+     * 준비 완료와 첫 작업이 모두 기록되면 결과를 출력하고 종료합니다.
+     * 작업 레인/이벤트 스레드에서 컨텍스트를 닫지 않도록 별도 스레드에서 종료합니다.
+     */
+    private void finishBenchmark() {
+        if (!benchmark || readyMs.get() < 0 || firstJobMs.get() < 0) {
+            return;
+        }
+        synchronized (this) {
+            if (firstJob.get() == null) {
+                return;
+            }
+            System.out.println("STARTUP ready_ms=" + readyMs.get() + " first_job_ms=" + firstJobMs.get()
+                    + " first_job=" + firstJob.getAndSet(null));
+            System.out.flush();
+        }
+        Thread exit = new Thread(() -> System.exit(SpringApplication.exit(context)), "startup-benchmark-exit");
+        exit.start();
+    }
+}
@@ -0,0 +1,49 @@
+package com.juca.crawler.search;
+
+import com.juca.crawler.domain.CnnArticle;
+import com.juca.crawler.domain.CrawledNewsArticle;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인덱싱 단위 문서
+ * 재색인 시 JPQL 생성자 표현식으로 필요한 컬럼만 읽어오기 위해 엔티티와 분리되어 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleDocument {
+    private final ArticleSource source;
+    private final Long id;
+    private final String url;
+    private final String title;
+    private final String body;
+    private final String media;
+    private final String category;
+    private final LocalDateTime publishedAt;
+
+    /** {@code select new ...} 용 CNN 생성자 (media 고정) */
+    public ArticleDocument(Long id, String url, String title, String body, LocalDateTime publishedAt) {
+        this(ArticleSource.CNN, id, url, title, body, "CNN", null, publishedAt);
+    }
+
+    /** {@code select new ...} 용 네이버 생성자 */
+    public ArticleDocument(Long id, String url, String title, String body, String media, String category, LocalDateTime publishedAt) {
+        this(ArticleSource.NAVER, id, url, title, body, media, category, publishedAt);
+    }
+
+    public static ArticleDocument of(CnnArticle article) {
+        return new ArticleDocument(article.getId(), article.getArticleUrl(), article.getTitle(),
+                article.getContent(), article.getPublishedAt());
+    }
+
+    public static ArticleDocument of(CrawledNewsArticle article) {
+        return new ArticleDocument(article.getId(), article.getArticleUrl(), article.getTitle(),
+                article.getArticle(), article.getMedia(), article.getCategory(), article.getPublishedAt());
+    }
+
+    public String uid() {
+        return source.name() + ":" + id;
+    }
+}
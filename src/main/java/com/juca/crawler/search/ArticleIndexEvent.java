@@ -0,0 +1,16 @@
+package com.juca.crawler.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 기사 저장 후 발행되는 색인 요청 이벤트
+ * 트랜잭션 커밋 이후에만 색인되도록 {@link ArticleIndexListener} 에서 처리합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleIndexEvent {
+    private final List<ArticleDocument> documents;
+}
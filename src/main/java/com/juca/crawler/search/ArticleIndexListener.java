@@ -0,0 +1,29 @@
+package com.juca.crawler.search;
+
+import com.juca.crawler.util.LogUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+
+/**
+ * 기사 저장 트랜잭션이 커밋된 뒤 검색 인덱스를 증분 갱신합니다.
+ * 롤백된 기사가 색인되지 않도록 커밋 이후(AFTER_COMMIT)에만 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleIndexListener {
+
+    private final ArticleSearchIndex articleSearchIndex;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticlesSaved(ArticleIndexEvent event) {
+        try {
+            articleSearchIndex.index(event.getDocuments());
+        } catch (IOException | RuntimeException e) {
+            // 색인 실패가 이미 커밋된 저장 흐름으로 번지지 않도록 모두 여기서 처리 (다음 재색인에서 복구)
+            LogUtil.logError("기사 색인 실패: " + event.getDocuments().size() + "건 - " + e.getMessage(), e);
+        }
+    }
+}
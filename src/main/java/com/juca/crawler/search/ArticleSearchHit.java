@@ -0,0 +1,22 @@
+package com.juca.crawler.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 한 건 (본문은 포함하지 않으며, 본문은 조회 API 로 가져옵니다)
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleSearchHit {
+    private final ArticleSource source;
+    private final Long id;
+    private final String url;
+    private final String title;
+    private final String media;
+    private final String category;
+    private final LocalDateTime publishedAt;
+    private final float score;
+}
@@ -0,0 +1,347 @@
+package com.juca.crawler.search;
+
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParserBase;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 로컬 디스크에 저장되는 기사 전문 검색 인덱스 (Lucene)
+ *
+ * CNN 기사는 영어 분석기(title_en, body_en), 네이버 기사는 nori 한국어 분석기(title_ko, body_ko)로 색인하고,
+ * 검색 시에는 네 필드를 각 필드의 분석기로 동시에 질의합니다.
+ * 색인은 near-real-time 으로 바로 검색되고, 디스크 커밋은 주기적으로 모아서 수행합니다.
+ * writer/searcherManager 를 쓰는 작업은 읽기 락, 재색인 시작/완료와 둘을 닫고 다시 여는 작업(재색인 취소, 종료)은 쓰기 락 안에서 수행합니다.
+ * 재색인 중에는 커밋과 검색 화면 갱신을 하지 않으므로 검색은 재색인 시작 전 화면을 봅니다.
+ */
+@Component
+public class ArticleSearchIndex {
+
+    private static final String F_UID = "uid";
+    private static final String F_SOURCE = "source";
+    private static final String F_ID = "id";
+    private static final String F_URL = "url";
+    private static final String F_TITLE = "title";
+    private static final String F_MEDIA = "media";
+    private static final String F_CATEGORY = "category";
+    private static final String F_PUBLISHED = "published_at";
+
+    private static final String F_TITLE_EN = "title_en";
+    private static final String F_BODY_EN = "body_en";
+    private static final String F_TITLE_KO = "title_ko";
+    private static final String F_BODY_KO = "body_ko";
+
+    private static final String[] SEARCH_FIELDS = {F_TITLE_EN, F_BODY_EN, F_TITLE_KO, F_BODY_KO};
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            F_TITLE_EN, 2.0f,
+            F_BODY_EN, 1.0f,
+            F_TITLE_KO, 2.0f,
+            F_BODY_KO, 1.0f
+    );
+    private static final int MAX_RESULT_SIZE = 100;
+
+    private final Path indexDir;
+    private final Analyzer analyzer;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    // 쓰기 락 안에서만 바뀌므로 읽기 락 안에서 확인하면 확인과 작업 사이에 바뀌지 않음
+    private volatile boolean rebuilding = false;
+    // 마지막 커밋 이후 index() 로 들어온 문서 (재색인 취소로 롤백되면 다시 색인)
+    private final Map<String, ArticleDocument> uncommitted = new ConcurrentHashMap<>();
+
+    // writer/searcherManager 교체 보호 (색인/검색/커밋은 읽기 락, 재색인 시작/완료, 교체와 종료는 쓰기 락)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public ArticleSearchIndex(@Value("${crawler.search.index_dir:/app/index}") String indexDir) {
+        this.indexDir = Paths.get(indexDir);
+        this.analyzer = new PerFieldAnalyzerWrapper(new StandardAnalyzer(), Map.of(
+                F_TITLE_EN, new EnglishAnalyzer(),
+                F_BODY_EN, new EnglishAnalyzer(),
+                F_TITLE_KO, new KoreanAnalyzer(),
+                F_BODY_KO, new KoreanAnalyzer()
+        ));
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexDir);
+        directory = FSDirectory.open(indexDir);
+        openWriter();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            searcherManager.close();
+            writer.commit();
+            writer.close();
+            directory.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 색인합니다. 같은 출처/id 문서는 교체됩니다.
+     */
+    public void index(List<ArticleDocument> documents) throws IOException {
+        write(documents, true);
+    }
+
+    /**
+     * 재색인용 색인. 재색인이 취소되면 버려지므로 다시 색인할 대상으로 기억하지 않습니다.
+     */
+    void indexForRebuild(List<ArticleDocument> documents) throws IOException {
+        write(documents, false);
+    }
+
+    private void write(List<ArticleDocument> documents, boolean track) throws IOException {
+        lock.readLock().lock();
+        try {
+            for (ArticleDocument document : documents) {
+                writer.updateDocument(new Term(F_UID, document.uid()), toLuceneDocument(document));
+                if (track) {
+                    uncommitted.put(document.uid(), document);
+                }
+            }
+            dirty.set(true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ArticleSearchHit> search(ArticleSearchRequest request) throws IOException {
+        lock.readLock().lock();
+        try {
+            if (!rebuilding) {
+                searcherManager.maybeRefresh();
+            }
+
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query query = buildQuery(request);
+                int size = Math.max(1, Math.min(request.getSize(), MAX_RESULT_SIZE));
+
+                TopDocs topDocs = request.isLatestFirst()
+                        ? searcher.search(query, size, new Sort(new SortField(F_PUBLISHED, SortField.Type.LONG, true)))
+                        : searcher.search(query, size);
+
+                StoredFields storedFields = searcher.storedFields();
+                List<ArticleSearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주기적으로 변경분을 디스크에 커밋합니다. 재색인 중에는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${crawler.search.commit_interval_ms:30000}")
+    public void commitIfDirty() {
+        lock.readLock().lock();
+        try {
+            if (rebuilding || !dirty.getAndSet(false)) {
+                return;
+            }
+            // 커밋 도중 들어온 문서는 이번 커밋에 포함됐는지 알 수 없으므로 남겨 둠
+            Map<String, ArticleDocument> committing = new HashMap<>(uncommitted);
+            writer.commit();
+            committing.forEach(uncommitted::remove);
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            dirty.set(true);
+            LogUtil.logError("검색 인덱스 커밋 실패: " + e.getMessage(), e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인 시작. finishRebuild() 전까지 검색은 재색인 시작 전의 인덱스를 봅니다.
+     * 쓰기 락으로 진행 중인 커밋/검색 갱신이 끝나기를 기다린 뒤 지우므로, 지운 상태가 커밋되거나 검색되지 않습니다.
+     */
+    public void beginRebuild() throws IOException {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            writer.deleteAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishRebuild() throws IOException {
+        lock.writeLock().lock();
+        try {
+            writer.commit();
+            dirty.set(false);
+            uncommitted.clear();
+            searcherManager.maybeRefresh();
+        } finally {
+            rebuilding = false;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재색인 실패 시 마지막 커밋 상태로 되돌리고, 그 뒤에 index() 로 들어온 문서는 다시 색인합니다.
+     */
+    public void abortRebuild() throws IOException {
+        lock.writeLock().lock();
+        try {
+            searcherManager.close();
+            writer.rollback();
+            openWriter();
+            for (ArticleDocument document : uncommitted.values()) {
+                writer.updateDocument(new Term(F_UID, document.uid()), toLuceneDocument(document));
+            }
+            dirty.set(!uncommitted.isEmpty());
+            searcherManager.maybeRefresh();
+        } finally {
+            rebuilding = false;
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    private Query buildQuery(ArticleSearchRequest request) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        if (request.getQuery() == null || request.getQuery().isBlank()) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            builder.add(parseUserQuery(request.getQuery()), BooleanClause.Occur.MUST);
+        }
+
+        if (request.getSource() != null) {
+            builder.add(new TermQuery(new Term(F_SOURCE, request.getSource().name())), BooleanClause.Occur.FILTER);
+        }
+        if (request.getMedia() != null && !request.getMedia().isBlank()) {
+            builder.add(new TermQuery(new Term(F_MEDIA, request.getMedia())), BooleanClause.Occur.FILTER);
+        }
+        if (request.getCategory() != null && !request.getCategory().isBlank()) {
+            builder.add(new TermQuery(new Term(F_CATEGORY, request.getCategory())), BooleanClause.Occur.FILTER);
+        }
+        if (request.getFrom() != null || request.getTo() != null) {
+            long from = request.getFrom() != null ? toEpochMillis(request.getFrom()) : Long.MIN_VALUE;
+            long to = request.getTo() != null ? toEpochMillis(request.getTo()) - 1 : Long.MAX_VALUE;
+            builder.add(LongPoint.newRangeQuery(F_PUBLISHED, from, to), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Query parseUserQuery(String userQuery) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, analyzer, FIELD_BOOSTS);
+        try {
+            return parser.parse(userQuery);
+        } catch (ParseException e) {
+            // 문법 오류가 있는 검색어는 특수문자를 이스케이프해 일반 키워드로 검색
+            try {
+                return parser.parse(QueryParserBase.escape(userQuery));
+            } catch (ParseException ex) {
+                throw new IllegalArgumentException("검색어를 해석할 수 없습니다: " + userQuery, ex);
+            }
+        }
+    }
+
+    private static Document toLuceneDocument(ArticleDocument article) {
+        Document doc = new Document();
+        doc.add(new StringField(F_UID, article.uid(), Field.Store.NO));
+        doc.add(new StringField(F_SOURCE, article.getSource().name(), Field.Store.YES));
+        doc.add(new StoredField(F_ID, article.getId()));
+        if (article.getUrl() != null) doc.add(new StoredField(F_URL, article.getUrl()));
+        if (article.getTitle() != null) doc.add(new StoredField(F_TITLE, article.getTitle()));
+        if (article.getMedia() != null) doc.add(new StringField(F_MEDIA, article.getMedia(), Field.Store.YES));
+        if (article.getCategory() != null) doc.add(new StringField(F_CATEGORY, article.getCategory(), Field.Store.YES));
+
+        if (article.getPublishedAt() != null) {
+            long publishedAt = toEpochMillis(article.getPublishedAt());
+            doc.add(new LongPoint(F_PUBLISHED, publishedAt));
+            doc.add(new NumericDocValuesField(F_PUBLISHED, publishedAt));
+            doc.add(new StoredField(F_PUBLISHED, publishedAt));
+        }
+
+        boolean english = article.getSource() == ArticleSource.CNN;
+        if (article.getTitle() != null) {
+            doc.add(new TextField(english ? F_TITLE_EN : F_TITLE_KO, article.getTitle(), Field.Store.NO));
+        }
+        if (article.getBody() != null) {
+            doc.add(new TextField(english ? F_BODY_EN : F_BODY_KO, article.getBody(), Field.Store.NO));
+        }
+        return doc;
+    }
+
+    private static ArticleSearchHit toHit(Document doc, float score) {
+        IndexableField published = doc.getField(F_PUBLISHED);
+        LocalDateTime publishedAt = published != null
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(published.numericValue().longValue()), ZoneOffset.UTC)
+                : null;
+
+        return new ArticleSearchHit(
+                ArticleSource.valueOf(doc.get(F_SOURCE)),
+                doc.getField(F_ID).numericValue().longValue(),
+                doc.get(F_URL),
+                doc.get(F_TITLE),
+                doc.get(F_MEDIA),
+                doc.get(F_CATEGORY),
+                publishedAt,
+                score
+        );
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,122 @@
+package com.juca.crawler.search;
+
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.repository.CrawledNewsArticleRepository;
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * DB 전체를 스트리밍으로 읽어 검색 인덱스를 다시 만듭니다.
+ * 본문 컬럼만 DTO 로 읽어오므로 영속성 컨텍스트에 엔티티가 쌓이지 않고, 힙 사용량은 배치 크기로 제한됩니다.
+ */
+@Service
+public class ArticleSearchIndexRebuilder {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final CnnArticleRepository cnnArticleRepository;
+    private final CrawledNewsArticleRepository crawledNewsArticleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "search-index-rebuild"));
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ArticleSearchIndexRebuilder(ArticleSearchIndex articleSearchIndex,
+                                       CnnArticleRepository cnnArticleRepository,
+                                       CrawledNewsArticleRepository crawledNewsArticleRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.articleSearchIndex = articleSearchIndex;
+        this.cnnArticleRepository = cnnArticleRepository;
+        this.crawledNewsArticleRepository = crawledNewsArticleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 백그라운드에서 재색인을 시작합니다.
+     * @return 이미 재색인이 진행 중이면 false
+     */
+    public boolean rebuildAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                rebuild();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        try {
+            articleSearchIndex.beginRebuild();
+            Long indexed = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<ArticleDocument> cnn = cnnArticleRepository.streamIndexDocuments()) {
+                    count += indexInBatches(cnn);
+                }
+                try (Stream<ArticleDocument> naver = crawledNewsArticleRepository.streamIndexDocuments()) {
+                    count += indexInBatches(naver);
+                }
+                return count;
+            });
+            articleSearchIndex.finishRebuild();
+            LogUtil.logInfo("검색 인덱스 재색인 완료: " + indexed + "건, " + (System.currentTimeMillis() - startTime) + "ms");
+        } catch (Exception e) {
+            LogUtil.logError("검색 인덱스 재색인 실패: " + e.getMessage(), e);
+            try {
+                articleSearchIndex.abortRebuild();
+            } catch (IOException ex) {
+                LogUtil.logError("검색 인덱스 롤백 실패: " + ex.getMessage(), ex);
+            }
+        }
+    }
+
+    private long indexInBatches(Stream<ArticleDocument> documents) {
+        long count = 0;
+        List<ArticleDocument> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<ArticleDocument> iterator = documents.iterator();
+        try {
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == BATCH_SIZE) {
+                    articleSearchIndex.indexForRebuild(batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                articleSearchIndex.indexForRebuild(batch);
+                count += batch.size();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("재색인 중 인덱스 쓰기 실패", e);
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,22 @@
+package com.juca.crawler.search;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 조건
+ */
+@Getter
+@Setter
+public class ArticleSearchRequest {
+    private String query;
+    private ArticleSource source;
+    private String media;
+    private String category;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private boolean latestFirst;
+    private int size = 20;
+}
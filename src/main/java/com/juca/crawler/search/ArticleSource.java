@@ -0,0 +1,9 @@
+package com.juca.crawler.search;
+
+/**
+ * 검색 인덱스에 들어가는 기사 출처
+ */
+public enum ArticleSource {
+    CNN,
+    NAVER
+}
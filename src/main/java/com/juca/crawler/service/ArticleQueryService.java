@@ -0,0 +1,24 @@
+package com.juca.crawler.service;
+
+import com.juca.crawler.dto.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArticleQueryService {
+
+    KeysetPage<CnnArticleSummary> findCnnArticles(LocalDateTime from, LocalDateTime to, String cursor, int size);
+    KeysetPage<CrawledNewsArticleSummary> findNewsArticles(String media, String category,
+                                                           LocalDateTime publishedFrom, LocalDateTime publishedTo,
+                                                           LocalDateTime crawledFrom, LocalDateTime crawledTo,
+                                                           String cursor, int size);
+    KeysetPage<CrawledPageSummary> findCrawledPages(String domain, LocalDateTime from, LocalDateTime to, String cursor, int size);
+
+    Optional<ArticleBodyDto> findCnnArticleBody(Long id, boolean korean);
+    Optional<ArticleBodyDto> findNewsArticleBody(Long id, boolean html);
+    Optional<ArticleBodyDto> findCrawledPageBody(Long id);
+
+    List<PageVersionSummary> findPageVersions(Long pageId);
+    Optional<ArticleBodyDto> findPageVersionBody(Long pageId, int version);
+}
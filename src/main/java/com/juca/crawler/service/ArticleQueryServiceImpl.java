@@ -0,0 +1,116 @@
+package com.juca.crawler.service;
+
+import com.juca.crawler.dto.*;
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.repository.CrawledNewsArticleRepository;
+import com.juca.crawler.repository.CrawledPageRepository;
+import com.juca.crawler.version.PageVersionStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArticleQueryServiceImpl implements ArticleQueryService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final CnnArticleRepository cnnArticleRepository;
+    private final CrawledNewsArticleRepository crawledNewsArticleRepository;
+    private final CrawledPageRepository crawledPageRepository;
+    private final PageVersionStore pageVersionStore;
+
+    @Override
+    public KeysetPage<CnnArticleSummary> findCnnArticles(LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = clampSize(size);
+
+        List<CnnArticleSummary> rows = cnnArticleRepository.findSummaries(from, to,
+                cursorAt(after), cursorId(after), Limit.of(pageSize + 1));
+
+        return toPage(rows, pageSize, row -> new KeysetCursor(row.getPublishedAt(), row.getId()));
+    }
+
+    @Override
+    public KeysetPage<CrawledNewsArticleSummary> findNewsArticles(String media, String category,
+                                                                  LocalDateTime publishedFrom, LocalDateTime publishedTo,
+                                                                  LocalDateTime crawledFrom, LocalDateTime crawledTo,
+                                                                  String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = clampSize(size);
+
+        List<CrawledNewsArticleSummary> rows = crawledNewsArticleRepository.findSummaries(media, category,
+                publishedFrom, publishedTo, crawledFrom, crawledTo,
+                cursorAt(after), cursorId(after), Limit.of(pageSize + 1));
+
+        return toPage(rows, pageSize, row -> new KeysetCursor(row.getPublishedAt(), row.getId()));
+    }
+
+    @Override
+    public KeysetPage<CrawledPageSummary> findCrawledPages(String domain, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = clampSize(size);
+
+        List<CrawledPageSummary> rows = crawledPageRepository.findSummaries(domain, from, to,
+                cursorAt(after), cursorId(after), Limit.of(pageSize + 1));
+
+        return toPage(rows, pageSize, row -> new KeysetCursor(row.getCrawledAt(), row.getId()));
+    }
+
+    @Override
+    public Optional<ArticleBodyDto> findCnnArticleBody(Long id, boolean korean) {
+        Optional<String> body = korean ? cnnArticleRepository.findContentKrById(id) : cnnArticleRepository.findContentById(id);
+        return body.map(content -> new ArticleBodyDto(id, content));
+    }
+
+    @Override
+    public Optional<ArticleBodyDto> findNewsArticleBody(Long id, boolean html) {
+        Optional<String> body = html ? crawledNewsArticleRepository.findHtmlContentById(id) : crawledNewsArticleRepository.findArticleById(id);
+        return body.map(content -> new ArticleBodyDto(id, content));
+    }
+
+    @Override
+    public Optional<ArticleBodyDto> findCrawledPageBody(Long id) {
+        return crawledPageRepository.findHtmlContentById(id).map(content -> new ArticleBodyDto(id, content));
+    }
+
+    @Override
+    public List<PageVersionSummary> findPageVersions(Long pageId) {
+        return pageVersionStore.list(pageId);
+    }
+
+    @Override
+    public Optional<ArticleBodyDto> findPageVersionBody(Long pageId, int version) {
+        return pageVersionStore.reconstruct(pageId, version).map(content -> new ArticleBodyDto(pageId, content));
+    }
+
+    /**
+     * pageSize + 1 건을 조회해 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만듭니다.
+     */
+    private static <T> KeysetPage<T> toPage(List<T> rows, int pageSize, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new KeysetPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static LocalDateTime cursorAt(KeysetCursor cursor) {
+        return cursor == null ? null : cursor.getAt();
+    }
+
+    private static Long cursorId(KeysetCursor cursor) {
+        return cursor == null ? null : cursor.getId();
+    }
+}
@@ -0,0 +1,13 @@
+package com.juca.crawler.service;
+
+/**
+ * URL 한 건의 수집 결과
+ * SUCCESS: 저장까지 완료(또는 이미 수집됨), FAILED: 실패 기록됨, DEFERRED: 호스트 차단 등으로 시도하지 않음,
+ * SKIPPED: robots.txt 등 수집 정책상 요청하지 않음
+ */
+public enum CrawlOutcome {
+    SUCCESS,
+    FAILED,
+    DEFERRED,
+    SKIPPED
+}
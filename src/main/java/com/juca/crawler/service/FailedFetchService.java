@@ -0,0 +1,17 @@
+package com.juca.crawler.service;
+
+import com.juca.crawler.domain.FailedFetch;
+import com.juca.crawler.domain.FailedFetchSource;
+import com.juca.crawler.fetch.FetchErrorClass;
+
+import java.util.List;
+
+public interface FailedFetchService {
+
+    void recordFailure(String url, FailedFetchSource source, FetchErrorClass errorClass, Integer statusCode,
+                       String message, Integer crawlDepth, Long parentPageId);
+    List<FailedFetch> claimDue(int batchSize);
+    void resolve(FailedFetch failedFetch);
+    void defer(FailedFetch failedFetch, long retryAtEpochMs);
+
+}
@@ -0,0 +1,141 @@
+package com.juca.crawler.service;
+
+import com.juca.crawler.cluster.ClusterCoordinator;
+import com.juca.crawler.domain.FailedFetch;
+import com.juca.crawler.domain.FailedFetchSource;
+import com.juca.crawler.domain.FailedFetchStatus;
+import com.juca.crawler.fetch.FetchErrorClass;
+import com.juca.crawler.repository.FailedFetchRepository;
+import com.juca.crawler.util.LogUtil;
+import com.juca.crawler.util.MurmurHash3;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실패 요청 dead-letter queue
+ *
+ * 재시도 가능한 실패는 지수 백오프로 다음 재시도 시각을 정해 PENDING 으로 두고,
+ * 재시도 불가 실패이거나 최대 시도 횟수를 넘으면 PERMANENT 로 옮겨 재시도 대상에서 제외합니다.
+ * 재시도는 스케줄러가 claimDue() 로 기한이 된 항목을 배치 단위로 가져가 원래 수집 파이프라인으로 다시 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FailedFetchServiceImpl implements FailedFetchService {
+
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    // 선점 대상을 고를 때 다른 노드 소유 항목을 건너뛸 수 있도록 배치보다 넉넉히 조회
+    private static final int CANDIDATE_FACTOR = 4;
+
+    @Value("${crawler.dlq.max_attempts:6}")
+    int maxAttempts;
+
+    @Value("${crawler.dlq.base_backoff_ms:300000}")
+    long baseBackoffMs;
+
+    @Value("${crawler.dlq.max_backoff_ms:86400000}")
+    long maxBackoffMs;
+
+    // 선점한 항목을 처리하지 못하고 노드가 죽으면 이 시간 뒤 다시 재시도 대상이 됨
+    @Value("${crawler.dlq.claim_ms:600000}")
+    long claimMs;
+
+    private final FailedFetchRepository failedFetchRepository;
+    private final ClusterCoordinator clusterCoordinator;
+
+    /**
+     * 수집 트랜잭션이 롤백되더라도 실패 기록은 남도록 별도 트랜잭션으로 저장합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(String url, FailedFetchSource source, FetchErrorClass errorClass, Integer statusCode,
+                              String message, Integer crawlDepth, Long parentPageId) {
+        LocalDateTime now = LocalDateTime.now();
+        long urlHash = MurmurHash3.hash64(url);
+
+        FailedFetch failedFetch = failedFetchRepository.findByUrlHash(urlHash)
+                .orElseGet(() -> new FailedFetch(urlHash, url, source, crawlDepth, parentPageId, now));
+
+        int attempt = failedFetch.getAttemptCount() + 1;
+        LocalDateTime nextAttemptAt = errorClass.isRetryable() && attempt < maxAttempts
+                ? now.plusNanos(backoffMs(attempt) * 1_000_000L)
+                : null;
+
+        failedFetch.recordFailure(errorClass, statusCode, truncate(message), now, nextAttemptAt);
+        failedFetchRepository.save(failedFetch);
+
+        if (failedFetch.getStatus() == FailedFetchStatus.PERMANENT) {
+            LogUtil.logInfo("[DLQ] 영구 실패 처리: " + url + " - " + errorClass + ", 시도 " + attempt + "회");
+        }
+    }
+
+    /**
+     * 재시도 기한이 된 항목을 최대 batchSize 건 선점합니다. 이 노드가 소유하지 않은 호스트의 항목은 건너뜁니다.
+     */
+    @Override
+    public List<FailedFetch> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimUntil = now.plusNanos(claimMs * 1_000_000L);
+
+        List<FailedFetch> candidates = failedFetchRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                FailedFetchStatus.PENDING, now, Limit.of(batchSize * CANDIDATE_FACTOR));
+
+        List<FailedFetch> claimed = new ArrayList<>();
+        for (FailedFetch candidate : candidates) {
+            if (claimed.size() >= batchSize) {
+                break;
+            }
+            if (!clusterCoordinator.ownsUrl(candidate.getUrl())) {
+                continue;
+            }
+            if (failedFetchRepository.claim(candidate.getId(), candidate.getNextAttemptAt(), claimUntil) == 1) {
+                claimed.add(candidate);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 재시도에 성공한 항목은 큐에서 제거합니다.
+     */
+    @Override
+    @Transactional
+    public void resolve(FailedFetch failedFetch) {
+        failedFetchRepository.deleteById(failedFetch.getId());
+    }
+
+    /**
+     * 시도하지 못한 항목(호스트 차단 등)은 시도 횟수를 늘리지 않고 재시도 시각만 미룹니다.
+     */
+    @Override
+    public void defer(FailedFetch failedFetch, long retryAtEpochMs) {
+        LocalDateTime retryAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(retryAtEpochMs), ZoneId.systemDefault());
+        failedFetchRepository.reschedule(failedFetch.getId(), retryAt);
+    }
+
+    /**
+     * 지터를 준 지수 백오프: [base/2, min(max, base * 2^(attempt-1))] 구간의 임의 값
+     */
+    private long backoffMs(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(Math.min(ceiling, baseBackoffMs / 2), ceiling + 1);
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= ERROR_MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, ERROR_MESSAGE_MAX_LENGTH);
+    }
+}
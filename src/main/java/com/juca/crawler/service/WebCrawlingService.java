@@ -1,10 +1,11 @@
 package com.juca.crawler.service;
 
+import com.juca.crawler.domain.FailedFetch;
+
 public interface WebCrawlingService {
 
     void startWebCrawling(String startUrl, int maxDepth);
     void stockPriceCrawling(String startUrl, int maxDepth);
-    void cnnArticleCrawling(String startUrl, int maxDepth);
-    void naverNewsCrawling(String url);
+    CrawlOutcome retryFailedFetch(FailedFetch failedFetch);
 
 }
@@ -1,27 +1,36 @@
 package com.juca.crawler.service;
 
 import com.juca.crawler.domain.*;
+import com.juca.crawler.cluster.ClusterCoordinator;
 import com.juca.crawler.dto.*;
+import com.juca.crawler.fetch.FetchErrorClass;
+import com.juca.crawler.fetch.FetchErrorClassifier;
+import com.juca.crawler.fetch.FetchException;
+import com.juca.crawler.fetch.HostCircuitBreaker;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.frontier.CrawlFrontier;
+import com.juca.crawler.frontier.CrawlFrontierFactory;
+import com.juca.crawler.frontier.CrawlTask;
+import com.juca.crawler.recrawl.RecrawlPlanner;
 import com.juca.crawler.repository.*;
+import com.juca.crawler.robots.RobotsCache;
+import com.juca.crawler.source.CrawlEngine;
+import com.juca.crawler.url.UrlCanonicalizer;
 import com.juca.crawler.util.LogUtil;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+import com.juca.crawler.util.UrlFingerprintSet;
+import com.juca.crawler.util.UrlUtil;
+import com.juca.crawler.version.PageVersionStore;
 import lombok.RequiredArgsConstructor;
 import org.jsoup.Connection;
-import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -30,177 +39,431 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class WebCrawlingServiceImpl implements WebCrawlingService {
 
-    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/100.0.4896.75 Safari/537.36";
-    private static final int TIME_OUT = 10000;
     private static final String REFERRER = "https://www.naver.com";
 
-    private static final String CNN_REFERRER = "https://edition.cnn.com/";
-    private static final Random random = new Random();  // 랜덤 딜레이
-    private static final long MIN_DELAY_MS = 1000; // 최소 1초
-    private static final long MAX_DELAY_MS = 5000; // 최대 5초
+    // 서킷이 열린 호스트의 frontier 를 이보다 오래 붙잡고 있어야 하면 크롤링을 멈추고 다음 실행에서 재개
+    private static final long MAX_PARK_MS = 60000;
+    private static final long HALF_OPEN_WAIT_MS = 1000;
+    private static final int ERROR_MESSAGE_MAX_LENGTH = 1000;
+
+    // 크롤링 1회에 frontier 에 다시 넣을 재방문 대상 최대 건수
+    @Value("${crawler.recrawl.batch_size:200}")
+    int recrawlBatchSize;
 
     private final CrawledPageRepository crawledPageRepository;
     private final ExtractedLinkRepository extractedLinkRepository;
     private final StockPriceRepository stockPriceRepository;
-    private final CrawledNewsArticleRepository crawledNewsArticleRepository;
-    private final CnnArticleRepository cnnArticleRepository;
-
-    // 크롤링 작업 단위를 위한 내부 클래스
-    @Getter
-    @AllArgsConstructor
-    private static final class CrawlTask {
-        String url;
-        int depth;
-        Long parentPageId;
-    }
+    private final CrawlFrontierFactory crawlFrontierFactory;
+    private final ClusterCoordinator clusterCoordinator;
+    private final PageFetcher pageFetcher;
+    private final HostCircuitBreaker hostCircuitBreaker;
+    private final FailedFetchService failedFetchService;
+    private final RobotsCache robotsCache;
+    private final UrlCanonicalizer urlCanonicalizer;
+    private final RecrawlPlanner recrawlPlanner;
+    private final CrawlEngine crawlEngine;
+    private final PageVersionStore pageVersionStore;
 
     @Override
-    public void startWebCrawling(String startUrl, int maxDepth) {
-        Queue<CrawlTask> crawlQueue = new LinkedList<>();
-        Set<String> visitedUrls = new HashSet<>();
+    public void startWebCrawling(String rawStartUrl, int maxDepth) {
+        String startUrl = urlCanonicalizer.canonicalize(rawStartUrl);
+        if (startUrl == null) {
+            LogUtil.logError("크롤링 시작 URL 해석 실패: " + rawStartUrl, null);
+            return;
+        }
 
-        crawlQueue.add(new CrawlTask(startUrl, 0, null));
-        visitedUrls.add(startUrl);
+        // 다른 노드가 소유한 호스트는 크롤링하지 않음
+        if (!clusterCoordinator.ownsUrl(startUrl)) {
+            return;
+        }
 
-        while (!crawlQueue.isEmpty()) {
-            CrawlTask currentTask = crawlQueue.poll();
+        // 디스크 frontier: 이전 크롤링이 중단되었다면 마지막 체크포인트부터 이어서 진행
+        CrawlFrontier frontier = crawlFrontierFactory.open(startUrl);
+
+        if (frontier.isEmpty()) {
+            frontier.offer(new CrawlTask(startUrl, 0, null));
+        } else {
+            LogUtil.logInfo("중단된 크롤링 재개: " + startUrl + " - 대기 " + frontier.size() + "건");
+        }
+
+        // 재방문 기한이 된 페이지를 frontier 에 다시 넣음 (이미 저장된 페이지라도 이 URL 들은 다시 요청)
+        Set<String> recrawlUrls = seedRecrawls(startUrl, frontier);
+
+
+        CrawlTask parked = null;
+        CrawlTask currentTask;
+        while ((currentTask = parked != null ? parked : frontier.poll()) != null) {
+            parked = null;
             String currentUrl = currentTask.getUrl();
-            int currentDepth = currentTask.getDepth();
-            Long currentParentId = currentTask.getParentPageId();
+
+            // 크롤링 도중 파티션 소유권을 잃으면 중단 (frontier 는 남겨두고 소유권을 되찾으면 재개)
+            if (!clusterCoordinator.ownsUrl(currentUrl)) {
+                frontier.close();
+                return;
+            }
 
             // 최대 깊이 도달 체크
-            if (currentDepth > maxDepth) {
+            if (currentTask.getDepth() > maxDepth) {
+                frontier.checkpoint();
                 continue;   // 다음 큐 아이템으로 넘어감
             }
 
-            // DB에 이미 존재하는지 확인
-            if (crawledPageRepository.findByUrl(currentUrl).isPresent()) {
+            // DB에 이미 존재하는지 확인 (재방문 대상은 제외)
+            CrawledPage existingPage = crawledPageRepository.findByUrl(currentUrl).orElse(null);
+            if (existingPage != null && !recrawlUrls.contains(currentUrl)) {
+                frontier.checkpoint();
                 continue;
             }
 
-            CrawledPageDto crawledPageDto = new CrawledPageDto();
-            crawledPageDto.setUrl(currentUrl);
-            crawledPageDto.setCrawlDepth(currentDepth);
-            crawledPageDto.setParentPageId(currentParentId);
-            crawledPageDto.setCrawledAt(LocalDateTime.now());
+            if (crawlPage(currentTask, frontier, existingPage) == CrawlOutcome.DEFERRED) {
+                // 서킷이 열린 호스트: 현재 작업은 소비하지 않고 frontier 를 멈춰둔다
+                if (!parkUntilRetry(UrlUtil.hostOf(currentUrl))) {
+                    // 호스트가 오래 차단되어 있으면 frontier 를 남겨두고 다음 실행에서 재개
+                    LogUtil.logInfo("호스트 차단으로 크롤링 중단: " + currentUrl + " - 대기 " + frontier.size() + "건");
+                    frontier.close();
+                    return;
+                }
+                parked = currentTask;
+                continue;
+            }
 
-            String domain = getDomainFromUrl(currentUrl);
-            crawledPageDto.setDomain(domain);
+            // 현재 페이지와 자식 링크가 모두 기록된 뒤 소비 위치를 체크포인트
+            // (요청 간 딜레이는 PageFetcher 가 호스트 상태에 맞춰 적용)
+            recrawlUrls.remove(currentUrl);
+            frontier.checkpoint();
 
-            Document doc = null;
-            Long newPageId = null;
+            if (Thread.currentThread().isInterrupted()) {
+                // 종료 요청 시 frontier 를 남겨두고 다음 실행에서 재개
+                frontier.close();
+                return;
+            }
+        }
 
-            try {
-                // Jsoup Connection 및 Response 획득
-                Connection.Response response = Jsoup.connect(currentUrl)
-                        .userAgent(USER_AGENT)
-                        .referrer(REFERRER)
-                        .timeout(TIME_OUT)
-                        .ignoreHttpErrors(true)
-                        .ignoreContentType(true)
-                        .execute();
+        // 크롤링 완료: 다음 실행은 처음부터 새로 시작
+        frontier.destroy();
+    }
 
-                int statusCode = response.statusCode();
-                String contentType = response.contentType();
-                String htmlContent = null;
-                String pageTitle = null;
-                String metaDescription = null;
+    /**
+     * 재방문 기한이 된 페이지를 선점해 frontier 에 추가합니다.
+     * 시작 URL 은 재방문 기록이 없더라도(이 기능 이전에 저장된 페이지) 기한이 된 것으로 봅니다.
+     * @return 이번 크롤링에서 다시 요청할 URL
+     */
+    private Set<String> seedRecrawls(String startUrl, CrawlFrontier frontier) {
+        Set<String> recrawlUrls = new HashSet<>();
+        if (recrawlPlanner.isDue(startUrl)) {
+            recrawlUrls.add(startUrl);
+            frontier.offer(new CrawlTask(startUrl, 0, null));
+        }
+        for (RecrawlState state : recrawlPlanner.claimDue(UrlUtil.domainOf(startUrl), recrawlBatchSize)) {
+            recrawlUrls.add(state.getUrl());
+            int depth = state.getCrawlDepth() != null ? state.getCrawlDepth() : 0;
+            frontier.offer(new CrawlTask(state.getUrl(), depth, null));
+        }
+        if (recrawlUrls.size() > 1) {
+            LogUtil.logInfo("재방문 대상 추가: " + startUrl + " - " + recrawlUrls.size() + "건");
+        }
+        return recrawlUrls;
+    }
 
-                crawledPageDto.setStatusCode(statusCode);
-                crawledPageDto.setContentType(contentType);
+    /**
+     * 페이지 한 건을 요청/파싱/저장하고, 추출한 동일 도메인 링크를 frontier 에 추가합니다.
+     * 재시도 가능한 요청 실패는 페이지로 저장하지 않고 dead-letter queue 에 기록합니다.
+     * 이미 저장된 페이지를 재방문한 경우 본문이 바뀌었을 때만 내용을 갱신하고 새 링크를 추출합니다.
+     * @param frontier     자식 링크를 추가할 frontier, null 이면 링크만 저장하고 큐에는 추가하지 않음
+     * @param existingPage 재방문하는 페이지, 처음 방문이면 null
+     */
+    private CrawlOutcome crawlPage(CrawlTask task, CrawlFrontier frontier, CrawledPage existingPage) {
+        String currentUrl = task.getUrl();
+        int currentDepth = task.getDepth();
+        Long currentParentId = task.getParentPageId();
 
-                // Content-Type이 text/html이고 statusCode = 200일 경우에만
-                if (contentType != null && contentType.startsWith("text/html") && statusCode == 200) {
-                    htmlContent = response.body();
-                    doc = Jsoup.parse(htmlContent, currentUrl); // base uri 설정(상대경로 링크 처리)
-                    pageTitle = doc.title();
+        CrawledPageDto crawledPageDto = new CrawledPageDto();
+        crawledPageDto.setUrl(currentUrl);
+        crawledPageDto.setCrawlDepth(currentDepth);
+        crawledPageDto.setParentPageId(currentParentId);
+        crawledPageDto.setCrawledAt(LocalDateTime.now());
 
-                    // og:description, description 메타 태그 모두 확인
-                    Element descriptionMeta = doc.select("meta[property=og:description]").first();
-                    if (descriptionMeta != null) metaDescription = descriptionMeta.attr("content");
+        String domain = UrlUtil.domainOf(currentUrl);
+        crawledPageDto.setDomain(domain);
 
-                    crawledPageDto.setHtmlContent(htmlContent);
-                    crawledPageDto.setTitle(pageTitle);
-                    crawledPageDto.setMetaDescription(metaDescription);
-                } else {
-                    String errorMessage = "Non-HTML content or non-200 status: " + statusCode + ", Type: " + contentType;
-                    crawledPageDto.setErrorMessage(errorMessage);
-                }
+        Document doc = null;
+        Long newPageId = null;
 
-                // 부모 페이지 엔티티 조회 (있을 경우)
-                CrawledPage parentPage = null;
+        try {
+            // 서킷이 열린 호스트는 요청하지 않음
+            if (hostCircuitBreaker.isOpen(UrlUtil.hostOf(currentUrl))) {
+                return CrawlOutcome.DEFERRED;
+            }
 
-                if (currentParentId != null) {
-                    parentPage = crawledPageRepository.findById(currentParentId).orElse(null);
+            // robots.txt 에서 금지한 URL 은 요청하지 않음 (robots.txt 를 받지 못한 경우는 나중에 재시도)
+            if (!robotsCache.isAllowed(currentUrl)) {
+                if (robotsCache.isUnavailable(currentUrl)) {
+                    failedFetchService.recordFailure(currentUrl, FailedFetchSource.WEB_PAGE, FetchErrorClass.CONNECTION, null,
+                            "robots.txt 요청 실패", currentDepth, currentParentId);
+                    return CrawlOutcome.FAILED;
                 }
+                return CrawlOutcome.SKIPPED;
+            }
 
-                // DTO를 Entity로 변환하여 저장
-                CrawledPage crawledPage = CrawledPage.dtoToEntity(crawledPageDto, parentPage);
-                crawledPageRepository.save(crawledPage);
-
-                // 저장된 페이지의 ID를 획득하여 자식 링크의 부모 ID로 사용
-                newPageId = crawledPage.getId();
-
-                // HTML 파싱이 성공했고, 새로운 페이지 ID가 부여된 경우에만 링크 추출 및 저장
-                if (doc != null && newPageId != null) {
-                    Elements links = doc.select("a[href]");
-                    Set<String> extractedLinksOnCurrentPage = new HashSet<>(); // ★★★ 현재 페이지에서 추출된 링크 URL들을 담을 Set ★★★
-
-                    for (Element link : links) {
-                        String absUrl = link.attr("abs:href");
-                        String linkText = link.text().trim();
-
-                        // 유효하지 않은 링크 스킵
-                        if (absUrl.isEmpty() || absUrl.startsWith("#") || absUrl.startsWith("mailto:") || absUrl.startsWith("tel:") || absUrl.startsWith("javascript:")) {
-                            continue;
-                        }
-
-                        // ★★★ 현재 페이지에서 이미 추출된 동일 URL이라면 스킵 ★★★
-                        if (!extractedLinksOnCurrentPage.add(absUrl)) {
-                            continue;
-                        }
-
-                        // ExtractedLinkDto 생성 및 엔티티 저장
-                        ExtractedLinkDto extractedLinkDto = new ExtractedLinkDto();
-                        extractedLinkDto.setSourcePageId(newPageId);    // 부모 페이지 ID
-                        extractedLinkDto.setLinkUrl(absUrl);
-                        extractedLinkDto.setLinkText(linkText);
-                        extractedLinkDto.setLinkType(determineLinkType(absUrl, domain));
-                        extractedLinkDto.setCrawledAt(LocalDateTime.now());
-
-                        // ExtractedLink 엔티티로 변환 및 저장
-                        ExtractedLink extractedLink = ExtractedLink.dtoToEntity(extractedLinkDto, crawledPage);
-                        extractedLinkRepository.save(extractedLink);
-
-                        // 동일 도메인 내의 링크만 큐에 추가(최대 깊이 초과하지 않고, 이미 방문했거나 DB에 없는 경우)
-                        String linkDomain = getDomainFromUrl(absUrl);
-                        if (domain != null && domain.equals(linkDomain) && !visitedUrls.contains(absUrl)) {
-                            if (crawledPageRepository.findByUrl(absUrl).isEmpty()) {
-                                visitedUrls.add(absUrl);
-                                crawlQueue.add(new CrawlTask(absUrl, currentDepth + 1, newPageId));
-                            }
-                        }
-                    }
+            // Jsoup Connection 및 Response 획득
+            Connection.Response response = pageFetcher.fetch(currentUrl, REFERRER);
+
+            // 리다이렉트된 경우 최종 URL 로 저장하고, 이후 같은 URL 로의 링크는 요청 없이 최종 URL 로 해석
+            String finalUrl = urlCanonicalizer.recordRedirect(currentUrl, response.url().toString());
+            if (finalUrl != null && !finalUrl.equals(currentUrl)) {
+                // 옮겨간 URL 은 더 이상 재방문하지 않고 최종 URL 을 새 페이지로 다룸
+                recrawlPlanner.forget(currentUrl);
+                existingPage = null;
+                if (crawledPageRepository.findByUrl(finalUrl).isPresent()) {
+                    return CrawlOutcome.SUCCESS;
                 }
-            } catch (Exception e) {
-                // 예외 발생 시 crawledPageDto에 에러 메시지 설정
-                crawledPageDto.setErrorMessage(e.getMessage());
-            } finally {
-                // ★★★ 이 부분이 중요! 예외 발생 여부와 관계없이 딜레이를 적용합니다. ★★★
-                try {
-                    long delay = 1000 + (long) (Math.random() * 3000); // 1초 ~ 4초 랜덤 딜레이
-                    Thread.sleep(delay);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt(); // 인터럽트 상태 복원
+                currentUrl = finalUrl;
+                domain = UrlUtil.domainOf(finalUrl);
+                crawledPageDto.setUrl(finalUrl);
+                crawledPageDto.setDomain(domain);
+            }
+
+            int statusCode = response.statusCode();
+            String contentType = response.contentType();
+            String htmlContent = null;
+            String pageTitle = null;
+            String metaDescription = null;
+
+            // 429/5xx 는 일시적인 실패이므로 에러 페이지로 저장하지 않고 재시도 대상으로 기록
+            FetchErrorClass statusError = FetchErrorClassifier.classify(statusCode);
+            if (statusError != null && statusError.isRetryable()) {
+                failedFetchService.recordFailure(currentUrl, FailedFetchSource.WEB_PAGE, statusError, statusCode,
+                        "HTTP " + statusCode, currentDepth, currentParentId);
+                return CrawlOutcome.FAILED;
+            }
+
+            crawledPageDto.setStatusCode(statusCode);
+            crawledPageDto.setContentType(contentType);
+
+            // Content-Type이 text/html이고 statusCode = 200일 경우에만
+            if (contentType != null && contentType.startsWith("text/html") && statusCode == 200) {
+                htmlContent = response.body();
+                doc = Jsoup.parse(htmlContent, currentUrl); // base uri 설정(상대경로 링크 처리)
+                pageTitle = doc.title();
+
+                // og:description, description 메타 태그 모두 확인
+                Element descriptionMeta = doc.select("meta[property=og:description]").first();
+                if (descriptionMeta != null) metaDescription = descriptionMeta.attr("content");
+
+                crawledPageDto.setHtmlContent(htmlContent);
+                crawledPageDto.setTitle(pageTitle);
+                crawledPageDto.setMetaDescription(metaDescription);
+            } else {
+                String errorMessage = "Non-HTML content or non-200 status: " + statusCode + ", Type: " + contentType;
+                crawledPageDto.setErrorMessage(errorMessage);
+            }
+
+            if (existingPage != null) {
+                return revisitPage(existingPage, crawledPageDto, doc, frontier, currentDepth);
+            }
+
+            // 부모 페이지 엔티티 조회 (있을 경우)
+            CrawledPage parentPage = null;
+
+            if (currentParentId != null) {
+                parentPage = crawledPageRepository.findById(currentParentId).orElse(null);
+            }
+
+            // DTO를 Entity로 변환하여 저장
+            CrawledPage crawledPage = CrawledPage.dtoToEntity(crawledPageDto, parentPage);
+            crawledPageRepository.save(crawledPage);
+
+            // 저장된 페이지의 ID를 획득하여 자식 링크의 부모 ID로 사용
+            newPageId = crawledPage.getId();
+
+            // 본문 해시를 기록해 이후 변경 빈도에 맞춰 재방문
+            if (doc != null) {
+                recordVersion(crawledPage);
+                recrawlPlanner.observe(currentUrl, RecrawlPlanner.contentHashOf(doc.text()), currentDepth);
+            }
+
+            // HTML 파싱이 성공했고, 새로운 페이지 ID가 부여된 경우에만 링크 추출 및 저장
+            if (doc != null && newPageId != null) {
+                extractLinks(crawledPage, doc, frontier, currentDepth, new HashSet<>());
+            }
+            return CrawlOutcome.SUCCESS;
+        } catch (FetchException e) {
+            if (e.getErrorClass() == FetchErrorClass.CIRCUIT_OPEN) {
+                return CrawlOutcome.DEFERRED;
+            }
+            // 재시도까지 실패한 요청은 분류된 에러와 함께 dead-letter queue 에 기록
+            failedFetchService.recordFailure(currentUrl, FailedFetchSource.WEB_PAGE, e.getErrorClass(), null,
+                    e.getMessage(), currentDepth, currentParentId);
+            return CrawlOutcome.FAILED;
+        } catch (Exception e) {
+            // 예외 발생 시 crawledPageDto에 에러 메시지 설정 (재방문 페이지는 기존 기록 유지)
+            if (newPageId == null && existingPage == null) {
+                saveFailedPage(crawledPageDto, currentParentId, e.getMessage());
+            }
+            return CrawlOutcome.FAILED;
+        }
+    }
+
+    /**
+     * 재방문한 페이지를 처리합니다. 본문이 바뀐 경우에만 내용을 갱신하고, 이전에 없던 링크만 저장/추가합니다.
+     */
+    private CrawlOutcome revisitPage(CrawledPage existingPage, CrawledPageDto crawledPageDto, Document doc,
+                                     CrawlFrontier frontier, int currentDepth) {
+        String url = existingPage.getUrl();
+        if (doc == null) {
+            // 정상 HTML 이 아니면 이전 본문은 유지하고 재방문 간격만 늘림
+            existingPage.markRevisitFailed(crawledPageDto);
+            crawledPageRepository.save(existingPage);
+            recrawlPlanner.backOff(url);
+            return CrawlOutcome.SUCCESS;
+        }
+
+        if (!recrawlPlanner.observe(url, RecrawlPlanner.contentHashOf(doc.text()), currentDepth)) {
+            // 본문 텍스트가 같으면 저장된 본문을 그대로 두므로 이력에도 수집 시각만 남김
+            existingPage.markRevisited(crawledPageDto);
+            crawledPageRepository.save(existingPage);
+            recordVersion(existingPage);
+            return CrawlOutcome.SUCCESS;
+        }
+
+        existingPage.refresh(crawledPageDto);
+        crawledPageRepository.save(existingPage);
+        recordVersion(existingPage);
+        extractLinks(existingPage, doc, frontier, currentDepth,
+                extractedLinkRepository.findLinkUrlsBySourcePageId(existingPage.getId()));
+        return CrawlOutcome.SUCCESS;
+    }
+
+    private void recordVersion(CrawledPage page) {
+        recordVersion(page, page.getCrawledAt());
+    }
+
+    /**
+     * 페이지의 현재 본문을 버전 이력에 기록합니다. 이력 기록 실패는 수집 결과에 영향을 주지 않습니다.
+     */
+    private void recordVersion(CrawledPage page, LocalDateTime capturedAt) {
+        try {
+            pageVersionStore.record(page.getId(), page.getHtmlContent(), capturedAt);
+        } catch (Exception e) {
+            LogUtil.logError("페이지 버전 기록 중 에러 발생: " + page.getUrl() + " - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 페이지의 링크를 저장하고, 동일 도메인 링크를 frontier 에 추가합니다.
+     * @param knownLinks 이미 저장된 링크 URL (건너뜀)
+     */
+    private void extractLinks(CrawledPage crawledPage, Document doc, CrawlFrontier frontier, int currentDepth,
+                              Set<String> knownLinks) {
+        Long newPageId = crawledPage.getId();
+        String domain = crawledPage.getDomain();
+        Elements links = doc.select("a[href]");
+        Set<String> extractedLinksOnCurrentPage = new HashSet<>(knownLinks); // ★★★ 현재 페이지에서 추출된 링크 URL들을 담을 Set ★★★
+
+        for (Element link : links) {
+            String rawUrl = link.attr("abs:href");
+            String linkText = link.text().trim();
+
+            // 유효하지 않은 링크 스킵
+            if (rawUrl.isEmpty() || rawUrl.startsWith("#") || rawUrl.startsWith("mailto:") || rawUrl.startsWith("tel:") || rawUrl.startsWith("javascript:")) {
+                continue;
+            }
+
+            // 중복 확인, 링크 저장, frontier 방문 기록은 모두 정규화된 URL 로 수행
+            String absUrl = urlCanonicalizer.canonicalize(rawUrl);
+            if (absUrl == null) {
+                continue;
+            }
+
+            // ★★★ 현재 페이지에서 이미 추출된 동일 URL이라면 스킵 ★★★
+            if (!extractedLinksOnCurrentPage.add(absUrl)) {
+                continue;
+            }
+
+            // ExtractedLinkDto 생성 및 엔티티 저장
+            ExtractedLinkDto extractedLinkDto = new ExtractedLinkDto();
+            extractedLinkDto.setSourcePageId(newPageId);    // 부모 페이지 ID
+            extractedLinkDto.setLinkUrl(absUrl);
+            extractedLinkDto.setLinkText(linkText);
+            extractedLinkDto.setLinkType(UrlUtil.linkTypeOf(absUrl, domain));
+            extractedLinkDto.setCrawledAt(LocalDateTime.now());
+
+            // ExtractedLink 엔티티로 변환 및 저장
+            ExtractedLink extractedLink = ExtractedLink.dtoToEntity(extractedLinkDto, crawledPage);
+            extractedLinkRepository.save(extractedLink);
+
+            // 동일 도메인 내의 링크만 큐에 추가(최대 깊이 초과하지 않고, 이미 방문했거나 DB에 없는 경우)
+            String linkDomain = UrlUtil.domainOf(absUrl);
+            if (frontier != null && domain != null && domain.equals(linkDomain)) {
+                if (frontier.hasSeen(absUrl)) {
+                    // 여러 페이지에서 링크된 URL 일수록 먼저 방문하도록 유입 링크 수 반영
+                    frontier.recordInbound(absUrl);
+                } else if (crawledPageRepository.findByUrl(absUrl).isEmpty() && !robotsCache.isDisallowed(absUrl)) {
+                    // robots.txt 금지 URL 은 frontier 에 넣지 않음 (같은 도메인이므로 캐시된 규칙으로 판정)
+                    frontier.offer(new CrawlTask(absUrl, currentDepth + 1, newPageId));
                 }
             }
         }
     }
 
+    /**
+     * 서킷이 열린 호스트의 시험 요청이 허용될 때까지 대기합니다.
+     * @return 대기 후 이어서 크롤링할 수 있으면 true, 대기 시간이 너무 길거나 인터럽트되면 false
+     */
+    private boolean parkUntilRetry(String host) {
+        long retryAt = hostCircuitBreaker.retryAt(host);
+        // retryAt == 0 이면 HALF_OPEN 시험 요청이 진행 중이므로 결과를 잠시 기다림
+        long waitMs = retryAt > 0 ? retryAt - System.currentTimeMillis() : HALF_OPEN_WAIT_MS;
+        if (waitMs > MAX_PARK_MS) {
+            return false;
+        }
+        try {
+            Thread.sleep(Math.max(0, waitMs));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void saveFailedPage(CrawledPageDto crawledPageDto, Long parentId, String errorMessage) {
+        try {
+            if (errorMessage != null && errorMessage.length() > ERROR_MESSAGE_MAX_LENGTH) {
+                errorMessage = errorMessage.substring(0, ERROR_MESSAGE_MAX_LENGTH);
+            }
+            crawledPageDto.setErrorMessage(errorMessage);
+            CrawledPage parentPage = parentId != null ? crawledPageRepository.findById(parentId).orElse(null) : null;
+            crawledPageRepository.save(CrawledPage.dtoToEntity(crawledPageDto, parentPage));
+        } catch (Exception e) {
+            LogUtil.logError("실패 페이지 기록 중 에러 발생: " + crawledPageDto.getUrl() + " - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * dead-letter queue 항목을 원래 수집 파이프라인으로 다시 처리합니다.
+     * 다시 실패하면 파이프라인이 실패 기록(시도 횟수 증가)을 갱신합니다.
+     */
+    @Override
+    public CrawlOutcome retryFailedFetch(FailedFetch failedFetch) {
+        String url = failedFetch.getUrl();
+        return switch (failedFetch.getSource()) {
+            case WEB_PAGE -> {
+                if (crawledPageRepository.findByUrl(url).isPresent()) {
+                    yield CrawlOutcome.SUCCESS;
+                }
+                // 단건 재시도이므로 자식 링크는 저장만 하고 frontier 에는 추가하지 않음
+                int depth = failedFetch.getCrawlDepth() != null ? failedFetch.getCrawlDepth() : 0;
+                yield crawlPage(new CrawlTask(url, depth, failedFetch.getParentPageId()), null, null);
+            }
+            // 사이트별 수집은 CrawlSource 로 옮겨졌으므로 같은 추출/저장 경로로 다시 처리
+            case CNN_ARTICLE, NAVER_ARTICLE -> crawlEngine.retry(failedFetch.getSource(), url);
+        };
+    }
+
     @Override
     public void stockPriceCrawling(String startUrl, int maxDepth) {
         Queue<CrawlTask> crawlQueue = new LinkedList<>();
-        Set<String> visitedUrls = new HashSet<>();
+        UrlFingerprintSet visitedUrls = new UrlFingerprintSet();
 
         crawlQueue.add(new CrawlTask(startUrl, 0, null));
         visitedUrls.add(startUrl);
@@ -219,13 +482,7 @@ public class WebCrawlingServiceImpl implements WebCrawlingService {
             Document doc = null;
 
             try {
-                Connection.Response response = Jsoup.connect(currentUrl)
-                        .userAgent(USER_AGENT)
-                        .referrer(REFERRER)
-                        .timeout(TIME_OUT)
-                        .ignoreContentType(true)
-                        .ignoreHttpErrors(true)
-                        .execute();
+                Connection.Response response = pageFetcher.fetch(currentUrl, REFERRER);
 
                 int statusCode = response.statusCode();
                 String contentType = response.contentType();
@@ -260,146 +517,6 @@ public class WebCrawlingServiceImpl implements WebCrawlingService {
         }
     }
 
-    /**
-     *
-     * @param url 네이버 뉴스 URL
-     */
-    @Override
-    @Transactional
-    public void naverNewsCrawling(String url) {
-
-        List<CrawledNewsArticle> articles = new ArrayList<>();
-        Set<String> visitedArticle = new HashSet<>();
-        String htmlContent;
-        Document doc;
-        int statusCode;
-        String contentType;
-
-        try {
-            Connection.Response response = Jsoup.connect(url).userAgent(USER_AGENT)
-                    .referrer(REFERRER)
-                    .timeout(TIME_OUT)
-                    .ignoreHttpErrors(true)
-                    .ignoreContentType(true)
-                    .execute();
-
-            statusCode = response.statusCode();
-            contentType = response.contentType();
-
-            // Content-Type이 text/html이고 statusCode = 200일 경우에만
-            if (contentType != null && contentType.startsWith("text/html") && statusCode == 200) {
-                htmlContent = response.body();
-                doc = Jsoup.parse(htmlContent);
-
-                Elements articleLinks = doc.select("a._NLOG_IMPRESSION");
-
-                for (Element link : articleLinks) {
-                    String articleUrl = link.attr("href");
-
-                    if (crawledNewsArticleRepository.findByArticleUrl(articleUrl).isPresent()) {
-                        continue;
-                    }
-
-                    if (visitedArticle.contains(articleUrl)) {
-                        continue;
-                    }
-
-                    if (articleUrl.startsWith("http")) {
-                        crawlArticle(articleUrl, articles);
-                        visitedArticle.add(articleUrl);
-                    }
-                }
-            }
-            crawledNewsArticleRepository.saveAll(articles);
-        } catch (IOException e) {
-            LogUtil.logError("뉴스 크롤링 중 에러 발생: " + url + " - " + e.getMessage(), e);
-        } catch (Exception e) {
-            LogUtil.logError("알 수 없는 오류 발생: " + url + " - " + e.getMessage(), e);
-        }
-
-    }
-
-    private void crawlArticle(String articleUrl, List<CrawledNewsArticle> articles) throws IOException {
-
-        CrawledNewsArticleDto dto = new CrawledNewsArticleDto();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
-        try {
-            long delay = 20000 + (long) (Math.random() * 30000); // 20초 ~ 50초 랜덤 딜레이
-            Thread.sleep(delay);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
-        }
-
-        String htmlContent;
-        Document articleDoc;
-
-        try {
-            Connection.Response response = Jsoup.connect(articleUrl).userAgent(USER_AGENT)
-                    .referrer("https://news.naver.com/")
-                    .timeout(TIME_OUT)
-                    .ignoreHttpErrors(true)
-                    .ignoreContentType(true)
-                    .execute();
-
-            htmlContent = response.body();
-            articleDoc = Jsoup.parse(htmlContent);
-
-            String media = null;
-            String title = null;
-            String article = null;
-            String dateStamp = null;
-            String author = null;
-            String category = null;
-
-            Element mediaElement = articleDoc.select("a.media_end_head_top_logo img").first();
-            Element titleElement = articleDoc.select("h2#title_area span").first();
-            Element articleContent = articleDoc.select("div#newsct_article").first();
-            Element dateElement = articleDoc.select("span.media_end_head_info_datestamp_time").first();
-            Element authorElement = articleDoc.select("em.media_end_head_journalist_name").first();
-            Element categoryElement = articleDoc.select("li.Nlist_item._LNB_ITEM.is_active").first();
-
-            if (mediaElement != null) {
-                media = mediaElement.attr("title");
-            }
-
-            if (titleElement != null) {
-                title = titleElement.text();
-            }
-
-            if (articleContent != null) {
-                article = articleContent.text();
-            }
-
-            if (dateElement != null) {
-                dateStamp = dateElement.attr("data-date-time");
-            }
-
-            if (authorElement != null) {
-                author = authorElement.text();
-            }
-
-            if (categoryElement != null) {
-                category = categoryElement.text();
-            }
-
-            dto.setArticleUrl(articleUrl);
-            dto.setMedia(media);
-            dto.setCategory(category);
-            dto.setTitle(title);
-            dto.setArticle(article);
-            dto.setHtmlContent(htmlContent);
-            dto.setAuthor(author);
-            if (dateStamp != null) dto.setPublishedAt(LocalDateTime.parse(dateStamp, formatter));
-            dto.setCrawledAt(LocalDateTime.now());
-
-//            crawledNewsArticleRepository.save(CrawledNewsArticle.dtoToEntity(dto));
-            articles.add(CrawledNewsArticle.dtoToEntity(dto));
-        } catch (Exception e) {
-            LogUtil.logError("뉴스 기사 수집 중 에러 발생: " + articleUrl + " - " + e.getMessage(), e);
-        }
-    }
-
     /**
      * 동종업종 비교 테이블에서 첫 번째 종목 (검색한 종목)의 정보를 파싱합니다.
      * @param doc Jsoup Document 객체
@@ -757,201 +874,4 @@ public class WebCrawlingServiceImpl implements WebCrawlingService {
         // 여러 공백을 하나의 공백으로 줄이고, 앞뒤 공백 제거
         return sb.toString().replaceAll("\\s+", " ").trim();
     }
-
-
-    private String getDomainFromUrl(String urlString) {
-        try {
-            URL url = new URL(urlString);
-            String host = url.getHost();
-            if (host.startsWith("www.")) {
-                return host.substring(4);
-            }
-            return host;
-        } catch (MalformedURLException e) {
-            return null; // 유효하지 않은 URL
-        }
-    }
-
-    // 링크 타입 분류 함수 (선택 사항)
-    private String determineLinkType(String url, String baseDomain) {
-        if (url == null || url.isEmpty()) return "unknown";
-        if (url.contains(baseDomain)) return "internal";
-        if (url.matches(".*\\.(jpg|jpeg|png|gif|bmp|svg)$")) return "image";
-        if (url.matches(".*\\.(pdf|doc|docx|xls|xlsx|ppt|pptx)$")) return "document";
-        return "external";
-    }
-
-    // CNN 기사 크롤링 진입점 메서드
-    @Override
-    @Transactional
-    public void cnnArticleCrawling(String startUrl, int maxDepth) {
-        Queue<String> articleUrlsToCrawl = new LinkedList<>();
-        Set<String> visitedArticleUrls = new HashSet<>();
-
-        collectArticleUrlsFromMainPage(startUrl, articleUrlsToCrawl, visitedArticleUrls);
-
-        crawlAndSaveArticleDetails(articleUrlsToCrawl);
-    }
-
-    /**
-     * 1단계: CNN 메인 페이지에서 기사 링크들을 수집하여 큐에 추가합니다.
-     *
-     * @param mainPageUrl        크롤링을 시작할 메인 페이지 URL
-     * @param articleUrlsToCrawl 기사 URL을 담을 큐
-     * @param visitedArticleUrls 방문했거나 방문 예정인 기사 URL을 기록할 Set (중복 방지용)
-     */
-    private void collectArticleUrlsFromMainPage(String mainPageUrl,
-                                                Queue<String> articleUrlsToCrawl,
-                                                Set<String> visitedArticleUrls) {
-        Document mainPageDoc = null;
-        try {
-            Connection.Response response = Jsoup.connect(mainPageUrl)
-                    .userAgent(USER_AGENT)
-                    .referrer(REFERRER)
-                    .timeout(TIME_OUT)
-                    .ignoreContentType(true)
-                    .ignoreHttpErrors(true)
-                    .execute();
-
-            int statusCode = response.statusCode();
-            String contentType = response.contentType();
-
-            // HTTP 200 ok인 경우에만 파싱
-            if (statusCode == 200 && contentType != null && contentType.startsWith("text/html")) {
-                mainPageDoc = response.parse();
-
-                Elements linkElements = mainPageDoc.select("a.container__link.container__link--type-article[href]");
-                for (Element linkElement : linkElements) {
-                    String absUrl = linkElement.attr("abs:href");
-
-                    // 유효하지 않은 링크 스킵 (mailto, tel, javascript 등)
-                    if (absUrl.isEmpty() || absUrl.startsWith("#") || absUrl.startsWith("mailto:") || absUrl.startsWith("tel:") || absUrl.startsWith("javascript:")) {
-                        continue;
-                    }
-
-                    // CNN 기사 URL 패턴 필터링 (날짜 패턴 포함)
-                    // 예: https://edition.cnn.com/2025/08/01/politics/some-article-title/index.html
-                    if (absUrl.matches(".*cnn\\.com/\\d{4}/\\d{2}/\\d{2}/.*")) {
-                        // 중복 체크: 이미 큐에 있거나 처리된 URL인지 확인
-                        if (visitedArticleUrls.add(absUrl)) { // add()는 추가 성공 시 true 반환 (즉, 이전에 없었다는 뜻)
-                            articleUrlsToCrawl.add(absUrl);
-                        }
-                    }
-                }
-            } else {
-                LogUtil.logError("메인 페이지 접속 실패 또는 HTML 아님: " + mainPageUrl + " - Status: " + statusCode + ", Content-Type: " + contentType, null);
-            }
-        } catch (Exception e) {
-            LogUtil.logError("메인 페이지 크롤링 중 알 수 없는 오류: " + mainPageUrl + " - " + e.getMessage(), e);
-        }
-    }
-
-    /**
-     * 2단계: 수집된 기사 URL 큐를 순회하며 각 기사 본문을 크롤링하고 DB에 저장합니다.
-     *
-     * @param articleUrlsToCrawl 기사 URL을 담은 큐
-     */
-    private void crawlAndSaveArticleDetails(Queue<String> articleUrlsToCrawl) {
-        while (!articleUrlsToCrawl.isEmpty()) {
-            String currentArticleUrl = articleUrlsToCrawl.poll();
-
-            if (cnnArticleRepository.findByArticleUrl(currentArticleUrl).isPresent()) {
-                continue;
-            }
-
-            // 랜덤 딜레이 적용
-            try {
-                long delay = MIN_DELAY_MS + random.nextInt((int) (MAX_DELAY_MS - MIN_DELAY_MS + 1));
-                Thread.sleep(delay);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LogUtil.logError("크롤링 딜레이 중 인터럽트 발생: " + e.getMessage(), e);
-                return;
-            }
-
-            CnnArticleDto articleDto = new CnnArticleDto();
-            articleDto.setArticleUrl(currentArticleUrl);
-
-            try {
-                Connection.Response response = Jsoup.connect(currentArticleUrl)
-                        .userAgent(USER_AGENT)
-                        .referrer(CNN_REFERRER)
-                        .timeout(TIME_OUT)
-                        .ignoreHttpErrors(true)
-                        .ignoreContentType(true)
-                        .execute();
-
-                int statusCode = response.statusCode();
-                String contentType = response.contentType();
-                articleDto.setStatusCode(statusCode);
-
-                if (statusCode == 200 && contentType != null && contentType.startsWith("text/html")) {
-                    Document articleDoc = response.parse();
-                    // ----------------------------------------------------
-                    // 기사 데이터 파싱 및 추출 (정확한 셀렉터 확인 필요)
-                    // ----------------------------------------------------
-                    String title = null;
-                    String content = "";
-                    String author = null;
-                    LocalDateTime publishedAt = null;
-
-                    Element titleElement = articleDoc.selectFirst("h1.headline__text");
-                    if (titleElement != null) {
-                        title = titleElement.text().trim();
-                    }
-
-                    StringBuilder sb = new StringBuilder();
-                    Elements contentElements = articleDoc.select("div.article__content > p[data-component-name='paragraph']");
-                    for (Element contentElement : contentElements) {
-                        String paragraphText = contentElement.text().trim();
-                        if (!paragraphText.isEmpty()) {
-                            sb.append(paragraphText).append("\n\n");
-                        }
-                    }
-                    content = sb.toString().trim();
-
-                    Element authorElement = articleDoc.selectFirst("span.byline__name");
-                    if (authorElement != null) {
-                        author = authorElement.ownText().trim();
-                    }
-
-                    Element publishedAtElement = articleDoc.selectFirst("div.timestamp__published");
-                    if (publishedAtElement != null) {
-                        String cleanedDateTime = publishedAtElement.text().replace("PUBLISHED", "").replace(" ET", "").trim();
-                        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d, yyyy, h:mm a", Locale.ENGLISH);
-
-                        try {
-                            // 파싱된 결과를 LocalDateTime으로 변환
-                            publishedAt = LocalDateTime.parse(cleanedDateTime, formatter);
-                        } catch (DateTimeParseException e) {
-                            publishedAt = LocalDateTime.now();
-                            LogUtil.logError("날짜/시간 파싱 오류: " + currentArticleUrl + " - " + e.getMessage() + " (Original: " + publishedAtElement.text() + ")", e);
-                        }
-                    }
-
-                    articleDto.setTitle(title);
-                    if (content == null) {
-                        articleDto.setContent("");
-                    } else {
-                        articleDto.setContent(content);
-                    }
-                    articleDto.setAuthor(author);
-                    articleDto.setErrorMessage(null);
-                    articleDto.setCrawledAt(LocalDateTime.now());
-                    articleDto.setPublishedAt(publishedAt);
-
-                    cnnArticleRepository.save(CnnArticle.toEntity(articleDto));
-
-                } else {
-                    LogUtil.logError("  [기사 크롤링 실패] " + currentArticleUrl + " - " + articleDto.getErrorMessage(), null);
-                }
-            } catch (HttpStatusException e) {
-                LogUtil.logError("  [기사 크롤링 실패] " + currentArticleUrl + " - HTTP 오류: " + e.getStatusCode(), e);
-
-            } catch (Exception e) {
-                LogUtil.logError("  [기사 크롤링 실패] " + currentArticleUrl + " - 알 수 없는 오류: " + e.getMessage(), e);
-
-            }
-        }
-    }
 }
@@ -0,0 +1,22 @@
+package com.juca.crawler.sitemap;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 번의 사이트맵 수집 결과
+ * urls: 새로 발견했거나 lastmod 가 바뀐 URL, sitemaps: 이번에 읽은 하위 사이트맵
+ * 처리가 끝난 뒤 {@link SitemapDiscovery#record} 로 기록해야 다음 수집에서 제외됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SitemapBatch {
+    private final List<SitemapEntry> urls;
+    private final List<SitemapEntry> sitemaps;
+
+    public List<String> locs() {
+        return urls.stream().map(SitemapEntry::getLoc).toList();
+    }
+}
@@ -0,0 +1,180 @@
+package com.juca.crawler.sitemap;
+
+import com.juca.crawler.domain.SitemapUrl;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.repository.SitemapUrlRepository;
+import com.juca.crawler.url.UrlCanonicalizer;
+import com.juca.crawler.util.LogUtil;
+import com.juca.crawler.util.MurmurHash3;
+import org.jsoup.Connection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 사이트맵 기반 URL 발견
+ *
+ * 사이트맵(인덱스 포함)을 스트리밍으로 읽어 URL 별 lastmod 를 이전 수집 결과와 비교하고,
+ * 새로 발견했거나 lastmod 가 바뀐 URL 만 (정규화된 형태로) 내보냅니다.
+ * 사이트맵 인덱스의 하위 사이트맵도 lastmod 가 바뀐 것만 다시 읽습니다.
+ */
+@Component
+public class SitemapDiscovery {
+
+    // DB 조회는 URL 해시 IN 절로 묶어서 수행
+    private static final int LOOKUP_CHUNK = 500;
+
+    private final PageFetcher pageFetcher;
+    private final SitemapUrlRepository sitemapUrlRepository;
+    private final UrlCanonicalizer urlCanonicalizer;
+    private final int maxSitemapsPerPoll;
+    private final int maxBodyBytes;
+
+    public SitemapDiscovery(PageFetcher pageFetcher,
+                            SitemapUrlRepository sitemapUrlRepository,
+                            UrlCanonicalizer urlCanonicalizer,
+                            @Value("${crawler.sitemap.max_sitemaps_per_poll:20}") int maxSitemapsPerPoll,
+                            @Value("${crawler.sitemap.max_body_mb:50}") int maxBodyMb) {
+        this.pageFetcher = pageFetcher;
+        this.sitemapUrlRepository = sitemapUrlRepository;
+        this.urlCanonicalizer = urlCanonicalizer;
+        this.maxSitemapsPerPoll = maxSitemapsPerPoll;
+        this.maxBodyBytes = maxBodyMb * 1024 * 1024;
+    }
+
+    /**
+     * @param sitemapUrls 시작 사이트맵(또는 사이트맵 인덱스) URL
+     * @param filter      내보낼 URL 조건 (예: 기사 URL 패턴)
+     * @throws IOException 시작 사이트맵을 하나도 읽지 못한 경우
+     */
+    public SitemapBatch discover(List<String> sitemapUrls, Predicate<String> filter) throws IOException {
+        List<SitemapEntry> pages = new ArrayList<>();
+        List<SitemapEntry> readSitemaps = new ArrayList<>();
+        Set<String> seenPages = new HashSet<>();
+
+        Deque<SitemapEntry> pending = new ArrayDeque<>();
+        sitemapUrls.forEach(url -> pending.add(new SitemapEntry(url, null, true)));
+        Set<String> visitedSitemaps = new HashSet<>();
+
+        int read = 0;
+        int failed = 0;
+        while (!pending.isEmpty() && read < maxSitemapsPerPoll) {
+            SitemapEntry sitemap = pending.poll();
+            if (!visitedSitemaps.add(sitemap.getLoc())) {
+                continue;
+            }
+
+            List<SitemapEntry> children = new ArrayList<>();
+            try {
+                Connection.Response response = pageFetcher.fetch(sitemap.getLoc(), sitemap.getLoc(), maxBodyBytes);
+                if (response.statusCode() != 200) {
+                    throw new IOException("HTTP " + response.statusCode());
+                }
+                try (InputStream in = response.bodyStream()) {
+                    SitemapParser.parse(in, entry -> {
+                        if (entry.isSitemap()) {
+                            children.add(entry);
+                            return;
+                        }
+                        // lastmod 기록과 중복 확인은 정규화된 URL 기준
+                        String loc = urlCanonicalizer.canonicalize(entry.getLoc());
+                        if (loc != null && filter.test(loc) && seenPages.add(loc)) {
+                            pages.add(new SitemapEntry(loc, entry.getLastmod(), false));
+                        }
+                    });
+                }
+                read++;
+                readSitemaps.add(sitemap);
+            } catch (IOException e) {
+                failed++;
+                LogUtil.logError("사이트맵 읽기 실패: " + sitemap.getLoc() + " - " + e.getMessage(), e);
+                continue;
+            }
+
+            // 하위 사이트맵은 lastmod 가 바뀐 것만 최신순으로 읽음
+            children.sort(Comparator.comparing(SitemapEntry::getLastmod, Comparator.nullsLast(Comparator.reverseOrder())));
+            pending.addAll(changedOnly(children));
+        }
+
+        if (read == 0 && failed > 0) {
+            throw new IOException("사이트맵을 읽지 못했습니다: " + sitemapUrls);
+        }
+
+        List<SitemapEntry> changed = changedOnly(pages);
+        LogUtil.logInfo("[SITEMAP] 사이트맵 " + read + "개, URL " + pages.size() + "건 중 신규/변경 " + changed.size() + "건");
+        return new SitemapBatch(changed, readSitemaps);
+    }
+
+    /**
+     * 처리한 URL 과 읽은 하위 사이트맵의 lastmod 를 기록합니다.
+     * @param unprocessed 처리하지 못한 URL (다음 수집에서 다시 내보내도록 기록하지 않음)
+     */
+    @Transactional
+    public void record(SitemapBatch batch, Collection<String> unprocessed) {
+        Set<String> skip = new HashSet<>(unprocessed);
+        List<SitemapEntry> entries = new ArrayList<>();
+        batch.getUrls().stream().filter(entry -> !skip.contains(entry.getLoc())).forEach(entries::add);
+        // 처리하지 못한 URL 이 있으면 하위 사이트맵도 다음 수집에서 다시 읽도록 기록하지 않음
+        if (skip.isEmpty()) {
+            batch.getSitemaps().stream().filter(entry -> entry.getLastmod() != null).forEach(entries::add);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (List<SitemapEntry> chunk : chunks(entries)) {
+            Map<Long, SitemapUrl> stored = lookup(chunk);
+            List<SitemapUrl> toSave = new ArrayList<>();
+            for (SitemapEntry entry : chunk) {
+                long hash = MurmurHash3.hash64(entry.getLoc());
+                SitemapUrl row = stored.get(hash);
+                if (row == null) {
+                    row = new SitemapUrl(hash, entry.getLoc(), entry.getLastmod(), now);
+                    stored.put(hash, row);
+                } else {
+                    row.changed(entry.getLastmod(), now);
+                }
+                toSave.add(row);
+            }
+            sitemapUrlRepository.saveAll(toSave);
+        }
+    }
+
+    private List<SitemapEntry> changedOnly(List<SitemapEntry> entries) {
+        List<SitemapEntry> changed = new ArrayList<>();
+        for (List<SitemapEntry> chunk : chunks(entries)) {
+            Map<Long, SitemapUrl> stored = lookup(chunk);
+            for (SitemapEntry entry : chunk) {
+                SitemapUrl row = stored.get(MurmurHash3.hash64(entry.getLoc()));
+                if (row == null || isNewer(entry.getLastmod(), row.getLastmod())) {
+                    changed.add(entry);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean isNewer(LocalDateTime lastmod, LocalDateTime stored) {
+        return lastmod != null && (stored == null || lastmod.isAfter(stored));
+    }
+
+    private Map<Long, SitemapUrl> lookup(List<SitemapEntry> chunk) {
+        Set<Long> hashes = chunk.stream().map(entry -> MurmurHash3.hash64(entry.getLoc())).collect(Collectors.toSet());
+        return sitemapUrlRepository.findByUrlHashIn(hashes).stream()
+                .collect(Collectors.toMap(SitemapUrl::getUrlHash, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    private static List<List<SitemapEntry>> chunks(List<SitemapEntry> entries) {
+        List<List<SitemapEntry>> chunks = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i += LOOKUP_CHUNK) {
+            chunks.add(entries.subList(i, Math.min(entries.size(), i + LOOKUP_CHUNK)));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,18 @@
+package com.juca.crawler.sitemap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사이트맵의 &lt;url&gt; 또는 사이트맵 인덱스의 &lt;sitemap&gt; 항목
+ */
+@Getter
+@AllArgsConstructor
+public class SitemapEntry {
+    private final String loc;
+    // UTC 기준, 없으면 null (뉴스 사이트맵은 lastmod 대신 publication_date 사용)
+    private final LocalDateTime lastmod;
+    private final boolean sitemap;
+}
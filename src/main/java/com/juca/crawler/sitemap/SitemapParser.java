@@ -0,0 +1,137 @@
+package com.juca.crawler.sitemap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 사이트맵 / 사이트맵 인덱스 / 구글 뉴스 사이트맵 StAX 파서
+ *
+ * 문서 전체를 DOM 으로 올리지 않고 항목 하나를 읽을 때마다 콜백으로 넘깁니다.
+ * gzip 압축(.xml.gz)은 내용의 매직 넘버로 판단해 자동으로 해제합니다.
+ */
+public class SitemapParser {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    public static void parse(InputStream in, Consumer<SitemapEntry> consumer) throws IOException {
+        InputStream stream = maybeGunzip(in);
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(stream);
+
+            boolean inEntry = false;
+            boolean sitemap = false;
+            String loc = null;
+            LocalDateTime lastmod = null;
+            LocalDateTime publicationDate = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    switch (name) {
+                        case "url", "sitemap" -> {
+                            inEntry = true;
+                            sitemap = name.equals("sitemap");
+                            loc = null;
+                            lastmod = null;
+                            publicationDate = null;
+                        }
+                        case "loc" -> {
+                            // image:loc, video 등 확장 요소의 loc 는 무시
+                            if (inEntry && loc == null && isSitemapNamespace(reader.getNamespaceURI())) {
+                                loc = reader.getElementText().trim();
+                            }
+                        }
+                        case "lastmod" -> {
+                            if (inEntry) lastmod = parseW3cDate(reader.getElementText());
+                        }
+                        case "publication_date" -> {
+                            if (inEntry) publicationDate = parseW3cDate(reader.getElementText());
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && inEntry) {
+                    String name = reader.getLocalName();
+                    if (name.equals("url") || name.equals("sitemap")) {
+                        inEntry = false;
+                        if (loc != null && !loc.isEmpty()) {
+                            consumer.accept(new SitemapEntry(loc, lastmod != null ? lastmod : publicationDate, sitemap));
+                        }
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("사이트맵 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // 스트림은 호출자가 닫음
+                }
+            }
+        }
+    }
+
+    /**
+     * W3C Datetime (YYYY-MM-DD, YYYY-MM-DDThh:mm[:ss[.s]]TZD) 을 UTC LocalDateTime 으로 변환. 해석할 수 없으면 null
+     */
+    static LocalDateTime parseW3cDate(String text) {
+        String value = text == null ? "" : text.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            return OffsetDateTime.parse(value).withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                // 시간대가 없는 경우 UTC 로 간주
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+
+    private static boolean isSitemapNamespace(String namespace) {
+        return namespace == null || namespace.isEmpty() || namespace.startsWith("http://www.sitemaps.org/");
+    }
+
+    private static InputStream maybeGunzip(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in);
+        buffered.mark(2);
+        int b1 = buffered.read();
+        int b2 = buffered.read();
+        buffered.reset();
+        if (b1 == 0x1f && b2 == 0x8b) {
+            return new GZIPInputStream(buffered);
+        }
+        return buffered;
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 비활성화 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
@@ -0,0 +1,310 @@
+package com.juca.crawler.source;
+
+import com.juca.crawler.cluster.ClusterCoordinator;
+import com.juca.crawler.dedup.ArticleCorpus;
+import com.juca.crawler.dedup.NearDuplicateDetector;
+import com.juca.crawler.domain.CnnArticle;
+import com.juca.crawler.domain.FailedFetchSource;
+import com.juca.crawler.dto.CnnArticleDto;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.recrawl.RecrawlPlanner;
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.robots.RobotsCache;
+import com.juca.crawler.search.ArticleDocument;
+import com.juca.crawler.search.ArticleIndexEvent;
+import com.juca.crawler.sitemap.SitemapBatch;
+import com.juca.crawler.sitemap.SitemapDiscovery;
+import com.juca.crawler.url.UrlCanonicalizer;
+import com.juca.crawler.util.LogUtil;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Connection;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CNN 사이트맵(없으면 메인 페이지) → 기사 본문 수집
+ */
+@Component
+@RequiredArgsConstructor
+public class CnnArticleSource implements CrawlSource<CnnArticle> {
+
+    private static final String MAIN_PAGE_REFERRER = "https://www.naver.com";
+    private static final String ARTICLE_REFERRER = "https://edition.cnn.com/";
+
+    // CNN 기사 URL 패턴 (날짜 포함) 예: https://edition.cnn.com/2025/08/01/politics/some-article-title/index.html
+    private static final Pattern CNN_ARTICLE_URL = Pattern.compile(".*cnn\\.com/\\d{4}/\\d{2}/\\d{2}/.*");
+
+    private static final Pattern ARTICLE_DATE = Pattern.compile("cnn\\.com/(\\d{4})/(\\d{2})/(\\d{2})/");
+
+    private static final DateTimeFormatter PUBLISHED_AT_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy, h:mm a", Locale.ENGLISH);
+
+    @Value("${crawler.base_article_url}")
+    String baseArticleUrl;
+
+    // CNN 기사 발견에 사용할 (뉴스) 사이트맵, 비어 있으면 robots.txt 의 Sitemap 중 뉴스 사이트맵 사용
+    @Value("${crawler.cnn.sitemap_urls:}")
+    String cnnSitemapUrls;
+
+    @Value("${crawler.source.cnn.interval_ms:45000}")
+    long intervalMs;
+
+    @Value("${crawler.source.cnn.max_concurrency:4}")
+    int maxConcurrency;
+
+    // 메인 페이지에서 기준점(지난 수집의 가장 최근 기사 날짜)보다 새로운 기사만 처리
+    @Value("${crawler.source.cnn.incremental:true}")
+    boolean incremental;
+
+    // 기준점 날짜로부터 이 일수 안의 기사는 계속 확인 (1 이면 기준점과 같은 날짜까지)
+    @Value("${crawler.source.cnn.watermark_grace_days:1}")
+    int graceDays;
+
+    private final PageFetcher pageFetcher;
+    private final UrlCanonicalizer urlCanonicalizer;
+    private final RecrawlPlanner recrawlPlanner;
+    private final ClusterCoordinator clusterCoordinator;
+    private final RobotsCache robotsCache;
+    private final SitemapDiscovery sitemapDiscovery;
+    private final CnnArticleRepository cnnArticleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ListingWatermarks listingWatermarks;
+    private final NearDuplicateDetector nearDuplicateDetector;
+
+    @Override
+    public String name() {
+        return "cnn";
+    }
+
+    @Override
+    public long intervalMs() {
+        return intervalMs;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String referrer() {
+        return ARTICLE_REFERRER;
+    }
+
+    @Override
+    public FailedFetchSource failureSource() {
+        return FailedFetchSource.CNN_ARTICLE;
+    }
+
+    @Override
+    public List<Discovery> discover() {
+        // 다중 노드 환경에서는 CNN 호스트 파티션을 가진 노드만 실행
+        if (!clusterCoordinator.ownsUrl(baseArticleUrl)) {
+            return List.of();
+        }
+
+        // 사이트맵이 있으면 신규/변경 기사만 증분으로 발견하고, 없거나 읽지 못하면 메인 페이지에서 수집
+        Discovery discovery = discoverFromSitemaps();
+        if (discovery == null) {
+            discovery = discoverFromMainPage();
+        }
+        return discovery == null ? List.of() : List.of(discovery);
+    }
+
+    /**
+     * 뉴스 사이트맵에서 지난 수집 이후 새로 추가되었거나 lastmod 가 바뀐 기사 URL 을 찾습니다.
+     *
+     * @return 사용할 사이트맵이 없거나 읽지 못했으면 null
+     */
+    private Discovery discoverFromSitemaps() {
+        List<String> sitemapUrls = Arrays.stream(cnnSitemapUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        if (sitemapUrls.isEmpty()) {
+            sitemapUrls = robotsCache.policyFor(baseArticleUrl).getSitemaps().stream()
+                    .filter(url -> url.contains("news"))
+                    .toList();
+        }
+        if (sitemapUrls.isEmpty()) {
+            return null;
+        }
+
+        try {
+            SitemapBatch batch = sitemapDiscovery.discover(sitemapUrls, url -> CNN_ARTICLE_URL.matcher(url).matches());
+            // 중단되어 처리하지 못한 기사는 다음 수집에서 다시 발견되도록 기록에서 제외
+            return new Discovery(batch.locs(), unfinished -> sitemapDiscovery.record(batch, unfinished));
+        } catch (IOException e) {
+            LogUtil.logError("사이트맵 수집 실패, 메인 페이지에서 수집: " + sitemapUrls + " - " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * CNN 메인 페이지의 기사 링크를 찾습니다.
+     * 메인 페이지는 최신순 목록이 아니므로 URL 의 날짜를 순서 키로 써서,
+     * 지난 수집에서 본 가장 최근 날짜보다 grace_days 이상 오래된 기사는 확인하지 않습니다.
+     *
+     * @return 재방문 기한 전이거나 요청에 실패했으면 null
+     */
+    private Discovery discoverFromMainPage() {
+        // 기사 목록이 바뀌지 않는 동안에는 메인 페이지 요청 간격을 늘림
+        if (!recrawlPlanner.isDue(baseArticleUrl)) {
+            return null;
+        }
+
+        try {
+            Connection.Response response = pageFetcher.fetch(baseArticleUrl, MAIN_PAGE_REFERRER);
+            int statusCode = response.statusCode();
+            String contentType = response.contentType();
+            if (statusCode != 200 || contentType == null || !contentType.startsWith("text/html")) {
+                LogUtil.logError("메인 페이지 접속 실패 또는 HTML 아님: " + baseArticleUrl + " - Status: " + statusCode + ", Content-Type: " + contentType, null);
+                return null;
+            }
+
+            RecencyWatermark watermark = incremental ? listingWatermarks.load(baseArticleUrl) : RecencyWatermark.empty();
+            RecencyWatermark next = watermark.copy();
+            Set<String> mainPageUrls = new LinkedHashSet<>();
+            List<String> articleUrls = new ArrayList<>();
+            for (Element linkElement : response.parse().select("a.container__link.container__link--type-article[href]")) {
+                String absUrl = linkElement.attr("abs:href");
+
+                // 유효하지 않은 링크 스킵 (mailto, tel, javascript 등)
+                if (absUrl.isEmpty() || absUrl.startsWith("#") || absUrl.startsWith("mailto:") || absUrl.startsWith("tel:") || absUrl.startsWith("javascript:")) {
+                    continue;
+                }
+
+                // 호스트(www/edition)와 유입 경로 쿼리를 통일한 URL 로 중복 확인
+                absUrl = urlCanonicalizer.canonicalize(absUrl);
+                if (absUrl == null || !CNN_ARTICLE_URL.matcher(absUrl).matches() || !mainPageUrls.add(absUrl)) {
+                    continue;
+                }
+                RecencyWatermark.Key key = keyOf(absUrl);
+                if (key == null || watermark.isNewer(new RecencyWatermark.Key(key.group(), key.sequence() + graceDays))) {
+                    articleUrls.add(absUrl);
+                    if (key != null) {
+                        next.advance(key);
+                    }
+                }
+            }
+
+            // 중단되더라도 최근 기사부터 처리되도록 날짜 역순 (날짜가 같으면 메인 페이지 순서)
+            articleUrls.sort(Comparator.comparingLong((String url) -> {
+                RecencyWatermark.Key key = keyOf(url);
+                return key == null ? Long.MAX_VALUE : key.sequence();
+            }).reversed());
+
+            long listingHash = RecrawlPlanner.listingHashOf(mainPageUrls);
+            // 메인 페이지의 기사를 모두 처리한 경우에만 기준점과 변경 여부를 기록해 다음 요청 시각을 정함
+            return new Discovery(articleUrls, unfinished -> {
+                if (unfinished.isEmpty()) {
+                    if (incremental) {
+                        listingWatermarks.save(baseArticleUrl, next);
+                    }
+                    recrawlPlanner.observe(baseArticleUrl, listingHash, 0);
+                }
+            });
+        } catch (Exception e) {
+            LogUtil.logError("메인 페이지 크롤링 중 알 수 없는 오류: " + baseArticleUrl + " - " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 기사 URL 의 순서 키 (URL 의 게시 날짜를 epoch day 로), 날짜가 없거나 잘못되었으면 null
+     */
+    static RecencyWatermark.Key keyOf(String articleUrl) {
+        Matcher matcher = ARTICLE_DATE.matcher(articleUrl);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            LocalDate date = LocalDate.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)), Integer.parseInt(matcher.group(3)));
+            return new RecencyWatermark.Key("", date.toEpochDay());
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isKnown(String url) {
+        return cnnArticleRepository.findByArticleUrl(url).isPresent();
+    }
+
+    @Override
+    public CnnArticle extract(String url, Connection.Response response, Document document) {
+        CnnArticleDto articleDto = new CnnArticleDto();
+        articleDto.setArticleUrl(url);
+        articleDto.setStatusCode(response.statusCode());
+
+        String title = null;
+        String author = null;
+        LocalDateTime publishedAt = null;
+
+        Element titleElement = document.selectFirst("h1.headline__text");
+        if (titleElement != null) {
+            title = titleElement.text().trim();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (Element contentElement : document.select("div.article__content > p[data-component-name='paragraph']")) {
+            String paragraphText = contentElement.text().trim();
+            if (!paragraphText.isEmpty()) {
+                sb.append(paragraphText).append("\n\n");
+            }
+        }
+
+        Element authorElement = document.selectFirst("span.byline__name");
+        if (authorElement != null) {
+            author = authorElement.ownText().trim();
+        }
+
+        Element publishedAtElement = document.selectFirst("div.timestamp__published");
+        if (publishedAtElement != null) {
+            String cleanedDateTime = publishedAtElement.text().replace("PUBLISHED", "").replace(" ET", "").trim();
+            try {
+                publishedAt = LocalDateTime.parse(cleanedDateTime, PUBLISHED_AT_FORMAT);
+            } catch (DateTimeParseException e) {
+                publishedAt = LocalDateTime.now();
+                LogUtil.logError("날짜/시간 파싱 오류: " + url + " - " + e.getMessage() + " (Original: " + publishedAtElement.text() + ")", e);
+            }
+        }
+
+        articleDto.setTitle(title);
+        articleDto.setContent(sb.toString().trim());
+        articleDto.setAuthor(author);
+        articleDto.setErrorMessage(null);
+        articleDto.setCrawledAt(LocalDateTime.now());
+        articleDto.setPublishedAt(publishedAt);
+        return CnnArticle.toEntity(articleDto);
+    }
+
+    @Override
+    public void persist(List<CnnArticle> items) {
+        // 유사 중복 기사는 대표 기사에 연결만 하고 검색 인덱스에도 넣지 않음
+        List<CnnArticle> saved = nearDuplicateDetector.saveLinked(ArticleCorpus.CNN, items, cnnArticleRepository::saveAll);
+        if (saved.isEmpty()) {
+            return;
+        }
+        // 커밋 이후 검색 인덱스 반영
+        eventPublisher.publishEvent(new ArticleIndexEvent(saved.stream().map(ArticleDocument::of).toList()));
+    }
+}
@@ -0,0 +1,353 @@
+package com.juca.crawler.source;
+
+import com.juca.crawler.domain.FailedFetchSource;
+import com.juca.crawler.fetch.FetchErrorClass;
+import com.juca.crawler.fetch.FetchErrorClassifier;
+import com.juca.crawler.fetch.FetchException;
+import com.juca.crawler.fetch.HostCircuitBreaker;
+import com.juca.crawler.fetch.HostRateController;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.scheduler.JobLanes;
+import com.juca.crawler.service.CrawlOutcome;
+import com.juca.crawler.service.FailedFetchService;
+import com.juca.crawler.url.UrlCanonicalizer;
+import com.juca.crawler.util.LogUtil;
+import com.juca.crawler.util.UrlFingerprintSet;
+import com.juca.crawler.util.UrlUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jsoup.Connection;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수집 대상 사이트({@link CrawlSource}) 공통 실행 엔진
+ *
+ * 사이트마다 선언한 주기로 작업 레인에서 발견 → 요청/파싱(동시) → 배치 저장을 실행합니다.
+ * 상세 페이지 요청은 가상 스레드에서 사이트별 동시 실행 한도와 엔진 전체 한도 안에서 동시에 진행되고,
+ * 호스트별 요청 간격은 PageFetcher(HostRateController) 가 지킵니다.
+ * 추출된 항목은 persist_batch_size 건씩 모아 사이트의 persist 로 한 트랜잭션에 저장합니다.
+ * 사이트끼리는 레인이 분리되어 있으므로 한 사이트가 느려도 다른 사이트의 실행이 밀리지 않습니다.
+ */
+@Component
+public class CrawlEngine implements SchedulingConfigurer {
+
+    private final List<CrawlSource<?>> sources;
+    private final PageFetcher pageFetcher;
+    private final UrlCanonicalizer urlCanonicalizer;
+    private final FailedFetchService failedFetchService;
+    private final HostRateController hostRateController;
+    private final HostCircuitBreaker hostCircuitBreaker;
+    private final JobLanes jobLanes;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int persistBatchSize;
+    private final Semaphore enginePermits;
+
+    private final ExecutorService fetchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("crawl-engine-", 0).factory());
+
+    public CrawlEngine(List<CrawlSource<?>> sources,
+                       PageFetcher pageFetcher,
+                       UrlCanonicalizer urlCanonicalizer,
+                       FailedFetchService failedFetchService,
+                       HostRateController hostRateController,
+                       HostCircuitBreaker hostCircuitBreaker,
+                       JobLanes jobLanes,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${crawler.engine.enabled:true}") boolean enabled,
+                       @Value("${crawler.engine.persist_batch_size:20}") int persistBatchSize,
+                       @Value("${crawler.engine.max_concurrency:16}") int maxConcurrency) {
+        this.sources = sources;
+        this.pageFetcher = pageFetcher;
+        this.urlCanonicalizer = urlCanonicalizer;
+        this.failedFetchService = failedFetchService;
+        this.hostRateController = hostRateController;
+        this.hostCircuitBreaker = hostCircuitBreaker;
+        this.jobLanes = jobLanes;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.persistBatchSize = Math.max(1, persistBatchSize);
+        this.enginePermits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+
+    @PostConstruct
+    void initHostPoliteness() {
+        // 재시도(dead-letter queue) 경로도 같은 간격을 지키도록 엔진 비활성화와 무관하게 적용
+        for (CrawlSource<?> source : sources) {
+            if (source.rateHost() != null && source.minDelayMs() > 0) {
+                hostRateController.setPolitenessFloor(source.rateHost(), source.minDelayMs());
+            }
+        }
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!enabled) {
+            return;
+        }
+        for (CrawlSource<?> source : sources) {
+            registrar.addFixedDelayTask(() -> trigger(source), Duration.ofMillis(source.intervalMs()));
+        }
+    }
+
+    /**
+     * 사이트 한 번 실행을 그 사이트의 작업 레인에 넣습니다.
+     * @return 이전 실행이 아직 진행 중이어서 건너뛰었으면 false
+     */
+    public boolean trigger(CrawlSource<?> source) {
+        boolean submitted = jobLanes.trySubmit(laneOf(source), () -> runTimed(source));
+        if (!submitted) {
+            LogUtil.logJobSkipped(getClass().getSimpleName(), source.name());
+        }
+        return submitted;
+    }
+
+    /**
+     * dead-letter queue 항목 한 건을 원래 사이트의 추출/저장 경로로 다시 처리합니다.
+     * @throws IllegalArgumentException 해당 출처를 처리하는 사이트가 없는 경우
+     */
+    public CrawlOutcome retry(FailedFetchSource failureSource, String url) {
+        CrawlSource<?> source = sources.stream()
+                .filter(candidate -> candidate.failureSource() == failureSource)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("수집 사이트가 없는 출처: " + failureSource));
+        return retryWith(source, url);
+    }
+
+    private <T> CrawlOutcome retryWith(CrawlSource<T> source, String url) {
+        if (source.isKnown(url)) {
+            return CrawlOutcome.SUCCESS;
+        }
+        LinkedBlockingQueue<Extracted<T>> extracted = new LinkedBlockingQueue<>();
+        CrawlOutcome outcome = fetchOne(source, url, new UrlFingerprintSet(), extracted);
+        if (outcome == CrawlOutcome.SUCCESS && !extracted.isEmpty()) {
+            List<T> items = extracted.stream().map(Extracted::item).toList();
+            transaction.executeWithoutResult(status -> source.persist(items));
+        }
+        return outcome;
+    }
+
+    private void runTimed(CrawlSource<?> source) {
+        long startTime = System.nanoTime();
+        Throwable error = null;
+        try {
+            run(source);
+        } catch (Exception e) {
+            error = e;
+            LogUtil.logError("[" + source.name() + "] 수집 실행 실패: " + e.getMessage(), e);
+        } finally {
+            LogUtil.logJobDuration(getClass().getSimpleName(), source.name(),
+                    (System.nanoTime() - startTime) / 1_000_000, error);
+        }
+    }
+
+    private <T> void run(CrawlSource<T> source) throws Exception {
+        List<Discovery> discoveries = source.discover();
+        if (discoveries.isEmpty()) {
+            return;
+        }
+
+        RunState<T> state = new RunState<>(source);
+        Semaphore sourcePermits = new Semaphore(Math.max(1, source.maxConcurrency()));
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (Discovery discovery : discoveries) {
+                for (String url : discovery.urls()) {
+                    if (!state.seen.add(url)) {
+                        continue;
+                    }
+                    state.discovered++;
+                    // 중단된 뒤의 URL 은 처리하지 않은 것으로 남겨 다음 실행에서 다시 발견되게 함
+                    state.unfinished.add(url);
+                    if (state.deferred.get() || Thread.currentThread().isInterrupted()) {
+                        continue;
+                    }
+                    if (hostCircuitBreaker.isOpen(UrlUtil.hostOf(url))) {
+                        state.deferred.set(true);
+                        continue;
+                    }
+                    if (source.isKnown(url)) {
+                        state.unfinished.remove(url);
+                        continue;
+                    }
+
+                    sourcePermits.acquire();
+                    try {
+                        enginePermits.acquire();
+                    } catch (InterruptedException e) {
+                        sourcePermits.release();
+                        throw e;
+                    }
+                    tasks.add(fetchExecutor.submit(() -> {
+                        try {
+                            CrawlOutcome outcome = fetchOne(source, url, state.seen, state.extracted);
+                            if (outcome == CrawlOutcome.DEFERRED) {
+                                state.deferred.set(true);
+                            } else {
+                                if (outcome == CrawlOutcome.FAILED) {
+                                    state.failed.incrementAndGet();
+                                }
+                                state.unfinished.remove(url);
+                            }
+                        } finally {
+                            enginePermits.release();
+                            sourcePermits.release();
+                        }
+                    }));
+                    persistReady(state, false);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LogUtil.logInfo("[" + source.name() + "] 수집 중 인터럽트 발생, 남은 URL 은 다음 실행에서 처리");
+        } finally {
+            awaitAll(tasks, state);
+            persistReady(state, true);
+        }
+
+        if (state.deferred.get()) {
+            LogUtil.logInfo("[" + source.name() + "] 호스트 차단으로 수집 중단, 남은 URL 은 다음 실행에서 처리");
+        }
+        for (Discovery discovery : discoveries) {
+            discovery.onFinished().accept(discovery.urls().stream().filter(state.unfinished::contains).toList());
+        }
+        LogUtil.logInfo("[" + source.name() + "] 수집 완료 - 발견 " + state.discovered + "건, 저장 " + state.persisted
+                + "건, 실패 " + state.failed.get() + "건, 미처리 " + state.unfinished.size() + "건");
+    }
+
+    private <T> void awaitAll(List<Future<?>> tasks, RunState<T> state) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                // 종료 중: 남은 요청은 취소하고 다음 실행에서 다시 처리
+                Thread.currentThread().interrupt();
+                tasks.forEach(remaining -> remaining.cancel(true));
+                return;
+            } catch (ExecutionException e) {
+                LogUtil.logError("[" + state.source.name() + "] 상세 페이지 처리 실패: " + e.getCause().getMessage(), e.getCause());
+            }
+            persistReady(state, false);
+        }
+    }
+
+    /**
+     * 추출된 항목이 배치 크기만큼 모였으면 저장합니다. (flush 면 남은 항목 모두)
+     * 저장에 실패한 배치의 URL 은 처리하지 않은 것으로 되돌립니다.
+     */
+    private <T> void persistReady(RunState<T> state, boolean flush) {
+        while (state.extracted.size() >= persistBatchSize || (flush && !state.extracted.isEmpty())) {
+            List<Extracted<T>> batch = new ArrayList<>(persistBatchSize);
+            state.extracted.drainTo(batch, persistBatchSize);
+            List<T> items = batch.stream().map(Extracted::item).toList();
+            try {
+                transaction.executeWithoutResult(status -> state.source.persist(items));
+                state.persisted += items.size();
+            } catch (Exception e) {
+                LogUtil.logError("[" + state.source.name() + "] " + items.size() + "건 저장 실패: " + e.getMessage(), e);
+                batch.forEach(entry -> state.unfinished.add(entry.url()));
+            }
+        }
+    }
+
+    /**
+     * 상세 페이지 한 건을 요청/파싱/추출합니다. 요청 실패는 dead-letter queue 에 기록합니다.
+     */
+    private <T> CrawlOutcome fetchOne(CrawlSource<T> source, String url, UrlFingerprintSet seen,
+                                      LinkedBlockingQueue<Extracted<T>> extracted) {
+        try {
+            Connection.Response response = pageFetcher.fetch(url, source.referrer());
+
+            // 다른 URL 로 리다이렉트된 문서는 최종 URL 로 저장
+            String finalUrl = urlCanonicalizer.recordRedirect(url, response.url().toString());
+            if (finalUrl != null && !finalUrl.equals(url)) {
+                if (!seen.add(finalUrl) || source.isKnown(finalUrl)) {
+                    return CrawlOutcome.SUCCESS;
+                }
+                url = finalUrl;
+            }
+
+            int statusCode = response.statusCode();
+            String contentType = response.contentType();
+            FetchErrorClass statusError = FetchErrorClassifier.classify(statusCode);
+            if (statusError != null || contentType == null || !contentType.startsWith("text/html")) {
+                LogUtil.logError("[" + source.name() + "] 수집 실패: " + url + " - Status: " + statusCode + ", Content-Type: " + contentType, null);
+                failedFetchService.recordFailure(url, source.failureSource(),
+                        statusError != null ? statusError : FetchErrorClass.UNKNOWN, statusCode,
+                        "HTTP " + statusCode + ", Content-Type: " + contentType, null, null);
+                return CrawlOutcome.FAILED;
+            }
+
+            Document document = response.parse();
+            T item = source.extract(url, response, document);
+            if (item != null) {
+                extracted.add(new Extracted<>(url, item));
+            }
+            return CrawlOutcome.SUCCESS;
+        } catch (FetchException e) {
+            if (e.getErrorClass() == FetchErrorClass.CIRCUIT_OPEN) {
+                return CrawlOutcome.DEFERRED;
+            }
+            LogUtil.logError("[" + source.name() + "] 수집 실패: " + url + " - " + e.getErrorClass() + ": " + e.getMessage(), e);
+            failedFetchService.recordFailure(url, source.failureSource(), e.getErrorClass(), null,
+                    e.getMessage(), null, null);
+            return CrawlOutcome.FAILED;
+        } catch (Exception e) {
+            LogUtil.logError("[" + source.name() + "] 수집 중 알 수 없는 오류: " + url + " - " + e.getMessage(), e);
+            // 파싱/추출 실패도 처리된 URL 로 빠지므로 dead-letter queue 에 남겨 재시도되게 함
+            failedFetchService.recordFailure(url, source.failureSource(), FetchErrorClass.UNKNOWN, null,
+                    e.getClass().getSimpleName() + ": " + e.getMessage(), null, null);
+            return CrawlOutcome.FAILED;
+        }
+    }
+
+    private static String laneOf(CrawlSource<?> source) {
+        return "source-" + source.name();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchExecutor.shutdownNow();
+    }
+
+    private record Extracted<T>(String url, T item) {
+    }
+
+    /**
+     * 실행 1회 상태 (discovered/persisted 는 실행 스레드에서만 갱신)
+     */
+    private static final class RunState<T> {
+        private final CrawlSource<T> source;
+        private final UrlFingerprintSet seen = new UrlFingerprintSet();
+        private final Set<String> unfinished = ConcurrentHashMap.newKeySet();
+        private final LinkedBlockingQueue<Extracted<T>> extracted = new LinkedBlockingQueue<>();
+        private final AtomicBoolean deferred = new AtomicBoolean(false);
+        private final AtomicInteger failed = new AtomicInteger();
+        private int discovered;
+        private int persisted;
+
+        private RunState(CrawlSource<T> source) {
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.juca.crawler.source;
+
+import com.juca.crawler.domain.FailedFetchSource;
+import org.jsoup.Connection;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 수집 대상 사이트 SPI
+ *
+ * 사이트는 "무엇을 수집할지(발견)", "문서에서 무엇을 뽑을지(추출)", "어떻게 저장할지(저장)" 만 구현하고,
+ * 요청/재시도/속도 제한/동시 실행/배치 저장/실패 기록은 CrawlEngine 이 공통으로 처리합니다.
+ * 구현체를 빈으로 등록하면 CrawlEngine 이 선언된 주기로 실행합니다.
+ *
+ * @param <T> 추출 결과 (저장 단위 엔티티)
+ */
+public interface CrawlSource<T> {
+
+    /**
+     * 로그/작업 레인 식별용 이름
+     */
+    String name();
+
+    /**
+     * 실행 주기 (이전 실행이 끝나지 않았으면 그 주기는 건너뜀)
+     */
+    long intervalMs();
+
+    /**
+     * 이 사이트에서 동시에 진행할 수 있는 상세 페이지 요청 수 (호스트별 간격/동시성은 HostRateController 가 추가로 제한)
+     */
+    int maxConcurrency();
+
+    /**
+     * 상세 페이지 요청 최소 간격 (0 이면 호스트 제어기 기본값), rateHost 에 적용됩니다.
+     */
+    default long minDelayMs() {
+        return 0;
+    }
+
+    /**
+     * minDelayMs 를 적용할 호스트
+     */
+    default String rateHost() {
+        return null;
+    }
+
+    /**
+     * 상세 페이지 요청 시 보낼 Referer
+     */
+    String referrer();
+
+    /**
+     * 요청 실패를 dead-letter queue 에 기록할 때의 출처 (같은 출처의 재시도는 이 사이트로 다시 들어옴)
+     */
+    FailedFetchSource failureSource();
+
+    /**
+     * 이번 실행에서 수집할 상세 페이지 URL 을 찾습니다. (목록 페이지, 사이트맵 등)
+     * 재방문 기한 전이거나 이 노드 소유가 아닌 목록은 건너뛰고 빈 목록을 반환합니다.
+     */
+    List<Discovery> discover() throws IOException;
+
+    /**
+     * 이미 저장된 URL 인지 확인합니다. (저장된 URL 은 요청하지 않음)
+     */
+    boolean isKnown(String url);
+
+    /**
+     * 응답 문서에서 저장할 항목을 추출합니다.
+     * @param url 리다이렉트가 반영된 최종 URL
+     * @return 저장할 항목, 저장할 내용이 없으면 null
+     */
+    T extract(String url, Connection.Response response, Document document);
+
+    /**
+     * 추출된 항목을 한 트랜잭션 안에서 저장합니다.
+     */
+    void persist(List<T> items);
+}
@@ -0,0 +1,20 @@
+package com.juca.crawler.source;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 발견 단계 결과 (목록 하나 또는 사이트맵 묶음 하나)
+ *
+ * @param urls       수집할 상세 페이지 URL (정규화된 URL)
+ * @param onFinished 실행이 끝난 뒤 이번 실행에서 처리하지 못한 URL 과 함께 호출됩니다. (모두 처리했으면 빈 컬렉션)
+ *                   목록 변경 기록, 사이트맵 수집 위치 기록 등 "다 처리한 경우에만" 남겨야 하는 상태를 여기서 갱신합니다.
+ */
+public record Discovery(List<String> urls, Consumer<Collection<String>> onFinished) {
+
+    public static Discovery of(List<String> urls) {
+        return new Discovery(urls, unfinished -> {
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.juca.crawler.source;
+
+import com.juca.crawler.domain.ListingWatermark;
+import com.juca.crawler.repository.ListingWatermarkRepository;
+import com.juca.crawler.util.MurmurHash3;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 페이지별 증분 수집 기준점 저장소 (listing_watermarks)
+ */
+@Component
+@RequiredArgsConstructor
+public class ListingWatermarks {
+
+    private final ListingWatermarkRepository listingWatermarkRepository;
+
+    /**
+     * @return 기록된 기준점, 처음 수집하는 목록이면 빈 기준점
+     */
+    public RecencyWatermark load(String listingUrl) {
+        return listingWatermarkRepository.findByListingHash(MurmurHash3.hash64(listingUrl))
+                .map(watermark -> RecencyWatermark.decode(watermark.getMark()))
+                .orElseGet(RecencyWatermark::empty);
+    }
+
+    /**
+     * 목록을 끝까지 처리한 수집의 기준점을 기록합니다.
+     */
+    @Transactional
+    public void save(String listingUrl, RecencyWatermark watermark) {
+        if (watermark.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long listingHash = MurmurHash3.hash64(listingUrl);
+        ListingWatermark entity = listingWatermarkRepository.findByListingHash(listingHash).orElse(null);
+        if (entity == null) {
+            listingWatermarkRepository.save(new ListingWatermark(listingHash, listingUrl, watermark.encode(), now));
+            return;
+        }
+        entity.advance(watermark.encode(), now);
+        listingWatermarkRepository.save(entity);
+    }
+}
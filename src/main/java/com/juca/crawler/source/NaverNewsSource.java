@@ -0,0 +1,291 @@
+package com.juca.crawler.source;
+
+import com.juca.crawler.cluster.ClusterCoordinator;
+import com.juca.crawler.dedup.ArticleCorpus;
+import com.juca.crawler.dedup.NearDuplicateDetector;
+import com.juca.crawler.domain.CrawledNewsArticle;
+import com.juca.crawler.domain.FailedFetchSource;
+import com.juca.crawler.dto.CrawledNewsArticleDto;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.recrawl.RecrawlPlanner;
+import com.juca.crawler.repository.CrawledNewsArticleRepository;
+import com.juca.crawler.search.ArticleDocument;
+import com.juca.crawler.search.ArticleIndexEvent;
+import com.juca.crawler.url.UrlCanonicalizer;
+import com.juca.crawler.util.LogUtil;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Connection;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네이버 뉴스 섹션 목록 → 기사 본문 수집
+ */
+@Component
+@RequiredArgsConstructor
+public class NaverNewsSource implements CrawlSource<CrawledNewsArticle> {
+
+    private static final String LISTING_REFERRER = "https://www.naver.com";
+    private static final String ARTICLE_REFERRER = "https://news.naver.com/";
+
+    // 네이버 기사 본문은 봇 차단을 피하기 위해 호스트 제어기와 무관하게 최소 20초 간격 유지
+    private static final String ARTICLE_HOST = "n.news.naver.com";
+    private static final long ARTICLE_MIN_DELAY_MS = 20000;
+
+    // 정규화된 기사 URL: https://n.news.naver.com/mnews/article/{oid}/{aid}
+    private static final Pattern ARTICLE_ID = Pattern.compile("https://n\\.news\\.naver\\.com/mnews/article/(\\d+)/(\\d+)");
+
+    private static final DateTimeFormatter PUBLISHED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Value("${crawler.naver_politics_news_url}")
+    String politicsUrl;
+
+    @Value("${crawler.naver_economy_news_url}")
+    String economyUrl;
+
+    @Value("${crawler.naver_society_news_url}")
+    String societyUrl;
+
+    @Value("${crawler.naver_life_news_url}")
+    String lifeUrl;
+
+    @Value("${crawler.naver_world_news_url}")
+    String worldUrl;
+
+    @Value("${crawler.naver_science_news_url}")
+    String scienceUrl;
+
+    @Value("${crawler.source.naver.interval_ms:2700000}")
+    long intervalMs;
+
+    // 기사 호스트 간격이 20초라 동시 요청을 늘려도 처리량은 같으므로 섹션 목록 요청과 겹치는 정도만 허용
+    @Value("${crawler.source.naver.max_concurrency:2}")
+    int maxConcurrency;
+
+    // 기준점보다 새로운 기사만 처리 (false 면 매번 목록 첫 페이지 전체를 확인)
+    @Value("${crawler.source.naver.incremental:true}")
+    boolean incremental;
+
+    // 지난 수집 이후 새 기사가 첫 페이지를 넘칠 때 뒤로 넘겨 볼 최대 목록 페이지 수
+    @Value("${crawler.source.naver.max_listing_pages:5}")
+    int maxListingPages;
+
+    @Value("${crawler.source.naver.page_param:page}")
+    String pageParam;
+
+    private final PageFetcher pageFetcher;
+    private final UrlCanonicalizer urlCanonicalizer;
+    private final RecrawlPlanner recrawlPlanner;
+    private final ClusterCoordinator clusterCoordinator;
+    private final CrawledNewsArticleRepository crawledNewsArticleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ListingWatermarks listingWatermarks;
+    private final NearDuplicateDetector nearDuplicateDetector;
+
+    @Override
+    public String name() {
+        return "naver-news";
+    }
+
+    @Override
+    public long intervalMs() {
+        return intervalMs;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public long minDelayMs() {
+        return ARTICLE_MIN_DELAY_MS;
+    }
+
+    @Override
+    public String rateHost() {
+        return ARTICLE_HOST;
+    }
+
+    @Override
+    public String referrer() {
+        return ARTICLE_REFERRER;
+    }
+
+    @Override
+    public FailedFetchSource failureSource() {
+        return FailedFetchSource.NAVER_ARTICLE;
+    }
+
+    @Override
+    public List<Discovery> discover() {
+        List<Discovery> discoveries = new ArrayList<>();
+        for (String sectionUrl : List.of(politicsUrl, economyUrl, societyUrl, lifeUrl, worldUrl, scienceUrl)) {
+            // 섹션은 모두 같은 호스트이므로 섹션 URL 단위로 노드에 나눠 실행
+            // 목록이 자주 바뀌지 않는 섹션은 재방문 간격이 늘어나 실행 주기보다 드물게 요청
+            if (!clusterCoordinator.owns(sectionUrl) || !recrawlPlanner.isDue(sectionUrl)) {
+                continue;
+            }
+            try {
+                Discovery discovery = discoverSection(sectionUrl);
+                if (discovery != null) {
+                    discoveries.add(discovery);
+                }
+            } catch (IOException e) {
+                LogUtil.logError("뉴스 목록 수집 중 에러 발생: " + sectionUrl + " - " + e.getMessage(), e);
+            }
+        }
+        return discoveries;
+    }
+
+    /**
+     * 섹션 목록에서 기준점보다 새로운 기사만 찾습니다.
+     * 한 페이지 안에 기준점 이하(이미 본) 기사가 하나라도 있으면 그 뒤 페이지는 보지 않고,
+     * 페이지 전체가 새 기사인 경우에만 지난 수집과의 공백을 메우러 다음 페이지로 넘어갑니다. (최대 max_listing_pages)
+     * 처음 수집하는 섹션은 첫 페이지만 봅니다.
+     *
+     * @return 첫 페이지를 읽지 못했으면 null
+     */
+    private Discovery discoverSection(String sectionUrl) throws IOException {
+        RecencyWatermark watermark = incremental ? listingWatermarks.load(sectionUrl) : RecencyWatermark.empty();
+        RecencyWatermark next = watermark.copy();
+
+        List<String> firstPage = null;
+        Set<String> candidates = new LinkedHashSet<>();
+        for (int page = 1; page <= maxListingPages; page++) {
+            List<String> articleUrls = fetchListing(page == 1 ? sectionUrl : pageUrl(sectionUrl, page));
+            if (articleUrls == null) {
+                if (page == 1) {
+                    return null;
+                }
+                break;
+            }
+            if (page == 1) {
+                firstPage = articleUrls;
+            }
+
+            boolean reachedKnown = false;
+            for (String articleUrl : articleUrls) {
+                RecencyWatermark.Key key = keyOf(articleUrl);
+                if (key == null) {
+                    // 번호를 알 수 없는 URL 은 기준점과 비교하지 않고 매번 후보로 둠 (저장 여부는 엔진이 확인)
+                    candidates.add(articleUrl);
+                } else if (watermark.isNewer(key)) {
+                    candidates.add(articleUrl);
+                    next.advance(key);
+                } else {
+                    reachedKnown = true;
+                }
+            }
+            if (reachedKnown || watermark.isEmpty() || articleUrls.isEmpty()) {
+                break;
+            }
+        }
+
+        long listingHash = RecrawlPlanner.listingHashOf(firstPage);
+        // 목록의 기사를 모두 처리한 경우에만 기준점과 목록 변경 여부를 기록 (중단된 목록은 다음 실행에서 같은 기준점부터 다시 확인)
+        return new Discovery(new ArrayList<>(candidates), unfinished -> {
+            if (unfinished.isEmpty()) {
+                if (incremental) {
+                    listingWatermarks.save(sectionUrl, next);
+                }
+                recrawlPlanner.observe(sectionUrl, listingHash, null);
+            }
+        });
+    }
+
+    /**
+     * 기사 URL 의 순서 키 (언론사 ID, 언론사별 기사 ID), 정규화된 기사 URL 이 아니면 null
+     */
+    static RecencyWatermark.Key keyOf(String articleUrl) {
+        Matcher matcher = ARTICLE_ID.matcher(articleUrl);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return new RecencyWatermark.Key(matcher.group(1), Long.parseLong(matcher.group(2)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String pageUrl(String sectionUrl, int page) {
+        return sectionUrl + (sectionUrl.contains("?") ? "&" : "?") + pageParam + "=" + page;
+    }
+
+    /**
+     * @return 목록의 기사 URL (oid/aid 기준으로 정규화), 목록을 읽지 못했으면 null
+     */
+    private List<String> fetchListing(String listingUrl) throws IOException {
+        Connection.Response response = pageFetcher.fetch(listingUrl, LISTING_REFERRER);
+        String contentType = response.contentType();
+        // Content-Type이 text/html이고 statusCode = 200일 경우에만
+        if (response.statusCode() != 200 || contentType == null || !contentType.startsWith("text/html")) {
+            return null;
+        }
+
+        List<String> articleUrls = new ArrayList<>();
+        for (Element link : response.parse().select("a._NLOG_IMPRESSION")) {
+            String articleUrl = urlCanonicalizer.canonicalize(link.attr("href"));
+            if (articleUrl != null) {
+                articleUrls.add(articleUrl);
+            }
+        }
+        return articleUrls;
+    }
+
+    @Override
+    public boolean isKnown(String url) {
+        return crawledNewsArticleRepository.findByArticleUrl(url).isPresent();
+    }
+
+    @Override
+    public CrawledNewsArticle extract(String url, Connection.Response response, Document document) {
+        CrawledNewsArticleDto dto = new CrawledNewsArticleDto();
+
+        Element mediaElement = document.select("a.media_end_head_top_logo img").first();
+        Element titleElement = document.select("h2#title_area span").first();
+        Element articleContent = document.select("div#newsct_article").first();
+        Element dateElement = document.select("span.media_end_head_info_datestamp_time").first();
+        Element authorElement = document.select("em.media_end_head_journalist_name").first();
+        Element categoryElement = document.select("li.Nlist_item._LNB_ITEM.is_active").first();
+
+        String dateStamp = dateElement != null ? dateElement.attr("data-date-time") : null;
+
+        dto.setArticleUrl(url);
+        dto.setMedia(mediaElement != null ? mediaElement.attr("title") : null);
+        dto.setCategory(categoryElement != null ? categoryElement.text() : null);
+        dto.setTitle(titleElement != null ? titleElement.text() : null);
+        dto.setArticle(articleContent != null ? articleContent.text() : null);
+        dto.setHtmlContent(response.body());
+        dto.setAuthor(authorElement != null ? authorElement.text() : null);
+        if (dateStamp != null) dto.setPublishedAt(LocalDateTime.parse(dateStamp, PUBLISHED_AT_FORMAT));
+        dto.setCrawledAt(LocalDateTime.now());
+
+        return CrawledNewsArticle.dtoToEntity(dto);
+    }
+
+    @Override
+    public void persist(List<CrawledNewsArticle> items) {
+        // 유사 중복 기사는 대표 기사에 연결만 하고 검색 인덱스에도 넣지 않음
+        List<CrawledNewsArticle> saved = nearDuplicateDetector.saveLinked(ArticleCorpus.NAVER_NEWS, items, crawledNewsArticleRepository::saveAll);
+        if (saved.isEmpty()) {
+            return;
+        }
+        // 커밋 이후 검색 인덱스 반영
+        eventPublisher.publishEvent(new ArticleIndexEvent(saved.stream().map(ArticleDocument::of).toList()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.juca.crawler.source;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 증분 수집 기준점 (그룹별 가장 새로운 번호)
+ *
+ * 기사 번호가 언론사(그룹) 안에서만 증가하는 경우처럼 전체 순서가 없는 목록도 다룰 수 있도록 그룹마다 따로 기록합니다.
+ * 목록의 배치(헤드라인 묶음 등)와 무관하게 번호만으로 새 기사인지 판단하므로 목록 순서에 의존하지 않습니다.
+ * 인코딩: "그룹:번호" 를 ',' 로 이은 문자열 (그룹 이름에는 ':' 와 ',' 를 쓰지 않음)
+ */
+public final class RecencyWatermark {
+
+    /**
+     * 목록 항목의 순서 키
+     * @param group    번호가 증가하는 단위 (언론사 등, 하나뿐이면 빈 문자열)
+     * @param sequence 그룹 안에서 시간 순으로 증가하는 번호 (기사 번호, 날짜 등)
+     */
+    public record Key(String group, long sequence) {
+    }
+
+    private final Map<String, Long> marks;
+
+    private RecencyWatermark(Map<String, Long> marks) {
+        this.marks = marks;
+    }
+
+    public static RecencyWatermark empty() {
+        return new RecencyWatermark(new TreeMap<>());
+    }
+
+    public static RecencyWatermark decode(String encoded) {
+        RecencyWatermark watermark = empty();
+        if (encoded == null || encoded.isBlank()) {
+            return watermark;
+        }
+        for (String entry : encoded.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator < 0) {
+                continue;
+            }
+            try {
+                watermark.advance(new Key(entry.substring(0, separator), Long.parseLong(entry.substring(separator + 1))));
+            } catch (NumberFormatException ignored) {
+                // 손상된 항목은 버리고 그 그룹은 처음 보는 것으로 취급
+            }
+        }
+        return watermark;
+    }
+
+    public RecencyWatermark copy() {
+        return new RecencyWatermark(new TreeMap<>(marks));
+    }
+
+    public String encode() {
+        return marks.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    public boolean isEmpty() {
+        return marks.isEmpty();
+    }
+
+    /**
+     * 기록된 번호보다 새로우면 true (기록이 없는 그룹이면 true)
+     */
+    public boolean isNewer(Key key) {
+        Long mark = marks.get(key.group());
+        return mark == null || key.sequence() > mark;
+    }
+
+    /**
+     * 그룹의 기준점을 key 까지 올립니다. (더 오래된 번호로는 내려가지 않음)
+     */
+    public void advance(Key key) {
+        marks.merge(key.group(), key.sequence(), Math::max);
+    }
+}
@@ -0,0 +1,79 @@
+package com.juca.crawler.storage;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * RANGE (TO_DAYS(crawled_at)) 월 단위 파티션 계산
+ * 파티션 상한은 information_schema.PARTITIONS.PARTITION_DESCRIPTION 의 TO_DAYS 값(MAXVALUE 는 null)으로 다룹니다.
+ */
+final class MonthlyPartitions {
+
+    static final String MAX_PARTITION = "pmax";
+
+    // MariaDB TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH = 719528;
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    /**
+     * @param upperBound TO_DAYS 상한 (미포함), MAXVALUE 파티션이면 null
+     * @param rows       통계상 행 수 (추정치)
+     */
+    record Partition(String name, Long upperBound, long rows) {
+        boolean isMax() {
+            return upperBound == null;
+        }
+    }
+
+    private MonthlyPartitions() {
+    }
+
+    static long toDays(LocalDate date) {
+        return date.toEpochDay() + TO_DAYS_EPOCH;
+    }
+
+    static String nameOf(YearMonth month) {
+        return month.format(NAME_FORMAT);
+    }
+
+    static String definitionOf(YearMonth month) {
+        return "PARTITION " + nameOf(month) + " VALUES LESS THAN (" + toDays(month.plusMonths(1).atDay(1)) + ")";
+    }
+
+    /**
+     * 상한이 oldestKept 월 1일 이하인 (즉 보관 기간이 지난 행만 담은) 파티션을 오래된 순으로 반환합니다.
+     */
+    static List<Partition> expired(List<Partition> partitions, YearMonth oldestKept) {
+        long cutoff = toDays(oldestKept.atDay(1));
+        return partitions.stream()
+                .filter(partition -> !partition.isMax() && partition.upperBound() <= cutoff)
+                .sorted(Comparator.comparing(Partition::upperBound))
+                .toList();
+    }
+
+    /**
+     * through 월까지 행을 받을 수 있도록 새로 만들어야 할 월 파티션
+     * 월 파티션이 하나도 없으면 (파티셔닝되지 않은 테이블) 빈 목록입니다.
+     */
+    static List<YearMonth> missing(List<Partition> partitions, YearMonth through) {
+        Long highest = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(Long::compare)
+                .orElse(null);
+        if (highest == null) {
+            return List.of();
+        }
+        List<YearMonth> months = new ArrayList<>();
+        // 가장 높은 상한이 속한 달부터 (상한이 월 중간이면 그 달 나머지는 그 달 파티션이 받음)
+        YearMonth month = YearMonth.from(LocalDate.ofEpochDay(highest - TO_DAYS_EPOCH));
+        for (; !month.isAfter(through); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
@@ -0,0 +1,309 @@
+package com.juca.crawler.storage;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.juca.crawler.util.LogUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 수집 테이블(crawled_pages, extracted_links) 월 파티션 관리와 보관 작업
+ *
+ * 테이블은 db/crawl_partitioning.sql 로 RANGE (TO_DAYS(crawled_at)) 월 파티션으로 변환되어 있어야 합니다.
+ * 실행마다 앞으로 premake_months 개월의 파티션을 미리 만들고, retention_months 가 지난 파티션은
+ * id keyset 으로 batch_size 행씩 읽어 gzip NDJSON 파일(archive_dir/테이블/파티션.ndjson.gz)로 옮긴 뒤 DROP PARTITION 합니다.
+ * 한 번에 max_partitions_per_run 개까지만 처리하므로 밀린 파티션이 많아도 실행 시간과 DB 부하가 제한됩니다.
+ * crawled_pages 파티션을 삭제한 뒤에는 더 이상 페이지가 없는 page_versions 행도 같은 방식으로 파일로 옮기고 삭제합니다.
+ *
+ * 진행 상황은 Micrometer 지표로 남깁니다.
+ *  - crawler.archive.rows / bytes / partitions (table 태그, 누적)
+ *  - crawler.archive.pending_partitions (table 태그, 보관 대기 중인 파티션 수)
+ *  - crawler.archive.progress.rows / progress.total_rows (처리 중인 파티션의 진행 행 수 / 추정 전체 행 수)
+ *  - crawler.archive.duration (파티션 1개 보관 시간)
+ */
+@Component
+public class PartitionArchiver {
+
+    private static final String PAGES_TABLE = "crawled_pages";
+    private static final List<String> TABLES = List.of(PAGES_TABLE, "extracted_links");
+    // 파티셔닝하지 않고, 삭제된 페이지의 이력만 crawled_pages 파티션 보관 때 함께 옮김
+    private static final String VERSIONS_TABLE = "page_versions";
+    private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+
+    private static final String PARTITIONS_SQL = """
+            select partition_name, partition_description, table_rows
+            from information_schema.partitions
+            where table_schema = database() and table_name = ? and partition_name is not null
+            order by partition_ordinal_position
+            """;
+
+    // 이 배치 수마다 진행 로그
+    private static final int LOG_EVERY_BATCHES = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int retentionMonths;
+    private final int premakeMonths;
+    private final Path archiveDir;
+    private final int batchSize;
+    private final long batchPauseMs;
+    private final int maxPartitionsPerRun;
+
+    private final Map<String, Counter> rowCounters = new HashMap<>();
+    private final Map<String, Counter> byteCounters = new HashMap<>();
+    private final Map<String, Counter> partitionCounters = new HashMap<>();
+    private final Map<String, AtomicLong> pendingPartitions = new HashMap<>();
+    private final AtomicLong progressRows;
+    private final AtomicLong progressTotalRows;
+    private final Timer duration;
+
+    public PartitionArchiver(JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${crawler.storage.archive.enabled:false}") boolean enabled,
+                             @Value("${crawler.storage.retention_months:6}") int retentionMonths,
+                             @Value("${crawler.storage.premake_months:3}") int premakeMonths,
+                             @Value("${crawler.storage.archive.dir:/app/archive}") String archiveDir,
+                             @Value("${crawler.storage.archive.batch_size:2000}") int batchSize,
+                             @Value("${crawler.storage.archive.batch_pause_ms:50}") long batchPauseMs,
+                             @Value("${crawler.storage.archive.max_partitions_per_run:2}") int maxPartitionsPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.premakeMonths = Math.max(1, premakeMonths);
+        this.archiveDir = Paths.get(archiveDir);
+        this.batchSize = batchSize;
+        this.batchPauseMs = batchPauseMs;
+        this.maxPartitionsPerRun = maxPartitionsPerRun;
+
+        for (String table : List.of(PAGES_TABLE, "extracted_links", VERSIONS_TABLE)) {
+            Tags tags = Tags.of("table", table);
+            rowCounters.put(table, meterRegistry.counter("crawler.archive.rows", tags));
+            byteCounters.put(table, meterRegistry.counter("crawler.archive.bytes", tags));
+        }
+        for (String table : TABLES) {
+            Tags tags = Tags.of("table", table);
+            partitionCounters.put(table, meterRegistry.counter("crawler.archive.partitions", tags));
+            pendingPartitions.put(table, meterRegistry.gauge("crawler.archive.pending_partitions", tags, new AtomicLong()));
+        }
+        this.progressRows = meterRegistry.gauge("crawler.archive.progress.rows", new AtomicLong());
+        this.progressTotalRows = meterRegistry.gauge("crawler.archive.progress.total_rows", new AtomicLong());
+        this.duration = meterRegistry.timer("crawler.archive.duration");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 파티션을 미리 만들고 보관 기간이 지난 파티션을 최대 max_partitions_per_run 개 보관/삭제합니다.
+     */
+    public void run() {
+        long startTime = System.currentTimeMillis();
+        YearMonth now = YearMonth.now();
+        int budget = maxPartitionsPerRun;
+        int archived = 0;
+
+        for (String table : TABLES) {
+            try {
+                List<MonthlyPartitions.Partition> partitions = loadPartitions(table);
+                if (partitions.isEmpty()) {
+                    LogUtil.logInfo("[" + table + "] 파티셔닝되지 않은 테이블이어서 보관 작업을 건너뜁니다.");
+                    continue;
+                }
+                createFuturePartitions(table, partitions, now.plusMonths(premakeMonths));
+
+                List<MonthlyPartitions.Partition> expired = MonthlyPartitions.expired(partitions, now.minusMonths(retentionMonths));
+                AtomicLong pending = pendingPartitions.get(table);
+                pending.set(expired.size());
+                for (MonthlyPartitions.Partition partition : expired) {
+                    if (budget <= 0) {
+                        break;
+                    }
+                    archiveAndDrop(table, partition);
+                    pending.decrementAndGet();
+                    budget--;
+                    archived++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LogUtil.logInfo("[" + table + "] 파티션 보관 작업이 중단되었습니다.");
+                return;
+            } catch (Exception e) {
+                LogUtil.logError("[" + table + "] 파티션 보관 작업 실패: " + e.getMessage(), e);
+            }
+        }
+        LogUtil.logInfo("파티션 보관 작업 완료: " + archived + "개 파티션, " + (System.currentTimeMillis() - startTime) + "ms");
+    }
+
+    private List<MonthlyPartitions.Partition> loadPartitions(String table) {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) -> {
+            String description = rs.getString("partition_description");
+            Long upperBound = description == null || description.equalsIgnoreCase("MAXVALUE") ? null : Long.parseLong(description.trim());
+            return new MonthlyPartitions.Partition(rs.getString("partition_name"), upperBound, rs.getLong("table_rows"));
+        }, table);
+    }
+
+    /**
+     * through 월까지의 파티션을 만듭니다. MAXVALUE 파티션이 있으면 그 파티션을 나눠서 만듭니다.
+     */
+    private void createFuturePartitions(String table, List<MonthlyPartitions.Partition> partitions, YearMonth through) {
+        List<YearMonth> missing = MonthlyPartitions.missing(partitions, through);
+        if (missing.isEmpty()) {
+            return;
+        }
+        String definitions = missing.stream().map(MonthlyPartitions::definitionOf).collect(Collectors.joining(", "));
+        MonthlyPartitions.Partition max = partitions.stream().filter(MonthlyPartitions.Partition::isMax).findFirst().orElse(null);
+        if (max != null) {
+            jdbcTemplate.execute("alter table " + table + " reorganize partition " + checkedName(max.name()) + " into ("
+                    + definitions + ", partition " + checkedName(max.name()) + " values less than maxvalue)");
+        } else {
+            jdbcTemplate.execute("alter table " + table + " add partition (" + definitions + ")");
+        }
+        LogUtil.logInfo("[" + table + "] 월 파티션 생성: " + missing);
+    }
+
+    /**
+     * 파티션의 행을 파일로 옮긴 뒤 파티션을 삭제합니다.
+     * 파일이 끝까지 기록되고 디스크에 동기화된 뒤에만 삭제하므로, 중간에 실패하면 다음 실행에서 처음부터 다시 보관합니다.
+     */
+    private void archiveAndDrop(String table, MonthlyPartitions.Partition partition) throws IOException, InterruptedException {
+        long startTime = System.currentTimeMillis();
+        String name = checkedName(partition.name());
+        String selectSql = "select * from " + table + " partition (" + name + ") where id > ? order by id limit ?";
+        Path target = archiveDir.resolve(table).resolve(name + ".ndjson.gz");
+        long rows = writeArchive(table, name, selectSql, target, partition.rows());
+
+        jdbcTemplate.execute("alter table " + table + " drop partition " + name);
+        partitionCounters.get(table).increment();
+        long elapsedMs = System.currentTimeMillis() - startTime;
+        duration.record(Duration.ofMillis(elapsedMs));
+        LogUtil.logInfo("[" + table + "] " + name + " 보관 후 삭제: " + rows + "행, " + Files.size(target) + " bytes, " + elapsedMs + "ms");
+
+        if (table.equals(PAGES_TABLE)) {
+            archiveOrphanVersions(name);
+        }
+    }
+
+    /**
+     * 삭제된 페이지의 본문 이력(page_versions)을 같은 파티션 이름의 파일로 옮긴 뒤 삭제합니다.
+     * 재방문마다 crawled_at 이 갱신되므로 여기 걸리는 페이지는 보관 기간 동안 한 번도 재방문되지 않은 페이지뿐이며,
+     * 나중에 다시 수집되면 새 id 로 저장되어 이 이력과 이어지지 않습니다.
+     * 삭제는 파일이 기록된 뒤 기록한 마지막 id 까지만 하므로, 중간에 실패하면 다음 파티션 보관 때 남은 이력을 다시 옮깁니다.
+     */
+    private void archiveOrphanVersions(String partitionName) throws IOException, InterruptedException {
+        String orphan = "not exists (select 1 from " + PAGES_TABLE + " p where p.id = " + VERSIONS_TABLE + ".page_id)";
+        Long lastId = jdbcTemplate.queryForObject("select max(id) from " + VERSIONS_TABLE + " where " + orphan, Long.class);
+        if (lastId == null) {
+            return;
+        }
+        String selectSql = "select * from " + VERSIONS_TABLE + " where id > ? and id <= " + lastId + " and " + orphan
+                + " order by id limit ?";
+        Path target = archiveDir.resolve(VERSIONS_TABLE).resolve(partitionName + ".ndjson.gz");
+        long rows = writeArchive(VERSIONS_TABLE, partitionName, selectSql, target, 0);
+
+        String deleteSql = "delete from " + VERSIONS_TABLE + " where id <= ? and " + orphan + " limit ?";
+        long deleted = 0;
+        int affected;
+        do {
+            affected = jdbcTemplate.update(deleteSql, lastId, batchSize);
+            deleted += affected;
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException(VERSIONS_TABLE + " 삭제 중단");
+            }
+            Thread.sleep(batchPauseMs);
+        } while (affected == batchSize);
+        LogUtil.logInfo("[" + VERSIONS_TABLE + "] 삭제된 페이지의 이력 보관 후 삭제: " + rows + "행 보관, " + deleted + "행 삭제");
+    }
+
+    /**
+     * selectSql((id, limit) keyset 조회)로 읽은 행을 gzip NDJSON 파일로 기록하고 디스크에 동기화합니다.
+     * @return 기록한 행 수
+     */
+    private long writeArchive(String table, String name, String selectSql, Path target, long estimatedRows)
+            throws IOException, InterruptedException {
+        Path dir = target.getParent();
+        Files.createDirectories(dir);
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+        progressRows.set(0);
+        progressTotalRows.set(estimatedRows);
+        Counter rowCounter = rowCounters.get(table);
+
+        long rows = 0;
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             GZIPOutputStream gzip = new GZIPOutputStream(file, 64 * 1024);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(gzip)) {
+            generator.setRootValueSeparator(null);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            long afterId = 0;
+            int batches = 0;
+            while (true) {
+                List<Map<String, Object>> batch = jdbcTemplate.queryForList(selectSql, afterId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Map<String, Object> row : batch) {
+                    generator.writeObject(row);
+                    generator.writeRaw('\n');
+                }
+                afterId = ((Number) batch.get(batch.size() - 1).get("id")).longValue();
+                rows += batch.size();
+                rowCounter.increment(batch.size());
+                progressRows.set(rows);
+
+                if (++batches % LOG_EVERY_BATCHES == 0) {
+                    LogUtil.logInfo("[" + table + "] " + name + " 보관 중: " + rows + " / 약 " + estimatedRows + "행");
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException(name + " 보관 중단");
+                }
+                // 운영 쿼리와 복제가 따라올 수 있도록 배치 사이에 쉬어 감
+                Thread.sleep(batchPauseMs);
+            }
+            generator.flush();
+            gzip.finish();
+            file.getFD().sync();
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        byteCounters.get(table).increment(Files.size(target));
+        return rows;
+    }
+
+    private static String checkedName(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalStateException("잘못된 파티션 이름: " + name);
+        }
+        return name;
+    }
+}
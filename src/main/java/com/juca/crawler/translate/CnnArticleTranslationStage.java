@@ -0,0 +1,211 @@
+package com.juca.crawler.translate;
+
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.util.LogUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CNN 기사 번역 단계
+ *
+ * 번역되지 않은 기사를 배치 단위로 읽어 제목/본문을 크기 제한 조각으로 나누고,
+ * 조각 요청을 전용 스레드 풀에서 동시에(속도 제한 하에) 보낸 뒤 배치 전체를 JDBC 배치 update 한 번으로 기록합니다.
+ * 실행은 별도 스레드에서 이루어지므로 크롤링 스케줄러를 막지 않습니다.
+ * 조각 하나라도 실패한 기사는 저장하지 않고 다음 실행에서 다시 시도합니다.
+ */
+@Service
+public class CnnArticleTranslationStage {
+
+    private static final String UPDATE_SQL = """
+            update cnn_articles set title_kr = ?, content_kr = ?, translated_at = ?
+            where id = ? and translated_at is null
+            """;
+
+    private final CnnArticleRepository cnnArticleRepository;
+    // 번역을 끈 경우에는 없을 수 있음
+    private final Translator translator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final TranslationRateLimiter rateLimiter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxChunkChars;
+    private final String sourceLanguage;
+    private final String targetLanguage;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "cnn-translation"));
+    private final ExecutorService requestExecutor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public CnnArticleTranslationStage(CnnArticleRepository cnnArticleRepository,
+                                      ObjectProvider<Translator> translators,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${crawler.translation.enabled:false}") boolean enabled,
+                                      @Value("${crawler.translation.batch_size:20}") int batchSize,
+                                      @Value("${crawler.translation.concurrency:4}") int concurrency,
+                                      @Value("${crawler.translation.requests_per_second:5}") double requestsPerSecond,
+                                      @Value("${crawler.translation.max_chunk_chars:4000}") int maxChunkChars,
+                                      @Value("${crawler.translation.source_language:en}") String sourceLanguage,
+                                      @Value("${crawler.translation.target_language:ko}") String targetLanguage) {
+        this.cnnArticleRepository = cnnArticleRepository;
+        this.translator = translators.getIfUnique();
+        if (enabled && translator == null) {
+            throw new IllegalStateException("crawler.translation.enabled=true 이지만 사용할 Translator 빈이 없습니다. 번역 API 구현을 등록하세요.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.rateLimiter = new TranslationRateLimiter(requestsPerSecond);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxChunkChars = maxChunkChars;
+        this.sourceLanguage = sourceLanguage;
+        this.targetLanguage = targetLanguage;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.requestExecutor = Executors.newFixedThreadPool(concurrency,
+                r -> new Thread(r, "cnn-translation-request-" + threadNumber.incrementAndGet()));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 백그라운드에서 번역 대기 기사를 모두 처리합니다.
+     * @return 이미 번역이 진행 중이면 false
+     */
+    public boolean translateAsync() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                translatePending();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void translatePending() {
+        long startTime = System.currentTimeMillis();
+        long afterId = 0;
+        int translated = 0;
+        int failed = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<PendingTranslation> batch = cnnArticleRepository.findPendingTranslations(afterId, Limit.of(batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+
+                List<Object[]> rows = translateBatch(batch);
+                if (!rows.isEmpty()) {
+                    transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, rows));
+                }
+                translated += rows.size();
+                failed += batch.size() - rows.size();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+            if (translated > 0 || failed > 0) {
+                LogUtil.logInfo("CNN 기사 번역 완료: 성공 " + translated + "건, 실패 " + failed + "건, "
+                        + (System.currentTimeMillis() - startTime) + "ms");
+            }
+        } catch (Exception e) {
+            LogUtil.logError("CNN 기사 번역 단계 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치의 모든 조각 요청을 한꺼번에 보낸 뒤 기사별로 모읍니다.
+     * @return 번역에 성공한 기사의 update 파라미터 (title_kr, content_kr, translated_at, id)
+     */
+    private List<Object[]> translateBatch(List<PendingTranslation> batch) {
+        List<CompletableFuture<String>> titles = new ArrayList<>(batch.size());
+        List<CompletableFuture<String>> contents = new ArrayList<>(batch.size());
+        for (PendingTranslation article : batch) {
+            titles.add(translateText(article.getTitle()));
+            contents.add(translateText(article.getContent()));
+        }
+
+        Timestamp translatedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingTranslation article = batch.get(i);
+            try {
+                rows.add(new Object[]{titles.get(i).join(), contents.get(i).join(), translatedAt, article.getId()});
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                LogUtil.logError("CNN 기사 번역 실패 (id=" + article.getId() + "): " + cause.getMessage(), cause);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 텍스트를 조각으로 나눠 동시에 번역하고, 순서대로 이어 붙인 결과를 돌려줍니다.
+     */
+    private CompletableFuture<String> translateText(String text) {
+        if (text == null || text.isBlank()) {
+            return CompletableFuture.completedFuture(text);
+        }
+        List<CompletableFuture<String>> chunks = TextChunker.split(text, maxChunkChars).stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> translateChunk(chunk), requestExecutor))
+                .toList();
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    StringBuilder result = new StringBuilder(text.length());
+                    chunks.forEach(chunk -> result.append(chunk.join()));
+                    return result.toString();
+                });
+    }
+
+    private String translateChunk(String chunk) {
+        if (chunk.isBlank()) {
+            return chunk;
+        }
+        try {
+            rateLimiter.acquire();
+            return translator.translate(chunk, sourceLanguage, targetLanguage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        requestExecutor.shutdownNow();
+    }
+}
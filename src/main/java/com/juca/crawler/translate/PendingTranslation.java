@@ -0,0 +1,15 @@
+package com.juca.crawler.translate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 번역 대기 CNN 기사 (id, 제목, 본문) 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class PendingTranslation {
+    private final Long id;
+    private final String title;
+    private final String content;
+}
@@ -0,0 +1,62 @@
+package com.juca.crawler.translate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 긴 본문을 번역 요청 크기 제한 이하의 조각으로 나눕니다.
+ *
+ * 가능한 한 문단(줄바꿈) 경계에서, 문단이 너무 길면 문장 경계에서, 문장도 너무 길면 공백에서 자르고,
+ * 그래도 안 되면 글자 수로 자릅니다. 조각을 순서대로 이어 붙이면 원문과 같습니다.
+ */
+public final class TextChunker {
+
+    private TextChunker() {
+    }
+
+    public static List<String> split(String text, int maxChars) {
+        if (maxChars <= 0) {
+            throw new IllegalArgumentException("maxChars 는 1 이상이어야 합니다: " + maxChars);
+        }
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(text.length(), start + maxChars);
+            if (end < text.length()) {
+                end = cutPoint(text, start, end);
+            }
+            chunks.add(text.substring(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * [start, limit) 안에서 가장 뒤쪽의 자연스러운 경계 바로 뒤 위치를 찾습니다.
+     */
+    private static int cutPoint(String text, int start, int limit) {
+        int half = start + (limit - start) / 2;
+
+        int paragraph = text.lastIndexOf('\n', limit - 1);
+        if (paragraph >= half) {
+            return paragraph + 1;
+        }
+        // 문장 부호 뒤 공백까지 조각에 넣어도 limit 을 넘지 않도록 limit - 2 부터
+        for (int i = limit - 2; i >= half; i--) {
+            char c = text.charAt(i);
+            if ((c == '.' || c == '!' || c == '?') && i + 1 < text.length() && Character.isWhitespace(text.charAt(i + 1))) {
+                return i + 2;
+            }
+        }
+        for (int i = limit - 1; i > start; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i + 1;
+            }
+        }
+        // 서로게이트 쌍 가운데서 자르지 않음
+        if (Character.isHighSurrogate(text.charAt(limit - 1)) && limit - 1 > start) {
+            return limit - 1;
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,31 @@
+package com.juca.crawler.translate;
+
+/**
+ * 번역 요청 속도 제한 (초당 요청 수)
+ * 요청 사이 간격을 고르게 유지하며, 호출 스레드는 자기 차례가 올 때까지 대기합니다.
+ */
+public class TranslationRateLimiter {
+
+    private final long intervalNanos;
+    private long nextAllowedAt = System.nanoTime();
+
+    public TranslationRateLimiter(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond 는 0 보다 커야 합니다: " + requestsPerSecond);
+        }
+        this.intervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextAllowedAt);
+            nextAllowedAt = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+}
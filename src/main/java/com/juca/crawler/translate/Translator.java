@@ -0,0 +1,20 @@
+package com.juca.crawler.translate;
+
+import java.io.IOException;
+
+/**
+ * 번역 엔진 SPI
+ *
+ * 외부 번역 API 연동은 이 인터페이스를 구현한 빈으로 등록합니다. (여러 개면 crawler.translation.provider 조건으로 하나만 활성화)
+ * 구현 빈 없이 crawler.translation.enabled=true 로 켜면 번역 단계가 시작되지 않습니다.
+ * 한 번의 호출에는 TextChunker 로 나눈 크기 제한 이하의 조각만 전달되며, 여러 스레드에서 동시에 호출됩니다.
+ */
+public interface Translator {
+
+    /**
+     * @param text           번역할 텍스트 (빈 문자열이 아님)
+     * @param sourceLanguage 원문 언어 코드 (예: en)
+     * @param targetLanguage 번역 언어 코드 (예: ko)
+     */
+    String translate(String text, String sourceLanguage, String targetLanguage) throws IOException;
+}
@@ -0,0 +1,29 @@
+package com.juca.crawler.url;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * CNN 기사(/yyyy/mm/dd/...)는 호스트(www, edition, us)와 쿼리(iid, cid 등 유입 경로)에 관계없이 같은 문서이므로
+ * https://edition.cnn.com/{path} 로 통일합니다.
+ */
+public class CnnArticleRule implements SiteRule {
+
+    private static final String CANONICAL_HOST = "edition.cnn.com";
+
+    private static final Set<String> HOSTS = Set.of("cnn.com", "www.cnn.com", CANONICAL_HOST, "us.cnn.com");
+    private static final Pattern ARTICLE_PATH = Pattern.compile("/\\d{4}/\\d{2}/\\d{2}/.+");
+
+    @Override
+    public boolean appliesTo(String host) {
+        return HOSTS.contains(host);
+    }
+
+    @Override
+    public void apply(ParsedUrl url) {
+        if (ARTICLE_PATH.matcher(url.getPath()).matches()) {
+            url.rewrite("https", CANONICAL_HOST, url.getPath());
+            url.clearParams();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.juca.crawler.url;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 네이버 뉴스 기사 URL 은 언론사 ID(oid)와 기사 ID(aid)로 식별됩니다.
+ * 다음 형태를 모두 https://n.news.naver.com/mnews/article/{oid}/{aid} 로 바꿉니다.
+ *  - n.news.naver.com/mnews/article/{oid}/{aid}?sid=100
+ *  - n.news.naver.com/article/{oid}/{aid}
+ *  - news.naver.com/main/read.naver?mode=LSD&sid1=100&oid={oid}&aid={aid}
+ *  - m.news.naver.com/read.nhn?oid={oid}&aid={aid}
+ */
+public class NaverNewsRule implements SiteRule {
+
+    public static final String ARTICLE_HOST = "n.news.naver.com";
+
+    private static final Set<String> HOSTS = Set.of(ARTICLE_HOST, "news.naver.com", "m.news.naver.com");
+    private static final Pattern ARTICLE_PATH = Pattern.compile("/(?:mnews/)?article/(\\d+)/(\\d+)/?");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    @Override
+    public boolean appliesTo(String host) {
+        return HOSTS.contains(host);
+    }
+
+    @Override
+    public void apply(ParsedUrl url) {
+        String oid;
+        String aid;
+        Matcher matcher = ARTICLE_PATH.matcher(url.getPath());
+        if (matcher.matches()) {
+            oid = matcher.group(1);
+            aid = matcher.group(2);
+        } else if (url.getPath().contains("read")) {
+            oid = url.param("oid");
+            aid = url.param("aid");
+        } else {
+            return;
+        }
+
+        if (oid != null && aid != null && DIGITS.matcher(oid).matches() && DIGITS.matcher(aid).matches()) {
+            url.rewrite("https", ARTICLE_HOST, "/mnews/article/" + oid + "/" + aid);
+            url.clearParams();
+        }
+    }
+}
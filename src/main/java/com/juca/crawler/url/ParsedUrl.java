@@ -0,0 +1,65 @@
+package com.juca.crawler.url;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정규화 중인 URL 의 구성요소. 사이트 규칙({@link SiteRule})이 직접 수정합니다.
+ */
+public class ParsedUrl {
+
+    String scheme;
+    String host;
+    // 기본 포트(http 80, https 443)면 -1
+    int port;
+    String path;
+    final List<String[]> params = new ArrayList<>(); // [key, value|null]
+
+    public String getHost() {
+        return host;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return 첫 번째로 일치하는 쿼리 파라미터 값 (인코딩된 그대로), 없으면 null
+     */
+    public String param(String key) {
+        for (String[] param : params) {
+            if (param[0].equals(key)) {
+                return param[1];
+            }
+        }
+        return null;
+    }
+
+    public void rewrite(String scheme, String host, String path) {
+        this.scheme = scheme;
+        this.host = host;
+        this.port = -1;
+        this.path = path;
+    }
+
+    public void clearParams() {
+        params.clear();
+    }
+
+    String build() {
+        StringBuilder sb = new StringBuilder(scheme.length() + host.length() + path.length() + 16);
+        sb.append(scheme).append("://").append(host);
+        if (port >= 0) {
+            sb.append(':').append(port);
+        }
+        sb.append(path);
+        for (int i = 0; i < params.size(); i++) {
+            String[] param = params.get(i);
+            sb.append(i == 0 ? '?' : '&').append(param[0]);
+            if (param[1] != null) {
+                sb.append('=').append(param[1]);
+            }
+        }
+        return sb.toString();
+    }
+}
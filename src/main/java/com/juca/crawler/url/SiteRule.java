@@ -0,0 +1,12 @@
+package com.juca.crawler.url;
+
+/**
+ * 사이트별 URL 정규화 규칙
+ * 같은 문서를 가리키는 여러 URL 형태를 하나의 대표 형태로 바꿉니다. (공통 정규화 이후 적용)
+ */
+public interface SiteRule {
+
+    boolean appliesTo(String host);
+
+    void apply(ParsedUrl url);
+}
@@ -0,0 +1,129 @@
+package com.juca.crawler.url;
+
+import com.juca.crawler.domain.UrlRedirect;
+import com.juca.crawler.repository.UrlRedirectRepository;
+import com.juca.crawler.util.LogUtil;
+import com.juca.crawler.util.MurmurHash3;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL 정규화 진입점
+ *
+ * 공통 정규화와 사이트 규칙({@link SiteRule})으로 같은 문서의 여러 URL 형태를 하나로 모은 뒤,
+ * 이미 확인된 리다이렉트가 있으면 최종 URL 로 바꿉니다.
+ * 중복 확인, frontier 방문 기록, 저장소 조회는 모두 이 클래스가 돌려준 URL 로 수행합니다.
+ */
+@Component
+public class UrlCanonicalizer {
+
+    private static final List<SiteRule> SITE_RULES = List.of(new NaverNewsRule(), new CnnArticleRule());
+
+    // 리다이렉트 체인 최대 추적 횟수 (순환 방지)
+    private static final int MAX_REDIRECT_HOPS = 5;
+
+    private final UrlRedirectRepository urlRedirectRepository;
+    private final int cacheSize;
+
+    // 최근 기록된 리다이렉트 LRU 캐시 (source -> target)
+    private final Map<String, String> redirects;
+
+    public UrlCanonicalizer(UrlRedirectRepository urlRedirectRepository,
+                            @Value("${crawler.url.redirect_cache_size:100000}") int cacheSize) {
+        this.urlRedirectRepository = urlRedirectRepository;
+        this.cacheSize = cacheSize;
+        this.redirects = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > UrlCanonicalizer.this.cacheSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    void loadRedirects() {
+        List<UrlRedirect> recent;
+        try {
+            recent = urlRedirectRepository.findAllByOrderByRecordedAtDesc(Limit.of(cacheSize));
+        } catch (Exception e) {
+            // 캐시가 비어 있어도 정규화는 동작 (리다이렉트는 다시 수집하면서 채워짐)
+            LogUtil.logError("[URL] 리다이렉트 로드 실패: " + e.getMessage(), e);
+            return;
+        }
+        synchronized (redirects) {
+            // 오래된 것부터 넣어 최근 항목이 LRU 에서 늦게 밀려나도록 함
+            for (int i = recent.size() - 1; i >= 0; i--) {
+                redirects.put(recent.get(i).getSourceUrl(), recent.get(i).getTargetUrl());
+            }
+        }
+        LogUtil.logInfo("[URL] 리다이렉트 " + recent.size() + "건 로드");
+    }
+
+    /**
+     * @return 정규화된 URL, http(s) URL 이 아니거나 해석할 수 없으면 null
+     */
+    public String canonicalize(String url) {
+        String canonical = UrlNormalizer.normalize(url, SITE_RULES);
+        if (canonical == null) {
+            return null;
+        }
+        synchronized (redirects) {
+            for (int hop = 0; hop < MAX_REDIRECT_HOPS; hop++) {
+                String target = redirects.get(canonical);
+                if (target == null) {
+                    break;
+                }
+                canonical = target;
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * 요청한 URL 과 리다이렉트를 따라간 최종 URL 이 다르면 기록합니다.
+     * @return 정규화된 최종 URL
+     */
+    public String recordRedirect(String requestedUrl, String finalUrl) {
+        String source = UrlNormalizer.normalize(requestedUrl, SITE_RULES);
+        String target = UrlNormalizer.normalize(finalUrl, SITE_RULES);
+        if (source == null || target == null || source.equals(target)) {
+            return target != null ? target : source;
+        }
+
+        boolean reversed;
+        synchronized (redirects) {
+            if (target.equals(redirects.get(source))) {
+                return target;
+            }
+            redirects.put(source, target);
+            // 반대 방향 기록이 남아 있으면 순환이 되므로 최근 관측을 우선
+            reversed = source.equals(redirects.get(target));
+            if (reversed) {
+                redirects.remove(target);
+            }
+        }
+
+        try {
+            if (reversed) {
+                urlRedirectRepository.findBySourceHash(MurmurHash3.hash64(target)).ifPresent(urlRedirectRepository::delete);
+            }
+            long hash = MurmurHash3.hash64(source);
+            LocalDateTime now = LocalDateTime.now();
+            UrlRedirect redirect = urlRedirectRepository.findBySourceHash(hash)
+                    .orElseGet(() -> new UrlRedirect(hash, source, target, now));
+            redirect.redirectTo(target, now);
+            urlRedirectRepository.save(redirect);
+        } catch (Exception e) {
+            // 기록 실패는 다음 요청 때 다시 확인되므로 수집은 계속 진행
+            LogUtil.logError("리다이렉트 기록 실패: " + source + " -> " + target + " - " + e.getMessage(), e);
+        }
+        return target;
+    }
+}
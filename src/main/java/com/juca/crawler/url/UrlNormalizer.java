@@ -0,0 +1,211 @@
+package com.juca.crawler.url;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * URL 공통 정규화 + 사이트 규칙 적용
+ *
+ * java.net.URL/URI 객체를 만들지 않고 문자열을 한 번 훑어 처리합니다.
+ *  - fragment 제거, scheme/host 소문자, 기본 포트와 userinfo 제거
+ *  - 경로의 . / .. 세그먼트 정리, 퍼센트 인코딩 대문자화 및 비예약 문자 디코딩, 루트가 아닌 경로의 끝 '/' 제거
+ *  - 추적용 쿼리 파라미터(utm_*, fbclid 등) 제거 후 키 기준 정렬
+ */
+public class UrlNormalizer {
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "gbraid", "wbraid", "msclkid", "yclid", "igshid",
+            "mc_cid", "mc_eid", "_ga", "_gl", "ref_src", "spm");
+
+    private static final Comparator<String[]> BY_KEY = Comparator.comparing(param -> param[0]);
+
+    /**
+     * @return 정규화된 URL, http(s) URL 이 아니거나 해석할 수 없으면 null
+     */
+    public static String normalize(String url, List<SiteRule> rules) {
+        ParsedUrl parsed = parse(url);
+        if (parsed == null) {
+            return null;
+        }
+        for (SiteRule rule : rules) {
+            if (rule.appliesTo(parsed.host)) {
+                rule.apply(parsed);
+                break;
+            }
+        }
+        return parsed.build();
+    }
+
+    static ParsedUrl parse(String url) {
+        if (url == null) {
+            return null;
+        }
+        String s = url.trim();
+        int fragment = s.indexOf('#');
+        if (fragment >= 0) {
+            s = s.substring(0, fragment);
+        }
+
+        int schemeEnd = s.indexOf("://");
+        if (schemeEnd <= 0) {
+            return null;
+        }
+        String scheme = s.substring(0, schemeEnd).toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            return null;
+        }
+
+        int authorityStart = schemeEnd + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < s.length() && s.charAt(authorityEnd) != '/' && s.charAt(authorityEnd) != '?') {
+            authorityEnd++;
+        }
+        String authority = s.substring(authorityStart, authorityEnd);
+        int at = authority.lastIndexOf('@');
+        if (at >= 0) {
+            authority = authority.substring(at + 1);
+        }
+
+        String host = authority;
+        int port = -1;
+        int colon = authority.lastIndexOf(':');
+        // IPv6 리터럴([::1]) 내부의 ':' 는 포트 구분자가 아님
+        if (colon >= 0 && colon > authority.lastIndexOf(']')) {
+            host = authority.substring(0, colon);
+            String portText = authority.substring(colon + 1);
+            if (!portText.isEmpty()) {
+                try {
+                    port = Integer.parseInt(portText);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        if (host.isEmpty()) {
+            return null;
+        }
+        if ((scheme.equals("http") && port == 80) || (scheme.equals("https") && port == 443)) {
+            port = -1;
+        }
+
+        String rest = s.substring(authorityEnd);
+        int question = rest.indexOf('?');
+        String path = question >= 0 ? rest.substring(0, question) : rest;
+        String query = question >= 0 ? rest.substring(question + 1) : "";
+
+        ParsedUrl parsed = new ParsedUrl();
+        parsed.scheme = scheme;
+        parsed.host = host;
+        parsed.port = port;
+        parsed.path = normalizePath(path);
+        parseQuery(query, parsed.params);
+        return parsed;
+    }
+
+    private static String normalizePath(String path) {
+        if (path.isEmpty() || path.equals("/")) {
+            return "/";
+        }
+        String encoded = normalizeEncoding(path);
+
+        // dot-segment 제거 (RFC 3986 5.2.4)
+        Deque<String> segments = new ArrayDeque<>();
+        int start = 1;
+        while (start <= encoded.length()) {
+            int end = encoded.indexOf('/', start);
+            if (end < 0) {
+                end = encoded.length();
+            }
+            String segment = encoded.substring(start, end);
+            if (segment.equals("..")) {
+                segments.pollLast();
+            } else if (!segment.equals(".")) {
+                segments.addLast(segment);
+            }
+            start = end + 1;
+        }
+
+        StringBuilder sb = new StringBuilder(encoded.length());
+        for (String segment : segments) {
+            sb.append('/').append(segment);
+        }
+        // 루트가 아닌 경로의 끝 '/' 와 빈 세그먼트 제거
+        int length = sb.length();
+        while (length > 1 && sb.charAt(length - 1) == '/') {
+            length--;
+        }
+        sb.setLength(length);
+        return sb.length() == 0 ? "/" : sb.toString();
+    }
+
+    private static void parseQuery(String query, List<String[]> params) {
+        if (query.isEmpty()) {
+            return;
+        }
+        int start = 0;
+        while (start <= query.length()) {
+            int end = query.indexOf('&', start);
+            if (end < 0) {
+                end = query.length();
+            }
+            if (end > start) {
+                String pair = normalizeEncoding(query.substring(start, end));
+                int eq = pair.indexOf('=');
+                String key = eq >= 0 ? pair.substring(0, eq) : pair;
+                String value = eq >= 0 ? pair.substring(eq + 1) : null;
+                if (!key.isEmpty() && !isTrackingParam(key)) {
+                    params.add(new String[]{key, value});
+                }
+            }
+            start = end + 1;
+        }
+        // 안정 정렬이므로 같은 키의 값 순서는 유지
+        params.sort(BY_KEY);
+    }
+
+    private static boolean isTrackingParam(String key) {
+        return key.startsWith("utm_") || TRACKING_PARAMS.contains(key);
+    }
+
+    /**
+     * %xx 를 대문자로 통일하고, 비예약 문자(영숫자 - . _ ~)를 인코딩한 경우는 디코딩합니다.
+     */
+    private static String normalizeEncoding(String s) {
+        if (s.indexOf('%') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '%' && i + 2 < s.length() && isHex(s.charAt(i + 1)) && isHex(s.charAt(i + 2))) {
+                int value = Character.digit(s.charAt(i + 1), 16) * 16 + Character.digit(s.charAt(i + 2), 16);
+                if (isUnreserved(value)) {
+                    sb.append((char) value);
+                } else {
+                    sb.append('%').append(Character.toUpperCase(s.charAt(i + 1))).append(Character.toUpperCase(s.charAt(i + 2)));
+                }
+                i += 2;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isHex(char c) {
+        return Character.digit(c, 16) >= 0;
+    }
+
+    private static boolean isUnreserved(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
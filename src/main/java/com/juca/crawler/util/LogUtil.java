@@ -6,6 +6,8 @@ import org.slf4j.LoggerFactory;
 public class LogUtil {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LogUtil.class);
+    // 실행 시간 기록 전용 로거 (logback 설정에서 따로 레벨/appender 를 조정할 수 있도록 분리)
+    private static final Logger TIMING_LOGGER = LoggerFactory.getLogger("com.juca.crawler.timing");
 
     public static void logSchedulerStart(String schedulerName, String methodName) {
         LOGGER.info("[SCHEDULER_START] {} - Method: {}", schedulerName, methodName);
@@ -16,9 +18,8 @@ public class LogUtil {
     }
 
     public static void logSchedulerException(String schedulerName, String methodName, Throwable e, String additionalMessage) {
-        String msg = String.format("[SCHEDULER_EXCEPTION] %s - Method: %s - Error: %s",
-                schedulerName, methodName, additionalMessage != null ? additionalMessage : "An unexpected error occurred.");
-        LOGGER.error(msg, e);
+        LOGGER.error("[SCHEDULER_EXCEPTION] {} - Method: {} - Error: {}",
+                schedulerName, methodName, additionalMessage != null ? additionalMessage : "An unexpected error occurred.", e);
     }
 
     public static void logInfo(String message) {
@@ -28,4 +29,69 @@ public class LogUtil {
     public static void logError(String message, Throwable e) {
         LOGGER.error(message, e);
     }
-}
\ No newline at end of file
+
+    /**
+     * 스케줄러 작업 1회 실행 기록 (kind=job, target, method, duration_ms, outcome 를 key-value 로 남김)
+     * @param error 작업이 예외로 끝났으면 그 예외, 정상 종료면 null
+     */
+    public static void logJobDuration(String target, String method, long durationMs, Throwable error) {
+        if (error == null) {
+            TIMING_LOGGER.atInfo()
+                    .addKeyValue("kind", "job")
+                    .addKeyValue("target", target)
+                    .addKeyValue("method", method)
+                    .addKeyValue("duration_ms", durationMs)
+                    .addKeyValue("outcome", "success")
+                    .log("[JOB] {}.{} {}ms", target, method, durationMs);
+            return;
+        }
+        TIMING_LOGGER.atError()
+                .setCause(error)
+                .addKeyValue("kind", "job")
+                .addKeyValue("target", target)
+                .addKeyValue("method", method)
+                .addKeyValue("duration_ms", durationMs)
+                .addKeyValue("outcome", "error")
+                .addKeyValue("error", error.getClass().getName())
+                .log("[JOB] {}.{} {}ms 실패", target, method, durationMs);
+    }
+
+    /**
+     * 이전 실행이 아직 끝나지 않아 건너뛴 스케줄러 트리거 기록
+     */
+    public static void logJobSkipped(String target, String method) {
+        TIMING_LOGGER.atInfo()
+                .addKeyValue("kind", "job")
+                .addKeyValue("target", target)
+                .addKeyValue("method", method)
+                .addKeyValue("outcome", "skipped")
+                .log("[JOB] {}.{} 이전 실행이 진행 중이어서 건너뜀", target, method);
+    }
+
+    /**
+     * 애플리케이션 시작 단계 기록 (kind=startup, phase, elapsed_ms: JVM 시작 시점부터의 경과 시간)
+     */
+    public static void logStartup(String phase, long elapsedMs) {
+        TIMING_LOGGER.atInfo()
+                .addKeyValue("kind", "startup")
+                .addKeyValue("phase", phase)
+                .addKeyValue("elapsed_ms", elapsedMs)
+                .log("[STARTUP] {} {}ms", phase, elapsedMs);
+    }
+
+    /**
+     * 서비스 진입점 호출 기록. slow 가 아니면 DEBUG 로만 남기므로 평소에는 이벤트 객체를 만들지 않습니다.
+     */
+    public static void logServiceDuration(String target, String method, long durationMs, boolean slow, Throwable error) {
+        if (!slow && error == null && !TIMING_LOGGER.isDebugEnabled()) {
+            return;
+        }
+        (slow || error != null ? TIMING_LOGGER.atInfo() : TIMING_LOGGER.atDebug())
+                .addKeyValue("kind", "service")
+                .addKeyValue("target", target)
+                .addKeyValue("method", method)
+                .addKeyValue("duration_ms", durationMs)
+                .addKeyValue("outcome", error == null ? "success" : "error")
+                .log("[SERVICE] {}.{} {}ms", target, method, durationMs);
+    }
+}
@@ -0,0 +1,215 @@
+package com.juca.crawler.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * URL 방문 기록용 지문(fingerprint) 집합
+ *
+ * URL 문자열 대신 128bit MurmurHash3 지문만 long[] 오픈 어드레싱 테이블에 저장합니다.
+ * HashSet&lt;String&gt; 은 URL 1건당 150B 이상(문자열 + 노드 + 버킷)을 쓰지만, 이 집합은 지문 16B 와 빈 슬롯만큼만 씁니다.
+ * (최대 적재율 0.9, 1.25배 증가 → URL 1건당 약 18~22B, 예상 건수를 주고 만들면 20B 미만)
+ *
+ * - 충돌 확률이 2^-127 수준이므로 크롤링 규모에서는 정확한 집합으로 취급합니다.
+ * - 높은 적재율에서도 탐색이 짧도록 Robin Hood 선형 탐사를 사용합니다.
+ * - 지문 상위 비트로 나눈 세그먼트 단위로 잠금을 걸어 여러 스레드가 동시에 추가할 수 있습니다.
+ * - 삭제는 지원하지 않습니다.
+ */
+public final class UrlFingerprintSet {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 8;
+    private static final double MAX_LOAD = 0.9;
+    private static final double GROWTH = 1.25;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    public UrlFingerprintSet() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize 예상 URL 수 (미리 테이블을 잡아 재해싱을 줄임)
+     */
+    public UrlFingerprintSet(int expectedSize) {
+        int segmentCapacity = Math.max(MIN_SEGMENT_CAPACITY,
+                (int) Math.ceil((double) expectedSize / SEGMENT_COUNT / MAX_LOAD));
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있으면 false
+     */
+    public boolean add(String url) {
+        long[] fingerprint = fingerprint(url);
+        return segmentOf(fingerprint[0]).add(fingerprint[0], fingerprint[1]);
+    }
+
+    public boolean contains(String url) {
+        long[] fingerprint = fingerprint(url);
+        return segmentOf(fingerprint[0]).contains(fingerprint[0], fingerprint[1]);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return 지문 테이블이 차지하는 힙 크기(byte)
+     */
+    public long tableBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            bytes += segment.tableBytes();
+        }
+        return bytes;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentOf(long hi) {
+        return segments[(int) (hi >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    private static long[] fingerprint(String url) {
+        byte[] bytes = url.getBytes(StandardCharsets.UTF_8);
+        long[] out = new long[2];
+        MurmurHash3.hash128(bytes, 0, bytes.length, 0, out);
+        // 하위 지문 0 은 빈 슬롯 표시로 쓰므로 최하위 비트를 고정
+        out[1] |= 1L;
+        return out;
+    }
+
+    /**
+     * 슬롯 i 는 slots[2i](상위 지문), slots[2i+1](하위 지문)을 사용합니다. 하위 지문이 0 이면 빈 슬롯입니다.
+     */
+    private static final class Segment {
+        private long[] slots;
+        private int capacity;
+        private int size;
+        private int maxSize;
+
+        private Segment(int capacity) {
+            allocate(capacity);
+        }
+
+        synchronized boolean contains(long hi, long lo) {
+            return find(hi, lo);
+        }
+
+        synchronized boolean add(long hi, long lo) {
+            if (find(hi, lo)) {
+                return false;
+            }
+            if (size >= maxSize) {
+                grow();
+            }
+            insert(hi, lo);
+            size++;
+            return true;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long tableBytes() {
+            return (long) slots.length * Long.BYTES;
+        }
+
+        synchronized void clear() {
+            allocate(MIN_SEGMENT_CAPACITY);
+        }
+
+        private boolean find(long hi, long lo) {
+            int pos = home(lo);
+            int distance = 0;
+            while (true) {
+                long slotLo = slots[2 * pos + 1];
+                if (slotLo == 0) {
+                    return false;
+                }
+                if (slotLo == lo && slots[2 * pos] == hi) {
+                    return true;
+                }
+                // Robin Hood 불변식: 자기 자리에서 더 가까운 항목을 만나면 찾는 지문은 없음
+                if (distance(home(slotLo), pos) < distance) {
+                    return false;
+                }
+                pos = next(pos);
+                distance++;
+            }
+        }
+
+        private void insert(long hi, long lo) {
+            int pos = home(lo);
+            int distance = 0;
+            while (true) {
+                long slotLo = slots[2 * pos + 1];
+                if (slotLo == 0) {
+                    slots[2 * pos] = hi;
+                    slots[2 * pos + 1] = lo;
+                    return;
+                }
+                int slotDistance = distance(home(slotLo), pos);
+                if (slotDistance < distance) {
+                    // 자기 자리에서 더 가까운 항목과 자리를 바꾸고, 밀려난 항목의 자리를 이어서 찾음
+                    long slotHi = slots[2 * pos];
+                    slots[2 * pos] = hi;
+                    slots[2 * pos + 1] = lo;
+                    hi = slotHi;
+                    lo = slotLo;
+                    distance = slotDistance;
+                }
+                pos = next(pos);
+                distance++;
+            }
+        }
+
+        private void grow() {
+            long[] old = slots;
+            int oldSize = size;
+            allocate(Math.max(capacity + 1, (int) (capacity * GROWTH)));
+            for (int i = 0; i < old.length; i += 2) {
+                if (old[i + 1] != 0) {
+                    insert(old[i], old[i + 1]);
+                }
+            }
+            size = oldSize;
+        }
+
+        private void allocate(int newCapacity) {
+            slots = new long[newCapacity * 2];
+            capacity = newCapacity;
+            size = 0;
+            maxSize = Math.min(newCapacity - 1, (int) (newCapacity * MAX_LOAD));
+        }
+
+        private int home(long lo) {
+            // 2의 거듭제곱이 아닌 크기에도 나눗셈 없이 [0, capacity) 로 사상
+            return (int) Math.unsignedMultiplyHigh(lo, capacity);
+        }
+
+        private int next(int pos) {
+            return pos + 1 == capacity ? 0 : pos + 1;
+        }
+
+        private int distance(int home, int pos) {
+            return pos >= home ? pos - home : pos + capacity - home;
+        }
+    }
+}
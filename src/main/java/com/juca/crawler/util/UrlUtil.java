@@ -0,0 +1,44 @@
+package com.juca.crawler.util;
+
+import java.net.URI;
+import java.util.Locale;
+
+public class UrlUtil {
+
+    /**
+     * @return 소문자 호스트, 해석할 수 없는 URL 이면 null
+     */
+    public static String hostOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return www. 를 제외한 소문자 호스트, 해석할 수 없는 URL 이면 null
+     */
+    public static String domainOf(String url) {
+        String host = hostOf(url);
+        if (host != null && host.startsWith("www.")) {
+            return host.substring(4);
+        }
+        return host;
+    }
+
+    /**
+     * 링크 타입 분류 (internal / image / document / external)
+     */
+    public static String linkTypeOf(String url, String baseDomain) {
+        if (url == null || url.isEmpty()) return "unknown";
+        if (baseDomain != null && url.contains(baseDomain)) return "internal";
+        if (url.matches(".*\\.(jpg|jpeg|png|gif|bmp|svg)$")) return "image";
+        if (url.matches(".*\\.(pdf|doc|docx|xls|xlsx|ppt|pptx)$")) return "document";
+        return "external";
+    }
+}
@@ -0,0 +1,167 @@
+package com.juca.crawler.version;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * 바이트 배열 간 delta 인코딩 (COPY / INSERT 명령열)
+ *
+ * 기준 본문을 BLOCK 바이트 단위로 롤링 해시 색인에 넣고, 대상 본문을 한 바이트씩 밀며 같은 블록을 찾아
+ * 앞뒤로 최대한 늘린 구간은 COPY(기준 오프셋, 길이), 나머지는 INSERT(바이트) 로 기록합니다.
+ * 재수집한 HTML 은 대부분 그대로이므로 delta 는 바뀐 부분 크기에 비례합니다.
+ *
+ * 형식: varint(기준 길이) varint(대상 길이) { varint(길이 << 1 | 1) varint(오프셋) | varint(길이 << 1) 바이트... }
+ */
+public final class BinaryDelta {
+
+    static final int BLOCK = 16;
+
+    private static final int PRIME = 31;
+    // PRIME^BLOCK, 롤링 해시에서 빠지는 바이트 제거용
+    private static final int PRIME_POW;
+
+    static {
+        int pow = 1;
+        for (int i = 0; i < BLOCK; i++) {
+            pow *= PRIME;
+        }
+        PRIME_POW = pow;
+    }
+
+    private BinaryDelta() {
+    }
+
+    public static byte[] encode(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, target.length / 8));
+        writeVarint(out, base.length);
+        writeVarint(out, target.length);
+
+        int[] table = index(base);
+        int mask = table.length - 1;
+
+        int literalStart = 0;
+        int pos = 0;
+        int hash = target.length >= BLOCK ? hash(target, 0) : 0;
+        while (pos + BLOCK <= target.length) {
+            int candidate = table.length > 0 ? table[mix(hash) & mask] - 1 : -1;
+            if (candidate >= 0 && Arrays.equals(base, candidate, candidate + BLOCK, target, pos, pos + BLOCK)) {
+                // 일치 구간을 뒤로(아직 기록하지 않은 리터럴 쪽), 앞으로 늘림
+                int start = pos;
+                int baseStart = candidate;
+                while (start > literalStart && baseStart > 0 && target[start - 1] == base[baseStart - 1]) {
+                    start--;
+                    baseStart--;
+                }
+                int end = pos + BLOCK;
+                int baseEnd = candidate + BLOCK;
+                while (end < target.length && baseEnd < base.length && target[end] == base[baseEnd]) {
+                    end++;
+                    baseEnd++;
+                }
+
+                writeInsert(out, target, literalStart, start);
+                writeVarint(out, ((end - start) << 1) | 1);
+                writeVarint(out, baseStart);
+
+                literalStart = end;
+                pos = end;
+                if (pos + BLOCK <= target.length) {
+                    hash = hash(target, pos);
+                }
+                continue;
+            }
+
+            if (pos + BLOCK < target.length) {
+                hash = hash * PRIME + (target[pos + BLOCK] & 0xff) - PRIME_POW * (target[pos] & 0xff);
+            }
+            pos++;
+        }
+        writeInsert(out, target, literalStart, target.length);
+        return out.toByteArray();
+    }
+
+    public static byte[] apply(byte[] base, byte[] delta) {
+        int[] cursor = {0};
+        int baseLength = readVarint(delta, cursor);
+        if (baseLength != base.length) {
+            throw new IllegalArgumentException("delta 기준 길이 불일치: " + baseLength + " != " + base.length);
+        }
+        byte[] target = new byte[readVarint(delta, cursor)];
+        int written = 0;
+        while (cursor[0] < delta.length) {
+            int op = readVarint(delta, cursor);
+            int length = op >>> 1;
+            if ((op & 1) == 1) {
+                int offset = readVarint(delta, cursor);
+                System.arraycopy(base, offset, target, written, length);
+            } else {
+                System.arraycopy(delta, cursor[0], target, written, length);
+                cursor[0] += length;
+            }
+            written += length;
+        }
+        if (written != target.length) {
+            throw new IllegalArgumentException("delta 대상 길이 불일치: " + written + " != " + target.length);
+        }
+        return target;
+    }
+
+    /**
+     * 기준 본문의 BLOCK 단위 블록 해시 → (오프셋 + 1), 같은 슬롯은 앞쪽 블록을 유지
+     */
+    private static int[] index(byte[] base) {
+        int blocks = base.length / BLOCK;
+        if (blocks == 0) {
+            return new int[0];
+        }
+        int[] table = new int[Integer.highestOneBit(blocks * 2 - 1) << 1];
+        int mask = table.length - 1;
+        for (int offset = 0; offset + BLOCK <= base.length; offset += BLOCK) {
+            int slot = mix(hash(base, offset)) & mask;
+            if (table[slot] == 0) {
+                table[slot] = offset + 1;
+            }
+        }
+        return table;
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int h = 0;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            h = h * PRIME + (data[i] & 0xff);
+        }
+        return h;
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B1;
+        return h ^ (h >>> 16);
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] data, int from, int to) {
+        if (to > from) {
+            writeVarint(out, (to - from) << 1);
+            out.write(data, from, to - from);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] cursor) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = data[cursor[0]++];
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint");
+    }
+}
@@ -0,0 +1,161 @@
+package com.juca.crawler.version;
+
+import com.juca.crawler.domain.PageVersion;
+import com.juca.crawler.domain.PageVersionKind;
+import com.juca.crawler.dto.PageVersionSummary;
+import com.juca.crawler.repository.PageVersionRepository;
+import com.juca.crawler.util.MurmurHash3;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 페이지 본문 버전 이력 저장소 (page_versions)
+ *
+ * 첫 수집은 본문 전체를, 이후 바뀐 본문은 직전 본문 버전에 대한 delta 를 압축해 저장하고,
+ * 본문 해시가 같으면 수집 시각만 기록합니다.
+ * 복원은 가장 가까운 전체 본문에서 delta 를 차례로 적용하므로, keyframe_interval 개 delta 마다 전체 본문을 다시 저장해
+ * 복원 비용을 제한합니다.
+ */
+@Component
+public class PageVersionStore {
+
+    private final PageVersionRepository pageVersionRepository;
+    private final boolean enabled;
+    private final int keyframeInterval;
+    // delta 가 압축한 전체 본문의 이 비율보다 크면 전체 본문으로 저장 (대부분 바뀐 페이지)
+    private final double maxDeltaRatio;
+
+    public PageVersionStore(PageVersionRepository pageVersionRepository,
+                            @Value("${crawler.versions.enabled:true}") boolean enabled,
+                            @Value("${crawler.versions.keyframe_interval:16}") int keyframeInterval,
+                            @Value("${crawler.versions.max_delta_ratio:0.5}") double maxDeltaRatio) {
+        this.pageVersionRepository = pageVersionRepository;
+        this.enabled = enabled;
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        this.maxDeltaRatio = maxDeltaRatio;
+    }
+
+    /**
+     * 수집한 본문을 페이지의 다음 버전으로 기록합니다.
+     *
+     * @return 기록된 버전 번호, 기록하지 않았으면 null
+     */
+    @Transactional
+    public Integer record(Long pageId, String html, LocalDateTime capturedAt) {
+        if (!enabled || pageId == null || html == null) {
+            return null;
+        }
+        long contentHash = MurmurHash3.hash64(html);
+        byte[] raw = html.getBytes(StandardCharsets.UTF_8);
+        PageVersion latest = pageVersionRepository.findFirstByPageIdOrderByVersionDesc(pageId).orElse(null);
+
+        if (latest == null) {
+            return save(new PageVersion(pageId, 1, capturedAt, contentHash, PageVersionKind.FULL, null, deflate(raw), raw.length));
+        }
+
+        int version = latest.getVersion() + 1;
+        int baseVersion = latest.contentVersion();
+        if (latest.getContentHash() == contentHash) {
+            return save(new PageVersion(pageId, version, capturedAt, contentHash, PageVersionKind.UNCHANGED,
+                    baseVersion, null, raw.length));
+        }
+
+        byte[] full = deflate(raw);
+        PageVersion keyframe = pageVersionRepository.findKeyframe(pageId, baseVersion).orElse(null);
+        if (keyframe != null) {
+            List<PageVersion> deltas = pageVersionRepository.findDeltas(pageId, keyframe.getVersion(), baseVersion);
+            if (deltas.size() + 1 < keyframeInterval) {
+                byte[] base = replay(keyframe, deltas);
+                byte[] delta = deflate(BinaryDelta.encode(base, raw));
+                if (delta.length <= full.length * maxDeltaRatio) {
+                    return save(new PageVersion(pageId, version, capturedAt, contentHash, PageVersionKind.DELTA,
+                            baseVersion, delta, raw.length));
+                }
+            }
+        }
+        return save(new PageVersion(pageId, version, capturedAt, contentHash, PageVersionKind.FULL, null, full, raw.length));
+    }
+
+    private Integer save(PageVersion pageVersion) {
+        return pageVersionRepository.save(pageVersion).getVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PageVersionSummary> list(Long pageId) {
+        return pageVersionRepository.findSummaries(pageId);
+    }
+
+    /**
+     * 페이지의 특정 버전 본문을 복원합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> reconstruct(Long pageId, int version) {
+        Optional<PageVersion> target = pageVersionRepository.findByPageIdAndVersion(pageId, version);
+        if (target.isEmpty()) {
+            return Optional.empty();
+        }
+        int contentVersion = target.get().contentVersion();
+        PageVersion keyframe = pageVersionRepository.findKeyframe(pageId, contentVersion)
+                .orElseThrow(() -> new IllegalStateException("전체 본문 버전 없음: page " + pageId + " v" + contentVersion));
+        List<PageVersion> deltas = pageVersionRepository.findDeltas(pageId, keyframe.getVersion(), contentVersion);
+        return Optional.of(new String(replay(keyframe, deltas), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 전체 본문에 delta 를 버전 순서대로 적용합니다. 각 delta 는 직전 본문 버전을 기준으로 합니다.
+     */
+    private static byte[] replay(PageVersion keyframe, List<PageVersion> deltas) {
+        byte[] content = inflate(keyframe.getBody(), keyframe.getRawLength());
+        for (PageVersion delta : deltas) {
+            content = BinaryDelta.apply(content, inflate(delta.getBody(), delta.getRawLength() / 4 + 64));
+        }
+        return content;
+    }
+
+    static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] data, int sizeHint) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, sizeHint));
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 데이터가 손상됨");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 손상됨", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+-- crawled_pages / extracted_links 를 crawled_at 기준 월 RANGE 파티션으로 변환 (MariaDB, 1회 실행)
+--
+--   mariadb -u <user> -p <database> < crawl_partitioning.sql
+--
+-- 테이블 전체를 다시 쓰므로 수집을 멈춘 상태에서 실행합니다.
+-- 변환 후 crawler.storage.archive.enabled=true 로 켜면 PartitionArchiver 가 매일 앞으로의 월 파티션을 만들고,
+-- 보관 기간(crawler.storage.retention_months)이 지난 파티션을 파일로 옮긴 뒤 삭제합니다.
+--
+-- 파티션 테이블 제약
+--  - 외래키를 가질 수도, 참조될 수도 없음 → 두 테이블 사이의 외래키 제거 (엔티티도 NO_CONSTRAINT 로 매핑)
+--  - 기본키를 포함한 모든 유니크 키에 파티션 키가 들어가야 함 → (id, crawled_at) 기본키, crawled_at 을 포함한 유니크 키
+--  - 파티션 키는 NOT NULL (NULL 은 가장 오래된 파티션에 들어가 바로 보관 대상이 되므로)
+--
+-- 재방문 / 본문 이력(page_versions)과의 관계
+--  - crawled_at 은 마지막으로 방문한 시각입니다. 본문이 바뀌지 않았거나 정상 HTML 이 아니어도 재방문마다 갱신되어
+--    행이 최신 월 파티션으로 옮겨지므로, 계속 재방문되는 페이지는 보관 기간이 지나도 보관/삭제되지 않고 id 가 유지됩니다.
+--  - 보관 기간 동안 한 번도 재방문되지 않은 페이지만 파티션과 함께 삭제되고, 나중에 다시 수집되면 새 id 로 저장됩니다.
+--  - page_versions 는 page_id 로 페이지를 가리키며 파티셔닝하지 않습니다. crawled_pages 파티션을 삭제할 때
+--    PartitionArchiver 가 페이지가 없어진 이력 행을 archive_dir/page_versions/파티션.ndjson.gz 로 옮긴 뒤 삭제합니다.
+--  - recrawl_states 는 URL 기준이라 페이지 id 와 무관하게 재방문 일정이 유지됩니다.
+
+DELIMITER //
+
+DROP PROCEDURE IF EXISTS crawl_drop_foreign_keys //
+CREATE PROCEDURE crawl_drop_foreign_keys(IN target_table VARCHAR(64))
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE owner_table VARCHAR(64);
+    DECLARE fk_name VARCHAR(64);
+    -- 테이블이 가진 외래키와 테이블을 참조하는 외래키 모두
+    DECLARE fks CURSOR FOR
+        SELECT table_name, constraint_name
+        FROM information_schema.referential_constraints
+        WHERE constraint_schema = DATABASE()
+          AND (table_name = target_table OR referenced_table_name = target_table);
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO owner_table, fk_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE ', owner_table, ' DROP FOREIGN KEY ', fk_name);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE fks;
+END //
+
+DROP PROCEDURE IF EXISTS crawl_drop_unique_keys //
+CREATE PROCEDURE crawl_drop_unique_keys(IN target_table VARCHAR(64))
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE key_name VARCHAR(64);
+    -- crawled_at 을 포함하지 않는 유니크 키 (기본키 제외)
+    DECLARE uks CURSOR FOR
+        SELECT index_name
+        FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = target_table
+          AND non_unique = 0 AND index_name <> 'PRIMARY'
+        GROUP BY index_name
+        HAVING SUM(column_name = 'crawled_at') = 0;
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+
+    OPEN uks;
+    drop_loop: LOOP
+        FETCH uks INTO key_name;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' DROP INDEX ', key_name);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE uks;
+END //
+
+-- 가장 오래된 crawled_at 의 달부터 premake_months 개월 뒤까지 월 파티션 p{yyyyMM} 과 pmax 를 만듭니다.
+DROP PROCEDURE IF EXISTS crawl_partition_by_month //
+CREATE PROCEDURE crawl_partition_by_month(IN target_table VARCHAR(64), IN premake_months INT)
+BEGIN
+    DECLARE month_start DATE;
+    DECLARE last_month DATE;
+    DECLARE parts TEXT DEFAULT '';
+
+    SET @min_crawled_at = NULL;
+    SET @query = CONCAT('SELECT MIN(crawled_at) INTO @min_crawled_at FROM ', target_table);
+    PREPARE stmt FROM @query;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+
+    SET month_start = DATE_FORMAT(COALESCE(@min_crawled_at, NOW()), '%Y-%m-01');
+    SET last_month = DATE_FORMAT(NOW() + INTERVAL premake_months MONTH, '%Y-%m-01');
+    WHILE month_start <= last_month DO
+        SET parts = CONCAT(parts, 'PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                           ' VALUES LESS THAN (TO_DAYS(''', month_start + INTERVAL 1 MONTH, ''')), ');
+        SET month_start = month_start + INTERVAL 1 MONTH;
+    END WHILE;
+
+    SET @ddl = CONCAT('ALTER TABLE ', target_table, ' PARTITION BY RANGE (TO_DAYS(crawled_at)) (',
+                      parts, 'PARTITION pmax VALUES LESS THAN MAXVALUE)');
+    PREPARE stmt FROM @ddl;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+
+DELIMITER ;
+
+-- 1. 외래키 / crawled_at 을 포함하지 않는 유니크 키 제거
+CALL crawl_drop_foreign_keys('extracted_links');
+CALL crawl_drop_foreign_keys('crawled_pages');
+CALL crawl_drop_unique_keys('extracted_links');
+CALL crawl_drop_unique_keys('crawled_pages');
+
+-- 2. 파티션 키 NOT NULL, 기본키에 파티션 키 포함
+UPDATE crawled_pages SET crawled_at = COALESCE(created_at, NOW()) WHERE crawled_at IS NULL;
+UPDATE extracted_links SET crawled_at = COALESCE(created_at, NOW()) WHERE crawled_at IS NULL;
+
+ALTER TABLE crawled_pages
+    MODIFY crawled_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, crawled_at);
+
+ALTER TABLE extracted_links
+    MODIFY crawled_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, crawled_at),
+    ADD UNIQUE KEY uk_extracted_links_source_page_link (source_page_id, link_url, crawled_at);
+
+-- 3. 월 파티션 (앞으로 3개월분은 미리 생성, 이후는 PartitionArchiver 가 유지)
+CALL crawl_partition_by_month('crawled_pages', 3);
+CALL crawl_partition_by_month('extracted_links', 3);
+
+DROP PROCEDURE crawl_drop_foreign_keys;
+DROP PROCEDURE crawl_drop_unique_keys;
+DROP PROCEDURE crawl_partition_by_month;
@@ -0,0 +1,89 @@
+package com.juca.crawler.cluster;
+
+import com.juca.crawler.domain.CrawlLease;
+import com.juca.crawler.repository.CrawlLeaseRepository;
+import com.juca.crawler.repository.CrawlNodeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:cluster;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 노드들이 서로의 커밋을 보도록 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClusterCoordinatorTest {
+
+    private static final int PARTITIONS = 16;
+
+    @Autowired
+    private CrawlNodeRepository crawlNodeRepository;
+
+    @Autowired
+    private CrawlLeaseRepository crawlLeaseRepository;
+
+    @AfterEach
+    void cleanUp() {
+        crawlLeaseRepository.deleteAll();
+        crawlNodeRepository.deleteAll();
+    }
+
+    private ClusterCoordinator node(String nodeId) {
+        return new ClusterCoordinator(crawlNodeRepository, crawlLeaseRepository, true, nodeId, PARTITIONS, 30_000, 1_000);
+    }
+
+    @Test
+    void creatingLeaseRowsKeepsExistingOwner() {
+        ClusterCoordinator a = node("A");
+        a.heartbeat();
+        assertEquals("A", crawlLeaseRepository.findById(3).map(CrawlLease::getOwnerNodeId).orElseThrow());
+
+        // 늦게 시작한 노드가 행을 만들려고 해도 이미 획득된 임대는 그대로
+        crawlLeaseRepository.createIfAbsent(3);
+        CrawlLease lease = crawlLeaseRepository.findById(3).orElseThrow();
+        assertEquals("A", lease.getOwnerNodeId());
+        assertNotNull(lease.getLeaseUntil());
+    }
+
+    @Test
+    void concurrentNodesNeverOwnTheSamePartition() {
+        List<ClusterCoordinator> nodes = List.of(node("A"), node("B"), node("C"));
+        Map<Integer, String> keyOfPartition = new HashMap<>();
+        for (int i = 0; keyOfPartition.size() < PARTITIONS; i++) {
+            keyOfPartition.putIfAbsent(nodes.get(0).partitionOf("host-" + i), "host-" + i);
+        }
+
+        for (int round = 0; round < 5; round++) {
+            // 모든 노드가 동시에 heartbeat (첫 라운드는 임대 행 생성도 동시에)
+            CompletableFuture.allOf(nodes.stream()
+                    .map(node -> CompletableFuture.runAsync(node::heartbeat))
+                    .toArray(CompletableFuture[]::new)).join();
+
+            for (String key : keyOfPartition.values()) {
+                long owners = nodes.stream().filter(node -> node.owns(key)).count();
+                assertTrue(owners <= 1, "round " + round + ": " + key + " owned by " + owners + " nodes");
+            }
+        }
+
+        // ring 이 안정되면 모든 파티션에 주인이 있고, DB 임대와 일치
+        assertEquals(PARTITIONS, crawlLeaseRepository.count());
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Integer, String> entry : keyOfPartition.entrySet()) {
+            CrawlLease lease = crawlLeaseRepository.findById(entry.getKey()).orElseThrow();
+            assertTrue(lease.getLeaseUntil().isAfter(now));
+            ClusterCoordinator owner = nodes.stream().filter(node -> node.owns(entry.getValue())).findFirst().orElseThrow();
+            assertEquals(lease.getOwnerNodeId(), owner.getNodeId());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.juca.crawler.cluster;
+
+import com.juca.crawler.util.MurmurHash3;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void removingNodeOnlyMovesItsOwnKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("A", "B", "C"), 128);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("A", "B"), 128);
+
+        int ownedByC = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long key = MurmurHash3.hash64("host-" + i);
+            String previous = before.nodeFor(key);
+            String current = after.nodeFor(key);
+            if (previous.equals("C")) {
+                ownedByC++;
+                assertNotEquals("C", current);
+            } else {
+                assertEquals(previous, current);
+            }
+        }
+        // 가상 노드 덕분에 대략 1/3 씩 분배된다
+        assertTrue(ownedByC > 2_500 && ownedByC < 4_200, "C owned " + ownedByC);
+    }
+
+    @Test
+    void emptyRingHasNoOwner() {
+        assertNull(new ConsistentHashRing(List.of(), 128).nodeFor(42L));
+    }
+}
@@ -0,0 +1,29 @@
+package com.juca.crawler.controller;
+
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.repository.CrawledNewsArticleRepository;
+import com.juca.crawler.repository.CrawledPageRepository;
+import com.juca.crawler.service.ArticleQueryServiceImpl;
+import com.juca.crawler.version.PageVersionStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ArticleQueryControllerTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ArticleQueryController(
+            new ArticleQueryServiceImpl(mock(CnnArticleRepository.class), mock(CrawledNewsArticleRepository.class),
+                    mock(CrawledPageRepository.class), mock(PageVersionStore.class)))).build();
+
+    @Test
+    void tamperedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/cnn-articles").param("cursor", "not-a-cursor")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/news-articles").param("cursor", "bm9wZQ")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/pages").param("cursor", "bm9wZQ")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/cnn-articles")).andExpect(status().isOk());
+    }
+}
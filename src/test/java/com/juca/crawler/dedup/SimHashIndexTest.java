@@ -0,0 +1,70 @@
+package com.juca.crawler.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimHashIndexTest {
+
+    private static String article(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append("word").append(random.nextInt(5000)).append(' ');
+        }
+        return text.toString();
+    }
+
+    @Test
+    void rewrittenCopyIsCloseAndDifferentStoryIsFar() {
+        String original = article(new Random(1), 400);
+        // 같은 기사에 언론사 머리말과 꼬리말만 덧붙인 사본
+        String copy = "[서울=뉴스] " + original + " 무단전재 및 재배포 금지";
+        String other = article(new Random(2), 400);
+
+        long a = SimHash.of(SimHash.tokens(original));
+        long b = SimHash.of(SimHash.tokens(copy));
+        long c = SimHash.of(SimHash.tokens(other));
+        assertTrue(SimHash.distance(a, b) <= 5, "distance=" + SimHash.distance(a, b));
+        assertTrue(SimHash.distance(a, c) > 10, "distance=" + SimHash.distance(a, c));
+
+        SimHashIndex index = new SimHashIndex(5);
+        index.add(a, 10);
+        assertEquals(10, index.findNearest(b));
+        assertEquals(-1, index.findNearest(c));
+    }
+
+    @Test
+    void bandLookupFindsEveryFingerprintWithinDistance() {
+        Random random = new Random(7);
+        int n = 5000;
+        long[] fingerprints = new long[n];
+        SimHashIndex index = new SimHashIndex(5);
+        for (int i = 0; i < n; i++) {
+            fingerprints[i] = random.nextLong();
+            index.add(fingerprints[i], i);
+        }
+
+        for (int trial = 0; trial < 500; trial++) {
+            int target = random.nextInt(n);
+            long query = fingerprints[target];
+            // 임의의 비트 0~5 개를 뒤집어도 LSH 후보에서 빠지지 않아야 함
+            int flips = random.nextInt(6);
+            for (int f = 0; f < flips; f++) {
+                query ^= 1L << random.nextInt(64);
+            }
+
+            long expected = -1;
+            int best = 6;
+            for (int i = 0; i < n; i++) {
+                int distance = SimHash.distance(query, fingerprints[i]);
+                if (distance < best) {
+                    best = distance;
+                    expected = i;
+                }
+            }
+            assertEquals(expected, index.findNearest(query));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.juca.crawler.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_000_000), 42L);
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        assertEquals(cursor.getAt(), decoded.getAt());
+        assertEquals(42L, decoded.getId());
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-10-01T09:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2026-10-01T09:30|abc".getBytes(StandardCharsets.UTF_8));
+        String badDate = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : new String[]{"not base64!", noSeparator, badId, badDate}) {
+            assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor), cursor);
+        }
+    }
+}
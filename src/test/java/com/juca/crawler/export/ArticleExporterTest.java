@@ -0,0 +1,127 @@
+package com.juca.crawler.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.juca.crawler.repository.CnnArticleRepository;
+import com.juca.crawler.repository.CrawledNewsArticleRepository;
+import com.juca.crawler.search.ArticleSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleExporterTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private final CnnArticleRepository cnnArticleRepository = mock(CnnArticleRepository.class);
+    private final CrawledNewsArticleRepository crawledNewsArticleRepository = mock(CrawledNewsArticleRepository.class);
+    // 애플리케이션과 같이 날짜를 ISO 문자열로 기록
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final ArticleExporter exporter = new ArticleExporter(cnnArticleRepository, crawledNewsArticleRepository,
+            objectMapper, mock(PlatformTransactionManager.class));
+
+    private static String csvField(String value) throws IOException {
+        StringWriter writer = new StringWriter();
+        ArticleExporter.writeCsvField(writer, value);
+        return writer.toString();
+    }
+
+    private static List<ArticleExportRow> cnnRows() {
+        return List.of(
+                new ArticleExportRow(1L, "https://edition.cnn.com/a", "Title, with comma", "제목", "첫 줄\r\n둘째 줄",
+                        null, "He said \"hi\"", T1, T1, null, null),
+                new ArticleExportRow(2L, "https://edition.cnn.com/b", "Plain", null, "본문", null, null,
+                        null, T1, null, 1L));
+    }
+
+    private String export(ArticleExportRequest request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(request, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ArticleExportRequest request(ArticleSource source, ExportFormat format, boolean gzip) {
+        ArticleExportRequest request = new ArticleExportRequest();
+        request.setSource(source);
+        request.setFormat(format);
+        request.setGzip(gzip);
+        return request;
+    }
+
+    @Test
+    void quotesOnlyFieldsThatNeedIt() throws IOException {
+        assertEquals("plain 값", csvField("plain 값"));
+        assertEquals("", csvField(""));
+        assertEquals("\"a,b\"", csvField("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", csvField("say \"hi\""));
+        assertEquals("\"line1\nline2\"", csvField("line1\nline2"));
+        assertEquals("\"cr\r\"", csvField("cr\r"));
+    }
+
+    @Test
+    void csvHasHeaderAndCrLfRecords() throws IOException {
+        when(cnnArticleRepository.streamExportRows(any(), any())).thenReturn(cnnRows().stream());
+
+        String csv = export(request(ArticleSource.CNN, ExportFormat.CSV, false));
+
+        String header = String.join(",", ArticleExportRow.COLUMNS) + "\r\n";
+        String first = "CNN,1,https://edition.cnn.com/a,CNN,,\"Title, with comma\",제목,\"첫 줄\r\n둘째 줄\",,"
+                + "\"He said \"\"hi\"\"\",2026-10-01T09:00,2026-10-01T09:00,,\r\n";
+        String second = "CNN,2,https://edition.cnn.com/b,CNN,,Plain,,본문,,,,2026-10-01T09:00,,1\r\n";
+        assertEquals(header + first + second, csv);
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        when(cnnArticleRepository.streamExportRows(any(), any())).thenReturn(cnnRows().stream());
+
+        String ndjson = export(request(ArticleSource.CNN, ExportFormat.NDJSON, false));
+
+        assertTrue(ndjson.endsWith("\n"));
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("source", first.fieldNames().next());
+        assertEquals("첫 줄\r\n둘째 줄", first.get("body").asText());
+        assertEquals("2026-10-01T09:00:00", first.get("publishedAt").asText());
+        assertEquals(1L, objectMapper.readTree(lines[1]).get("duplicateOf").asLong());
+    }
+
+    @Test
+    void gzipRoundTripsToSameContent() throws IOException {
+        ArticleExportRow row = new ArticleExportRow(7L, "https://n.news.naver.com/7", "연합뉴스", "경제", "제목",
+                "본문", "기자", T1, T1, null);
+        when(crawledNewsArticleRepository.streamExportRows(eq("연합뉴스"), any(), any()))
+                .thenAnswer(invocation -> List.of(row).stream());
+        ArticleExportRequest plain = request(ArticleSource.NAVER, ExportFormat.NDJSON, false);
+        plain.setMedia("연합뉴스");
+        ArticleExportRequest gzip = request(ArticleSource.NAVER, ExportFormat.NDJSON, true);
+        gzip.setMedia("연합뉴스");
+
+        String expected = export(plain);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        assertEquals(1, exporter.export(gzip, compressed));
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertEquals(expected, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals("crawled_news_articles.ndjson.gz", gzip.fileName());
+    }
+}
@@ -0,0 +1,88 @@
+package com.juca.crawler.export;
+
+import com.juca.crawler.search.ArticleSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExportCommandTest {
+
+    @TempDir
+    Path dir;
+
+    private final ArticleExporter exporter = mock(ArticleExporter.class);
+    private final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+
+    private int execute(String... args) {
+        return ExportCommand.execute(new DefaultApplicationArguments(args), exporter,
+                new PrintStream(new ByteArrayOutputStream()), new PrintStream(stderr, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void parsesAllOptions() {
+        ArticleExportRequest request = ExportCommand.parse(new DefaultApplicationArguments(
+                "--source=naver", "--format=csv", "--gzip", "--media=연합뉴스",
+                "--from=2026-10-01T00:00:00", "--to=2026-10-02T00:00:00"));
+
+        assertEquals(ArticleSource.NAVER, request.getSource());
+        assertEquals(ExportFormat.CSV, request.getFormat());
+        assertTrue(request.isGzip());
+        assertEquals("연합뉴스", request.getMedia());
+        assertEquals(LocalDateTime.of(2026, 10, 1, 0, 0), request.getFrom());
+        assertEquals(LocalDateTime.of(2026, 10, 2, 0, 0), request.getTo());
+    }
+
+    @Test
+    void defaultsToPlainNdjson() {
+        ArticleExportRequest request = ExportCommand.parse(new DefaultApplicationArguments("--source=CNN"));
+
+        assertEquals(ExportFormat.NDJSON, request.getFormat());
+        assertFalse(request.isGzip());
+        assertNull(request.getFrom());
+        assertFalse(ExportCommand.parse(new DefaultApplicationArguments("--source=CNN", "--gzip=false")).isGzip());
+    }
+
+    @Test
+    void invalidArgumentsExitWithUsage() throws IOException {
+        assertEquals(2, execute("--format=csv"));
+        assertEquals(2, execute("--source=bbc"));
+        assertEquals(2, execute("--source=cnn", "--format=xml"));
+        assertEquals(2, execute("--source=cnn", "--from=2026-10-01"));
+
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("사용법"));
+        verify(exporter, never()).export(any(), any());
+    }
+
+    @Test
+    void exportFailureExitsWithOne() throws IOException {
+        when(exporter.export(any(), any())).thenThrow(new IOException("디스크 가득 참"));
+
+        assertEquals(1, execute("--source=cnn"));
+        assertTrue(stderr.toString(StandardCharsets.UTF_8).contains("디스크 가득 참"));
+    }
+
+    @Test
+    void writesToOutFile() throws IOException {
+        Path out = dir.resolve("cnn.ndjson");
+
+        assertEquals(0, execute("--source=cnn", "--out=" + out));
+
+        assertTrue(Files.exists(out));
+        verify(exporter).export(any(), any());
+    }
+}
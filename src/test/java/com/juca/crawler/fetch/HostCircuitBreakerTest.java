@@ -0,0 +1,60 @@
+package com.juca.crawler.fetch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostCircuitBreakerTest {
+
+    @Test
+    void opensAfterThresholdAndClosesAfterSuccessfulProbe() throws InterruptedException {
+        HostCircuitBreaker breaker = new HostCircuitBreaker(3, 50, 1000, 1);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.allowRequest("a.com"));
+            breaker.onFailure("a.com");
+        }
+        assertTrue(breaker.isOpen("a.com"));
+        assertFalse(breaker.allowRequest("a.com"));
+        // 다른 호스트는 영향 없음
+        assertTrue(breaker.allowRequest("b.com"));
+
+        Thread.sleep(60);
+
+        // HALF_OPEN: 시험 요청은 한 건만 허용
+        assertTrue(breaker.allowRequest("a.com"));
+        assertFalse(breaker.allowRequest("a.com"));
+
+        breaker.onSuccess("a.com");
+        assertFalse(breaker.isOpen("a.com"));
+        assertTrue(breaker.allowRequest("a.com"));
+    }
+
+    @Test
+    void failedProbeReopensWithLongerWait() throws InterruptedException {
+        HostCircuitBreaker breaker = new HostCircuitBreaker(1, 50, 1000, 1);
+
+        breaker.onFailure("a.com");
+        Thread.sleep(60);
+        assertTrue(breaker.allowRequest("a.com"));
+
+        long before = System.currentTimeMillis();
+        breaker.onFailure("a.com");
+        assertTrue(breaker.isOpen("a.com"));
+        assertTrue(breaker.retryAt("a.com") - before >= 100);
+    }
+
+    @Test
+    void retryBudgetLimitsRetriesToRatioOfRequests() {
+        HostRetryBudget budget = new HostRetryBudget(0.5, 2);
+
+        // 초기 토큰 1개
+        assertTrue(budget.tryAcquireRetry("a.com"));
+        assertFalse(budget.tryAcquireRetry("a.com"));
+
+        budget.recordRequest("a.com");
+        assertFalse(budget.tryAcquireRetry("a.com"));
+        budget.recordRequest("a.com");
+        assertTrue(budget.tryAcquireRetry("a.com"));
+    }
+}
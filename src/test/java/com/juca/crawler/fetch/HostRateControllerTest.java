@@ -0,0 +1,107 @@
+package com.juca.crawler.fetch;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HostRateControllerTest {
+
+    // initial 300ms, min 50ms, max 1000ms, 동시성 최대 3, 목표 지연 500ms, 타임아웃 100~5000ms
+    private final HostRateController controller = new HostRateController(300, 50, 1000, 3, 500, 100, 5000);
+
+    /**
+     * 간격 대기 없이 latencyMs 가 걸린 응답 결과만 반영
+     */
+    private void respond(String host, int status, long latencyMs, long retryAfterMs) {
+        controller.release(new HostPermit(host, System.nanoTime() - latencyMs * 1_000_000), status, retryAfterMs);
+    }
+
+    @Test
+    void additiveIncreaseThenMultiplicativeDecrease() {
+        // 연속 성공마다 간격 100ms 씩 감소, 하한에 닿으면 동시성 증가 (현재 동시성만큼 성공해야 한 단계)
+        respond("a.com", 200, 10, 0);
+        assertEquals(200, controller.delayOf("a.com"));
+        respond("a.com", 200, 10, 0);
+        respond("a.com", 200, 10, 0);
+        assertEquals(50, controller.delayOf("a.com"));
+        respond("a.com", 200, 10, 0);
+        assertEquals(2, controller.concurrencyOf("a.com"));
+        respond("a.com", 200, 10, 0);
+        respond("a.com", 200, 10, 0);
+        assertEquals(3, controller.concurrencyOf("a.com"));
+
+        // 429 → 간격 배수 증가, 동시성 절반
+        respond("a.com", 429, 10, 0);
+        assertEquals(100, controller.delayOf("a.com"));
+        assertEquals(1, controller.concurrencyOf("a.com"));
+        respond("a.com", 503, 10, 0);
+        assertEquals(200, controller.delayOf("a.com"));
+
+        // 다른 호스트는 영향 없음
+        assertEquals(300, controller.delayOf("b.com"));
+    }
+
+    @Test
+    void slowP95BacksOffAndDrivesTimeout() {
+        assertEquals(5000, controller.timeoutFor("a.com"));
+
+        // 64개 창에서 61번째 값이 p95: 느린 응답 3건은 p95 에 들어가지 않음
+        for (int i = 0; i < 61; i++) {
+            respond("a.com", 200, 100, 0);
+        }
+        for (int i = 0; i < 3; i++) {
+            respond("a.com", 200, 1000, 0);
+        }
+        int timeout = controller.timeoutFor("a.com");
+        assertTrue(timeout >= 400 && timeout < 500, "timeout " + timeout);
+
+        // 느린 응답이 창을 채우면 p95 가 목표 지연을 넘어 감속하고 타임아웃도 늘어남
+        long delayBefore = controller.delayOf("a.com");
+        for (int i = 0; i < 64; i++) {
+            respond("a.com", 200, 1000, 0);
+        }
+        assertTrue(controller.delayOf("a.com") > delayBefore);
+        int slowTimeout = controller.timeoutFor("a.com");
+        assertTrue(slowTimeout >= 4000 && slowTimeout <= 5000, "timeout " + slowTimeout);
+    }
+
+    @Test
+    void retryAfterIsCappedAtMaxDelay() throws InterruptedException {
+        long before = System.currentTimeMillis();
+        // 하루짜리 Retry-After
+        respond("a.com", 429, 10, 86_400_000L);
+
+        assertTrue(controller.blockedUntil("a.com") - before <= 1000 + 50);
+        assertEquals(1000, controller.delayOf("a.com"));
+
+        long start = System.currentTimeMillis();
+        HostPermit permit = controller.acquire("a.com");
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        controller.release(permit, 200, 0);
+    }
+
+    @Test
+    void virtualThreadWaitsForConcurrencySlotAndWakesOnRelease() throws InterruptedException {
+        HostPermit held = controller.acquire("a.com");
+        long[] waitedMs = new long[1];
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            long start = System.currentTimeMillis();
+            try {
+                controller.release(controller.acquire("a.com"), 200, 0);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            waitedMs[0] = System.currentTimeMillis() - start;
+        });
+
+        // 동시성 1: 반납 전에는 간격이 지나도 대기
+        waiter.join(700);
+        assertTrue(waiter.isAlive());
+
+        controller.release(held, 200, 0);
+        assertTrue(waiter.join(Duration.ofSeconds(2)));
+        assertTrue(waitedMs[0] >= 700, "waited " + waitedMs[0]);
+    }
+}
@@ -0,0 +1,73 @@
+package com.juca.crawler.frontier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiskBackedCrawlFrontierTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resumesFromLastCheckpointAcrossSegments() {
+        DiskBackedCrawlFrontier frontier = DiskBackedCrawlFrontier.open(dir, SEGMENT_SIZE, 16);
+        for (int i = 0; i < 500; i++) {
+            assertTrue(frontier.offer(new CrawlTask("https://example.com/page/" + i, i % 3, i == 0 ? null : (long) i)));
+        }
+        assertFalse(frontier.offer(new CrawlTask("https://example.com/page/7", 0, null)));
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals("https://example.com/page/" + i, frontier.poll().getUrl());
+        }
+        frontier.checkpoint();
+        // 체크포인트 이후 꺼낸 작업은 재시작 시 다시 나와야 한다
+        frontier.poll();
+        frontier.close();
+
+        DiskBackedCrawlFrontier resumed = DiskBackedCrawlFrontier.open(dir, SEGMENT_SIZE, 16);
+        assertEquals(300, resumed.size());
+        assertTrue(resumed.hasSeen("https://example.com/page/499"));
+        assertFalse(resumed.offer(new CrawlTask("https://example.com/page/250", 0, null)));
+
+        CrawlTask next = resumed.poll();
+        assertEquals("https://example.com/page/200", next.getUrl());
+        assertEquals(200 % 3, next.getDepth());
+        assertEquals(200L, next.getParentPageId());
+
+        int remaining = 1;
+        while (resumed.poll() != null) {
+            remaining++;
+        }
+        assertEquals(300, remaining);
+        assertTrue(resumed.isEmpty());
+        resumed.destroy();
+    }
+
+    @Test
+    void reopenUsesRecordedSegmentSize() {
+        DiskBackedCrawlFrontier frontier = DiskBackedCrawlFrontier.open(dir, SEGMENT_SIZE, 16);
+        for (int i = 0; i < 300; i++) {
+            frontier.offer(new CrawlTask("https://example.com/page/" + i, 0, null));
+        }
+        for (int i = 0; i < 100; i++) {
+            frontier.poll();
+        }
+        frontier.checkpoint();
+        frontier.close();
+
+        // 설정이 바뀌어도 로그에 기록된 세그먼트 크기로 복구
+        DiskBackedCrawlFrontier resumed = DiskBackedCrawlFrontier.open(dir, SEGMENT_SIZE * 4, 16);
+        assertEquals(200, resumed.size());
+        for (int i = 100; i < 300; i++) {
+            assertEquals("https://example.com/page/" + i, resumed.poll().getUrl());
+        }
+        assertNull(resumed.poll());
+        resumed.destroy();
+    }
+}
@@ -0,0 +1,143 @@
+package com.juca.crawler.frontier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityCrawlFrontierTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path dir;
+
+    private PriorityCrawlFrontier open(int capacity) {
+        return new PriorityCrawlFrontier(DiskBackedCrawlFrontier.open(dir, SEGMENT_SIZE, 16), "example.com", capacity, 1000);
+    }
+
+    @Test
+    void pollsArticlesAndShallowPagesFirst() {
+        PriorityCrawlFrontier frontier = open(100);
+        frontier.offer(new CrawlTask("https://example.com/tag/politics", 1, null));
+        frontier.offer(new CrawlTask("https://example.com/logo.png", 1, null));
+        frontier.offer(new CrawlTask("https://example.com/deep/page", 3, null));
+        frontier.offer(new CrawlTask("https://example.com/2025/08/01/politics/story/index.html", 2, null));
+        frontier.offer(new CrawlTask("https://example.com/section", 1, null));
+
+        assertEquals("https://example.com/2025/08/01/politics/story/index.html", frontier.poll().getUrl());
+        assertEquals("https://example.com/section", frontier.poll().getUrl());
+        assertEquals("https://example.com/tag/politics", frontier.poll().getUrl());
+        assertEquals("https://example.com/deep/page", frontier.poll().getUrl());
+        assertEquals("https://example.com/logo.png", frontier.poll().getUrl());
+        assertNull(frontier.poll());
+        frontier.destroy();
+    }
+
+    @Test
+    void inboundLinksRaisePriority() {
+        PriorityCrawlFrontier frontier = open(100);
+        frontier.offer(new CrawlTask("https://example.com/a", 1, null));
+        frontier.offer(new CrawlTask("https://example.com/b", 1, null));
+        for (int i = 0; i < 3; i++) {
+            frontier.recordInbound("https://example.com/b");
+        }
+        assertEquals("https://example.com/b", frontier.poll().getUrl());
+        frontier.destroy();
+    }
+
+    @Test
+    void evictedTasksAreReadBackFromLogWithoutDuplicates() {
+        PriorityCrawlFrontier frontier = open(4);
+        for (int i = 0; i < 20; i++) {
+            assertTrue(frontier.offer(new CrawlTask("https://example.com/page/" + i, i % 4, null)));
+        }
+        assertFalse(frontier.offer(new CrawlTask("https://example.com/page/3", 0, null)));
+        assertEquals(20, frontier.size());
+
+        Set<String> polled = new HashSet<>();
+        CrawlTask task;
+        while ((task = frontier.poll()) != null) {
+            assertTrue(polled.add(task.getUrl()), "중복: " + task.getUrl());
+            frontier.checkpoint();
+        }
+        assertEquals(20, polled.size());
+        assertTrue(frontier.isEmpty());
+        frontier.destroy();
+    }
+
+    @Test
+    void resumesUnprocessedTasksAfterRestart() {
+        PriorityCrawlFrontier frontier = open(4);
+        for (int i = 0; i < 10; i++) {
+            frontier.offer(new CrawlTask("https://example.com/page/" + i, 0, null));
+        }
+        Set<String> processed = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            processed.add(frontier.poll().getUrl());
+            frontier.checkpoint();
+        }
+        frontier.close();
+
+        // at-least-once: 처리하지 않은 작업은 모두 다시 나와야 한다
+        PriorityCrawlFrontier resumed = open(4);
+        Set<String> replayed = new HashSet<>();
+        CrawlTask task;
+        while ((task = resumed.poll()) != null) {
+            replayed.add(task.getUrl());
+        }
+        for (int i = 0; i < 10; i++) {
+            String url = "https://example.com/page/" + i;
+            assertTrue(processed.contains(url) || replayed.contains(url), url);
+        }
+        resumed.destroy();
+    }
+
+    @Test
+    void checkpointAdvancesUnderConstantInflow() throws IOException {
+        PriorityCrawlFrontier frontier = open(8);
+        for (int i = 0; i < 50; i++) {
+            frontier.offer(new CrawlTask("https://example.com/seed/" + i, 3, null));
+        }
+
+        // 메모리 큐가 한 번도 비지 않도록 꺼낼 때마다 새 링크가 들어옴 (일부는 점수가 낮아 밀려남)
+        Set<String> polled = new HashSet<>();
+        long maxTracked = 0;
+        long maxSegments = 0;
+        for (int i = 0; i < 20_000; i++) {
+            frontier.offer(new CrawlTask("https://example.com/page/" + i, i % 4, null));
+            CrawlTask task = frontier.poll();
+            assertTrue(polled.add(task.getUrl()), "중복: " + task.getUrl());
+            frontier.checkpoint();
+
+            maxTracked = Math.max(maxTracked, frontier.trackedPositions());
+            if (i % 500 == 0) {
+                try (Stream<Path> files = Files.list(dir)) {
+                    maxSegments = Math.max(maxSegments, files.filter(f -> f.getFileName().toString().startsWith("segment-")).count());
+                }
+            }
+        }
+        assertEquals(50, frontier.size());
+
+        // 추적 위치와 세그먼트 수가 누적 유입량(20,050건, 약 200 세그먼트)과 무관하게 유지됨
+        assertTrue(maxTracked < 5_000, "tracked " + maxTracked);
+        assertTrue(maxSegments < 20, "segments " + maxSegments);
+
+        // 밀려났던 작업까지 남은 작업이 모두 나옴
+        CrawlTask task;
+        while ((task = frontier.poll()) != null) {
+            assertTrue(polled.add(task.getUrl()), "중복: " + task.getUrl());
+            frontier.checkpoint();
+        }
+        assertEquals(20_050, polled.size());
+        assertTrue(frontier.isEmpty());
+        frontier.destroy();
+    }
+}
@@ -0,0 +1,123 @@
+package com.juca.crawler.graph;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphRankingTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    /**
+     * edges[i] = {출발, 도착} 목록으로 (나가는 CSR, 들어오는 CSR) 을 만듭니다.
+     */
+    private static Csr[] csr(int n, int[][] edges) {
+        int[] outOffsets = new int[n + 1];
+        int[] inOffsets = new int[n + 1];
+        for (int[] edge : edges) {
+            outOffsets[edge[0] + 1]++;
+            inOffsets[edge[1] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            outOffsets[i + 1] += outOffsets[i];
+            inOffsets[i + 1] += inOffsets[i];
+        }
+        int[] outTargets = new int[edges.length];
+        int[] inTargets = new int[edges.length];
+        int[] outNext = Arrays.copyOf(outOffsets, n);
+        int[] inNext = Arrays.copyOf(inOffsets, n);
+        for (int[] edge : edges) {
+            outTargets[outNext[edge[0]]++] = edge[1];
+            inTargets[inNext[edge[1]]++] = edge[0];
+        }
+        return new Csr[]{new Csr(outOffsets, outTargets), new Csr(inOffsets, inTargets)};
+    }
+
+    private static int[] outDegree(Csr out) {
+        int[] degree = new int[out.nodeCount()];
+        for (int i = 0; i < degree.length; i++) {
+            degree[i] = out.degree(i);
+        }
+        return degree;
+    }
+
+    @Test
+    void pageRankOfCycleIsUniformAndStarCenterWins() {
+        Csr[] cycle = csr(3, new int[][]{{0, 1}, {1, 2}, {2, 0}});
+        GraphRanking.PageRankResult uniform = GraphRanking.pageRank(cycle[1], outDegree(cycle[0]), 0.85, 1e-10, 100, POOL);
+        for (double score : uniform.scores()) {
+            assertEquals(1.0 / 3, score, 1e-9);
+        }
+
+        // 1~4 가 모두 0 을 가리키고 0 은 나가는 링크가 없음
+        Csr[] star = csr(5, new int[][]{{1, 0}, {2, 0}, {3, 0}, {4, 0}});
+        GraphRanking.PageRankResult ranked = GraphRanking.pageRank(star[1], outDegree(star[0]), 0.85, 1e-10, 200, POOL);
+        assertEquals(1.0, Arrays.stream(ranked.scores()).sum(), 1e-9);
+        for (int i = 1; i < 5; i++) {
+            assertTrue(ranked.scores()[0] > ranked.scores()[i]);
+            assertEquals(ranked.scores()[1], ranked.scores()[i], 1e-12);
+        }
+        assertTrue(ranked.iterations() < 200);
+    }
+
+    @Test
+    void parallelPageRankMatchesSequentialPowerIteration() {
+        int n = 20_000;
+        Random random = new Random(7);
+        int[][] edges = new int[100_000][];
+        for (int i = 0; i < edges.length; i++) {
+            int source = random.nextInt(n);
+            int target = random.nextInt(n);
+            edges[i] = new int[]{source, target == source ? (target + 1) % n : target};
+        }
+        Csr[] graph = csr(n, edges);
+        int[] degree = outDegree(graph[0]);
+        GraphRanking.PageRankResult result = GraphRanking.pageRank(graph[1], degree, 0.85, 1e-12, 30, POOL);
+
+        double[] rank = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+        for (int iteration = 0; iteration < result.iterations(); iteration++) {
+            double dangling = 0;
+            double[] next = new double[n];
+            for (int u = 0; u < n; u++) {
+                if (degree[u] == 0) {
+                    dangling += rank[u];
+                }
+            }
+            Arrays.fill(next, 0.15 / n + 0.85 * dangling / n);
+            for (int[] edge : edges) {
+                next[edge[1]] += 0.85 * rank[edge[0]] / degree[edge[0]];
+            }
+            rank = next;
+        }
+        for (int v = 0; v < n; v++) {
+            assertEquals(rank[v], result.scores()[v], 1e-12);
+        }
+    }
+
+    @Test
+    void hitsSeparatesHubsFromAuthorities() {
+        // 0, 1 은 2, 3 을 가리키는 hub, 0 은 4 도 가리킴
+        Csr[] graph = csr(5, new int[][]{{0, 2}, {0, 3}, {1, 2}, {1, 3}, {0, 4}});
+        GraphRanking.HitsResult result = GraphRanking.hits(graph[1], graph[0], 1e-10, 100, POOL);
+
+        double[] authority = result.authority();
+        double[] hub = result.hub();
+        assertEquals(authority[2], authority[3], 1e-9);
+        assertTrue(authority[2] > authority[4]);
+        assertEquals(0, authority[0], 1e-12);
+        assertTrue(hub[0] > hub[1]);
+        assertEquals(0, hub[2], 1e-12);
+        assertEquals(1.0, Math.sqrt(Arrays.stream(authority).map(a -> a * a).sum()), 1e-9);
+    }
+}
@@ -0,0 +1,90 @@
+package com.juca.crawler.graph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkGraphTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[][] dictionary(String... urls) {
+        List<byte[]> bytes = new ArrayList<>();
+        for (String url : urls) {
+            bytes.add(url.getBytes(StandardCharsets.UTF_8));
+        }
+        return LinkGraphCompiler.sortedUnique(bytes);
+    }
+
+    private static long edge(int source, int target) {
+        return ((long) source << 32) | target;
+    }
+
+    @Test
+    void roundTripsNodesAndAdjacency() throws Exception {
+        byte[][] urls = dictionary("https://b.com/", "https://a.com/", "https://c.com/한글", "https://a.com/", "https://a.com/x");
+        assertEquals(4, urls.length);
+        long[] pageIds = {10L, 11L, -1L, -1L};
+        // 중복 간선과 자기 자신으로의 링크는 제거됨
+        long[] edges = {edge(0, 2), edge(0, 1), edge(0, 2), edge(1, 1), edge(2, 3), edge(3, 0), edge(1, 3)};
+
+        long written = LinkGraphWriter.write(dir, urls, pageIds, edges, edges.length);
+        LinkGraph graph = LinkGraph.open(dir);
+
+        assertEquals(5, written);
+        assertEquals(4, graph.nodeCount());
+        assertEquals(5, graph.edgeCount());
+
+        for (int node = 0; node < urls.length; node++) {
+            String url = new String(urls[node], StandardCharsets.UTF_8);
+            assertEquals(url, graph.url(node));
+            assertEquals(node, graph.nodeId(url));
+        }
+        assertEquals(-1, graph.nodeId("https://a.com/y"));
+        assertEquals(-1, graph.nodeId("https://0.com/"));
+        assertEquals(10L, graph.pageId(0));
+        assertNull(graph.pageId(2));
+
+        assertArrayEquals(new int[]{1, 2}, graph.outNeighbors(0));
+        assertArrayEquals(new int[]{3}, graph.outNeighbors(1));
+        assertArrayEquals(new int[]{1, 2}, graph.inNeighbors(3));
+        assertArrayEquals(new int[]{3}, graph.inNeighbors(0));
+        assertEquals(2, graph.outDegree(0));
+        assertEquals(2, graph.inDegree(3));
+        assertEquals(1, graph.inDegree(1));
+    }
+
+    @Test
+    void decodesLargeGapsAndWalksKHops() throws Exception {
+        int nodeCount = 100_000;
+        byte[][] urls = new byte[nodeCount][];
+        for (int i = 0; i < nodeCount; i++) {
+            urls[i] = String.format("https://n.news.naver.com/%08d", i).getBytes(StandardCharsets.UTF_8);
+        }
+        long[] pageIds = new long[nodeCount];
+        Arrays.fill(pageIds, -1L);
+        // 0 → {1, 500, 99_999}, 1 → {2}, 500 → {2, 70_000}, 2 → {3}
+        long[] edges = {edge(0, 99_999), edge(0, 1), edge(0, 500), edge(1, 2), edge(500, 2), edge(500, 70_000), edge(2, 3)};
+
+        LinkGraphWriter.write(dir, urls, pageIds, edges, edges.length);
+        LinkGraph graph = LinkGraph.open(dir);
+
+        assertArrayEquals(new int[]{1, 500, 99_999}, graph.outNeighbors(0));
+        assertArrayEquals(new int[]{1, 500}, graph.inNeighbors(2));
+        assertEquals(12345, graph.nodeId(String.format("https://n.news.naver.com/%08d", 12345)));
+
+        assertArrayEquals(new int[]{1, 500, 99_999}, graph.kHop(0, 1, 100));
+        assertArrayEquals(new int[]{1, 500, 99_999, 2, 70_000}, graph.kHop(0, 2, 100));
+        assertArrayEquals(new int[]{1, 500, 99_999, 2, 70_000, 3}, graph.kHop(0, 3, 100));
+        assertArrayEquals(new int[]{1, 500}, graph.kHop(0, 3, 2));
+        assertEquals(0, graph.kHop(3, 2, 100).length);
+    }
+}
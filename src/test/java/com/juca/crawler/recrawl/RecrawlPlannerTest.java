@@ -0,0 +1,50 @@
+package com.juca.crawler.recrawl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecrawlPlannerTest {
+
+    private static final long MIN = 10_000;
+    private static final long MAX = 1_000_000;
+
+    @Test
+    void unchangedPageBacksOffExponentiallyUpToMax() {
+        long interval = 100_000;
+        interval = RecrawlPlanner.nextIntervalMs(interval, false, null, MIN, MAX);
+        assertEquals(200_000, interval);
+        interval = RecrawlPlanner.nextIntervalMs(interval, false, null, MIN, MAX);
+        assertEquals(400_000, interval);
+        interval = RecrawlPlanner.nextIntervalMs(interval, false, null, MIN, MAX);
+        assertEquals(800_000, interval);
+        interval = RecrawlPlanner.nextIntervalMs(interval, false, null, MIN, MAX);
+        assertEquals(MAX, interval);
+    }
+
+    @Test
+    void changedPageShortensIntervalTowardsObservedChangeRate() {
+        // 변경 간격 관측치가 없으면 절반
+        assertEquals(50_000, RecrawlPlanner.nextIntervalMs(100_000, true, null, MIN, MAX));
+        // 관측된 변경 간격의 절반보다 길지 않게
+        assertEquals(20_000, RecrawlPlanner.nextIntervalMs(100_000, true, 40_000L, MIN, MAX));
+        // 하한 유지
+        assertEquals(MIN, RecrawlPlanner.nextIntervalMs(12_000, true, null, MIN, MAX));
+    }
+
+    @Test
+    void changeIntervalIsSmoothed() {
+        assertEquals(60_000, RecrawlPlanner.nextChangeIntervalMs(null, 60_000));
+        assertEquals(48_000, RecrawlPlanner.nextChangeIntervalMs(60_000L, 20_000));
+    }
+
+    @Test
+    void listingHashIgnoresOrder() {
+        assertEquals(RecrawlPlanner.listingHashOf(List.of("a", "b", "c")),
+                RecrawlPlanner.listingHashOf(List.of("c", "a", "b")));
+        assertNotEquals(RecrawlPlanner.listingHashOf(List.of("a", "b")),
+                RecrawlPlanner.listingHashOf(List.of("a", "b", "c")));
+    }
+}
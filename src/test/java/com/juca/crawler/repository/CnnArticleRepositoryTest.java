@@ -0,0 +1,58 @@
+package com.juca.crawler.repository;
+
+import com.juca.crawler.domain.CnnArticle;
+import com.juca.crawler.dto.CnnArticleSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:cnn-articles;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CnnArticleRepositoryTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2026, 10, 2, 9, 0);
+
+    @Autowired
+    private CnnArticleRepository repository;
+
+    private Long save(String url, LocalDateTime publishedAt) {
+        return repository.save(CnnArticle.builder().articleUrl(url).title(url).content("본문")
+                .crawledAt(T2).publishedAt(publishedAt).build()).getId();
+    }
+
+    @Test
+    void keysetPagesBreakTiesOnId() {
+        Long a = save("a", T1);
+        Long b = save("b", T2);
+        Long c = save("c", T2);
+        Long d = save("d", T2);
+        Long e = save("e", T1);
+        save("undated", null);
+
+        List<Long> seen = new ArrayList<>();
+        LocalDateTime cursorAt = null;
+        Long cursorId = null;
+        while (true) {
+            List<CnnArticleSummary> page = repository.findSummaries(null, null, cursorAt, cursorId, Limit.of(2));
+            if (page.isEmpty()) {
+                break;
+            }
+            page.forEach(row -> seen.add(row.getId()));
+            CnnArticleSummary last = page.get(page.size() - 1);
+            cursorAt = last.getPublishedAt();
+            cursorId = last.getId();
+        }
+
+        // 같은 게시 시각은 id 내림차순, 페이지 경계에서 빠지거나 겹치는 행 없음, 게시 시각 없는 기사는 제외
+        assertEquals(List.of(d, c, b, e, a), seen);
+    }
+}
@@ -0,0 +1,69 @@
+package com.juca.crawler.robots;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobotsTxtParserTest {
+
+    private static final String ROBOTS = """
+            # comment
+            User-agent: juca
+            Disallow: /private
+
+            User-agent: other
+            User-agent: *
+            Disallow: /search
+            Allow: /search/about$
+            Disallow: /*.pdf$
+            Disallow: /tmp/*/cache
+            Allow: /p
+            Disallow: /page
+            Crawl-delay: 2.5
+
+            Sitemap: https://example.com/sitemap.xml
+            """;
+
+    @Test
+    void longestMatchWinsAndAllowWinsTies() {
+        RobotsPolicy policy = RobotsTxtParser.parse(ROBOTS, "*");
+
+        assertTrue(policy.isAllowed("/"));
+        assertFalse(policy.isAllowed("/search"));
+        assertFalse(policy.isAllowed("/search?q=1"));
+        assertTrue(policy.isAllowed("/search/about"));
+        assertFalse(policy.isAllowed("/search/about/more"));
+        // "/page" 가 "/p" 보다 길다
+        assertFalse(policy.isAllowed("/page/1"));
+        assertTrue(policy.isAllowed("/post/1"));
+    }
+
+    @Test
+    void wildcardAndEndAnchor() {
+        RobotsPolicy policy = RobotsTxtParser.parse(ROBOTS, "*");
+
+        assertFalse(policy.isAllowed("/docs/a.pdf"));
+        assertTrue(policy.isAllowed("/docs/a.pdf?download=1"));
+        assertFalse(policy.isAllowed("/tmp/x/y/cache/1"));
+        assertTrue(policy.isAllowed("/tmp/cache"));
+    }
+
+    @Test
+    void selectsAgentGroupAndReadsDirectives() {
+        RobotsPolicy juca = RobotsTxtParser.parse(ROBOTS, "JUCA");
+        assertFalse(juca.isAllowed("/private/1"));
+        assertTrue(juca.isAllowed("/search"));
+        assertEquals(0, juca.getCrawlDelayMs());
+
+        RobotsPolicy any = RobotsTxtParser.parse(ROBOTS, "unknown-bot");
+        assertTrue(any.isAllowed("/private/1"));
+        assertEquals(2500, any.getCrawlDelayMs());
+        assertEquals(1, any.getSitemaps().size());
+    }
+
+    @Test
+    void emptyDisallowAllowsEverything() {
+        RobotsPolicy policy = RobotsTxtParser.parse("User-agent: *\nDisallow:\n", "*");
+        assertTrue(policy.isAllowed("/anything"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.juca.crawler.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobLanesTest {
+
+    private final JobLanes lanes = new JobLanes(true);
+
+    @AfterEach
+    void shutdown() {
+        lanes.shutdown();
+    }
+
+    @Test
+    void skipsOverlappingTriggersOfSameJob() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        assertTrue(lanes.trySubmit("naver", () -> {
+            awaitQuietly(release);
+            finished.countDown();
+        }));
+
+        assertFalse(lanes.trySubmit("naver", () -> fail("실행 중인 작업이 다시 실행됨")));
+        assertTrue(lanes.isRunning("naver"));
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        waitUntilIdle("naver");
+        CountDownLatch ranAgain = new CountDownLatch(1);
+        assertTrue(lanes.trySubmit("naver", ranAgain::countDown));
+        assertTrue(ranAgain.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void longJobDoesNotDelayOtherJobs() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        lanes.trySubmit("naver", () -> awaitQuietly(release));
+
+        CountDownLatch cnnRan = new CountDownLatch(1);
+        assertTrue(lanes.trySubmit("cnn", cnnRan::countDown));
+        assertTrue(cnnRan.await(5, TimeUnit.SECONDS));
+        assertTrue(lanes.isRunning("naver"));
+        release.countDown();
+    }
+
+    private void waitUntilIdle(String job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (lanes.isRunning(job) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.juca.crawler.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArticleSearchIndexTest {
+
+    @TempDir
+    Path dir;
+
+    private ArticleSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new ArticleSearchIndex(dir.toString());
+        index.open();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    private static ArticleDocument cnn(long id, String title, String body) {
+        return new ArticleDocument(id, "https://cnn.com/" + id, title, body, LocalDateTime.of(2026, 10, 1, 0, 0).plusHours(id));
+    }
+
+    private List<Long> search(String query) throws Exception {
+        ArticleSearchRequest request = new ArticleSearchRequest();
+        request.setQuery(query);
+        return index.search(request).stream().map(ArticleSearchHit::getId).toList();
+    }
+
+    @Test
+    void indexAndSearchBothLanguages() throws Exception {
+        index.index(List.of(
+                cnn(1, "Markets rally", "Stocks were rallying after the rate decision"),
+                cnn(2, "Storm warning", "Heavy rain expected"),
+                new ArticleDocument(3L, "https://news.naver.com/3", "금리 동결", "한국은행이 기준금리를 동결했다", "연합뉴스", "economy",
+                        LocalDateTime.of(2026, 10, 2, 0, 0))));
+
+        // 영어 분석기 어간 추출 (rallying → rally), nori 형태소 분석
+        assertEquals(List.of(1L), search("rally"));
+        assertEquals(List.of(3L), search("기준금리"));
+
+        // 같은 uid 는 교체
+        index.index(List.of(cnn(2, "Storm passes", "Sunny again")));
+        assertTrue(search("rain").isEmpty());
+        assertEquals(List.of(2L), search("sunny"));
+    }
+
+    @Test
+    void rebuildKeepsServingLastCommitAndAbortRollsBack() throws Exception {
+        index.index(List.of(cnn(1, "Old title", "old body")));
+        index.commitIfDirty();
+
+        index.beginRebuild();
+        index.indexForRebuild(List.of(cnn(2, "Rebuilt title", "new body")));
+        // 재색인 중 들어온 수집 결과
+        index.index(List.of(cnn(3, "Live title", "live body")));
+        // 재색인 중에는 커밋/검색 갱신 없이 재색인 시작 전 검색기 유지
+        index.commitIfDirty();
+        assertEquals(List.of(1L), search("title"));
+
+        // 취소하면 재색인 문서는 버리고 마지막 커밋 이후의 수집 결과는 다시 색인
+        index.abortRebuild();
+        assertEquals(List.of(1L, 3L), search("title").stream().sorted().toList());
+
+        index.beginRebuild();
+        index.indexForRebuild(List.of(cnn(2, "Rebuilt title", "new body")));
+        index.finishRebuild();
+        assertEquals(List.of(2L), search("title"));
+    }
+
+    @Test
+    void concurrentIndexingSurvivesAbortedRebuilds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                long base = t * 10_000L;
+                futures.add(executor.submit(() -> {
+                    for (long i = 0; i < 300; i++) {
+                        index.index(List.of(cnn(base + i, "Title " + i, "body " + i)));
+                        search("title");
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < 20; i++) {
+                index.beginRebuild();
+                index.abortRebuild();
+            }
+            // 닫힌 writer 를 쓰면 AlreadyClosedException 이 여기서 드러남
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.juca.crawler.sitemap;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SitemapParserTest {
+
+    private static final String NEWS_SITEMAP = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9"
+                    xmlns:news="http://www.google.com/schemas/sitemap-news/0.9"
+                    xmlns:image="http://www.google.com/schemas/sitemap-image/1.1">
+              <url>
+                <loc>https://edition.cnn.com/2025/08/01/world/a/index.html</loc>
+                <image:image><image:loc>https://cdn.cnn.com/a.jpg</image:loc></image:image>
+                <news:news>
+                  <news:publication_date>2025-08-01T10:30:00+09:00</news:publication_date>
+                </news:news>
+              </url>
+              <url>
+                <loc>https://edition.cnn.com/2025/08/01/world/b/index.html</loc>
+                <lastmod>2025-08-02</lastmod>
+              </url>
+            </urlset>
+            """;
+
+    private static final String INDEX = """
+            <sitemapindex xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+              <sitemap><loc>https://example.com/s1.xml.gz</loc><lastmod>2025-08-01T00:00:00Z</lastmod></sitemap>
+              <sitemap><loc>https://example.com/s2.xml.gz</loc></sitemap>
+            </sitemapindex>
+            """;
+
+    @Test
+    void parsesNewsSitemapIgnoringExtensionLocs() throws IOException {
+        List<SitemapEntry> entries = parse(NEWS_SITEMAP.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, entries.size());
+        assertEquals("https://edition.cnn.com/2025/08/01/world/a/index.html", entries.get(0).getLoc());
+        // publication_date 는 UTC 로 변환
+        assertEquals(LocalDateTime.of(2025, 8, 1, 1, 30), entries.get(0).getLastmod());
+        assertEquals(LocalDateTime.of(2025, 8, 2, 0, 0), entries.get(1).getLastmod());
+        assertFalse(entries.get(0).isSitemap());
+    }
+
+    @Test
+    void parsesGzippedSitemapIndex() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(INDEX.getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<SitemapEntry> entries = parse(out.toByteArray());
+
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(0).isSitemap());
+        assertEquals(LocalDateTime.of(2025, 8, 1, 0, 0), entries.get(0).getLastmod());
+        assertNull(entries.get(1).getLastmod());
+    }
+
+    private static List<SitemapEntry> parse(byte[] bytes) throws IOException {
+        List<SitemapEntry> entries = new ArrayList<>();
+        SitemapParser.parse(new ByteArrayInputStream(bytes), entries::add);
+        return entries;
+    }
+}
@@ -0,0 +1,281 @@
+package com.juca.crawler.source;
+
+import com.juca.crawler.domain.FailedFetchSource;
+import com.juca.crawler.fetch.FetchErrorClass;
+import com.juca.crawler.fetch.FetchException;
+import com.juca.crawler.fetch.HostCircuitBreaker;
+import com.juca.crawler.fetch.HostRateController;
+import com.juca.crawler.fetch.PageFetcher;
+import com.juca.crawler.scheduler.JobLanes;
+import com.juca.crawler.service.FailedFetchService;
+import com.juca.crawler.url.UrlCanonicalizer;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URL;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CrawlEngineTest {
+
+    private final PageFetcher pageFetcher = mock(PageFetcher.class);
+    private final FailedFetchService failedFetchService = mock(FailedFetchService.class);
+    private final HostCircuitBreaker circuitBreaker = new HostCircuitBreaker(1, 60_000, 60_000, 1);
+    private final JobLanes jobLanes = new JobLanes(true);
+    private final Map<String, AtomicInteger> fetchCounts = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void shutdown() {
+        jobLanes.shutdown();
+    }
+
+    @Test
+    void fetchesEachUrlOnceAcrossDiscoveries() throws Exception {
+        FakeSource source = new FakeSource(4);
+        source.known.add(url("known"));
+        source.discoveries = List.of(
+                source.discovery(url("a"), url("b"), url("a")),
+                source.discovery(url("b"), url("c"), url("known")));
+        CrawlEngine engine = engine(source, 20, this::html);
+
+        runOnce(engine, source);
+
+        assertEquals(Set.of(url("a"), url("b"), url("c")), fetchCounts.keySet());
+        fetchCounts.values().forEach(count -> assertEquals(1, count.get()));
+        assertEquals(3, source.persistedItems().size());
+        assertEquals(List.of(List.of(), List.of()), source.unfinished);
+    }
+
+    @Test
+    void openCircuitDefersRemainingUrlsToNextRun() throws Exception {
+        circuitBreaker.onFailure("blocked.example.com");
+        FakeSource source = new FakeSource(1);
+        source.discoveries = List.of(source.discovery(
+                url("a"), "https://blocked.example.com/b", url("c")));
+        CrawlEngine engine = engine(source, 20, this::html);
+
+        runOnce(engine, source);
+
+        assertEquals(Set.of(url("a")), fetchCounts.keySet());
+        assertEquals(List.of(List.of("https://blocked.example.com/b", url("c"))), source.unfinished);
+
+        // 요청 시점에 차단된 URL 도 실패로 기록하지 않고 다음 실행으로 넘김
+        FakeSource next = new FakeSource(1);
+        next.discoveries = List.of(next.discovery(url("d")));
+        CrawlEngine deferring = engine(next, 20, fetched -> {
+            throw new FetchException(fetched, FetchErrorClass.CIRCUIT_OPEN, "차단", null);
+        });
+
+        runOnce(deferring, next);
+
+        assertEquals(List.of(List.of(url("d"))), next.unfinished);
+        verify(failedFetchService, never()).recordFailure(anyString(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void limitsConcurrentFetchesPerSource() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        FakeSource source = new FakeSource(3);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            urls.add(url("page-" + i));
+        }
+        source.discoveries = List.of(source.discovery(urls.toArray(String[]::new)));
+        CrawlEngine engine = engine(source, 20, fetched -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return html(fetched);
+        });
+
+        runOnce(engine, source);
+
+        assertEquals(12, fetchCounts.size());
+        assertTrue(maxInFlight.get() <= 3, "동시 요청 " + maxInFlight.get());
+        assertTrue(maxInFlight.get() >= 2, "동시 요청 " + maxInFlight.get());
+        assertEquals(12, source.persistedItems().size());
+    }
+
+    @Test
+    void persistsInBatchesAndRetriesFailedBatchNextRun() throws Exception {
+        FakeSource source = new FakeSource(2);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            urls.add(url("page-" + i));
+        }
+        source.discoveries = List.of(source.discovery(urls.toArray(String[]::new)));
+        source.failFirstPersist = true;
+        CrawlEngine engine = engine(source, 3, this::html);
+
+        runOnce(engine, source);
+
+        assertTrue(source.batches.size() >= 3);
+        source.batches.forEach(batch -> assertTrue(batch.size() <= 3, "배치 크기 " + batch.size()));
+        List<String> failed = source.batches.get(0);
+        assertEquals(7, source.persistedItems().size() + failed.size());
+        // 저장에 실패한 배치의 URL 만 다음 실행으로 넘어감
+        assertEquals(1, source.unfinished.size());
+        assertEquals(Set.copyOf(failed), Set.copyOf(source.unfinished.get(0)));
+    }
+
+    @Test
+    void extractFailureIsRecordedForRetry() throws Exception {
+        FakeSource source = new FakeSource(1);
+        source.discoveries = List.of(source.discovery(url("broken"), url("ok")));
+        source.extractor = fetched -> {
+            if (fetched.endsWith("broken")) {
+                throw new IllegalStateException("본문 없음");
+            }
+            return fetched;
+        };
+        CrawlEngine engine = engine(source, 20, this::html);
+
+        runOnce(engine, source);
+
+        verify(failedFetchService).recordFailure(eq(url("broken")), eq(FailedFetchSource.WEB_PAGE),
+                eq(FetchErrorClass.UNKNOWN), isNull(), anyString(), isNull(), isNull());
+        assertEquals(List.of(url("ok")), source.persistedItems());
+        assertEquals(List.of(List.of()), source.unfinished);
+    }
+
+    private CrawlEngine engine(FakeSource source, int persistBatchSize, Fetch fetch) throws Exception {
+        doAnswer(invocation -> {
+            String fetched = invocation.getArgument(0);
+            fetchCounts.computeIfAbsent(fetched, key -> new AtomicInteger()).incrementAndGet();
+            return fetch.apply(fetched);
+        }).when(pageFetcher).fetch(anyString(), any());
+        return new CrawlEngine(List.of(source), pageFetcher, mock(UrlCanonicalizer.class), failedFetchService,
+                mock(HostRateController.class), circuitBreaker, jobLanes, mock(PlatformTransactionManager.class),
+                true, persistBatchSize, 16);
+    }
+
+    private void runOnce(CrawlEngine engine, FakeSource source) throws InterruptedException {
+        assertTrue(engine.trigger(source));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (jobLanes.isRunning("source-" + source.name())) {
+            assertTrue(System.currentTimeMillis() < deadline, "실행이 끝나지 않음");
+            Thread.sleep(10);
+        }
+        engine.shutdown();
+    }
+
+    private Connection.Response html(String fetched) throws Exception {
+        Connection.Response response = mock(Connection.Response.class);
+        URL location = URI.create(fetched).toURL();
+        when(response.url()).thenReturn(location);
+        when(response.statusCode()).thenReturn(200);
+        when(response.contentType()).thenReturn("text/html; charset=UTF-8");
+        when(response.parse()).thenReturn(Jsoup.parse("<html><body>" + fetched + "</body></html>", fetched));
+        return response;
+    }
+
+    private static String url(String path) {
+        return "https://www.example.com/" + path;
+    }
+
+    @FunctionalInterface
+    private interface Fetch {
+        Connection.Response apply(String url) throws Exception;
+    }
+
+    private static final class FakeSource implements CrawlSource<String> {
+
+        private final int maxConcurrency;
+        private final Set<String> known = ConcurrentHashMap.newKeySet();
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<String>> unfinished = Collections.synchronizedList(new ArrayList<>());
+        private List<Discovery> discoveries = List.of();
+        private Function<String, String> extractor = Function.identity();
+        private boolean failFirstPersist;
+
+        private FakeSource(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        private Discovery discovery(String... urls) {
+            return new Discovery(List.of(urls), remaining -> unfinished.add(List.copyOf(remaining)));
+        }
+
+        private List<String> persistedItems() {
+            List<String> items = new ArrayList<>();
+            for (int i = failFirstPersist ? 1 : 0; i < batches.size(); i++) {
+                items.addAll(batches.get(i));
+            }
+            return items;
+        }
+
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public long intervalMs() {
+            return 60_000;
+        }
+
+        @Override
+        public int maxConcurrency() {
+            return maxConcurrency;
+        }
+
+        @Override
+        public String referrer() {
+            return null;
+        }
+
+        @Override
+        public FailedFetchSource failureSource() {
+            return FailedFetchSource.WEB_PAGE;
+        }
+
+        @Override
+        public List<Discovery> discover() {
+            return discoveries;
+        }
+
+        @Override
+        public boolean isKnown(String url) {
+            return known.contains(url);
+        }
+
+        @Override
+        public String extract(String url, Connection.Response response, Document document) {
+            return extractor.apply(url);
+        }
+
+        @Override
+        public void persist(List<String> items) {
+            batches.add(List.copyOf(items));
+            if (failFirstPersist && batches.size() == 1) {
+                throw new IllegalStateException("저장 실패");
+            }
+        }
+    }
+}
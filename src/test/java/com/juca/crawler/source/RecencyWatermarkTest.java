@@ -0,0 +1,45 @@
+package com.juca.crawler.source;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecencyWatermarkTest {
+
+    @Test
+    void comparesPerGroupAndSurvivesEncoding() {
+        RecencyWatermark watermark = RecencyWatermark.empty();
+        watermark.advance(new RecencyWatermark.Key("001", 100));
+        watermark.advance(new RecencyWatermark.Key("001", 90));
+        watermark.advance(new RecencyWatermark.Key("023", 5));
+
+        RecencyWatermark decoded = RecencyWatermark.decode(watermark.encode());
+        assertEquals("001:100,023:5", decoded.encode());
+        assertFalse(decoded.isNewer(new RecencyWatermark.Key("001", 100)));
+        assertTrue(decoded.isNewer(new RecencyWatermark.Key("001", 101)));
+        assertFalse(decoded.isNewer(new RecencyWatermark.Key("023", 4)));
+        // 처음 보는 그룹은 번호와 관계없이 새 항목
+        assertTrue(decoded.isNewer(new RecencyWatermark.Key("437", 1)));
+
+        // copy 는 원본에 영향을 주지 않음
+        RecencyWatermark copy = decoded.copy();
+        copy.advance(new RecencyWatermark.Key("001", 200));
+        assertTrue(decoded.isNewer(new RecencyWatermark.Key("001", 150)));
+    }
+
+    @Test
+    void ignoresCorruptEntriesAndExtractsArticleKeys() {
+        RecencyWatermark decoded = RecencyWatermark.decode("001:12,broken,023:x");
+        assertEquals("001:12", decoded.encode());
+        assertTrue(RecencyWatermark.decode(null).isEmpty());
+
+        assertEquals(new RecencyWatermark.Key("001", 14912345L),
+                NaverNewsSource.keyOf("https://n.news.naver.com/mnews/article/001/0014912345"));
+        assertNull(NaverNewsSource.keyOf("https://news.naver.com/section/100"));
+
+        RecencyWatermark.Key day = CnnArticleSource.keyOf("https://edition.cnn.com/2025/08/01/politics/title/index.html");
+        assertNotNull(day);
+        assertEquals(1, CnnArticleSource.keyOf("https://edition.cnn.com/2025/08/02/world/x/index.html").sequence() - day.sequence());
+        assertNull(CnnArticleSource.keyOf("https://edition.cnn.com/2025/13/40/bad/index.html"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.juca.crawler.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyPartitionsTest {
+
+    private static MonthlyPartitions.Partition month(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return new MonthlyPartitions.Partition(MonthlyPartitions.nameOf(yearMonth),
+                MonthlyPartitions.toDays(yearMonth.plusMonths(1).atDay(1)), 100);
+    }
+
+    @Test
+    void toDaysMatchesMariaDb() {
+        // SELECT TO_DAYS('2026-10-01') = 740255
+        assertEquals(740255, MonthlyPartitions.toDays(LocalDate.of(2026, 10, 1)));
+        assertEquals("PARTITION p202610 VALUES LESS THAN (740286)", MonthlyPartitions.definitionOf(YearMonth.of(2026, 10)));
+    }
+
+    @Test
+    void expiredAndMissingPartitions() {
+        List<MonthlyPartitions.Partition> partitions = List.of(
+                month(2026, 3), month(2026, 1), month(2026, 2), month(2026, 4),
+                new MonthlyPartitions.Partition(MonthlyPartitions.MAX_PARTITION, null, 0));
+
+        // 2026-03 부터 보관 → 1, 2월 파티션만 오래된 순으로
+        assertEquals(List.of("p202601", "p202602"),
+                MonthlyPartitions.expired(partitions, YearMonth.of(2026, 3)).stream().map(MonthlyPartitions.Partition::name).toList());
+
+        assertEquals(List.of(YearMonth.of(2026, 5), YearMonth.of(2026, 6)),
+                MonthlyPartitions.missing(partitions, YearMonth.of(2026, 6)));
+        assertTrue(MonthlyPartitions.missing(partitions, YearMonth.of(2026, 4)).isEmpty());
+        // 파티셔닝되지 않은 테이블
+        assertTrue(MonthlyPartitions.missing(List.of(), YearMonth.of(2026, 6)).isEmpty());
+    }
+}
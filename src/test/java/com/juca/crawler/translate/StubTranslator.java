@@ -0,0 +1,18 @@
+package com.juca.crawler.translate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테스트용 번역기. 외부 호출 없이 원문 앞에 대상 언어 표시만 붙여 돌려줍니다.
+ * 운영 코드에 두면 번역 API 없이 켠 경우 표시만 붙은 결과가 번역 완료로 저장되므로 테스트 소스에만 둡니다.
+ */
+@Component
+@ConditionalOnProperty(name = "crawler.translation.provider", havingValue = "stub", matchIfMissing = true)
+public class StubTranslator implements Translator {
+
+    @Override
+    public String translate(String text, String sourceLanguage, String targetLanguage) {
+        return "[" + targetLanguage + "] " + text;
+    }
+}
@@ -0,0 +1,47 @@
+package com.juca.crawler.translate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextChunkerTest {
+
+    @Test
+    void shortTextIsSingleChunk() {
+        assertEquals(List.of("Hello world."), TextChunker.split("Hello world.", 100));
+        assertEquals(List.of(), TextChunker.split("", 100));
+    }
+
+    @Test
+    void prefersParagraphThenSentenceBoundaries() {
+        String text = "First paragraph is here.\nSecond sentence is long. Then another sentence follows.\nThird.";
+        List<String> chunks = TextChunker.split(text, 40);
+
+        assertEquals("First paragraph is here.\n", chunks.get(0));
+        assertEquals("Second sentence is long. ", chunks.get(1));
+        assertEquals(text, String.join("", chunks));
+        chunks.forEach(chunk -> assertTrue(chunk.length() <= 40));
+    }
+
+    @Test
+    void sentenceBoundaryAtLimitDoesNotOverflow() {
+        // 마침표가 limit 바로 앞에 있으면 뒤 공백까지 넣을 수 없으므로 다른 경계에서 자름
+        List<String> chunks = TextChunker.split("aaaaa. bbbb cccc", 6);
+        assertEquals("aaaaa. bbbb cccc", String.join("", chunks));
+        chunks.forEach(chunk -> assertTrue(chunk.length() <= 6, chunk));
+    }
+
+    @Test
+    void fallsBackToWhitespaceAndHardCuts() {
+        String words = "alpha beta gamma delta epsilon zeta eta theta";
+        List<String> chunks = TextChunker.split(words, 12);
+        assertEquals(words, String.join("", chunks));
+        chunks.forEach(chunk -> assertTrue(chunk.length() <= 12));
+        assertEquals("alpha beta ", chunks.get(0));
+
+        String noSpaces = "x".repeat(25);
+        assertEquals(List.of("x".repeat(10), "x".repeat(10), "x".repeat(5)), TextChunker.split(noSpaces, 10));
+    }
+}
@@ -0,0 +1,57 @@
+package com.juca.crawler.url;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UrlNormalizerTest {
+
+    private static final List<SiteRule> RULES = List.of(new NaverNewsRule(), new CnnArticleRule());
+
+    private static String normalize(String url) {
+        return UrlNormalizer.normalize(url, RULES);
+    }
+
+    @Test
+    void normalizesCommonVariants() {
+        String expected = "https://example.com/a/b?id=1&page=2";
+
+        assertEquals(expected, normalize("HTTPS://Example.COM:443/a/b/?page=2&id=1#top"));
+        assertEquals(expected, normalize("https://example.com/a/./c/../b?utm_source=x&id=1&fbclid=y&page=2"));
+        assertEquals("https://example.com/", normalize("https://user@example.com."));
+        assertEquals("http://example.com:8080/~user/%2F", normalize("http://example.com:8080/%7euser/%2f"));
+    }
+
+    @Test
+    void rejectsNonHttpUrls() {
+        assertNull(normalize("mailto:a@example.com"));
+        assertNull(normalize("javascript:void(0)"));
+        assertNull(normalize("ftp://example.com/file"));
+        assertNull(normalize("/relative/path"));
+    }
+
+    @Test
+    void reducesNaverArticlesToOidAid() {
+        String expected = "https://n.news.naver.com/mnews/article/001/0014812345";
+
+        assertEquals(expected, normalize("https://n.news.naver.com/mnews/article/001/0014812345?sid=100"));
+        assertEquals(expected, normalize("https://n.news.naver.com/article/001/0014812345"));
+        assertEquals(expected, normalize("https://news.naver.com/main/read.naver?mode=LSD&mid=shm&sid1=100&oid=001&aid=0014812345"));
+        assertEquals(expected, normalize("http://m.news.naver.com/read.nhn?oid=001&aid=0014812345&sid1=101"));
+        // 기사 댓글 페이지는 다른 문서
+        assertEquals("https://n.news.naver.com/mnews/article/comment/001/0014812345",
+                normalize("https://n.news.naver.com/mnews/article/comment/001/0014812345"));
+    }
+
+    @Test
+    void unifiesCnnArticleHosts() {
+        String expected = "https://edition.cnn.com/2025/08/01/politics/title/index.html";
+
+        assertEquals(expected, normalize("https://www.cnn.com/2025/08/01/politics/title/index.html?iid=cnn_buildContentRecirc"));
+        assertEquals(expected, normalize("http://edition.cnn.com/2025/08/01/politics/title/index.html"));
+        // 기사가 아닌 경로는 호스트를 유지
+        assertEquals("https://www.cnn.com/world", normalize("https://www.cnn.com/world/"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.juca.crawler.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UrlFingerprintSetTest {
+
+    private static String url(int i) {
+        return "https://n.news.naver.com/mnews/article/" + (i % 100) + "/" + String.format("%010d", i);
+    }
+
+    @Test
+    void exactMembershipAcrossGrowth() {
+        UrlFingerprintSet set = new UrlFingerprintSet();
+        for (int i = 0; i < 200_000; i++) {
+            assertTrue(set.add(url(i)));
+        }
+        assertFalse(set.add(url(12345)));
+        assertEquals(200_000, set.size());
+        for (int i = 0; i < 200_000; i++) {
+            assertTrue(set.contains(url(i)));
+        }
+        for (int i = 200_000; i < 300_000; i++) {
+            assertFalse(set.contains(url(i)));
+        }
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(url(1)));
+    }
+
+    @Test
+    void staysUnderTwentyBytesPerUrlWhenPresized() {
+        int count = 500_000;
+        UrlFingerprintSet set = new UrlFingerprintSet(count);
+        for (int i = 0; i < count; i++) {
+            set.add(url(i));
+        }
+        assertTrue((double) set.tableBytes() / count < 20, "bytes/url=" + (double) set.tableBytes() / count);
+
+        UrlFingerprintSet grown = new UrlFingerprintSet();
+        for (int i = 0; i < count; i++) {
+            grown.add(url(i));
+        }
+        assertTrue((double) grown.tableBytes() / count < 24, "bytes/url=" + (double) grown.tableBytes() / count);
+    }
+
+    @Test
+    void concurrentAddsCountEachUrlOnce() throws Exception {
+        UrlFingerprintSet set = new UrlFingerprintSet();
+        AtomicInteger added = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            // 스레드마다 절반씩 겹치는 구간을 추가
+            int start = t * 25_000;
+            futures.add(executor.submit(() -> {
+                for (int i = start; i < start + 50_000; i++) {
+                    if (set.add(url(i))) {
+                        added.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(225_000, added.get());
+        assertEquals(225_000, set.size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.juca.crawler.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryDeltaTest {
+
+    private static String page(Random random, int paragraphs) {
+        StringBuilder html = new StringBuilder("<html><body>");
+        for (int i = 0; i < paragraphs; i++) {
+            html.append("<p class=\"text\">");
+            for (int w = 0; w < 30; w++) {
+                html.append("word").append(random.nextInt(5000)).append(' ');
+            }
+            html.append("</p>\n");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    @Test
+    void editedPageRoundTripsWithSmallDelta() {
+        String base = page(new Random(1), 200);
+        // 머리말 교체, 중간 문단 삽입, 꼬리 일부 삭제
+        String target = base.replace("<html><body>", "<html><body><div>속보: 업데이트 12:30</div>");
+        int middle = target.indexOf("<p", target.length() / 2);
+        target = target.substring(0, middle) + "<p>새로 추가된 문단</p>\n" + target.substring(middle);
+        target = target.substring(0, target.length() - 500) + "</body></html>";
+
+        byte[] baseBytes = base.getBytes(StandardCharsets.UTF_8);
+        byte[] targetBytes = target.getBytes(StandardCharsets.UTF_8);
+        byte[] delta = BinaryDelta.encode(baseBytes, targetBytes);
+
+        assertArrayEquals(targetBytes, BinaryDelta.apply(baseBytes, delta));
+        assertTrue(delta.length < 300, "delta=" + delta.length);
+    }
+
+    @Test
+    void unrelatedAndShortInputsRoundTrip() {
+        Random random = new Random(3);
+        byte[][] inputs = {
+                new byte[0],
+                "짧은 본문".getBytes(StandardCharsets.UTF_8),
+                page(new Random(5), 20).getBytes(StandardCharsets.UTF_8),
+                page(new Random(6), 20).getBytes(StandardCharsets.UTF_8)
+        };
+        byte[] noise = new byte[4096];
+        random.nextBytes(noise);
+
+        for (byte[] base : inputs) {
+            for (byte[] target : inputs) {
+                assertArrayEquals(target, BinaryDelta.apply(base, BinaryDelta.encode(base, target)));
+            }
+            assertArrayEquals(noise, BinaryDelta.apply(base, BinaryDelta.encode(base, noise)));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryDelta.apply(inputs[1], BinaryDelta.encode(inputs[2], inputs[3])));
+    }
+}
@@ -0,0 +1,88 @@
+package com.juca.crawler.version;
+
+import com.juca.crawler.domain.PageVersionKind;
+import com.juca.crawler.dto.PageVersionSummary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:page-versions;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "crawler.versions.keyframe_interval=4"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PageVersionStore.class)
+class PageVersionStoreTest {
+
+    private static final long PAGE_ID = 42L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    @Autowired
+    private PageVersionStore store;
+
+    private static String page(Random random, int paragraphs) {
+        StringBuilder html = new StringBuilder("<html><body>");
+        for (int i = 0; i < paragraphs; i++) {
+            html.append("<p class=\"text\">");
+            for (int w = 0; w < 30; w++) {
+                html.append("word").append(random.nextInt(5000)).append(' ');
+            }
+            html.append("</p>\n");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    private static String edit(String html, int n) {
+        return html.replace("<html><body>", "<html><body><div>업데이트 " + n + "</div>");
+    }
+
+    @Test
+    void reconstructsEveryVersionAcrossKeyframesAndUnchangedRuns() {
+        String base = page(new Random(1), 200);
+        String rewritten = page(new Random(2), 200);
+        List<String> htmls = List.of(
+                base,                  // v1 FULL
+                edit(base, 1),         // v2 DELTA (v1 기준)
+                edit(base, 1),         // v3 UNCHANGED -> v2
+                edit(base, 2),         // v4 DELTA (v3 이 아니라 본문 버전 v2 기준)
+                edit(base, 3),         // v5 DELTA
+                edit(base, 4),         // v6 FULL (keyframe 이후 delta 3개 -> 간격 4 도달)
+                edit(base, 4),         // v7 UNCHANGED -> v6
+                edit(base, 5),         // v8 DELTA (새 keyframe v6 기준)
+                rewritten,             // v9 FULL (대부분 바뀌어 delta 가 전체 본문 비율 초과)
+                rewritten,             // v10 UNCHANGED -> v9
+                edit(rewritten, 6)     // v11 DELTA
+        );
+        List<PageVersionKind> expectedKinds = List.of(
+                PageVersionKind.FULL, PageVersionKind.DELTA, PageVersionKind.UNCHANGED, PageVersionKind.DELTA,
+                PageVersionKind.DELTA, PageVersionKind.FULL, PageVersionKind.UNCHANGED, PageVersionKind.DELTA,
+                PageVersionKind.FULL, PageVersionKind.UNCHANGED, PageVersionKind.DELTA);
+
+        for (int i = 0; i < htmls.size(); i++) {
+            assertEquals(i + 1, store.record(PAGE_ID, htmls.get(i), T0.plusDays(i)));
+        }
+
+        List<PageVersionSummary> summaries = new ArrayList<>(store.list(PAGE_ID));
+        summaries.sort(Comparator.comparing(PageVersionSummary::getVersion));
+        assertEquals(expectedKinds, summaries.stream().map(PageVersionSummary::getKind).toList());
+        assertEquals(2, summaries.get(2).getBaseVersion());
+        assertEquals(2, summaries.get(3).getBaseVersion());
+        assertEquals(6, summaries.get(6).getBaseVersion());
+        assertEquals(9, summaries.get(9).getBaseVersion());
+
+        for (int version = 1; version <= htmls.size(); version++) {
+            assertEquals(htmls.get(version - 1), store.reconstruct(PAGE_ID, version).orElseThrow(), "v" + version);
+        }
+        assertTrue(store.reconstruct(PAGE_ID, htmls.size() + 1).isEmpty());
+    }
+}